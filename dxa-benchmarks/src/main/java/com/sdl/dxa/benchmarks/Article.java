@@ -0,0 +1,28 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.webapp.common.api.model.RichText;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.entity.Link;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.joda.time.DateTime;
+
+import java.util.List;
+
+/**
+ * Entity of the fixture pages, mapped from the {@code Article} schema of {@link Fixtures#localization()}.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class Article extends AbstractEntityModel {
+
+    private String headline;
+
+    private RichText introText;
+
+    private DateTime date;
+
+    private List<String> tags;
+
+    private Link link;
+}
@@ -0,0 +1,102 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the JSON results of a benchmark run ({@code -rf json}) with the committed baseline and fails if any
+ * benchmark got slower than the tolerance allows. Benchmarks missing in either file are reported but do not fail.
+ * <p>Usage: {@code BaselineCheck <results.json> [baseline.json] [tolerance in percent]},
+ * {@code dxa-benchmarks/baseline.json} and {@code 10} by default.</p>
+ * <p>The run and the baseline are usually recorded on different machines, so absolute times are not compared.
+ * Each benchmark is compared relative to the others of the same run: its change is divided by the median change of
+ * all benchmarks in both files. A machine that is twice as slow makes every benchmark twice as slow
+ * and shows no regression, a benchmark that got slower than the others does.</p>
+ */
+public final class BaselineCheck {
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: BaselineCheck <results.json> [baseline.json] [tolerance in percent]");
+            System.exit(2);
+        }
+        Map<String, Double> results = read(new File(args[0]));
+        Map<String, Double> baseline = read(new File(args.length > 1 ? args[1] : "dxa-benchmarks/baseline.json"));
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        List<Double> changes = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : results.entrySet()) {
+            Double expected = baseline.get(entry.getKey());
+            if (expected != null) {
+                changes.add(entry.getValue() / expected);
+            }
+        }
+        if (changes.size() < 2) {
+            System.out.println("Fewer than two benchmarks are in both files, run more benchmarks to compare them");
+            System.exit(2);
+        }
+        Collections.sort(changes);
+        int middle = changes.size() / 2;
+        double machine = changes.size() % 2 == 1 ? changes.get(middle) : (changes.get(middle - 1) + changes.get(middle)) / 2;
+        System.out.printf("This run is %.2f times the baseline (median), benchmarks are compared relative to that%n", machine);
+
+        int regressions = 0;
+        for (Map.Entry<String, Double> entry : results.entrySet()) {
+            Double expected = baseline.get(entry.getKey());
+            if (expected == null) {
+                System.out.printf("NEW        %s: %.3f%n", entry.getKey(), entry.getValue());
+                continue;
+            }
+            double change = (entry.getValue() / expected / machine - 1) * 100;
+            boolean regression = change > tolerance;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s: %.3f -> %.3f (%+.1f%% relative)%n",
+                    regression ? "REGRESSION" : "OK", entry.getKey(), expected, entry.getValue(), change);
+        }
+        for (String missing : baseline.keySet()) {
+            if (!results.containsKey(missing)) {
+                System.out.printf("MISSING    %s%n", missing);
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) are more than %.0f%% slower than the baseline relative to the others%n", regressions, tolerance);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the average times of a JMH JSON result file by benchmark name and parameters.
+     */
+    private static Map<String, Double> read(File file) throws IOException {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(key.indexOf("(") < 0 ? "(" : ", ").append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+                key.append(')');
+            }
+            scores.put(key.toString(), result.get("primaryMetric").get("score").asDouble());
+        }
+        return scores;
+    }
+}
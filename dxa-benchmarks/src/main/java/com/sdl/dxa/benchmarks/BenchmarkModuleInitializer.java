@@ -0,0 +1,34 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.webapp.common.api.mapping.views.AbstractModuleInitializer;
+import com.sdl.webapp.common.api.mapping.views.RegisteredViewModel;
+import com.sdl.webapp.common.api.mapping.views.RegisteredViewModels;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+
+/**
+ * Registers the views used by the fixture pages and the entities mapped by the benchmarks.
+ */
+@RegisteredViewModels({
+        @RegisteredViewModel(viewName = "GeneralPage", modelClass = DefaultPageModel.class),
+        @RegisteredViewModel(viewName = "Article", modelClass = Article.class),
+        @RegisteredViewModel(viewName = "TestClassView", modelClass = Article.class),
+        @RegisteredViewModel(modelClass = EmbeddedFieldBenchmark.Manual.class),
+        @RegisteredViewModel(modelClass = EmbeddedFieldBenchmark.Chapter.class),
+        @RegisteredViewModel(modelClass = EmbeddedFieldBenchmark.Section.class),
+        @RegisteredViewModel(viewName = "Header", modelClass = RegionModelImpl.class),
+        @RegisteredViewModel(viewName = "Info", modelClass = RegionModelImpl.class),
+        @RegisteredViewModel(viewName = "Main", modelClass = RegionModelImpl.class),
+        @RegisteredViewModel(viewName = "Hero", modelClass = RegionModelImpl.class),
+        @RegisteredViewModel(viewName = "Sidebar", modelClass = RegionModelImpl.class),
+        @RegisteredViewModel(viewName = "Related", modelClass = RegionModelImpl.class),
+        @RegisteredViewModel(viewName = "Promo", modelClass = RegionModelImpl.class),
+        @RegisteredViewModel(viewName = "Footer", modelClass = RegionModelImpl.class)
+})
+public class BenchmarkModuleInitializer extends AbstractModuleInitializer {
+
+    @Override
+    protected String getAreaName() {
+        return "Core";
+    }
+}
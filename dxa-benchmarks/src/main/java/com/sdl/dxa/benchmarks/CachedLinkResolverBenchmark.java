@@ -0,0 +1,125 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.caching.CacheStatisticsRegistry;
+import com.sdl.dxa.caching.MemoizingCacheResolver;
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.SpringJCacheManagerAdapter;
+import com.sdl.dxa.caching.TridionCacheConfiguration;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
+import com.sdl.webapp.common.api.content.LinkResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+
+import javax.cache.Cache;
+import javax.cache.Caching;
+import java.util.concurrent.TimeUnit;
+
+import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.ehcache.config.builders.ResourcePoolsBuilder.heap;
+import static org.ehcache.jsr107.Eh107Configuration.fromEhcacheCacheConfiguration;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A link resolved from the {@code resolvedLinks} cache through the {@code @Cacheable} interceptor, with the caches
+ * wired as in {@link TridionCacheConfiguration}: cache resolution, the Ehcache lookup and the wrappers recording
+ * statistics and dependencies. Every call after the first is a cache hit, {@link LinkResolverBenchmark} resolves
+ * the same link without the cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CachedLinkResolverBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+
+    private LinkResolver linkResolver;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CachingConfiguration.class);
+        linkResolver = context.getBean(LinkResolver.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        Caching.getCachingProvider().close();
+    }
+
+    @Benchmark
+    public String component() {
+        return linkResolver.resolveLink("tcm:1-6042", Fixtures.LOCALIZATION_ID);
+    }
+
+    /**
+     * Caching of {@link TridionCacheConfiguration} with a single Ehcache cache for the resolved links.
+     */
+    @Configuration
+    @EnableCaching
+    public static class CachingConfiguration extends CachingConfigurerSupport {
+
+        @Bean
+        public static PropertySourcesPlaceholderConfigurer placeholderConfigurer() {
+            return new PropertySourcesPlaceholderConfigurer();
+        }
+
+        @Bean
+        public LinkResolver linkResolver() {
+            return new FixtureLinkResolver();
+        }
+
+        @Bean
+        public CacheStatisticsRegistry cacheStatisticsRegistry() {
+            return new CacheStatisticsRegistry();
+        }
+
+        @Bean
+        public CacheDependencyIndex cacheDependencyIndex() {
+            return new CacheDependencyIndex();
+        }
+
+        @Bean
+        public NamedCacheProvider namedCacheProvider() {
+            Cache<Object, Object> resolvedLinks = Caching.getCachingProvider().getCacheManager().createCache("resolvedLinks",
+                    fromEhcacheCacheConfiguration(newCacheConfigurationBuilder(Object.class, Object.class, heap(10000))));
+            NamedCacheProvider cacheProvider = mock(NamedCacheProvider.class, withSettings().stubOnly());
+            when(cacheProvider.isCacheEnabled("resolvedLinks")).thenReturn(true);
+            when(cacheProvider.getCache("resolvedLinks")).thenReturn(resolvedLinks);
+            return cacheProvider;
+        }
+
+        @Bean
+        @Override
+        public CacheManager cacheManager() {
+            return new SpringJCacheManagerAdapter(namedCacheProvider(), cacheStatisticsRegistry(), cacheDependencyIndex(), null);
+        }
+
+        @Bean
+        @Override
+        public CacheResolver cacheResolver() {
+            return new MemoizingCacheResolver(cacheManager());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.caching.LatencyHistogram;
+import com.sdl.dxa.caching.cluster.InJvmInvalidationBus;
+import com.sdl.dxa.caching.cluster.InvalidationMessage;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
+import com.sdl.dxa.tridion.broker.BrokerQueryKey;
+import com.sdl.dxa.tridion.broker.DynamicListCache;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bookkeeping done by the caches on every request or publish: recording of latencies, dependencies of cached pages,
+ * cached dynamic lists and cluster invalidation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CachingBenchmark {
+
+    private static final int PAGES = 10_000;
+
+    private static final int DEPENDENCIES_PER_PAGE = 12;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private final CacheDependencyIndex dependencyIndex = new CacheDependencyIndex();
+
+    private final List<List<CacheDependency>> pageDependencies = new ArrayList<>(PAGES);
+
+    private final AtomicLong received = new AtomicLong();
+
+    private DynamicListCache dynamicListCache;
+
+    private BrokerQueryKey dynamicList;
+
+    private InJvmInvalidationBus publisher;
+
+    private InJvmInvalidationBus subscriber;
+
+    private int nextPage;
+
+    @Setup
+    public void setUp() {
+        // every page depends on itself, a shared header and footer and a few articles out of 2000
+        Random random = new Random(42);
+        for (int page = 0; page < PAGES; page++) {
+            List<CacheDependency> dependencies = new ArrayList<>(DEPENDENCIES_PER_PAGE);
+            dependencies.add(CacheDependency.of(1, 100_000 + page));
+            dependencies.add(CacheDependency.of(1, 1));
+            dependencies.add(CacheDependency.of(1, 2));
+            while (dependencies.size() < DEPENDENCIES_PER_PAGE) {
+                dependencies.add(CacheDependency.of(1, 1_000 + random.nextInt(2_000)));
+            }
+            pageDependencies.add(dependencies);
+            dependencyIndex.register("pageModels", page, dependencies);
+        }
+
+        dynamicListCache = new DynamicListCache(new ConcurrentMapCacheManager());
+        SimpleBrokerQuery query = new SimpleBrokerQuery();
+        query.setPublicationId(1);
+        query.setSchemaId(2737);
+        query.setPageSize(10);
+        query.setSort("pubdate desc");
+        dynamicList = BrokerQueryKey.of(query);
+        dynamicListCache.putCursor(dynamicList, 10, "cursor-10");
+
+        publisher = new InJvmInvalidationBus("benchmarks", 50, 100);
+        subscriber = new InJvmInvalidationBus("benchmarks", 50, 100);
+        subscriber.subscribe(message -> received.incrementAndGet());
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.close();
+        subscriber.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordLatency() {
+        histogram.record(ThreadLocalRandom.current().nextLong(10_000_000L));
+    }
+
+    @Benchmark
+    public void registerDependencies() {
+        int page = nextPage();
+        dependencyIndex.register("pageModels", page, pageDependencies.get(page));
+    }
+
+    /**
+     * Publish of an article: all the pages depending on it are removed from the index and cached again.
+     */
+    @Benchmark
+    public int invalidateArticle() {
+        Set<CacheDependencyIndex.CachedEntry> entries =
+                dependencyIndex.removeDependents(CacheDependency.of(1, 1_000 + nextPage() % 2_000));
+        for (CacheDependencyIndex.CachedEntry entry : entries) {
+            int page = (Integer) entry.getKey();
+            dependencyIndex.register("pageModels", page, pageDependencies.get(page));
+        }
+        return entries.size();
+    }
+
+    @Benchmark
+    public String dynamicListCursor() {
+        return dynamicListCache.getCursor(dynamicList, 10);
+    }
+
+    @Benchmark
+    public void publishInvalidation() {
+        publisher.publish(InvalidationMessage.evict("pageModels", nextPage()));
+    }
+
+    private int nextPage() {
+        nextPage = (nextPage + 1) % PAGES;
+        return nextPage;
+    }
+}
@@ -0,0 +1,127 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.dd4t.providers.ModelServiceComponentPresentationProvider;
+import com.sdl.dxa.tridion.modelservice.ModelServiceClient;
+import com.sdl.dxa.tridion.modelservice.ModelServiceClientConfiguration;
+import com.sun.net.httpserver.HttpServer;
+import com.tridion.dcp.ComponentPresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Loading the dynamic component presentations of a page from a local stub of the Model Service that answers
+ * every request after {@value #SERVICE_LATENCY_MILLIS} ms, sequentially and in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComponentPresentationBatchBenchmark {
+
+    private static final int SERVICE_LATENCY_MILLIS = 2;
+
+    private static final int COMPONENTS_PER_PAGE = 12;
+
+    private static final int TEMPLATE_ID = 9195;
+
+    private static final int PUBLICATION_ID = 1;
+
+    @Param({"1", "4"})
+    public int batchThreads;
+
+    private final List<Integer> componentIds = new ArrayList<>(COMPONENTS_PER_PAGE);
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    private ModelServiceClient modelServiceClient;
+
+    private ModelServiceComponentPresentationProvider provider;
+
+    @Setup
+    public void setUp() throws IOException {
+        for (int i = 0; i < COMPONENTS_PER_PAGE; i++) {
+            componentIds.add(1000 + i);
+        }
+
+        // without it the responses of the stub are delayed by the delayed acknowledgements of the client
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/EntityModel", exchange -> {
+            try {
+                Thread.sleep(SERVICE_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = componentPresentation(exchange.getRequestURI().getPath()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        ModelServiceClientConfiguration configuration = mock(ModelServiceClientConfiguration.class, withSettings().stubOnly());
+        when(configuration.getEntityModelUrl()).thenReturn("http://localhost:" + server.getAddress().getPort() +
+                "/EntityModel/{uriType}/{localizationId}/{componentId}-{templateId}");
+        modelServiceClient = new ModelServiceClient(configuration);
+        modelServiceClient.init();
+
+        provider = new ModelServiceComponentPresentationProvider();
+        provider.setModelServiceClient(modelServiceClient);
+        provider.setModelServiceClientConfiguration(configuration);
+        provider.setBatchThreads(batchThreads);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        modelServiceClient.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public Map<Integer, ComponentPresentation> page() {
+        return provider.getComponentPresentations(componentIds, TEMPLATE_ID, PUBLICATION_ID);
+    }
+
+    private static String componentPresentation(String path) {
+        // /EntityModel/tcm/1/1000-9195
+        String componentId = path.substring(path.lastIndexOf('/') + 1, path.lastIndexOf('-'));
+        return "{\"NamespaceId\": 1, \"PublicationId\": " + PUBLICATION_ID + ", \"ComponentId\": " + componentId +
+                ", \"ComponentTemplateId\": " + TEMPLATE_ID + ", \"Content\": \"<div class=\\\"teaser\\\">" + componentId +
+                "</div>\", \"FileLocation\": \"\", \"Dynamic\": true}";
+    }
+}
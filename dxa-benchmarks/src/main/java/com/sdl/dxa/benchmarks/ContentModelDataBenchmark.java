@@ -0,0 +1,114 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.api.datamodel.model.ContentModelData;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.dxa.api.datamodel.processing.DataModelDeepFirstSearcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the field sets of the entities of a page, as done by the semantic mapping, by the deep-first traversal
+ * of the data model and by copying them. {@link ModelDataFootprint} measures their heap footprint.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentModelDataBenchmark {
+
+    private static final String[] FIELDS = {"headline", "introText", "date", "tags", "link", "notInSchema"};
+
+    @Param({Fixtures.RECORDED_PAGE, Fixtures.LARGE_PAGE})
+    public String page;
+
+    private PageModelData pageModelData;
+
+    private final List<ContentModelData> contents = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        pageModelData = Fixtures.readPage(page);
+        collect(pageModelData.getRegions());
+    }
+
+    @Benchmark
+    public void readFields(Blackhole blackhole) {
+        for (ContentModelData content : contents) {
+            for (String field : FIELDS) {
+                blackhole.consume(content.get(field));
+            }
+        }
+    }
+
+    @Benchmark
+    public int traverse() {
+        CountingSearcher searcher = new CountingSearcher();
+        searcher.traverse(pageModelData);
+        return searcher.entities;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (ContentModelData content : contents) {
+            for (Map.Entry<String, Object> entry : content.entrySet()) {
+                blackhole.consume(entry.getValue());
+            }
+        }
+    }
+
+    @Benchmark
+    public void copy(Blackhole blackhole) {
+        for (Map<String, Object> content : contents) {
+            blackhole.consume(new ContentModelData(content));
+        }
+    }
+
+    private void collect(List<RegionModelData> regions) {
+        if (regions == null) {
+            return;
+        }
+        for (RegionModelData region : regions) {
+            collect(region.getRegions());
+            if (region.getEntities() != null) {
+                for (EntityModelData entity : region.getEntities()) {
+                    if (entity.getContent() != null) {
+                        contents.add(entity.getContent());
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class CountingSearcher extends DataModelDeepFirstSearcher {
+
+        private int entities;
+
+        private void traverse(PageModelData page) {
+            traverseObject(page);
+        }
+
+        @Override
+        protected void processEntityModel(EntityModelData entityModelData) {
+            entities++;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.sdl.dxa.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.common.ClaimValues;
+import com.sdl.dxa.tridion.content.StaticContentResolver;
+import com.sdl.dxa.tridion.graphql.GraphQLProvider;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.dxa.tridion.mapping.impl.GraphQLContentProvider;
+import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.exceptions.DxaException;
+import com.sdl.web.pca.client.contentmodel.enums.ContentType;
+import com.tridion.ambientdata.claimstore.ClaimStore;
+import com.tridion.ambientdata.web.WebContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A page served from the page model cache: the cache key including the claims of the visitor, the lookup and
+ * the deep copy of the cached model. {@code deepCopy} measures the copy on its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentProviderBenchmark {
+
+    private static final String PATH = "/large-page";
+
+    @Param({Fixtures.RECORDED_PAGE, Fixtures.LARGE_PAGE})
+    public String page;
+
+    /**
+     * Whether the visitor has Docs user conditions, which are part of the cache key.
+     */
+    @Param({"false", "true"})
+    public boolean claims;
+
+    private AnnotationConfigApplicationContext context;
+
+    private GraphQLContentProvider contentProvider;
+
+    private Localization localization;
+
+    private PageModel cachedPageModel;
+
+    @Setup
+    public void setUp() throws ContentProviderException, DxaException {
+        context = ModelBuildingConfiguration.start();
+        WebRequestContext webRequestContext = context.getBean(WebRequestContext.class);
+        localization = webRequestContext.getLocalization();
+
+        PageModelData pageModelData = Fixtures.readPage(page);
+        GraphQLProvider graphQLProvider = mock(GraphQLProvider.class, withSettings().stubOnly());
+        when(graphQLProvider.loadPage(eq(PageModelData.class), any(), eq(ContentType.MODEL))).thenReturn(pageModelData);
+
+        contentProvider = new GraphQLContentProvider(webRequestContext,
+                mock(StaticContentResolver.class, withSettings().stubOnly()),
+                context.getBean(ModelBuilderPipeline.class), graphQLProvider,
+                mock(ApiClientProvider.class, withSettings().stubOnly()),
+                new ConcurrentMapCacheManager());
+
+        cachedPageModel = contentProvider.getPageModel(PATH, localization);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageModel getPageModel(Visitor visitor) throws ContentProviderException {
+        return contentProvider.getPageModel(PATH, localization);
+    }
+
+    @Benchmark
+    public PageModel deepCopy() {
+        return cachedPageModel.deepCopy();
+    }
+
+    /**
+     * Claims of the visitor, they are kept per thread.
+     */
+    @State(Scope.Thread)
+    public static class Visitor {
+
+        @Setup(Level.Iteration)
+        public void setUp(ContentProviderBenchmark benchmark) {
+            ClaimStore claimStore = null;
+            if (benchmark.claims) {
+                claimStore = mock(ClaimStore.class, withSettings().stubOnly());
+                when(claimStore.getClaimValues()).thenReturn(ImmutableMap.of(
+                        URI.create("taf:request:uri"), PATH,
+                        URI.create(ClaimValues.ISH_CONDITIONS), "{audience=[expert], platform=null, region=[emea, apac]}",
+                        URI.create("taf:session:attributes:locale"), "en-US"));
+            }
+            WebContext.setCurrentClaimStore(claimStore);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            WebContext.setCurrentClaimStore(null);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.sdl.dxa.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.dxa.api.datamodel.model.ContentModelData;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
+import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
+import com.sdl.webapp.common.api.mapping.semantic.config.EntitySemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
+
+/**
+ * Mapping an entity with embedded fields nested three levels deep: a manual of chapters of sections of paragraphs.
+ * As in schemas, the multi-valued fields have singular names, which is what the plural properties map to.
+ * Every chapter and section is mapped by its own {@link DefaultSemanticFieldDataProvider}, one per embedding level
+ * and list item.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmbeddedFieldBenchmark {
+
+    private static final long MANUAL_SCHEMA_ID = 2741L;
+
+    private static final int CHAPTERS = 5;
+
+    private static final int SECTIONS = 5;
+
+    private static final int PARAGRAPHS = 4;
+
+    private AnnotationConfigApplicationContext context;
+
+    private SemanticMapper semanticMapper;
+
+    private EntityModelData manual;
+
+    private SemanticSchema schema;
+
+    private Map<FieldSemantics, SemanticField> fields;
+
+    @Setup
+    public void setUp() {
+        context = ModelBuildingConfiguration.start();
+        semanticMapper = context.getBean(SemanticMapper.class);
+        fields = manualFields();
+        schema = new SemanticSchema(MANUAL_SCHEMA_ID, "Manual",
+                Collections.singleton(new EntitySemantics(SDL_CORE_VOCABULARY, "Manual")), fields);
+        manual = new EntityModelData().setContent(manualContent());
+        manual.setId("4711");
+        manual.setSchemaId(String.valueOf(MANUAL_SCHEMA_ID));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Manual createEntity() throws SemanticMappingException {
+        return semanticMapper.createEntity(Manual.class, fields, DefaultSemanticFieldDataProvider.getFor(manual, schema));
+    }
+
+    private static Map<FieldSemantics, SemanticField> manualFields() {
+        Map<FieldSemantics, SemanticField> sectionFields = ImmutableMap.of(
+                new FieldSemantics(SDL_CORE_VOCABULARY, "Section", "heading"),
+                new SemanticField("heading", "/Manual/chapter/section/heading", false, Collections.emptyMap()),
+                new FieldSemantics(SDL_CORE_VOCABULARY, "Section", "paragraph"),
+                new SemanticField("paragraph", "/Manual/chapter/section/paragraph", true, Collections.emptyMap()));
+        Map<FieldSemantics, SemanticField> chapterFields = ImmutableMap.of(
+                new FieldSemantics(SDL_CORE_VOCABULARY, "Chapter", "title"),
+                new SemanticField("title", "/Manual/chapter/title", false, Collections.emptyMap()),
+                new FieldSemantics(SDL_CORE_VOCABULARY, "Chapter", "section"),
+                new SemanticField("section", "/Manual/chapter/section", true, sectionFields));
+        return ImmutableMap.of(
+                new FieldSemantics(SDL_CORE_VOCABULARY, "Manual", "title"),
+                new SemanticField("title", "/Manual/title", false, Collections.emptyMap()),
+                new FieldSemantics(SDL_CORE_VOCABULARY, "Manual", "chapter"),
+                new SemanticField("chapter", "/Manual/chapter", true, chapterFields));
+    }
+
+    private static ContentModelData manualContent() {
+        List<ContentModelData> chapters = new ArrayList<>(CHAPTERS);
+        for (int c = 0; c < CHAPTERS; c++) {
+            List<ContentModelData> sections = new ArrayList<>(SECTIONS);
+            for (int s = 0; s < SECTIONS; s++) {
+                List<String> paragraphs = new ArrayList<>(PARAGRAPHS);
+                for (int p = 0; p < PARAGRAPHS; p++) {
+                    paragraphs.add("Paragraph " + p + " of section " + s + " of chapter " + c + ", model service page region entity.");
+                }
+                ContentModelData section = new ContentModelData();
+                section.put("heading", "Section " + c + "." + s);
+                section.put("paragraph", new ListWrapper<>(paragraphs));
+                sections.add(section);
+            }
+            ContentModelData chapter = new ContentModelData();
+            chapter.put("title", "Chapter " + c);
+            chapter.put("section", new ListWrapper.ContentModelDataListWrapper(sections));
+            chapters.add(chapter);
+        }
+        ContentModelData manual = new ContentModelData();
+        manual.put("title", "Content delivery administration");
+        manual.put("chapter", new ListWrapper.ContentModelDataListWrapper(chapters));
+        return manual;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Manual extends AbstractEntityModel {
+
+        private String title;
+
+        private List<Chapter> chapters;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Chapter extends AbstractEntityModel {
+
+        private String title;
+
+        private List<Section> sections;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Section extends AbstractEntityModel {
+
+        private String heading;
+
+        private List<String> paragraphs;
+    }
+}
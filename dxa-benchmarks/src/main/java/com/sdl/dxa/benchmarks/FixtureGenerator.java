@@ -0,0 +1,184 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sdl.dxa.api.datamodel.model.ContentModelData;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.MvcModelData;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.dxa.api.datamodel.model.RichTextData;
+import com.sdl.dxa.api.datamodel.model.TaxonomyNodeModelData;
+import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates the fixtures of the benchmarks. The output only depends on the seed, so the fixtures are the same
+ * on every run; regenerate them when the data model changes and commit them with the new baseline.
+ * <p>Usage: {@code FixtureGenerator [output directory]}, {@code dxa-benchmarks/src/main/resources/fixtures}
+ * by default.</p>
+ */
+public final class FixtureGenerator {
+
+    private static final String[] REGIONS = {"Hero", "Main", "Sidebar", "Related", "Promo", "Footer"};
+
+    private static final int ENTITIES_PER_REGION = 20;
+
+    private static final String[] WORDS = {
+            "content", "delivery", "model", "service", "page", "region", "entity", "schema", "taxonomy", "keyword",
+            "publication", "template", "component", "binary", "navigation", "link", "cache", "render", "view", "site"
+    };
+
+    private final Random random = new Random(42);
+
+    private final ObjectMapper objectMapper = Fixtures.r2ObjectMapper().copy().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private int nextItemId = 1000;
+
+    private FixtureGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        File directory = new File(args.length > 0 ? args[0] : "dxa-benchmarks/src/main/resources/fixtures");
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        FixtureGenerator generator = new FixtureGenerator();
+        generator.objectMapper.writeValue(new File(directory, Fixtures.LARGE_PAGE), generator.largePage());
+        // published navigation JSON is plain JSON without the type information of the data model
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File(directory, Fixtures.NAVIGATION), generator.staticNavigation("", 4, 4));
+        generator.objectMapper.writeValue(new File(directory, Fixtures.TAXONOMY), generator.taxonomy("t1-k1", 4, 5));
+    }
+
+    private PageModelData largePage() {
+        PageModelData page = new PageModelData();
+        page.setId("640");
+        page.setTitle("Large page");
+        page.setUrlPath("/large-page");
+        page.setSchemaId(String.valueOf(Fixtures.PAGE_SCHEMA_ID));
+        page.setMvcData(mvcData("GeneralPage"));
+        Map<String, String> meta = new LinkedHashMap<>();
+        meta.put("description", sentence(12));
+        meta.put("keywords", sentence(5));
+        page.setMeta(meta);
+        page.setXpmMetadata(xpmMetadata("PageID", "tcm:1-640-64", "PageTemplateID", "tcm:1-131-128"));
+
+        List<RegionModelData> regions = new ArrayList<>();
+        for (String name : REGIONS) {
+            List<EntityModelData> entities = new ArrayList<>();
+            for (int i = 0; i < ENTITIES_PER_REGION; i++) {
+                entities.add(article());
+            }
+            RegionModelData region = new RegionModelData(name, null, entities, null);
+            region.setMvcData(mvcData(name));
+            regions.add(region);
+        }
+        page.setRegions(regions);
+        return page;
+    }
+
+    private EntityModelData article() {
+        int id = nextItemId++;
+        ContentModelData content = new ContentModelData();
+        content.put("headline", sentence(6));
+        content.put("introText", new RichTextData(Arrays.asList(
+                "<p>" + sentence(20) + " <a href=\"/articles/" + id + ".html\">" + sentence(2) + "</a></p>",
+                "<p>" + sentence(30) + "</p>")));
+        content.put("date", "2019-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10) + "T10:00:00.000Z");
+        content.put("tags", new ListWrapper<>(Arrays.asList(word(), word(), word())));
+        content.put("link", "tcm:1-" + (id + 5000));
+
+        EntityModelData entity = new EntityModelData(String.valueOf(id), null, null, null, content, null, null);
+        entity.setSchemaId(String.valueOf(Fixtures.ARTICLE_SCHEMA_ID));
+        entity.setMvcData(mvcData("Article"));
+        entity.setXpmMetadata(xpmMetadata("ComponentID", "tcm:1-" + id, "ComponentTemplateID", "tcm:1-2740-32"));
+        return entity;
+    }
+
+    private Map<String, Object> staticNavigation(String path, int depth, int width) {
+        Map<String, Object> group = navigationItem(path.isEmpty() ? "/" : path, "tcm:1-" + nextItemId++ + "-4", "StructureGroup");
+        List<Map<String, Object>> items = new ArrayList<>();
+        items.add(navigationItem(path + "/index", "tcm:1-" + nextItemId++ + "-64", "Page"));
+        for (int i = 0; i < width; i++) {
+            String itemPath = path + "/" + word() + "-" + i;
+            items.add(depth > 1 ? staticNavigation(itemPath, depth - 1, width) :
+                    navigationItem(itemPath, "tcm:1-" + nextItemId++ + "-64", "Page"));
+        }
+        group.put("Items", items);
+        return group;
+    }
+
+    private Map<String, Object> navigationItem(String url, String id, String type) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("Title", sentence(2));
+        item.put("Url", url);
+        item.put("Id", id);
+        item.put("Type", type);
+        item.put("Items", new ArrayList<>());
+        item.put("PublishedDate", "2019-08-18T13:37:17.000Z");
+        item.put("Visible", random.nextInt(5) > 0);
+        return item;
+    }
+
+    private TaxonomyNodeModelData taxonomy(String id, int depth, int width) {
+        TaxonomyNodeModelData node = new TaxonomyNodeModelData();
+        node.setId(id);
+        node.setType("TaxonomyNode");
+        node.setTitle(String.format("%03d %s", random.nextInt(1000), sentence(2)));
+        node.setUrl("/" + id);
+        node.setVisible(true);
+        node.setKey(id);
+        node.setWithChildren(depth > 1);
+        for (int i = 0; i < width; i++) {
+            String childId = id + "-" + i;
+            if (depth > 1) {
+                node.addItem(taxonomy(childId, depth - 1, width));
+            } else {
+                TaxonomyNodeModelData page = new TaxonomyNodeModelData();
+                page.setId("t1-p" + nextItemId++);
+                page.setType("Page");
+                page.setTitle(String.format("%03d %s", random.nextInt(1000), sentence(3)));
+                page.setUrl("/" + childId);
+                page.setVisible(random.nextInt(5) > 0);
+                node.addItem(page);
+            }
+        }
+        return node;
+    }
+
+    private static MvcModelData mvcData(String viewName) {
+        return new MvcModelData(null, "Core", null, null, viewName, null);
+    }
+
+    private static Map<String, Object> xpmMetadata(String idKey, String id, String templateKey, String templateId) {
+        Map<String, Object> xpmMetadata = new LinkedHashMap<>();
+        xpmMetadata.put(idKey, id);
+        xpmMetadata.put(templateKey, templateId);
+        xpmMetadata.put("IsRepositoryPublished", false);
+        return xpmMetadata;
+    }
+
+    private String sentence(int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(word());
+        }
+        return sentence.toString();
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,24 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.webapp.tridion.linking.AbstractLinkResolver;
+
+/**
+ * Resolves links without a Content Service, the same TCM URI always resolves to the same URL.
+ */
+public class FixtureLinkResolver extends AbstractLinkResolver {
+
+    @Override
+    protected String resolveComponent(ResolvingData resolvingData) {
+        return "/articles/" + resolvingData.getItemId() + ".html";
+    }
+
+    @Override
+    protected String resolvePage(ResolvingData resolvingData) {
+        return "/pages/" + resolvingData.getItemId() + "/index.html";
+    }
+
+    @Override
+    protected String resolveBinary(ResolvingData resolvingData) {
+        return "/media/" + resolvingData.getItemId() + ".jpg";
+    }
+}
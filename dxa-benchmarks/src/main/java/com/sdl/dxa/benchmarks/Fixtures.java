@@ -0,0 +1,142 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.sdl.dxa.api.datamodel.DataModelSpringConfiguration;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.semantic.config.EntitySemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.impl.localization.LocalizationImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
+
+/**
+ * Fixtures of the benchmarks, they are generated with {@link FixtureGenerator} and read from the classpath.
+ */
+public final class Fixtures {
+
+    /**
+     * Page recorded from the Model Service, the same as used by the tests of the model builder.
+     */
+    public static final String RECORDED_PAGE = "recorded-page.json";
+
+    /**
+     * Generated page with several regions full of articles.
+     */
+    public static final String LARGE_PAGE = "large-page.json";
+
+    /**
+     * Generated static navigation, {@code navigation.json} of a site.
+     */
+    public static final String NAVIGATION = "navigation.json";
+
+    /**
+     * Generated taxonomy used for dynamic navigation.
+     */
+    public static final String TAXONOMY = "taxonomy-navigation.json";
+
+    public static final String LOCALIZATION_ID = "1";
+
+    public static final long PAGE_SCHEMA_ID = 10015L;
+
+    public static final long ARTICLE_SCHEMA_ID = 2737L;
+
+    private static final ObjectMapper R2_OBJECT_MAPPER = new DataModelSpringConfiguration().dxaR2ObjectMapper();
+
+    private Fixtures() {
+    }
+
+    /**
+     * Returns the object mapper for the R2 data model as configured in the web application.
+     *
+     * @return shared object mapper
+     */
+    public static ObjectMapper r2ObjectMapper() {
+        return R2_OBJECT_MAPPER;
+    }
+
+    /**
+     * Reads a fixture.
+     *
+     * @param name name of the fixture
+     * @return content of the fixture
+     */
+    public static String read(String name) {
+        try (InputStream stream = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (stream == null) {
+                throw new IllegalStateException("Fixture " + name + " is not found, run FixtureGenerator first");
+            }
+            return new String(ByteStreams.toByteArray(stream), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read fixture " + name, e);
+        }
+    }
+
+    /**
+     * Reads a page fixture.
+     *
+     * @param name name of the fixture
+     * @return the page model data
+     */
+    public static PageModelData readPage(String name) {
+        try {
+            return R2_OBJECT_MAPPER.readValue(read(name), PageModelData.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot parse page fixture " + name, e);
+        }
+    }
+
+    /**
+     * Creates the localization the fixtures are published to.
+     *
+     * @return localization with the page and the article schemas
+     */
+    public static Localization localization() {
+        return LocalizationImpl.newBuilder()
+                .setId(LOCALIZATION_ID)
+                .setPath("")
+                .setMediaRoot("/media/")
+                .addResources(ImmutableMap.of(
+                        "core.pageTitleSeparator", "|",
+                        "core.pageTitlePostfix", "Benchmarks"))
+                .addSemanticSchema(new SemanticSchema(PAGE_SCHEMA_ID, "GeneralPage",
+                        Collections.emptySet(), Collections.emptyMap()))
+                .addSemanticSchema(new SemanticSchema(ARTICLE_SCHEMA_ID, "Article",
+                        Collections.singleton(new EntitySemantics(SDL_CORE_VOCABULARY, "Article")),
+                        articleFields()))
+                .build();
+    }
+
+    /**
+     * Returns the semantic fields of the article schema.
+     *
+     * @return fields by their semantics
+     */
+    public static Map<FieldSemantics, SemanticField> articleFields() {
+        return ImmutableMap.<FieldSemantics, SemanticField>builder()
+                .put(articleField("headline", false))
+                .put(articleField("introText", false))
+                .put(articleField("date", false))
+                .put(articleField("tags", true))
+                .put(articleField("link", false))
+                .build();
+    }
+
+    private static Map.Entry<FieldSemantics, SemanticField> articleField(String name, boolean multiValue) {
+        return new AbstractMap.SimpleImmutableEntry<>(
+                new FieldSemantics(SDL_CORE_VOCABULARY, "Article", name),
+                new SemanticField(name, "/Article/" + name, multiValue, Collections.emptyMap()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.DxaSpringInitialization;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.serialization.json.DxaViewModelJsonChainFilter;
+import com.sdl.webapp.common.api.serialization.json.filter.IgnoreByNameInRequestFilter;
+import com.sdl.webapp.common.api.serialization.json.filter.XpmAwareJsonFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Writing a page model as JSON through {@link DxaViewModelJsonChainFilter}, as done for the JSON output of pages.
+ * XPM metadata is only written in preview.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonOutputBenchmark {
+
+    @Param({"false", "true"})
+    public boolean preview;
+
+    private ObjectMapper objectMapper;
+
+    private PageModel pageModel;
+
+    @Setup
+    public void setUp() {
+        try (AnnotationConfigApplicationContext context = ModelBuildingConfiguration.start()) {
+            pageModel = context.getBean(ModelBuilderPipeline.class).createPageModel(Fixtures.readPage(Fixtures.LARGE_PAGE));
+        }
+
+        WebRequestContext webRequestContext = mock(WebRequestContext.class, withSettings().stubOnly());
+        when(webRequestContext.isSessionPreview()).thenReturn(preview);
+        XpmAwareJsonFilter xpmAwareJsonFilter = new XpmAwareJsonFilter(webRequestContext);
+        ReflectionTestUtils.setField(xpmAwareJsonFilter, "enabled", true);
+
+        objectMapper = new DxaSpringInitialization().objectMapper();
+        Object chainFilter = objectMapper.getSerializationConfig().getFilterProvider()
+                .findPropertyFilter(DxaViewModelJsonChainFilter.FILTER_NAME, null);
+        ReflectionTestUtils.setField(chainFilter, "filters",
+                Arrays.asList(xpmAwareJsonFilter, new IgnoreByNameInRequestFilter(new MockHttpServletRequest())));
+    }
+
+    @Benchmark
+    public String write() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(pageModel);
+    }
+}
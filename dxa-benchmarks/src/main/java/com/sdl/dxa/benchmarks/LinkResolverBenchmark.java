@@ -0,0 +1,99 @@
+package com.sdl.dxa.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The part of link resolving done by DXA itself: parsing of the URI, recording of the cache dependency and
+ * post-processing of the URL. The Content Service is replaced by {@link FixtureLinkResolver}.
+ * <p>{@link #uriMix()} resolves links of a page after another: mostly the same few links of the header, footer and
+ * navigation, and links to many other items that do not stay in the cache of parsed URIs.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinkResolverBenchmark {
+
+    private static final int MIX_SIZE = 4096;
+
+    private static final int HOT_LINKS = 100;
+
+    private FixtureLinkResolver linkResolver;
+
+    private String[] mixUris;
+
+    private boolean[] mixBinaries;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        linkResolver = new FixtureLinkResolver();
+        ReflectionTestUtils.setField(linkResolver, "shouldRemoveExtension", true);
+        ReflectionTestUtils.setField(linkResolver, "shouldStripIndexPath", true);
+
+        Random random = new Random(42);
+        mixUris = new String[MIX_SIZE];
+        mixBinaries = new boolean[MIX_SIZE];
+        for (int i = 0; i < MIX_SIZE; i++) {
+            // 80% of the links go to the hot items, the others to any of 20000 items
+            int itemId = random.nextInt(10) < 8 ? 1000 + random.nextInt(HOT_LINKS) : 10_000 + random.nextInt(20_000);
+            switch (random.nextInt(10)) {
+                case 0:
+                    mixUris[i] = "tcm:1-" + itemId + "-64";
+                    break;
+                case 1:
+                    mixUris[i] = "ish:1-" + itemId + "-16";
+                    break;
+                case 2:
+                    mixUris[i] = "/articles/" + itemId + ".html";
+                    break;
+                default:
+                    mixUris[i] = "tcm:1-" + itemId;
+                    mixBinaries[i] = random.nextInt(5) == 0;
+            }
+        }
+    }
+
+    @Benchmark
+    public String component() {
+        return linkResolver.resolveLink("tcm:1-6042", Fixtures.LOCALIZATION_ID, false, "640");
+    }
+
+    @Benchmark
+    public String page() {
+        return linkResolver.resolveLink("tcm:1-640-64", Fixtures.LOCALIZATION_ID, false, null);
+    }
+
+    @Benchmark
+    public String binary() {
+        return linkResolver.resolveLink("tcm:1-6042", Fixtures.LOCALIZATION_ID, true, "tcm:1-640-64");
+    }
+
+    @Benchmark
+    public String url() {
+        return linkResolver.resolveLink("/articles/index.html", Fixtures.LOCALIZATION_ID, false, null);
+    }
+
+    @Benchmark
+    public String uriMix() {
+        int index = next;
+        next = (index + 1) & (MIX_SIZE - 1);
+        return linkResolver.resolveLink(mixUris[index], Fixtures.LOCALIZATION_ID, mixBinaries[index], "640");
+    }
+}
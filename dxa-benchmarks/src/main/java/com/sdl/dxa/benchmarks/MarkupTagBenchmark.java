@@ -0,0 +1,121 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.DxaSpringInitialization;
+import com.sdl.dxa.caching.wrapper.OutputCache;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.impl.markup.MarkupDecoratorRegistryImpl;
+import com.sdl.webapp.common.impl.taglib.dxa.EntityTag;
+import com.sdl.webapp.common.markup.MarkupDecoratorRegistry;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
+import com.sdl.webapp.tridion.xpm.markup.EntityXpmMarkup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+
+import javax.servlet.jsp.JspException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Rendering of an entity with the {@code dxa:entity} tag, the view itself is replaced by fixed markup.
+ * Without XPM the markup is written straight to the page, with XPM it is buffered and decorated by parsing it with Jsoup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarkupTagBenchmark {
+
+    static final String ENTITY_MARKUP = "<article class=\"rich-text\" data-entity-property-xpath=\"\">\n" +
+            "  <h1 data-entity-property-xpath=\"tcm:Content/custom:Article/custom:headline\">Content delivery at scale</h1>\n" +
+            "  <time datetime=\"2019-08-18\">18 August 2019</time>\n" +
+            "  <div data-entity-property-xpath=\"tcm:Content/custom:Article/custom:introText\">\n" +
+            "    <p>Model service page region entity schema taxonomy keyword publication template component binary.</p>\n" +
+            "    <p>Navigation link cache render view site <a href=\"/articles/1000\">content delivery</a>.</p>\n" +
+            "  </div>\n" +
+            "  <ul>\n" +
+            "    <li data-entity-property-xpath=\"tcm:Content/custom:Article/custom:tags[1]\">content</li>\n" +
+            "    <li data-entity-property-xpath=\"tcm:Content/custom:Article/custom:tags[2]\">delivery</li>\n" +
+            "    <li data-entity-property-xpath=\"tcm:Content/custom:Article/custom:tags[3]\">model</li>\n" +
+            "  </ul>\n" +
+            "  <a href=\"/articles/6000\" data-entity-property-xpath=\"tcm:Content/custom:Article/custom:link\">Read more</a>\n" +
+            "</article>\n";
+
+    /**
+     * {@code none} renders as on a live site, {@code jsoup} adds XPM markup as in preview.
+     */
+    @Param({"none", "jsoup"})
+    public String xpm;
+
+    private GenericWebApplicationContext webApplicationContext;
+
+    private StubPageContext pageContext;
+
+    private EntityTag tag;
+
+    @Setup
+    public void setUp() {
+        EntityModel entity;
+        try (AnnotationConfigApplicationContext context = ModelBuildingConfiguration.start()) {
+            entity = context.getBean(ModelBuilderPipeline.class)
+                    .createPageModel(Fixtures.readPage(Fixtures.LARGE_PAGE))
+                    .getRegions().get("Main").getEntities().get(0);
+        }
+
+        Localization localization = Fixtures.localization();
+        WebRequestContext webRequestContext = mock(WebRequestContext.class, withSettings().stubOnly());
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        when(webRequestContext.isSessionPreview()).thenReturn(!"none".equals(xpm));
+        OutputCache outputCache = mock(OutputCache.class, withSettings().stubOnly());
+        MarkupDecoratorRegistry decoratorRegistry = new MarkupDecoratorRegistryImpl();
+        decoratorRegistry.registerDecorator("Entity", new EntityXpmMarkup());
+
+        MockServletContext servletContext = new MockServletContext();
+        webApplicationContext = new GenericWebApplicationContext(servletContext);
+        webApplicationContext.getBeanFactory().registerSingleton("webRequestContext", webRequestContext);
+        webApplicationContext.getBeanFactory().registerSingleton("outputCache", outputCache);
+        webApplicationContext.getBeanFactory().registerSingleton("markupDecoratorRegistry", decoratorRegistry);
+        webApplicationContext.getBeanFactory().registerSingleton("objectMapper", new DxaSpringInitialization().objectMapper());
+        webApplicationContext.registerBeanDefinition("applicationContextHolder", new RootBeanDefinition(ApplicationContextHolder.class));
+        webApplicationContext.refresh();
+        servletContext.setAttribute(WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, webApplicationContext);
+
+        pageContext = new StubPageContext(servletContext, ENTITY_MARKUP);
+        tag = new EntityTag();
+        tag.setPageContext(pageContext);
+        tag.setEntity(entity);
+    }
+
+    @TearDown
+    public void tearDown() {
+        webApplicationContext.close();
+    }
+
+    @Benchmark
+    public int entity() throws JspException {
+        tag.doStartTag();
+        return pageContext.clearPage();
+    }
+}
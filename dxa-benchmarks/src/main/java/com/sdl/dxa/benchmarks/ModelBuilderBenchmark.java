@@ -0,0 +1,67 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.webapp.common.api.model.PageModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a page model out of the R2 data model, which happens on every cache miss of a page.
+ * {@code deserializeAndBuild} adds reading the JSON as sent by the Model Service.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelBuilderBenchmark {
+
+    @Param({Fixtures.RECORDED_PAGE, Fixtures.LARGE_PAGE})
+    public String page;
+
+    private AnnotationConfigApplicationContext context;
+
+    private ModelBuilderPipeline pipeline;
+
+    private String json;
+
+    private PageModelData pageModelData;
+
+    @Setup
+    public void setUp() {
+        context = ModelBuildingConfiguration.start();
+        pipeline = context.getBean(ModelBuilderPipeline.class);
+        json = Fixtures.read(page);
+        pageModelData = Fixtures.readPage(page);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageModel build() {
+        return pipeline.createPageModel(pageModelData);
+    }
+
+    @Benchmark
+    public PageModel deserializeAndBuild() throws Exception {
+        return pipeline.createPageModel(Fixtures.r2ObjectMapper().readValue(json, PageModelData.class));
+    }
+}
@@ -0,0 +1,128 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
+import com.sdl.dxa.caching.LocalizationIdProvider;
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.WebRequestContextLocalizationIdProvider;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.dxa.tridion.mapping.impl.DefaultModelBuilder;
+import com.sdl.dxa.tridion.mapping.impl.ModelBuilderPipelineImpl;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.model.ViewModelRegistry;
+import com.sdl.webapp.common.impl.mapping.SemanticMapperImpl;
+import com.sdl.webapp.common.impl.mapping.SemanticMappingRegistryImpl;
+import com.sdl.webapp.common.impl.model.ViewModelRegistryImpl;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Model building as configured in the web application, without the Content Service. Links are resolved with
+ * {@link FixtureLinkResolver}, the request context always returns {@link Fixtures#localization()}.
+ * <p>Mocks are stub-only, so that they do not remember invocations while a benchmark runs.</p>
+ */
+@Configuration
+@ComponentScan("com.sdl.dxa.tridion.mapping.converter")
+public class ModelBuildingConfiguration {
+
+    /**
+     * Starts the context.
+     *
+     * @return started context, to be closed by the caller
+     */
+    public static AnnotationConfigApplicationContext start() {
+        return new AnnotationConfigApplicationContext(ModelBuildingConfiguration.class);
+    }
+
+    @Bean
+    public static PropertySourcesPlaceholderConfigurer placeholderConfigurer() {
+        return new PropertySourcesPlaceholderConfigurer();
+    }
+
+    @Bean
+    public Localization localization() {
+        return Fixtures.localization();
+    }
+
+    @Bean
+    public WebRequestContext webRequestContext() {
+        WebRequestContext webRequestContext = mock(WebRequestContext.class, withSettings().stubOnly());
+        Localization localization = localization();
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        when(webRequestContext.getContextPath()).thenReturn("");
+        when(webRequestContext.getFullUrl()).thenReturn("http://localhost/index.html");
+        return webRequestContext;
+    }
+
+    @Bean
+    public LocalizationIdProvider localizationIdProvider() {
+        return new WebRequestContextLocalizationIdProvider();
+    }
+
+    @Bean
+    public LocalizationAwareKeyGenerator localizationAwareKeyGenerator() {
+        return new LocalizationAwareKeyGenerator();
+    }
+
+    @Bean
+    public NamedCacheProvider namedCacheProvider() {
+        return mock(NamedCacheProvider.class, withSettings().stubOnly());
+    }
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return Fixtures.r2ObjectMapper();
+    }
+
+    @Bean
+    public LinkResolver linkResolver() {
+        return new FixtureLinkResolver();
+    }
+
+    @Bean
+    public SemanticMappingRegistry semanticMappingRegistry() {
+        return new SemanticMappingRegistryImpl();
+    }
+
+    @Bean
+    public SemanticMapper semanticMapper() {
+        return new SemanticMapperImpl(semanticMappingRegistry());
+    }
+
+    @Bean
+    public ViewModelRegistry viewModelRegistry() {
+        return new ViewModelRegistryImpl();
+    }
+
+    @Bean
+    public ApplicationContextHolder applicationContextHolder() {
+        return new ApplicationContextHolder();
+    }
+
+    @Bean
+    public BenchmarkModuleInitializer benchmarkModuleInitializer() {
+        return new BenchmarkModuleInitializer();
+    }
+
+    @Bean
+    public DefaultModelBuilder defaultModelBuilder() {
+        return new DefaultModelBuilder();
+    }
+
+    @Bean
+    public ModelBuilderPipeline modelBuilderPipeline() {
+        return new ModelBuilderPipelineImpl();
+    }
+}
@@ -0,0 +1,91 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.api.datamodel.model.ContentModelData;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.dxa.api.datamodel.model.ViewModelData;
+import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints the heap footprint of page models, as kept in the page model cache, and of the maps of their field sets
+ * compared to the same field sets in {@link HashMap}s. Sizes are deep sizes measured with JOL over {@value #PAGES}
+ * copies of a page, so that what the copies share, like the key layouts of {@link ContentModelData}, is only
+ * counted once. Maps are measured without their values, filled one field after the other as done by Jackson.
+ */
+public final class ModelDataFootprint {
+
+    private static final int PAGES = 10;
+
+    private ModelDataFootprint() {
+    }
+
+    public static void main(String[] args) {
+        for (String page : new String[]{Fixtures.RECORDED_PAGE, Fixtures.LARGE_PAGE}) {
+            List<PageModelData> pages = new ArrayList<>(PAGES);
+            List<ContentModelData> fieldSets = new ArrayList<>();
+            for (int i = 0; i < PAGES; i++) {
+                PageModelData pageModelData = Fixtures.readPage(page);
+                pages.add(pageModelData);
+                collect(pageModelData, fieldSets);
+            }
+
+            List<Object> values = new ArrayList<>();
+            List<Map<String, Object>> maps = new ArrayList<>();
+            List<Map<String, Object>> hashMaps = new ArrayList<>();
+            for (ContentModelData fieldSet : fieldSets) {
+                values.addAll(fieldSet.values());
+                maps.add(fill(new ContentModelData(), fieldSet));
+                hashMaps.add(fill(new HashMap<>(), fieldSet));
+            }
+
+            System.out.printf("%s: JSON %,d bytes, page model %,d bytes, %d field sets: maps %,d bytes (as HashMap %,d bytes), values %,d bytes%n",
+                    page, Fixtures.read(page).getBytes(StandardCharsets.UTF_8).length, size(pages),
+                    fieldSets.size() / PAGES, size(maps), size(hashMaps), size(values));
+        }
+    }
+
+    private static Map<String, Object> fill(Map<String, Object> map, ContentModelData fieldSet) {
+        for (String field : fieldSet.keySet()) {
+            map.put(field, Boolean.TRUE);
+        }
+        return map;
+    }
+
+    private static long size(List<?> objects) {
+        return GraphLayout.parseInstance(objects.toArray()).totalSize() / PAGES;
+    }
+
+    /**
+     * Collects the field sets in a data model: metadata and content of the page, regions and entities,
+     * nested field sets and lists of them.
+     */
+    private static void collect(Object value, List<ContentModelData> fieldSets) {
+        if (value instanceof ContentModelData) {
+            fieldSets.add((ContentModelData) value);
+            ((ContentModelData) value).values().forEach(nested -> collect(nested, fieldSets));
+        } else if (value instanceof ViewModelData) {
+            collect(((ViewModelData) value).getMetadata(), fieldSets);
+            if (value instanceof PageModelData) {
+                collect(((PageModelData) value).getRegions(), fieldSets);
+            } else if (value instanceof RegionModelData) {
+                collect(((RegionModelData) value).getRegions(), fieldSets);
+                collect(((RegionModelData) value).getEntities(), fieldSets);
+            } else if (value instanceof EntityModelData) {
+                collect(((EntityModelData) value).getContent(), fieldSets);
+            }
+        } else if (value instanceof ListWrapper) {
+            collect(((ListWrapper<?>) value).getValues(), fieldSets);
+        } else if (value instanceof Collection) {
+            ((Collection<?>) value).forEach(element -> collect(element, fieldSets));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.DxaSpringInitialization;
+import com.sdl.dxa.api.datamodel.model.TaxonomyNodeModelData;
+import com.sdl.dxa.modelservice.service.ModelServiceProvider;
+import com.sdl.dxa.tridion.navigation.dynamic.OnDemandNavigationModelProvider;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.entity.NavigationLinks;
+import com.sdl.webapp.common.api.model.entity.SitemapItem;
+import com.sdl.webapp.common.api.model.sorting.SortableSiteMap;
+import com.sdl.webapp.common.api.navigation.NavigationProviderException;
+import com.sdl.webapp.tridion.navigation.DynamicNavigationProvider;
+import com.sdl.webapp.tridion.navigation.StaticNavigationProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Navigation of a site with a few hundred pages. Static navigation is parsed from {@code navigation.json} on every
+ * call, dynamic navigation converts the taxonomy; loading of the JSON and the taxonomy is not measured.
+ * Sorting sorts all nodes of the taxonomy by their taxonomy and keyword IDs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NavigationBenchmark {
+
+    private Localization localization;
+
+    private StaticNavigationProvider staticNavigationProvider;
+
+    private DynamicNavigationProvider dynamicNavigationProvider;
+
+    private String staticPath;
+
+    private String dynamicPath;
+
+    private List<SitemapItem> taxonomyNodes;
+
+    @Setup
+    public void setUp() throws ContentProviderException, IOException, NavigationProviderException {
+        localization = Fixtures.localization();
+        FixtureLinkResolver linkResolver = new FixtureLinkResolver();
+        ObjectMapper objectMapper = new DxaSpringInitialization().objectMapper();
+
+        ModelServiceProvider modelService = mock(ModelServiceProvider.class, withSettings().stubOnly());
+        when(modelService.loadPageContent(any())).thenReturn(Fixtures.read(Fixtures.NAVIGATION));
+        staticNavigationProvider = new StaticNavigationProvider(objectMapper, linkResolver, modelService);
+        ReflectionTestUtils.setField(staticNavigationProvider, "navigationModelUrl", "/navigation.json");
+
+        TaxonomyNodeModelData taxonomy = Fixtures.r2ObjectMapper().readValue(Fixtures.read(Fixtures.TAXONOMY), TaxonomyNodeModelData.class);
+        dynamicNavigationProvider = new DynamicNavigationProvider(staticNavigationProvider, linkResolver,
+                requestDto -> Optional.of(taxonomy), mock(OnDemandNavigationModelProvider.class, withSettings().stubOnly()));
+
+        staticPath = deepestUrl(staticNavigationProvider.getNavigationModel(localization));
+        dynamicPath = deepestUrl(dynamicNavigationProvider.getNavigationModel(localization));
+
+        taxonomyNodes = new ArrayList<>();
+        collect(dynamicNavigationProvider.getNavigationModel(localization), taxonomyNodes);
+        Collections.reverse(taxonomyNodes);
+    }
+
+    @Benchmark
+    public SitemapItem staticNavigationModel() throws NavigationProviderException {
+        return staticNavigationProvider.getNavigationModel(localization);
+    }
+
+    @Benchmark
+    public NavigationLinks staticBreadcrumb() throws NavigationProviderException {
+        return staticNavigationProvider.getBreadcrumbNavigationLinks(staticPath, localization);
+    }
+
+    @Benchmark
+    public SitemapItem dynamicNavigationModel() throws NavigationProviderException {
+        return dynamicNavigationProvider.getNavigationModel(localization);
+    }
+
+    @Benchmark
+    public NavigationLinks dynamicBreadcrumb() throws NavigationProviderException {
+        return dynamicNavigationProvider.getBreadcrumbNavigationLinks(dynamicPath, localization);
+    }
+
+    @Benchmark
+    public Collection<SitemapItem> taxonomySort() {
+        return SortableSiteMap.sortItem(taxonomyNodes, SortableSiteMap.SORT_BY_TAXONOMY_AND_KEYWORD);
+    }
+
+    private static void collect(SitemapItem item, List<SitemapItem> items) {
+        items.add(item);
+        for (SitemapItem child : item.getItems()) {
+            collect(child, items);
+        }
+    }
+
+    private static String deepestUrl(SitemapItem item) {
+        SitemapItem deepest = item;
+        while (!deepest.getItems().isEmpty()) {
+            SitemapItem last = null;
+            for (SitemapItem child : deepest.getItems()) {
+                last = child;
+            }
+            deepest = last;
+        }
+        return deepest.getUrl();
+    }
+}
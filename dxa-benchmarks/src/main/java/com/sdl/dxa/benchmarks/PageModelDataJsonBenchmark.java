@@ -0,0 +1,56 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and writing of R2 page model JSON with the polymorphic {@code $type} information of every node,
+ * as done for every page loaded from the Model Service and every page model in a distributed cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageModelDataJsonBenchmark {
+
+    @Param({Fixtures.RECORDED_PAGE, Fixtures.LARGE_PAGE})
+    public String page;
+
+    private final ObjectMapper objectMapper = Fixtures.r2ObjectMapper();
+
+    private String json;
+
+    private PageModelData pageModelData;
+
+    @Setup
+    public void setUp() {
+        json = Fixtures.read(page);
+        pageModelData = Fixtures.readPage(page);
+    }
+
+    @Benchmark
+    public PageModelData deserialize() throws IOException {
+        return objectMapper.readValue(json, PageModelData.class);
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return objectMapper.writeValueAsString(pageModelData);
+    }
+}
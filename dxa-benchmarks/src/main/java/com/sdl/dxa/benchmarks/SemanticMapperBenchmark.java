@@ -0,0 +1,65 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping the fields of a single entity, done for every entity of a page that is built.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SemanticMapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+
+    private SemanticMapper semanticMapper;
+
+    private EntityModelData article;
+
+    private SemanticSchema schema;
+
+    private Map<FieldSemantics, SemanticField> fields;
+
+    @Setup
+    public void setUp() {
+        context = ModelBuildingConfiguration.start();
+        semanticMapper = context.getBean(SemanticMapper.class);
+        article = Fixtures.readPage(Fixtures.LARGE_PAGE).getRegions().get(0).getEntities().get(0);
+        schema = Fixtures.localization().getSemanticSchemas().get(Fixtures.ARTICLE_SCHEMA_ID);
+        fields = schema.getSemanticFields();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Article createEntity() throws SemanticMappingException {
+        return semanticMapper.createEntity(Article.class, fields, DefaultSemanticFieldDataProvider.getFor(article, schema));
+    }
+}
@@ -0,0 +1,178 @@
+package com.sdl.dxa.benchmarks;
+
+import javax.servlet.jsp.JspWriter;
+import javax.servlet.jsp.tagext.BodyContent;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+
+/**
+ * Body content buffering in memory, the way a JSP container does for {@link javax.servlet.jsp.PageContext#pushBody()}.
+ */
+class StringBodyContent extends BodyContent {
+
+    private final CharArrayWriter buffer = new CharArrayWriter(8192);
+
+    StringBodyContent(JspWriter enclosingWriter) {
+        super(enclosingWriter);
+    }
+
+    int length() {
+        return buffer.size();
+    }
+
+    @Override
+    public Reader getReader() {
+        return new StringReader(getString());
+    }
+
+    @Override
+    public String getString() {
+        return buffer.toString();
+    }
+
+    @Override
+    public void writeOut(Writer out) throws IOException {
+        buffer.writeTo(out);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+        buffer.write(chars, offset, length);
+    }
+
+    @Override
+    public void write(String string) {
+        buffer.write(string, 0, string.length());
+    }
+
+    @Override
+    public void newLine() {
+        buffer.write('\n');
+    }
+
+    @Override
+    public void print(boolean value) {
+        write(String.valueOf(value));
+    }
+
+    @Override
+    public void print(char value) {
+        buffer.write(value);
+    }
+
+    @Override
+    public void print(int value) {
+        write(String.valueOf(value));
+    }
+
+    @Override
+    public void print(long value) {
+        write(String.valueOf(value));
+    }
+
+    @Override
+    public void print(float value) {
+        write(String.valueOf(value));
+    }
+
+    @Override
+    public void print(double value) {
+        write(String.valueOf(value));
+    }
+
+    @Override
+    public void print(char[] value) {
+        write(value, 0, value.length);
+    }
+
+    @Override
+    public void print(String value) {
+        write(String.valueOf(value));
+    }
+
+    @Override
+    public void print(Object value) {
+        write(String.valueOf(value));
+    }
+
+    @Override
+    public void println() {
+        newLine();
+    }
+
+    @Override
+    public void println(boolean value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void println(char value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void println(int value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void println(long value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void println(float value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void println(double value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void println(char[] value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void println(String value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void println(Object value) {
+        print(value);
+        newLine();
+    }
+
+    @Override
+    public void clear() {
+        buffer.reset();
+    }
+
+    @Override
+    public void clearBuffer() {
+        buffer.reset();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public int getRemaining() {
+        return Integer.MAX_VALUE;
+    }
+}
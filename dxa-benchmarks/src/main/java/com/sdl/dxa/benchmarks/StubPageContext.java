@@ -0,0 +1,69 @@
+package com.sdl.dxa.benchmarks;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockPageContext;
+
+import javax.servlet.ServletContext;
+import javax.servlet.jsp.JspWriter;
+import javax.servlet.jsp.tagext.BodyContent;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Page context that renders every include as the same markup and buffers the page in memory,
+ * so that a tag can be rendered without a JSP container.
+ */
+class StubPageContext extends MockPageContext {
+
+    private final String includeMarkup;
+
+    private final StringBodyContent page = new StringBodyContent(null);
+
+    private final Deque<StringBodyContent> bodies = new ArrayDeque<>();
+
+    StubPageContext(ServletContext servletContext, String includeMarkup) {
+        super(servletContext, new MockHttpServletRequest(servletContext), new MockHttpServletResponse());
+        this.includeMarkup = includeMarkup;
+    }
+
+    /**
+     * Forgets the rendered page.
+     *
+     * @return number of characters rendered since the last call
+     */
+    int clearPage() {
+        int length = page.length();
+        page.clearBuffer();
+        return length;
+    }
+
+    @Override
+    public void include(String relativeUrlPath) throws IOException {
+        getOut().write(includeMarkup);
+    }
+
+    @Override
+    public void include(String relativeUrlPath, boolean flush) throws IOException {
+        include(relativeUrlPath);
+    }
+
+    @Override
+    public JspWriter getOut() {
+        return bodies.isEmpty() ? page : bodies.peek();
+    }
+
+    @Override
+    public BodyContent pushBody() {
+        StringBodyContent body = new StringBodyContent(getOut());
+        bodies.push(body);
+        return body;
+    }
+
+    @Override
+    public JspWriter popBody() {
+        bodies.pop();
+        return getOut();
+    }
+}
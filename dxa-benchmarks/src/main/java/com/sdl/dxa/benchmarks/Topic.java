@@ -0,0 +1,42 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticEntity;
+import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticProperty;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary;
+import com.sdl.webapp.common.api.model.RichText;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.entity.Link;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+/**
+ * Strongly typed topic of {@link TopicBenchmark}, mapped from the class names of the topic XHTML.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SemanticEntity(vocabulary = SemanticVocabulary.SDL_DITA, entityName = "body")
+public class Topic extends AbstractEntityModel {
+
+    @SemanticProperty("_topicTitle")
+    private String topicTitle;
+
+    @SemanticProperty("title")
+    private String title;
+
+    @SemanticProperty("body")
+    private RichText body;
+
+    @SemanticProperty("section")
+    private List<String> sections;
+
+    @SemanticProperty("body/section/sectiondiv")
+    private List<String> sectionDivs;
+
+    @SemanticProperty("related-links/childlink")
+    private List<Link> childLinks;
+
+    @SemanticProperty("parentlink")
+    private Link parentLink;
+}
@@ -0,0 +1,225 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.tridion.mapping.impl.StronglyTypedTopicBuilder;
+import com.sdl.dxa.tridion.mapping.impl.TopicClassIndex;
+import com.sdl.webapp.common.api.mapping.views.AbstractModuleInitializer;
+import com.sdl.webapp.common.api.mapping.views.RegisteredViewModel;
+import com.sdl.webapp.common.api.mapping.views.RegisteredViewModels;
+import com.sdl.webapp.common.api.model.entity.GenericTopic;
+import com.sdl.webapp.common.exceptions.DxaException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a generic topic to a strongly typed {@link Topic} by {@link StronglyTypedTopicBuilder}: parsing
+ * the XHTML, detecting the topic type and mapping the properties from the class names of the elements.
+ * <p>The property lookups alone are measured with {@link TopicClassIndex} and, as the baseline, with the
+ * {@code contains(@class, ...)} XPath expressions the builder evaluated before, on the same parsed topic.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TopicBenchmark {
+
+    private static final int SECTIONS = 20;
+
+    private static final int CHILD_LINKS = 10;
+
+    /**
+     * DITA property names of {@link Topic}, the first one also detects the topic type.
+     */
+    private static final String[] PROPERTY_NAMES = {"body", "_topicTitle", "title", "section", "body/section/sectiondiv",
+            "related-links/childlink", "parentlink"};
+
+    private AnnotationConfigApplicationContext context;
+
+    private StronglyTypedTopicBuilder topicBuilder;
+
+    private GenericTopic genericTopic;
+
+    private Element topicElement;
+
+    private Map<String, XPathExpression> propertyXPaths;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new AnnotationConfigApplicationContext(ModelBuildingConfiguration.class, TopicConfiguration.class);
+        topicBuilder = context.getBean(StronglyTypedTopicBuilder.class);
+        genericTopic = new GenericTopic("Installing the content delivery services", topicBody());
+        genericTopic.setId("ish:39137-1-1");
+
+        topicElement = parseTopic(genericTopic);
+        // the builder compiled every expression once per thread
+        propertyXPaths = new HashMap<>();
+        for (String propertyName : PROPERTY_NAMES) {
+            propertyXPaths.put(propertyName, XPathFactory.newInstance().newXPath().compile(getPropertyXPath(propertyName)));
+        }
+        if (lookUpPropertiesWithClassIndex() != lookUpPropertiesWithXPath()) {
+            throw new IllegalStateException("The class index and the XPath expressions find different elements");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Topic convertTopic() throws DxaException {
+        return topicBuilder.tryConvertToStronglyTypedTopic(genericTopic, null);
+    }
+
+    @Benchmark
+    public int lookUpPropertiesWithClassIndex() {
+        TopicClassIndex classIndex = TopicClassIndex.build(topicElement);
+        int found = classIndex.findFirstContaining(topicElement, PROPERTY_NAMES[0]) == null ? 0 : 1;
+        for (String propertyName : PROPERTY_NAMES) {
+            found += classIndex.findByPropertyName(topicElement, propertyName).size();
+        }
+        return found;
+    }
+
+    /**
+     * Baseline of {@link #lookUpPropertiesWithClassIndex()}: the lookups as {@link StronglyTypedTopicBuilder} did them
+     * with XPath before the class index.
+     */
+    @Benchmark
+    public int lookUpPropertiesWithXPath() throws XPathExpressionException {
+        int found = propertyXPaths.get(PROPERTY_NAMES[0]).evaluate(topicElement, XPathConstants.NODE) == null ? 0 : 1;
+        for (String propertyName : PROPERTY_NAMES) {
+            NodeList nodes = (NodeList) propertyXPaths.get(propertyName).evaluate(topicElement, XPathConstants.NODESET);
+            found += filterXPathResults(nodes, propertyName).size();
+        }
+        return found;
+    }
+
+    /**
+     * Parses the topic as {@link StronglyTypedTopicBuilder} does.
+     */
+    private static Element parseTopic(GenericTopic topic) throws Exception {
+        Element topicElement = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader("<?xml version=\"1.0\" encoding=\"utf-8\"?><topic>" +
+                        topic.getTopicBody() + "</topic>")))
+                .getDocumentElement();
+        Element topicTitle = topicElement.getOwnerDocument().createElement("h1");
+        topicTitle.setAttribute("class", "_topicTitle");
+        topicTitle.setTextContent(topic.getTopicTitle());
+        topicElement.appendChild(topicTitle);
+        return topicElement;
+    }
+
+    /**
+     * XPath of a property name as the builder built it before the class index.
+     */
+    private static String getPropertyXPath(String propertyName) {
+        StringBuilder xPathBuilder = new StringBuilder(".");
+        for (String propertyNameSegment : propertyName.split("/")) {
+            xPathBuilder.append("//*[contains(@class, '").append(propertyNameSegment).append("')]");
+        }
+        return xPathBuilder.toString();
+    }
+
+    /**
+     * Drops partial matches of {@code contains} as the builder did before the class index, splitting class names
+     * on single spaces.
+     */
+    private static List<Element> filterXPathResults(NodeList htmlNodes, String ditaPropertyName) {
+        List<Element> result = new ArrayList<>(htmlNodes.getLength());
+        String className = ditaPropertyName.substring(ditaPropertyName.lastIndexOf('/') + 1);
+        for (int i = 0; i < htmlNodes.getLength(); i++) {
+            Node htmlNode = htmlNodes.item(i);
+            if (htmlNode.getNodeType() == Node.ELEMENT_NODE) {
+                Element htmlElement = (Element) htmlNode;
+                String[] classes = htmlElement.getAttribute("class").split(" ");
+                if (new HashSet<>(Arrays.asList(classes)).contains(className)) {
+                    result.add(htmlElement);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * XHTML of a task topic as published from DITA, with the trailing spaces and multiple classes of DITA-OT output.
+     */
+    private static String topicBody() {
+        StringBuilder body = new StringBuilder("<h1 class=\"title topictitle1 \">Installing the content delivery services</h1>")
+                .append("<div class=\"body taskbody lcBaseBody \">");
+        for (int i = 0; i < SECTIONS; i++) {
+            body.append("<div class=\"section lcIntro \" id=\"s").append(i).append("\">")
+                    .append("<h2 class=\"title sectiontitle \">Step ").append(i).append("</h2>")
+                    .append("<p class=\"p \">Model service page region entity schema taxonomy keyword publication.</p>")
+                    .append("<div class=\"sectiondiv \"><p class=\"p \">Navigation link cache render view <span class=\"keyword \">site</span>.</p></div>")
+                    .append("</div>");
+        }
+        body.append("</div><div class=\"related-links \"><ul class=\"ullinks \">");
+        for (int i = 0; i < CHILD_LINKS; i++) {
+            body.append("<li class=\"link ulchildlink childlink \"><strong><a class=\"link \" href=\"/topics/").append(i)
+                    .append(".html\" title=\"Child topic ").append(i).append("\">Child topic ").append(i).append("</a></strong></li>");
+        }
+        return body.append("</ul><div class=\"familylinks \"><div class=\"parentlink \"><strong>Parent topic:</strong> ")
+                .append("<a class=\"link \" href=\"/topics/parent.html\">Installation</a></div></div></div>")
+                .toString();
+    }
+
+    /**
+     * The topic builder and the registration of {@link Topic}, added to {@link ModelBuildingConfiguration}.
+     */
+    @Configuration
+    public static class TopicConfiguration {
+
+        @Bean
+        public StronglyTypedTopicBuilder stronglyTypedTopicBuilder() {
+            return new StronglyTypedTopicBuilder();
+        }
+
+        @Bean
+        public TopicModuleInitializer topicModuleInitializer() {
+            return new TopicModuleInitializer();
+        }
+    }
+
+    @RegisteredViewModels({
+            @RegisteredViewModel(viewName = "Topic", modelClass = Topic.class)
+    })
+    public static class TopicModuleInitializer extends AbstractModuleInitializer {
+
+        @Override
+        protected String getAreaName() {
+            return "Ish";
+        }
+    }
+}
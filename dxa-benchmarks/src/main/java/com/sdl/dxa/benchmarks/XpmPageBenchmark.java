@@ -0,0 +1,117 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.DxaSpringInitialization;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
+import com.sdl.webapp.common.api.xpm.ComponentType;
+import com.sdl.webapp.common.api.xpm.XpmRegionConfig;
+import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
+import com.sdl.webapp.tridion.xpm.ComponentTypeImpl;
+import com.sdl.webapp.tridion.xpm.XpmRegionImpl;
+import com.sdl.webapp.tridion.xpm.markup.EntityXpmMarkup;
+import com.sdl.webapp.tridion.xpm.markup.RegionXpmMarkup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A whole page rendered in XPM preview, as the entity and region tags decorate it: the markup of every entity of
+ * the large page is decorated with {@link EntityXpmMarkup}, then the entities of each region are joined and the
+ * region is decorated with {@link RegionXpmMarkup}. The views are replaced by fixed markup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XpmPageBenchmark {
+
+    private GenericApplicationContext applicationContext;
+
+    private WebRequestContext webRequestContext;
+
+    private PageModel page;
+
+    private EntityXpmMarkup entityXpmMarkup;
+
+    private RegionXpmMarkup regionXpmMarkup;
+
+    @Setup
+    public void setUp() {
+        try (AnnotationConfigApplicationContext context = ModelBuildingConfiguration.start()) {
+            page = context.getBean(ModelBuilderPipeline.class).createPageModel(Fixtures.readPage(Fixtures.LARGE_PAGE));
+        }
+
+        ComponentTypeImpl componentType = new ComponentTypeImpl();
+        componentType.setSchemaId("tcm:1-11-8");
+        componentType.setTemplateId("tcm:1-12-32");
+        XpmRegionImpl xpmRegion = new XpmRegionImpl();
+        xpmRegion.setComponentTypes(Collections.<ComponentType>singletonList(componentType));
+        XpmRegionConfig xpmRegionConfig = (regionName, localization) -> xpmRegion;
+
+        // models look up the XPM region configuration and the object mapper through ApplicationContextHolder
+        applicationContext = new GenericApplicationContext();
+        applicationContext.getBeanFactory().registerSingleton("xpmRegionConfig", xpmRegionConfig);
+        applicationContext.getBeanFactory().registerSingleton("objectMapper", new DxaSpringInitialization().objectMapper());
+        applicationContext.registerBeanDefinition("applicationContextHolder", new RootBeanDefinition(ApplicationContextHolder.class));
+        applicationContext.refresh();
+
+        Localization localization = Fixtures.localization();
+        webRequestContext = mock(WebRequestContext.class, withSettings().stubOnly());
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        when(webRequestContext.isSessionPreview()).thenReturn(true);
+
+        entityXpmMarkup = new EntityXpmMarkup();
+        regionXpmMarkup = new RegionXpmMarkup(xpmRegionConfig);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int page() {
+        StringBuilder html = new StringBuilder();
+        for (RegionModel region : page.getRegions()) {
+            html.append(renderRegion(region));
+        }
+        return html.length();
+    }
+
+    private String renderRegion(RegionModel region) {
+        StringBuilder html = new StringBuilder("<div class=\"region\">\n");
+        for (EntityModel entity : region.getEntities()) {
+            html.append(entityXpmMarkup.process(new ParsableHtmlNode(MarkupTagBenchmark.ENTITY_MARKUP), entity, webRequestContext).toHtml());
+        }
+        for (RegionModel nested : region.getRegions()) {
+            html.append(renderRegion(nested));
+        }
+        html.append("</div>\n");
+        return regionXpmMarkup.process(new ParsableHtmlNode(html.toString()), region, webRequestContext).toHtml();
+    }
+}
@@ -9,23 +9,62 @@ import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceInternalServerErr
 import com.sdl.web.model.componentpresentation.ComponentPresentationImpl;
 import com.tridion.dcp.ComponentPresentation;
 import org.dd4t.core.exceptions.ItemNotFoundException;
+import org.dd4t.core.exceptions.SerializationException;
+import org.dd4t.core.util.TCMURI;
 import org.dd4t.providers.ComponentPresentationProvider;
 import org.dd4t.providers.impl.BrokerComponentPresentationProvider;
+import org.slf4j.Logger;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.annotation.Resource;
 import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import static org.slf4j.LoggerFactory.getLogger;
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
+/**
+ * Loads DD4T component presentations from the Model Service.
+ * <p>Component presentations of a page are loaded at once: each one is requested only once per request,
+ * and requests for several of them are sent concurrently, since the Model Service has no multi-item endpoint.</p>
+ */
 @SuppressWarnings("SpringAutowiredFieldsWarningInspection")
 public class ModelServiceComponentPresentationProvider extends BrokerComponentPresentationProvider implements ComponentPresentationProvider {
 
+    private static final Logger log = getLogger(ModelServiceComponentPresentationProvider.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String LOADED_ATTRIBUTE = ModelServiceComponentPresentationProvider.class.getName() + ".loaded";
+
+    private static final ThreadLocal<Map<String, ComponentPresentation>> BATCH = new ThreadLocal<>();
+
     @Resource
     private ModelServiceClient modelServiceClient;
 
     @Resource
     private ModelServiceClientConfiguration modelServiceClientConfiguration;
 
+    private int batchThreads = 4;
+
+    private volatile ExecutorService executor;
+
     public void setModelServiceClient(ModelServiceClient modelServiceClient) {
         this.modelServiceClient = modelServiceClient;
     }
@@ -34,15 +73,102 @@ public class ModelServiceComponentPresentationProvider extends BrokerComponentPr
         this.modelServiceClientConfiguration = modelServiceClientConfiguration;
     }
 
+    /**
+     * Sets the number of concurrent requests of a batch, {@code 1} loads batches sequentially.
+     *
+     * @param batchThreads number of threads shared by all batches
+     */
+    public void setBatchThreads(int batchThreads) {
+        this.batchThreads = batchThreads;
+    }
+
+    @Override
+    public List<String> getDynamicComponentPresentations(String[] itemUris, int templateId, int publicationId) throws ItemNotFoundException, SerializationException {
+        List<Integer> componentIds = new ArrayList<>(itemUris.length);
+        for (String itemUri : itemUris) {
+            try {
+                componentIds.add(new TCMURI(itemUri).getItemId());
+            } catch (ParseException e) {
+                throw new SerializationException(e);
+            }
+        }
+
+        boolean outsideOfRequest = getRequestScopedComponentPresentations() == null && BATCH.get() == null;
+        if (outsideOfRequest) {
+            BATCH.set(new HashMap<>());
+        }
+        try {
+            getComponentPresentations(componentIds, templateId, publicationId);
+            return super.getDynamicComponentPresentations(itemUris, templateId, publicationId);
+        } finally {
+            if (outsideOfRequest) {
+                BATCH.remove();
+            }
+        }
+    }
+
+    /**
+     * Loads the component presentations of several components with the same template.
+     * <p>Duplicate IDs and component presentations already loaded in this request are not requested again.</p>
+     *
+     * @param componentIds  IDs of the components
+     * @param templateId    ID of the component template
+     * @param publicationId ID of the publication
+     * @return component presentations by component ID in the order of the IDs, components that are not found are left out
+     */
+    public Map<Integer, ComponentPresentation> getComponentPresentations(Collection<Integer> componentIds, int templateId, int publicationId) {
+        Map<String, ComponentPresentation> loaded = getLoadedComponentPresentations();
+        Map<Integer, ComponentPresentation> result = new LinkedHashMap<>();
+        Set<Integer> missing = new LinkedHashSet<>();
+        for (Integer componentId : componentIds) {
+            ComponentPresentation componentPresentation = loaded == null ? null : loaded.get(key(componentId, templateId, publicationId));
+            if (componentPresentation != null) {
+                result.put(componentId, componentPresentation);
+            } else {
+                missing.add(componentId);
+            }
+        }
+
+        Map<Integer, ComponentPresentation> fetched = missing.size() > 1 && batchThreads > 1 ?
+                fetchConcurrently(missing, templateId, publicationId) : fetchSequentially(missing, templateId, publicationId);
+        fetched.forEach((componentId, componentPresentation) -> {
+            if (loaded != null) {
+                loaded.put(key(componentId, templateId, publicationId), componentPresentation);
+            }
+        });
+
+        Map<Integer, ComponentPresentation> ordered = new LinkedHashMap<>();
+        for (Integer componentId : componentIds) {
+            ComponentPresentation componentPresentation = result.containsKey(componentId) ? result.get(componentId) : fetched.get(componentId);
+            if (componentPresentation != null) {
+                ordered.put(componentId, componentPresentation);
+            }
+        }
+        return ordered;
+    }
+
     @Override
     protected ComponentPresentation getComponentPresentation(int componentId, int templateId, int publicationId) throws ItemNotFoundException {
+        Map<String, ComponentPresentation> loaded = getLoadedComponentPresentations();
+        String key = key(componentId, templateId, publicationId);
+        ComponentPresentation componentPresentation = loaded == null ? null : loaded.get(key);
+        if (componentPresentation == null) {
+            componentPresentation = loadComponentPresentation(componentId, templateId, publicationId);
+            if (loaded != null) {
+                loaded.put(key, componentPresentation);
+            }
+        }
+        return componentPresentation;
+    }
+
+    private ComponentPresentation loadComponentPresentation(int componentId, int templateId, int publicationId) throws ItemNotFoundException {
         String serviceUrl = fromUriString(modelServiceClientConfiguration.getEntityModelUrl())
                 .queryParam("dcpType", "HIGHEST_PRIORITY")
                 .build().toUriString();
 
         try {
             String cpContent = modelServiceClient.getForType(serviceUrl, String.class, "tcm", publicationId, componentId, templateId);
-            JsonNode cp = new ObjectMapper().readTree(cpContent);
+            JsonNode cp = OBJECT_MAPPER.readTree(cpContent);
             return new ComponentPresentationImpl(
                     cp.get("NamespaceId").asInt(0),
                     cp.get("PublicationId").asInt(publicationId),
@@ -59,4 +185,88 @@ public class ModelServiceComponentPresentationProvider extends BrokerComponentPr
                     "for [componentId = '" + componentId + "', templateId = '" + templateId + "', publicationId = '" + publicationId + "']", e);
         }
     }
+
+    private Map<Integer, ComponentPresentation> fetchSequentially(Collection<Integer> componentIds, int templateId, int publicationId) {
+        Map<Integer, ComponentPresentation> fetched = new HashMap<>();
+        for (Integer componentId : componentIds) {
+            try {
+                fetched.put(componentId, loadComponentPresentation(componentId, templateId, publicationId));
+            } catch (ItemNotFoundException e) {
+                log.debug("Component presentation of component {} with template {} in publication {} is not found",
+                        componentId, templateId, publicationId, e);
+            }
+        }
+        return fetched;
+    }
+
+    private Map<Integer, ComponentPresentation> fetchConcurrently(Collection<Integer> componentIds, int templateId, int publicationId) {
+        Map<Integer, Future<ComponentPresentation>> futures = new LinkedHashMap<>();
+        for (Integer componentId : componentIds) {
+            futures.put(componentId, getExecutor().submit(modelServiceClient.withCurrentRequestHeaders(
+                    () -> loadComponentPresentation(componentId, templateId, publicationId))));
+        }
+
+        Map<Integer, ComponentPresentation> fetched = new HashMap<>();
+        for (Map.Entry<Integer, Future<ComponentPresentation>> entry : futures.entrySet()) {
+            try {
+                fetched.put(entry.getKey(), entry.getValue().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(future -> future.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    futures.values().forEach(future -> future.cancel(true));
+                    throw (RuntimeException) e.getCause();
+                }
+                log.debug("Component presentation of component {} with template {} in publication {} is not loaded",
+                        entry.getKey(), templateId, publicationId, e.getCause());
+            }
+        }
+        return fetched;
+    }
+
+    private ExecutorService getExecutor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(batchThreads, batchThreads, 60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(batchThreads * 64), runnable -> {
+                        Thread thread = new Thread(runnable, "dxa-ms-cp-loader");
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+                    threadPool.allowCoreThreadTimeOut(true);
+                    executor = threadPool;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static Map<String, ComponentPresentation> getLoadedComponentPresentations() {
+        Map<String, ComponentPresentation> batch = BATCH.get();
+        return batch != null ? batch : getRequestScopedComponentPresentations();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ComponentPresentation> getRequestScopedComponentPresentations() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        synchronized (attributes) {
+            Map<String, ComponentPresentation> loaded =
+                    (Map<String, ComponentPresentation>) attributes.getAttribute(LOADED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (loaded == null) {
+                loaded = new ConcurrentHashMap<>();
+                attributes.setAttribute(LOADED_ATTRIBUTE, loaded, RequestAttributes.SCOPE_REQUEST);
+            }
+            return loaded;
+        }
+    }
+
+    private static String key(int componentId, int templateId, int publicationId) {
+        return publicationId + "-" + componentId + "-" + templateId;
+    }
 }
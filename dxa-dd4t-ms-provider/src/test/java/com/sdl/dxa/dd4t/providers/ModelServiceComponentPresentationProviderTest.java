@@ -17,11 +17,17 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -45,6 +51,7 @@ public class ModelServiceComponentPresentationProviderTest {
         //noinspection unchecked
         when(modelServiceClient.getForType(anyString(), any(Class.class), anyString(), anyInt(), anyInt(), anyInt()))
                 .thenReturn(IOUtils.toString(new ClassPathResource("dcp.json").getInputStream(), "UTF-8"));
+        when(modelServiceClient.withCurrentRequestHeaders(any(Callable.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
     }
 
     @Test
@@ -58,4 +65,21 @@ public class ModelServiceComponentPresentationProviderTest {
         //then
         assertThat(expected, new ReflectionEquals(componentPresentation));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldLoadEachComponentPresentationOfBatchOnce() throws Exception {
+        //given
+        String[] itemUris = {"tcm:3-10", "tcm:3-11", "tcm:3-10", "tcm:3-12", "tcm:3-11"};
+
+        //when
+        List<String> contents = componentPresentationProvider.getDynamicComponentPresentations(itemUris, 20, 3);
+
+        //then
+        assertEquals(5, contents.size());
+        assertEquals("content", contents.get(2));
+        for (int componentId = 10; componentId <= 12; componentId++) {
+            //noinspection unchecked
+            verify(modelServiceClient, times(1)).getForType(anyString(), any(Class.class), eq("tcm"), eq(3), eq(componentId), eq(20));
+        }
+    }
+}
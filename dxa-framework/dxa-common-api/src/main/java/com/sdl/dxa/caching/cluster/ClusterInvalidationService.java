@@ -0,0 +1,124 @@
+package com.sdl.dxa.caching.cluster;
+
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
+import com.sdl.dxa.caching.invalidation.CacheInvalidationService;
+import com.sdl.dxa.caching.invalidation.PublishEvent;
+import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.cache.Cache;
+
+/**
+ * Keeps the caches of the nodes of a cluster consistent.
+ * <p>Publish notifications, cache clears and localization refreshes of this node are broadcast with
+ * {@link InvalidationBus}, evictions done through Spring's caches are broadcast by the caches themselves.
+ * Invalidations received from the other nodes are applied to the local caches only, so they are never sent back.</p>
+ * <p>Exists only with the {@code dxa.caching.cluster} profile, as the bus does.</p>
+ */
+@Slf4j
+@Service
+@Profile("dxa.caching.cluster")
+public class ClusterInvalidationService {
+
+    private final InvalidationBus bus;
+
+    private final NamedCacheProvider cacheProvider;
+
+    @Autowired(required = false)
+    private CacheDependencyIndex dependencyIndex;
+
+    @Autowired(required = false)
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired(required = false)
+    private LocalizationResolver localizationResolver;
+
+    @Autowired
+    public ClusterInvalidationService(InvalidationBus bus, NamedCacheProvider cacheProvider) {
+        this.bus = bus;
+        this.cacheProvider = cacheProvider;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        bus.subscribe(this::apply);
+    }
+
+    /**
+     * Sends a publish notification to the other nodes, each evicts the entries depending on the published items.
+     *
+     * @param event published or unpublished items
+     */
+    public void publishEvent(@NotNull PublishEvent event) {
+        bus.publish(InvalidationMessage.publish(event));
+    }
+
+    /**
+     * Tells the other nodes to clear a cache, which is already cleared on this node.
+     *
+     * @param cacheName name of the cache
+     */
+    public void cacheCleared(@NotNull String cacheName) {
+        bus.publish(InvalidationMessage.clear(cacheName));
+    }
+
+    /**
+     * Tells the other nodes to refresh a localization, which is already refreshed on this node.
+     *
+     * @param localizationId ID of the localization
+     */
+    public void localizationRefreshed(@NotNull String localizationId) {
+        bus.publish(InvalidationMessage.refreshLocalization(localizationId));
+    }
+
+    void apply(@NotNull InvalidationMessage message) {
+        log.debug("Applying invalidation from another node: {}", message);
+        switch (message.getType()) {
+            case PUBLISH:
+                if (cacheInvalidationService != null) {
+                    cacheInvalidationService.submit(message.getPublishEvent());
+                }
+                break;
+            case EVICT:
+                evictLocally(message.getCacheName(), message.getKey());
+                break;
+            case CLEAR:
+                clearLocally(message.getCacheName());
+                break;
+            case REFRESH_LOCALIZATION:
+                if (localizationResolver == null || !localizationResolver.refreshLocalization(message.getLocalizationId())) {
+                    log.info("Localization {} is not refreshed by {}, it is not loaded on this node or cannot be refreshed by ID",
+                            message.getLocalizationId(), localizationResolver);
+                }
+                break;
+            default:
+                log.warn("Unknown invalidation message {}", message);
+        }
+    }
+
+    private void evictLocally(String cacheName, Object key) {
+        Cache<Object, Object> cache = cacheProvider.getCacheManager().getCache(cacheName);
+        if (cache != null) {
+            cache.remove(key);
+        }
+        if (dependencyIndex != null) {
+            dependencyIndex.forget(cacheName, key);
+        }
+    }
+
+    private void clearLocally(String cacheName) {
+        Cache<Object, Object> cache = cacheProvider.getCacheManager().getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+        if (dependencyIndex != null) {
+            dependencyIndex.forgetCache(cacheName);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.sdl.dxa.caching.wrapper;
 
+import com.sdl.dxa.caching.CacheStatistics;
+import com.sdl.dxa.caching.CacheStatisticsRegistry;
 import com.sdl.dxa.caching.ConditionalKey;
 import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
 import com.sdl.dxa.caching.NamedCacheProvider;
 import com.sdl.dxa.caching.NeverCached;
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
 import com.sdl.webapp.common.api.model.ViewModel;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -12,6 +17,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.annotation.PostConstruct;
 import javax.cache.Cache;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Wrapper on {@link Cache}.
@@ -26,6 +33,12 @@ public abstract class SimpleCacheWrapper<B, V> {
 
     private NamedCacheProvider cacheProvider;
 
+    private CacheStatistics statistics;
+
+    private CacheDependencyIndex dependencyIndex;
+
+    private final AtomicBoolean skippedPutReported = new AtomicBoolean();
+
     @Autowired
     public void setKeyGenerator(LocalizationAwareKeyGenerator keyGenerator) {
         this.keyGenerator = keyGenerator;
@@ -36,6 +49,16 @@ public abstract class SimpleCacheWrapper<B, V> {
         this.cacheProvider = cacheProvider;
     }
 
+    @Autowired(required = false)
+    public void setStatisticsRegistry(CacheStatisticsRegistry statisticsRegistry) {
+        this.statistics = statisticsRegistry == null ? null : statisticsRegistry.forCache(getCacheName());
+    }
+
+    @Autowired(required = false)
+    public void setDependencyIndex(CacheDependencyIndex dependencyIndex) {
+        this.dependencyIndex = dependencyIndex;
+    }
+
     @PostConstruct
     public void init() {
         log.debug("Creating of cache {} on startup", getCacheName());
@@ -94,6 +117,8 @@ public abstract class SimpleCacheWrapper<B, V> {
 
     /**
      * Puts the given value into cache unless the value class is annotated with {@link NeverCached}.
+     * <p>A cache may refuse to store the value, e.g. if it is sized in memory and the value is larger than the object
+     * graph it is allowed to walk. Such a put is logged and counted as skipped in {@link CacheStatistics}.</p>
      *
      * @param value value to cache
      * @param key   key formed by {@link #getSpecificKey(Object, Object...)}
@@ -113,8 +138,51 @@ public abstract class SimpleCacheWrapper<B, V> {
             return value;
         }
 
-        getCache().put(key, value);
-        logPut(key, getCache().getName());
+        Cache<Object, Object> cache = getCache();
+        cache.put(key, value);
+        if (!cache.containsKey(key)) {
+            logSkippedPut(key, cache.getName());
+            if (statistics != null) {
+                statistics.recordSkippedPut();
+            }
+            return value;
+        }
+        if (statistics != null) {
+            statistics.recordPut();
+        }
+        logPut(key, cache.getName());
+        return value;
+    }
+
+    /**
+     * Returns the invalidation generation that should be taken before a value is built and passed
+     * to {@link #addAndGet(Object, Object, Collection, long)}.
+     *
+     * @return current invalidation generation
+     */
+    public long getInvalidationGeneration() {
+        return dependencyIndex == null ? 0 : dependencyIndex.generation();
+    }
+
+    /**
+     * Puts the given value into cache as {@link #addAndGet(Object, Object)} does and registers what the value
+     * was built from, so that publishing any of the dependencies evicts the value. The value is not cached
+     * if any of the dependencies was published while it was built.
+     *
+     * @param key          key formed by {@link #getSpecificKey(Object, Object...)}
+     * @param value        value to cache
+     * @param dependencies CM items the value was built from
+     * @param generation   invalidation generation taken with {@link #getInvalidationGeneration()} before the value was built
+     * @return value put in cache
+     */
+    public V addAndGet(Object key, V value, Collection<CacheDependency> dependencies, long generation) {
+        if (dependencyIndex == null || value == null || !isCachingEnabled()
+                || value.getClass().isAnnotationPresent(NeverCached.class)) {
+            return addAndGet(key, value);
+        }
+        if (!dependencyIndex.register(getCacheName(), key, dependencies, generation, () -> addAndGet(key, value))) {
+            log.trace("Value for key {} is not cached, it was published while it was built", key);
+        }
         return value;
     }
 
@@ -151,8 +219,17 @@ public abstract class SimpleCacheWrapper<B, V> {
         boolean contains = getCache().containsKey(key);
         if (contains) {
             logHit(key, getCache().getName());
+            if (statistics != null) {
+                statistics.recordHit();
+            }
+            if (dependencyIndex != null && CacheDependencies.isCapturing()) {
+                CacheDependencies.recordAll(dependencyIndex.getDependencies(getCacheName(), key));
+            }
         } else {
             logMiss(key, getCache().getName());
+            if (statistics != null) {
+                statistics.recordMiss();
+            }
         }
         return contains;
     }
@@ -165,6 +242,15 @@ public abstract class SimpleCacheWrapper<B, V> {
         log.trace("Cache entry for key '{}' put in cache '{}'", key, cacheName);
     }
 
+    private void logSkippedPut(Object key, String cacheName) {
+        if (skippedPutReported.compareAndSet(false, true)) {
+            log.warn("Cache '{}' did not store a value, probably because it is larger than dxa.caching.max-object-graph-size " +
+                    "allows for a cache sized in memory; further skipped puts are logged on debug level and counted as " +
+                    "skippedPuts in cache statistics", cacheName);
+        }
+        log.debug("Cache entry for key '{}' was not stored in cache '{}'", key, cacheName);
+    }
+
     private void logHit(Object key, String cacheName) {
         log.trace("Cache entry for key '{}' found in cache '{}'", key, cacheName);
     }
@@ -0,0 +1,36 @@
+package com.sdl.webapp.common.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Carries state bound to the thread of a request, e.g. a thread local, to the other threads that work
+ * on the request, e.g. the ones building entities in parallel.
+ * <p>Every Spring bean implementing this interface is used. The state is captured on the thread that received
+ * the request, then restored on the other thread before it works on the request and reset when it is done.</p>
+ *
+ * @param <T> type of the carried state
+ */
+public interface ThreadContextPropagator<T> {
+
+    /**
+     * Captures the state of the current thread, which received the request.
+     *
+     * @return the state to carry, {@code null} if there is nothing to carry
+     */
+    @Nullable
+    T capture();
+
+    /**
+     * Restores the captured state on the current thread before it continues the request.
+     *
+     * @param context the state returned by {@link #capture()}
+     */
+    void restore(@NotNull T context);
+
+    /**
+     * Removes the state from the current thread once it is done with the request, so that the thread
+     * can be reused for another request.
+     */
+    void reset();
+}
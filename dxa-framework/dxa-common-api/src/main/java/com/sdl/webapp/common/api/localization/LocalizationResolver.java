@@ -1,5 +1,8 @@
 package com.sdl.webapp.common.api.localization;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Localization resolver.
  */
@@ -21,4 +24,24 @@ public interface LocalizationResolver {
      * @return a boolean.
      */
     boolean refreshLocalization(Localization localization);
+
+    /**
+     * Refreshes the localization with the specified ID, so that its configuration is reloaded.
+     * Used when another node of a cluster refreshes the localization.
+     *
+     * @param localizationId ID of the localization to be refreshed
+     * @return whether the localization was refreshed
+     */
+    default boolean refreshLocalization(String localizationId) {
+        return false;
+    }
+
+    /**
+     * Returns the version and the last refresh of the localization of each publication, if the resolver keeps track of them.
+     *
+     * @return publication ID to the refresh status of its localization, empty by default
+     */
+    default Map<String, Map<String, Object>> getRefreshStatus() {
+        return Collections.emptyMap();
+    }
 }
@@ -1,52 +1,36 @@
 package com.sdl.webapp.common.api.model.sorting;
 
-import com.google.common.collect.ComparisonChain;
 import com.sdl.dxa.api.datamodel.model.SitemapItemModelData;
 import com.sdl.webapp.common.api.model.entity.SitemapItem;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.comparator.NullSafeComparator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.function.Function;
 
 /**
- * A private class that contains the results of the regex so they only have to be done once for a whole sorting.
+ * A private class that contains the sort keys of an item so they only have to be parsed once for a whole sorting.
+ * <p>Taxonomy IDs like {@code t1-k23} are parsed by hand into a character and a number per part, as the pattern
+ * {@code ^(\w?)(\d+)-(\w?)(\d+)$} would match them, and compared as primitives.</p>
  */
 public class SortableSiteMap {
-    private static final Pattern TAXONOMY_ID_PATTERN = Pattern.compile("^(\\w?)(\\d+)-(\\w?)(\\d+)$");
-
-    public static final Comparator<SortableSiteMap> SORT_BY_TITLE_AND_ID = new NullSafeComparator<>(new Comparator<SortableSiteMap>() {
-        @Override
-        public int compare(SortableSiteMap o1, SortableSiteMap o2) {
-            return ComparisonChain.start()
-                    .compareTrueFirst(o1 != null, o2 != null)
-                    .compare(o1.getOriginalTitle(), o2.getOriginalTitle())
-                    .compare(o1.getId(), o2.getId())
-                    .result();
-        }
-    }, true);
-
-    public static final Comparator<SortableSiteMap> SORT_BY_TAXONOMY_AND_KEYWORD = new NullSafeComparator<>(new Comparator<SortableSiteMap>() {
-        @Override
-        public int compare(SortableSiteMap o1, SortableSiteMap o2) {
-            return ComparisonChain.start()
-                    .compareTrueFirst(o1 != null, o2 != null)
-                    .compare(o1.getFirstChar(), o2.getFirstChar())
-                    .compare(o1.getFirstNumber(), o2.getFirstNumber())
-                    .compare(o1.getSecondChar(), o2.getSecondChar())
-                    .compare(o1.getSecondNumber(), o2.getSecondNumber())
-                    .result();
-        }
-    }, true);
 
-    private Integer firstNumber = Integer.MIN_VALUE;
-    private String firstChar = "";
-    private Integer secondNumber = Integer.MIN_VALUE;
-    private String secondChar = "";
+    private static final int NO_CHAR = -1;
+
+    public static final Comparator<SortableSiteMap> SORT_BY_TITLE_AND_ID =
+            new NullSafeComparator<>(SortableSiteMap::compareTitleAndId, true);
+
+    public static final Comparator<SortableSiteMap> SORT_BY_TAXONOMY_AND_KEYWORD =
+            new NullSafeComparator<>(SortableSiteMap::compareTaxonomyAndKeyword, true);
+
+    private int firstNumber = Integer.MIN_VALUE;
+    private int firstChar = NO_CHAR;
+    private int secondNumber = Integer.MIN_VALUE;
+    private int secondChar = NO_CHAR;
     private String originalTitle = "";
     private String id = "";
     private SitemapItem sitemapItem;
@@ -59,12 +43,7 @@ public class SortableSiteMap {
         }
         originalTitle = sitemapItemModelData.getOriginalTitle() == null ? "" : sitemapItemModelData.getOriginalTitle();
         id = sitemapItemModelData.getId() == null ? "" : sitemapItemModelData.getId();
-        if (sitemapItemModelData.getId() == null) return;
-        Matcher matcher = TAXONOMY_ID_PATTERN.matcher(sitemapItemModelData.getId());
-        if (!matcher.matches()) {
-            return;
-        }
-        fillFromMatcher(matcher);
+        parseTaxonomyId(id);
     }
 
     public SortableSiteMap(SitemapItem sitemapItem) {
@@ -74,25 +53,62 @@ public class SortableSiteMap {
         }
         originalTitle = sitemapItem.getOriginalTitle() == null ? "" : sitemapItem.getOriginalTitle();
         id = sitemapItem.getId() == null ? "" : sitemapItem.getId();
-        if (sitemapItem.getId() == null) return;
-        Matcher matcher = TAXONOMY_ID_PATTERN.matcher(sitemapItem.getId());
-        if (!matcher.matches()) {
+        parseTaxonomyId(id);
+    }
+
+    private static int compareTitleAndId(SortableSiteMap o1, SortableSiteMap o2) {
+        int result = o1.originalTitle.compareTo(o2.originalTitle);
+        return result != 0 ? result : o1.id.compareTo(o2.id);
+    }
+
+    private static int compareTaxonomyAndKeyword(SortableSiteMap o1, SortableSiteMap o2) {
+        int result = Integer.compare(o1.firstChar, o2.firstChar);
+        if (result == 0) {
+            result = Integer.compare(o1.firstNumber, o2.firstNumber);
+        }
+        if (result == 0) {
+            result = Integer.compare(o1.secondChar, o2.secondChar);
+        }
+        return result != 0 ? result : Integer.compare(o1.secondNumber, o2.secondNumber);
+    }
+
+    private void parseTaxonomyId(String id) {
+        int dash = id.indexOf('-');
+        if (dash < 0 || !isPart(id, 0, dash) || !isPart(id, dash + 1, id.length())) {
             return;
         }
-        fillFromMatcher(matcher);
+        int firstStart = dash > 1 ? 1 : 0;
+        int secondStart = id.length() - dash > 2 ? dash + 2 : dash + 1;
+        this.firstChar = firstStart == 0 ? NO_CHAR : id.charAt(0);
+        this.firstNumber = Integer.parseInt(id.substring(firstStart, dash));
+        this.secondChar = secondStart == dash + 1 ? NO_CHAR : id.charAt(dash + 1);
+        this.secondNumber = Integer.parseInt(id.substring(secondStart));
     }
 
-    private void fillFromMatcher(Matcher matcher) {
-        String group2 = matcher.group(2);
-        String group4 = matcher.group(4);
-        if (StringUtils.isNotEmpty(group2)) {
-            this.firstNumber = Integer.parseInt(group2);
+    /**
+     * Whether the part matches {@code (\w?)(\d+)}: a single digit, or a word character followed by digits.
+     */
+    private static boolean isPart(String id, int start, int end) {
+        if (end - start == 1) {
+            return isDigit(id.charAt(start));
         }
-        if (StringUtils.isNotEmpty(group4)) {
-            this.secondNumber = Integer.parseInt(group4);
+        if (end - start < 2 || !isWordChar(id.charAt(start))) {
+            return false;
         }
-        this.firstChar = matcher.group(1);
-        this.secondChar = matcher.group(3);
+        for (int i = start + 1; i < end; i++) {
+            if (!isDigit(id.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWordChar(char c) {
+        return isDigit(c) || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_';
     }
 
     public Integer getFirstNumber() {
@@ -104,11 +120,11 @@ public class SortableSiteMap {
     }
 
     public String getFirstChar() {
-        return firstChar;
+        return firstChar == NO_CHAR ? "" : String.valueOf((char) firstChar);
     }
 
     public String getSecondChar() {
-        return secondChar;
+        return secondChar == NO_CHAR ? "" : String.valueOf((char) secondChar);
     }
 
     public SitemapItem getSitemapItem() {
@@ -128,21 +144,27 @@ public class SortableSiteMap {
     }
 
     public static Collection<SitemapItem> sortItem(Collection<SitemapItem> entries, Comparator<SortableSiteMap> comparator) {
-        if (entries == null) return Collections.emptyList();
-        return entries
-                .stream()
-                .map(SortableSiteMap::new)
-                .sorted(comparator)
-                .map(SortableSiteMap::getSitemapItem).collect(Collectors.toList());
+        return sort(entries, SortableSiteMap::new, SortableSiteMap::getSitemapItem, comparator);
     }
 
     public static Collection<SitemapItemModelData> sortModelData(Collection<SitemapItemModelData> entries, Comparator<SortableSiteMap> comparator) {
-        if (entries == null) return Collections.emptyList();
-        return entries
-                .stream()
-                .map(SortableSiteMap::new)
-                .sorted(comparator)
-                .map(SortableSiteMap::getSitemapItemModelData).collect(Collectors.toList());
+        return sort(entries, SortableSiteMap::new, SortableSiteMap::getSitemapItemModelData, comparator);
     }
 
+    private static <T> List<T> sort(Collection<T> entries, Function<T, SortableSiteMap> wrapper,
+                                    Function<SortableSiteMap, T> unwrapper, Comparator<SortableSiteMap> comparator) {
+        if (entries == null) return Collections.emptyList();
+        if (entries.size() < 2) return new ArrayList<>(entries);
+        SortableSiteMap[] sortables = new SortableSiteMap[entries.size()];
+        int index = 0;
+        for (T entry : entries) {
+            sortables[index++] = wrapper.apply(entry);
+        }
+        Arrays.sort(sortables, comparator);
+        List<T> sorted = new ArrayList<>(sortables.length);
+        for (SortableSiteMap sortable : sortables) {
+            sorted.add(unwrapper.apply(sortable));
+        }
+        return sorted;
+    }
 }
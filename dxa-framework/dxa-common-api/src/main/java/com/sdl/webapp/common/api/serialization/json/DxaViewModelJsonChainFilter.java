@@ -4,8 +4,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.PropertyWriter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
-import com.google.common.base.Predicate;
-import com.google.common.collect.Iterables;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
@@ -31,11 +29,15 @@ public final class DxaViewModelJsonChainFilter extends SimpleBeanPropertyFilter
 
     @Override
     protected boolean include(final PropertyWriter writer) {
-        return filters == null || writer == null || !Iterables.any(filters, new Predicate<DxaViewModelJsonPropertyFilter>() {
-            @Override
-            public boolean apply(DxaViewModelJsonPropertyFilter input) {
-                return !input.include(writer);
+        if (filters == null || writer == null) {
+            return true;
+        }
+        // called for every property of every serialized model, so no iterators or predicates here
+        for (int i = 0; i < filters.size(); i++) {
+            if (!filters.get(i).include(writer)) {
+                return false;
             }
-        });
+        }
+        return true;
     }
 }
@@ -8,6 +8,9 @@ import org.springframework.stereotype.Component;
 
 import javax.servlet.ServletRequest;
 import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.google.common.base.Joiner.on;
 import static java.util.Arrays.asList;
@@ -15,6 +18,8 @@ import static java.util.Arrays.asList;
 /**
  * Checks if current request contains list of properties to ignore set with {@link IgnoreByNameInRequestFilter#ignoreByName(ServletRequest, String...)}.
  * If current serialized property name is exactly the same as specified in attribute, it's skipped.
+ * <p>The set of names to ignore is built when they are set, so a serialized property costs a single attribute
+ * lookup and no parsing.</p>
  */
 @Slf4j
 @Component
@@ -22,6 +27,8 @@ public final class IgnoreByNameInRequestFilter implements DxaViewModelJsonProper
 
     private static final String REQUEST_ATTRIBUTE = "Ignore_By_Name_In_Request_Filter";
 
+    private static final String NAMES_REQUEST_ATTRIBUTE = REQUEST_ATTRIBUTE + "_Names";
+
     private static final String DELIMITER = ",";
 
     private final HttpServletRequest httpServletRequest;
@@ -42,6 +49,7 @@ public final class IgnoreByNameInRequestFilter implements DxaViewModelJsonProper
             String value = on(DELIMITER).skipNulls().join(on(DELIMITER).join(properties), request.getAttribute(REQUEST_ATTRIBUTE));
 
             request.setAttribute(REQUEST_ATTRIBUTE, value);
+            request.setAttribute(NAMES_REQUEST_ATTRIBUTE, Collections.unmodifiableSet(new HashSet<>(asList(value.split(DELIMITER)))));
             log.trace("Set ignore properties in current request: {}", value);
         }
     }
@@ -52,8 +60,8 @@ public final class IgnoreByNameInRequestFilter implements DxaViewModelJsonProper
             return true;
         }
 
-        Object attribute = httpServletRequest.getAttribute(REQUEST_ATTRIBUTE);
-        boolean include = !(attribute != null && asList(attribute.toString().split(DELIMITER)).contains(writer.getName()));
+        Object names = httpServletRequest.getAttribute(NAMES_REQUEST_ATTRIBUTE);
+        boolean include = names == null || !((Set<?>) names).contains(writer.getName());
         log.trace("Ignore [{}] property [{}]", include, writer.getName());
         return include;
     }
@@ -1,19 +1,26 @@
 package com.sdl.webapp.common.api.serialization.json.filter;
 
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.PropertyWriter;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.serialization.json.DxaViewModelJsonPropertyFilter;
 import com.sdl.webapp.common.api.serialization.json.annotation.JsonXpmAware;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Checks if the annotated member is annotated with {@link JsonXpmAware} or, as a fallback option, is named as
  * {@code XpmMetadata} or {@code XpmPropertyMetadata}. If so, checks if this is XPM enabled environment.
- *
+ * <p>Whether a property is XPM-aware doesn't change, so it is resolved once per property of a class. Property writers
+ * themselves are not used as keys, as Jackson may create new ones for the same property.</p>
  */
 @Component
 @Slf4j
@@ -21,6 +28,8 @@ public final class XpmAwareJsonFilter implements DxaViewModelJsonPropertyFilter
 
     private final WebRequestContext webRequestContext;
 
+    private final Map<PropertyKey, Boolean> xpmAwareProperties = new ConcurrentHashMap<>();
+
     @Value("${dxa.json.xpm.aware}")
     private boolean enabled;
 
@@ -31,9 +40,16 @@ public final class XpmAwareJsonFilter implements DxaViewModelJsonPropertyFilter
 
     @Override
     public boolean include(PropertyWriter writer) {
-        if (!enabled || webRequestContext == null || webRequestContext.isSessionPreview()) {
+        if (!enabled || webRequestContext == null) {
             return true;
         }
+        AnnotatedMember member = writer.getMember();
+        PropertyKey key = new PropertyKey(member == null ? null : member.getDeclaringClass(), writer.getName());
+        // request context is only asked for XPM-aware properties
+        return !xpmAwareProperties.computeIfAbsent(key, k -> isXpmAware(writer)) || webRequestContext.isSessionPreview();
+    }
+
+    private boolean isXpmAware(PropertyWriter writer) {
         boolean isXpmAware;
         if (writer instanceof BeanPropertyWriter) {
             isXpmAware = writer.getMember().hasAnnotation(JsonXpmAware.class);
@@ -42,6 +58,15 @@ public final class XpmAwareJsonFilter implements DxaViewModelJsonPropertyFilter
             isXpmAware = "XpmMetadata".equals(writer.getName()) || "XpmPropertyMetadata".equals(writer.getName());
             log.trace("Property {} XPM awareness is guessed by name. Annotation set: {}", writer.getFullName(), isXpmAware);
         }
-        return !isXpmAware;
+        return isXpmAware;
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class PropertyKey {
+
+        private final Class<?> declaringClass;
+
+        private final String name;
     }
 }
@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.webapp.common.impl.interceptor.RequestTraceInterceptor;
 import com.sdl.webapp.common.impl.interceptor.StaticContentInterceptor;
 import com.sdl.webapp.common.impl.interceptor.ThreadLocalInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +48,9 @@ public class SpringConfiguration extends WebMvcConfigurerAdapter {
     @Autowired
     private ThreadLocalInterceptor threadLocalInterceptor = null;
 
+    @Autowired
+    private RequestTraceInterceptor requestTraceInterceptor = null;
+
     @Override
     public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
         configurer.favorPathExtension(false);
@@ -57,6 +61,7 @@ public class SpringConfiguration extends WebMvcConfigurerAdapter {
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestTraceInterceptor);
         if(staticContentInterceptor != null) {
             registry.addInterceptor(staticContentInterceptor);
         }
@@ -108,6 +113,11 @@ public class SpringConfiguration extends WebMvcConfigurerAdapter {
         return new ThreadLocalInterceptor();
     }
 
+    @Bean
+    public RequestTraceInterceptor createRequestTraceInterceptor() {
+        return new RequestTraceInterceptor();
+    }
+
     @Bean
     public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter() {
         MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter();
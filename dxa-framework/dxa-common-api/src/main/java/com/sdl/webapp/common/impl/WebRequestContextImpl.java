@@ -1,5 +1,6 @@
 package com.sdl.webapp.common.impl;
 
+import com.sdl.dxa.performance.Performance;
 import com.sdl.webapp.common.api.MediaHelper;
 import com.sdl.webapp.common.api.ScreenWidth;
 import com.sdl.webapp.common.api.WebRequestContext;
@@ -235,7 +236,7 @@ public class WebRequestContextImpl implements WebRequestContext {
     private Localization localization() {
         Localization resolveLocalization = null;
         String fullUrl = getFullUrl();
-        try {
+        try (Performance perf = Performance.phase("localization")) {
             resolveLocalization = localizationResolver.getLocalization(getFullUrl());
         } catch (LocalizationResolverException e) {
             if (unknownLocalizationHandler != null) {
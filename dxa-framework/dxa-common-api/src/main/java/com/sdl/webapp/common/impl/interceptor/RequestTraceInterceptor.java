@@ -0,0 +1,105 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.sdl.dxa.performance.Performance;
+import com.sdl.dxa.performance.RequestTrace;
+import com.sdl.dxa.performance.RequestTracing;
+import com.sdl.webapp.common.api.ThreadContextPropagator;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Traces a request if {@link RequestTracing} is enabled. Has to be the first interceptor, so that resolving
+ * the localization is part of the trace.
+ * <p>The timings of everything before the view is rendered are sent in the {@code Server-Timing} header.
+ * Rendering of the view is measured as the {@code render} span, which is only seen in the log and the admin area
+ * because the response is committed by then.</p>
+ * <p>The trace is carried to the threads that build entities in parallel as a {@link ThreadContextPropagator}.</p>
+ */
+public class RequestTraceInterceptor extends HandlerInterceptorAdapter implements ThreadContextPropagator<RequestTrace> {
+
+    private static final String TRACE_ATTRIBUTE = RequestTraceInterceptor.class.getName() + ".trace";
+
+    private static final String RENDER_ATTRIBUTE = RequestTraceInterceptor.class.getName() + ".render";
+
+    @Autowired
+    private RequestTracing requestTracing;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (requestTracing.isEnabled() && request.getDispatcherType() == DispatcherType.REQUEST
+                && request.getAttribute(TRACE_ATTRIBUTE) == null) {
+            request.setAttribute(TRACE_ATTRIBUTE, RequestTrace.start(request.getMethod() + " " + request.getRequestURI()));
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        RequestTrace trace = (RequestTrace) request.getAttribute(TRACE_ATTRIBUTE);
+        if (trace == null || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return;
+        }
+        if (requestTracing.isServerTimingEnabled() && !response.isCommitted()) {
+            response.setHeader("Server-Timing", trace.toServerTiming());
+        }
+        request.setAttribute(RENDER_ATTRIBUTE, Performance.phase("render"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTrace trace = (RequestTrace) request.getAttribute(TRACE_ATTRIBUTE);
+        if (trace == null || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return;
+        }
+        Performance render = (Performance) request.getAttribute(RENDER_ATTRIBUTE);
+        if (render != null) {
+            render.close();
+            request.removeAttribute(RENDER_ATTRIBUTE);
+        }
+        request.removeAttribute(TRACE_ATTRIBUTE);
+        trace.finish();
+        requestTracing.record(trace);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RequestTrace capture() {
+        return RequestTrace.current();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(@NotNull RequestTrace trace) {
+        trace.attach();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.detach();
+        }
+    }
+}
@@ -9,11 +9,13 @@ import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.exceptions.DxaItemNotFoundException;
 import com.sdl.webapp.common.util.MimeUtils;
 import org.apache.commons.io.IOUtils;
+import org.joda.time.Days;
 import org.joda.time.Hours;
 import org.joda.time.Weeks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.ServletServerHttpRequest;
@@ -28,18 +30,26 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
 import java.net.URL;
+import java.util.List;
 import java.util.regex.Pattern;
 
+import static com.sdl.webapp.common.util.StaticContentVariants.GZIP;
+
 /**
  * Static content interceptor. This interceptor checks if the request is for static content, and if it is, it sends
  * an appropriate response to the client; in that case the request will not be processed further by Spring's
  * {@link org.springframework.web.servlet.DispatcherServlet} (it will not reach any of the controllers).
+ * <p>Text files are sent gzip-compressed to clients accepting it if they have a pre-compressed variant. Requests with
+ * the current fingerprint of the content in the {@value #FINGERPRINT_PARAMETER} parameter, see
+ * {@link com.sdl.webapp.common.markup.Markup#fingerprintedContent(String)}, are cached as immutable for a year.</p>
  */
 //todo dxa2 remove in preference of simple controller
 public class StaticContentInterceptor extends HandlerInterceptorAdapter {
     private static final Logger LOG = LoggerFactory.getLogger(StaticContentInterceptor.class);
     private static final String CACHE_CONTROL_WEEK = "public, max-age=" + Weeks.ONE.toStandardSeconds().getSeconds();
     private static final String CACHE_CONTROL_HOUR = "public, max-age=" + Hours.ONE.toStandardSeconds().getSeconds();
+    private static final String CACHE_CONTROL_IMMUTABLE = "public, max-age=" + Days.days(365).toStandardSeconds().getSeconds() + ", immutable";
+    private static final String FINGERPRINT_PARAMETER = "v";
     private static final Pattern SYSTEM_VERSION_PATTERN = Pattern.compile("/system/v\\d+\\.\\d+/");
 
     @Autowired
@@ -49,13 +59,20 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
     private WebRequestContext webRequestContext;
 
     private static boolean isToBeRefreshed(ServletServerHttpResponse res, long notModifiedSince, long lastModified, boolean isVersioned, boolean isPreview) {
+        return isToBeRefreshed(res, notModifiedSince, lastModified, isVersioned, false, isPreview);
+    }
+
+    private static boolean isToBeRefreshed(ServletServerHttpResponse res, long notModifiedSince, long lastModified, boolean isVersioned, boolean isFingerprinted, boolean isPreview) {
 
         // If preview is enabled we never want to cache images as they may change after editing them
         if (isPreview) {
             return true;            
         }
 
-        if (isVersioned) {
+        if (isFingerprinted) {
+            res.getHeaders().setCacheControl(CACHE_CONTROL_IMMUTABLE);
+            res.getHeaders().setExpires(System.currentTimeMillis() + Days.days(365).toStandardSeconds().getSeconds() * 1000L);
+        } else if (isVersioned) {
             res.getHeaders().setCacheControl(CACHE_CONTROL_WEEK);
             res.getHeaders().setExpires(lastModified + Weeks.ONE.toStandardSeconds().getSeconds() * 1000L);
         } else {
@@ -135,14 +152,23 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
                         localization.getPath());
                 res.getHeaders().setContentType(MediaType.parseMediaType(staticContentItem.getContentType()));
 
+                if (staticContentItem.isCompressible()) {
+                    res.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                }
+
                 // http://stackoverflow.com/questions/1587667/should-http-304-not-modified-responses-contain-cache-control-headers
                 boolean toBeRefreshed = isToBeRefreshed(res,
                         req.getHeaders().getIfModifiedSince(),
                         staticContentItem.getLastModified(),
                         staticContentItem.isVersioned(),
+                        !isPreview && isFingerprinted(request, staticContentItem),
                         isPreview);
                 if (toBeRefreshed) {
-                    try (final InputStream in = staticContentItem.getContent();
+                    InputStream encoded = acceptsGzip(req.getHeaders()) ? staticContentItem.getContent(GZIP) : null;
+                    if (encoded != null) {
+                        res.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                    }
+                    try (final InputStream in = encoded != null ? encoded : staticContentItem.getContent();
                          final OutputStream out = res.getBody()) {
                         IOUtils.copy(in, out);
                     }
@@ -160,6 +186,42 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
         return false;
     }
 
+    private static boolean isFingerprinted(HttpServletRequest request, StaticContentItem staticContentItem) throws IOException {
+        String fingerprint = request.getParameter(FINGERPRINT_PARAMETER);
+        return fingerprint != null && fingerprint.equals(staticContentItem.getFingerprint());
+    }
+
+    protected static boolean acceptsGzip(HttpHeaders headers) {
+        List<String> acceptEncoding = headers.get(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String header : acceptEncoding) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim();
+                if ((GZIP.equalsIgnoreCase(name) || "*".equals(name)) && !isRejected(parts)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRejected(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     protected static String removeVersionNumber(String path) {
         return SYSTEM_VERSION_PATTERN.matcher(path).replaceFirst("/system/");
     }
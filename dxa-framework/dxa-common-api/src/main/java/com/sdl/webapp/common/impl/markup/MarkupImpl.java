@@ -4,6 +4,8 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
 import com.sdl.dxa.common.util.PathUtils;
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
 import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticEntityInfo;
@@ -17,6 +19,7 @@ import com.sdl.webapp.common.markup.Markup;
 import com.sdl.webapp.common.markup.html.HtmlAttribute;
 import com.sdl.webapp.common.markup.html.HtmlElement;
 import com.sdl.webapp.common.markup.html.builders.SimpleElementBuilder;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.NotImplementedException;
 import org.jetbrains.annotations.Nullable;
@@ -25,9 +28,11 @@ import org.joda.time.Days;
 import org.joda.time.LocalDate;
 import org.joda.time.format.DateTimeFormat;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ReflectionUtils;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -36,6 +41,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.base.Strings.nullToEmpty;
@@ -52,6 +59,14 @@ public class MarkupImpl implements Markup {
 
     private final WebRequestContext webRequestContext;
 
+    private final ConcurrentMap<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    @Autowired(required = false)
+    private ContentProvider contentProvider;
+
+    @Value("${dxa.web.static.fingerprint.check-ms:60000}")
+    private long fingerprintCheckMillis = 60000;
+
     /**
      * <p>Constructor for MarkupImpl.</p>
      *
@@ -125,6 +140,40 @@ public class MarkupImpl implements Markup {
         return webRequestContext.getContextPath() + localization.localizePath("/system/" + localization.getVersion() + path);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The fingerprint of a file is looked up again at most every {@code dxa.web.static.fingerprint.check-ms}.
+     * If it cannot be looked up, the versioned URL is returned without it.</p>
+     */
+    @Override
+    public String fingerprintedContent(String path) {
+        String url = versionedContent(path);
+        Localization localization = webRequestContext.getLocalization();
+        String fingerprint = getFingerprint(localization, localization.localizePath("/system/" + localization.getVersion() + path));
+        return fingerprint == null ? url : url + "?v=" + fingerprint;
+    }
+
+    @Nullable
+    private String getFingerprint(Localization localization, String path) {
+        if (contentProvider == null) {
+            return null;
+        }
+        String key = localization.getId() + ":" + path;
+        long now = System.currentTimeMillis();
+        Fingerprint fingerprint = fingerprints.get(key);
+        if (fingerprint != null && now - fingerprint.checked < fingerprintCheckMillis) {
+            return fingerprint.value;
+        }
+        String value = null;
+        try {
+            value = contentProvider.getStaticContent(path, localization.getId(), localization.getPath()).getFingerprint();
+        } catch (ContentProviderException | IOException e) {
+            log.debug("Cannot get the fingerprint of {}, using the versioned URL", path, e);
+        }
+        fingerprints.put(key, new Fingerprint(now, value));
+        return value;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -302,4 +351,12 @@ public class MarkupImpl implements Markup {
     public WebRequestContext getWebRequestContext() {
         return webRequestContext;
     }
+
+    @AllArgsConstructor
+    private static final class Fingerprint {
+
+        private final long checked;
+
+        private final String value;
+    }
 }
@@ -2,6 +2,8 @@ package com.sdl.webapp.common.markup;
 
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
 import com.sdl.dxa.caching.wrapper.OutputCache;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.ViewModel;
@@ -9,16 +11,20 @@ import com.sdl.webapp.common.controller.ControllerUtils;
 import com.sdl.webapp.common.markup.html.HtmlNode;
 import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
 import com.sdl.webapp.common.util.ApplicationContextHolder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
 import javax.servlet.ServletException;
 import javax.servlet.jsp.JspException;
+import javax.servlet.jsp.tagext.BodyContent;
 import javax.servlet.jsp.tagext.TagSupport;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 public class AbstractMarkupTag extends TagSupport {
 
     private MarkupDecoratorRegistry markupDecoratorRegistry = null;
@@ -33,7 +39,7 @@ public class AbstractMarkupTag extends TagSupport {
     }
 
     protected String processInclude(String include, ViewModel model) throws IOException, ServletException {
-        return processIncludeInternal(include, model).toHtml();
+        return processIncludeInternal(include, model, false).toHtml();
     }
 
     protected void decorateException(ViewModel model) throws JspException {
@@ -44,10 +50,20 @@ public class AbstractMarkupTag extends TagSupport {
         }
     }
 
+    /**
+     * Renders the include and writes it to the page. If no decorator is active and the output is not cached,
+     * the include is rendered directly to the page without buffering; in this case a failing include
+     * may leave its partial output on the page.
+     *
+     * @param include path to include
+     * @param model   view model being rendered
+     * @throws IOException      if writing fails
+     * @throws ServletException if the include fails
+     */
     protected void decorateInclude(String include, ViewModel model) throws IOException, ServletException {
         HtmlNode decoratedMarkup = null;
         try {
-            decoratedMarkup = processIncludeInternal(include, model);
+            decoratedMarkup = processIncludeInternal(include, model, true);
         } finally {
             if (decoratedMarkup != null) {
                 pageContext.getOut().write(decoratedMarkup.toHtml());
@@ -84,15 +100,35 @@ public class AbstractMarkupTag extends TagSupport {
         return this.outputCache;
     }
 
-    private HtmlNode processIncludeInternal(String include, ViewModel model) throws ServletException, IOException {
+    protected boolean hasActiveDecorators(ViewModel model) {
+        List<MarkupDecorator> markupDecorators = this.getMarkupDecoratorRegistry().getDecorators(this.getDecoratorId());
+        if (markupDecorators.isEmpty()) {
+            return false;
+        }
+        WebRequestContext webRequestContext = this.getWebRequestContext();
+        for (MarkupDecorator markupDecorator : markupDecorators) {
+            if (markupDecorator.isActive(model, webRequestContext)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renders the include and runs the decorators on it.
+     *
+     * @return decorated markup, or {@code null} if the include has been written directly to the page
+     */
+    private HtmlNode processIncludeInternal(String include, ViewModel model, boolean passThroughAllowed) throws ServletException, IOException {
         pageContext.getRequest().setAttribute("ParentModel", model);
 
         OutputCache outputCache = getOutputCache();
         boolean cacheAccessible = false;
         LocalizationAwareCacheKey specificKey = null;
+        Optional<CompositeOutputCacheKeyBase> optionalKey = Optional.empty();
 
         if (outputCache.isCachingEnabled()) {
-            Optional<CompositeOutputCacheKeyBase> optionalKey = getCacheKey(include, model);
+            optionalKey = getCacheKey(include, model);
             specificKey = (LocalizationAwareCacheKey) optionalKey.map(outputCache::getSpecificKey).orElse(null);
 
             cacheAccessible = optionalKey.isPresent() && !getWebRequestContext().isSessionPreview();
@@ -103,15 +139,29 @@ public class AbstractMarkupTag extends TagSupport {
             }
         }
 
-        try (StringWriter sw = new StringWriter()) {
-            pageContext.pushBody(sw);
+        if (passThroughAllowed && !cacheAccessible && !hasActiveDecorators(model)) {
+            // nobody needs the markup, so don't buffer it; no flush to keep the response uncommitted as with buffering
+            pageContext.include(include, false);
+            return null;
+        }
+
+        // body content is recycled by the JSP container, unlike a new writer for every include
+        BodyContent body = pageContext.pushBody();
+        long generation = outputCache.getInvalidationGeneration();
+        try (CacheDependencies.Capture capture = CacheDependencies.capture()) {
             pageContext.include(include);
-            String renderedHtml = sw.toString();
+            String renderedHtml = body.getString();
+            log.trace("Buffered {} characters of include {}", renderedHtml.length(), include);
             ParsableHtmlNode markup = new ParsableHtmlNode(renderedHtml);
             HtmlNode htmlNode = this.decorateMarkup(markup, model);
 
             if (cacheAccessible) {
-                outputCache.addAndGet(specificKey, htmlNode);
+                Set<CacheDependency> dependencies = new HashSet<>(capture.getDependencies());
+                CacheDependency ownDependency = CacheDependency.fromModelId(specificKey.getLocalizationId(), optionalKey.get().getPageId());
+                if (ownDependency != null) {
+                    dependencies.add(ownDependency);
+                }
+                outputCache.addAndGet(specificKey, htmlNode, dependencies, generation);
             }
 
             return htmlNode;
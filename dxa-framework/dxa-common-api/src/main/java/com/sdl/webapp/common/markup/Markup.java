@@ -13,6 +13,10 @@ public interface Markup {
 
     String versionedContent(String path);
 
+    default String fingerprintedContent(String path) {
+        return versionedContent(path);
+    }
+
     String region(RegionModel region);
 
     String entity(EntityModel entity);
@@ -8,4 +8,17 @@ import org.springframework.core.Ordered;
 public interface MarkupDecorator extends Ordered {
 
     HtmlNode process(HtmlNode markup, ViewModel model, WebRequestContext webRequestContext);
+
+    /**
+     * Whether {@link #process(HtmlNode, ViewModel, WebRequestContext)} may change the markup for the current request.
+     * If none of the decorators is active and the markup is not cached, the markup is written directly to the response
+     * without buffering.
+     *
+     * @param model             view model being rendered
+     * @param webRequestContext current request context
+     * @return {@code false} if this decorator would return the markup unchanged
+     */
+    default boolean isActive(ViewModel model, WebRequestContext webRequestContext) {
+        return true;
+    }
 }
@@ -0,0 +1,82 @@
+package com.sdl.dxa.caching.cluster;
+
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
+import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.Collections;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClusterInvalidationServiceTest {
+
+    @Mock
+    private InvalidationBus bus;
+
+    @Mock
+    private NamedCacheProvider cacheProvider;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache<Object, Object> cache;
+
+    @Mock
+    private LocalizationResolver localizationResolver;
+
+    private CacheDependencyIndex dependencyIndex = new CacheDependencyIndex();
+
+    private ClusterInvalidationService service;
+
+    @Before
+    public void init() {
+        service = new ClusterInvalidationService(bus, cacheProvider);
+        ReflectionTestUtils.setField(service, "dependencyIndex", dependencyIndex);
+        ReflectionTestUtils.setField(service, "localizationResolver", localizationResolver);
+        when(cacheProvider.getCacheManager()).thenReturn(cacheManager);
+        when(cacheManager.getCache("pageModels")).thenReturn(cache);
+    }
+
+    @Test
+    public void shouldEvictLocallyOnly() {
+        //given
+        dependencyIndex.register("pageModels", "key", Collections.singleton(CacheDependency.of(5, 64)));
+
+        //when
+        service.apply(InvalidationMessage.evict("pageModels", "key"));
+
+        //then
+        verify(cache).remove("key");
+        assertTrue(dependencyIndex.getDependencies("pageModels", "key").isEmpty());
+        verifyZeroInteractions(bus);
+    }
+
+    @Test
+    public void shouldApplyMessagesOfOtherNodesLocally() {
+        //given
+        dependencyIndex.register("pageModels", "key", Collections.singleton(CacheDependency.of(5, 64)));
+
+        //when
+        service.apply(InvalidationMessage.clear("pageModels"));
+        service.apply(InvalidationMessage.refreshLocalization("5"));
+
+        //then
+        verify(cache).clear();
+        assertTrue(dependencyIndex.getDependencies("pageModels", "key").isEmpty());
+        verify(localizationResolver).refreshLocalization("5");
+    }
+}
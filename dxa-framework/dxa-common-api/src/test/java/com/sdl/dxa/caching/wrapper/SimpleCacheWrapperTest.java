@@ -0,0 +1,115 @@
+package com.sdl.dxa.caching.wrapper;
+
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.CacheStatisticsRegistry;
+import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.NamedCacheProvider;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.cache.Cache;
+import java.util.HashMap;
+import java.util.Map;
+
+import static javax.cache.Caching.getCachingProvider;
+import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.ehcache.jsr107.Eh107Configuration.fromEhcacheCacheConfiguration;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SimpleCacheWrapperTest {
+
+    private static Cache<Object, Object> cache;
+
+    private CacheStatisticsRegistry statisticsRegistry;
+
+    private TestingCache testingCache;
+
+    @BeforeClass
+    public static void classInit() {
+        cache = getCachingProvider().getCacheManager()
+                .createCache("sizedInMemory", fromEhcacheCacheConfiguration(
+                        newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.newResourcePoolsBuilder().heap(1, MemoryUnit.MB))
+                                .withSizeOfMaxObjectGraph(100)
+                                .build()));
+    }
+
+    @Before
+    public void init() {
+        cache.clear();
+        NamedCacheProvider provider = mock(NamedCacheProvider.class);
+        when(provider.getCache("sizedInMemory")).thenReturn(cache);
+        when(provider.isCacheEnabled("sizedInMemory")).thenReturn(true);
+
+        statisticsRegistry = new CacheStatisticsRegistry();
+        testingCache = new TestingCache();
+        testingCache.setCacheProvider(provider);
+        testingCache.setStatisticsRegistry(statisticsRegistry);
+    }
+
+    @Test
+    public void shouldCacheModelWithinObjectGraphLimit() {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "small");
+        PageModelData model = pageModel(5);
+
+        //when
+        PageModelData added = testingCache.addAndGet(key, model);
+
+        //then
+        assertSame(model, added);
+        assertTrue(cache.containsKey(key));
+        assertEquals(1L, statisticsRegistry.forCache("sizedInMemory").snapshot().get("puts"));
+        assertEquals(0L, statisticsRegistry.forCache("sizedInMemory").snapshot().get("skippedPuts"));
+    }
+
+    @Test
+    public void shouldCountLargeModelThatIsNotCachedAsSkippedPut() {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "large");
+        PageModelData model = pageModel(1000);
+
+        //when
+        PageModelData added = testingCache.addAndGet(key, model);
+
+        //then
+        assertSame(model, added);
+        assertFalse(cache.containsKey(key));
+        assertEquals(0L, statisticsRegistry.forCache("sizedInMemory").snapshot().get("puts"));
+        assertEquals(1L, statisticsRegistry.forCache("sizedInMemory").snapshot().get("skippedPuts"));
+    }
+
+    private static PageModelData pageModel(int metaEntries) {
+        Map<String, String> meta = new HashMap<>();
+        for (int i = 0; i < metaEntries; i++) {
+            meta.put("key" + i, "value" + i);
+        }
+        return new PageModelData("1", "tcm", null, meta, null, "title", null, "/url");
+    }
+
+    private static class TestingCache extends SimpleCacheWrapper<PageModelData, PageModelData> {
+
+        @Override
+        public String getCacheName() {
+            return "sizedInMemory";
+        }
+
+        @Override
+        public Class<PageModelData> getValueType() {
+            return PageModelData.class;
+        }
+
+        @Override
+        public Object getSpecificKey(PageModelData keyBase, Object... keyParams) {
+            return keyBase.getId();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.sdl.webapp.common.api.model.sorting;
+
+import com.google.common.collect.ComparisonChain;
+import com.sdl.dxa.api.datamodel.model.SitemapItemModelData;
+import com.sdl.webapp.common.api.model.entity.SitemapItem;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SortableSiteMapTest {
+
+    private static final Pattern TAXONOMY_ID_PATTERN = Pattern.compile("^(\\w?)(\\d+)-(\\w?)(\\d+)$");
+
+    private static final List<String> IDS = Arrays.asList("t1-k2", "t1-k10", "t2-k1", "t10-k1", "1-2", "12-34", "123-456",
+            "t1-p3", "a_-1", "_1-_2", "t-k1", "t1-k", "t1-k1-0", "tt1-k2", "t01-k2", "T1-K2", "x", "", "-", "1-", "é1-k2",
+            "t1-k2 ", "t1--k2", "t1-9", "9-t1");
+
+    @Test
+    public void shouldParseTaxonomyIdsLikeThePattern() {
+        for (String id : IDS) {
+            //given
+            SitemapItem item = new SitemapItem();
+            item.setId(id);
+            Matcher matcher = TAXONOMY_ID_PATTERN.matcher(id);
+
+            //when
+            SortableSiteMap sortable = new SortableSiteMap(item);
+
+            //then
+            if (matcher.matches()) {
+                assertEquals(id, matcher.group(1), sortable.getFirstChar());
+                assertEquals(id, Integer.valueOf(matcher.group(2)), sortable.getFirstNumber());
+                assertEquals(id, matcher.group(3), sortable.getSecondChar());
+                assertEquals(id, Integer.valueOf(matcher.group(4)), sortable.getSecondNumber());
+            } else {
+                assertEquals(id, "", sortable.getFirstChar());
+                assertEquals(id, Integer.valueOf(Integer.MIN_VALUE), sortable.getFirstNumber());
+                assertEquals(id, "", sortable.getSecondChar());
+                assertEquals(id, Integer.valueOf(Integer.MIN_VALUE), sortable.getSecondNumber());
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortInTheSameOrderAsComparisonOfParsedIds() {
+        //given
+        List<SitemapItem> items = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            SitemapItem item = new SitemapItem();
+            item.setId(i % 5 == 0 ? IDS.get(random.nextInt(IDS.size()))
+                    : "tkp_9".charAt(random.nextInt(5)) + String.valueOf(random.nextInt(20)) + "-"
+                    + "tkp_9".charAt(random.nextInt(5)) + random.nextInt(20));
+            item.setTitle(i % 7 == 0 ? null : "title " + random.nextInt(50));
+            items.add(item);
+        }
+        items.add(null);
+        Collections.shuffle(items, random);
+
+        //when
+        List<SitemapItem> byTaxonomy = new ArrayList<>(SortableSiteMap.sortItem(items, SortableSiteMap.SORT_BY_TAXONOMY_AND_KEYWORD));
+        List<SitemapItem> byTitle = new ArrayList<>(SortableSiteMap.sortItem(items, SortableSiteMap.SORT_BY_TITLE_AND_ID));
+
+        //then
+        assertEquals(reference(items, byTaxonomyAndKeyword()), byTaxonomy);
+        assertEquals(reference(items, byTitleAndId()), byTitle);
+    }
+
+    @Test
+    public void shouldSortModelData() {
+        //given
+        SitemapItemModelData first = new SitemapItemModelData().setTitle("b");
+        first.setId("t1-k10");
+        SitemapItemModelData second = new SitemapItemModelData().setTitle("a");
+        second.setId("t1-k2");
+
+        //when
+        List<SitemapItemModelData> byTaxonomy = new ArrayList<>(SortableSiteMap.sortModelData(
+                Arrays.asList(first, second), SortableSiteMap.SORT_BY_TAXONOMY_AND_KEYWORD));
+
+        //then
+        assertEquals(Arrays.asList(second, first), byTaxonomy);
+        assertTrue(SortableSiteMap.sortModelData(null, SortableSiteMap.SORT_BY_TITLE_AND_ID).isEmpty());
+    }
+
+    private static List<SitemapItem> reference(List<SitemapItem> items, Comparator<Object[]> comparator) {
+        List<Object[]> keys = new ArrayList<>();
+        for (SitemapItem item : items) {
+            keys.add(key(item));
+        }
+        keys.sort(comparator);
+        List<SitemapItem> sorted = new ArrayList<>();
+        for (Object[] key : keys) {
+            sorted.add((SitemapItem) key[0]);
+        }
+        return sorted;
+    }
+
+    /**
+     * Sort keys as they were parsed with the pattern: item, title, id, first char, first number, second char, second number.
+     */
+    private static Object[] key(SitemapItem item) {
+        Object[] key = {item, "", "", "", Integer.MIN_VALUE, "", Integer.MIN_VALUE};
+        if (item == null) {
+            return key;
+        }
+        key[1] = item.getOriginalTitle() == null ? "" : item.getOriginalTitle();
+        key[2] = item.getId() == null ? "" : item.getId();
+        Matcher matcher = TAXONOMY_ID_PATTERN.matcher((String) key[2]);
+        if (matcher.matches()) {
+            key[3] = matcher.group(1);
+            key[4] = Integer.parseInt(matcher.group(2));
+            key[5] = matcher.group(3);
+            key[6] = Integer.parseInt(matcher.group(4));
+        }
+        return key;
+    }
+
+    private static Comparator<Object[]> byTaxonomyAndKeyword() {
+        return (o1, o2) -> ComparisonChain.start()
+                .compare((String) o1[3], (String) o2[3])
+                .compare((Integer) o1[4], (Integer) o2[4])
+                .compare((String) o1[5], (String) o2[5])
+                .compare((Integer) o1[6], (Integer) o2[6])
+                .result();
+    }
+
+    private static Comparator<Object[]> byTitleAndId() {
+        return (o1, o2) -> ComparisonChain.start()
+                .compare((String) o1[1], (String) o2[1])
+                .compare((String) o1[2], (String) o2[2])
+                .result();
+    }
+}
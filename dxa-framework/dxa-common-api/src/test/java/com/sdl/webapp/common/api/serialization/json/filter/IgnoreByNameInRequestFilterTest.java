@@ -11,7 +11,12 @@ import java.util.List;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class IgnoreByNameInRequestFilterTest {
@@ -95,4 +100,38 @@ public class IgnoreByNameInRequestFilterTest {
         //then
         assertTrue(include);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldExcludePropertiesThatAreAddedLater() {
+        //given
+        PropertyWriter writer = mock(PropertyWriter.class);
+        when(writer.getName()).thenReturn("test3");
+        IgnoreByNameInRequestFilter.ignoreByName(httpServletRequest, "test1", "test2");
+        assertTrue(filter.include(writer));
+
+        //when
+        IgnoreByNameInRequestFilter.ignoreByName(httpServletRequest, "test3");
+        boolean include = filter.include(writer);
+
+        //then
+        assertFalse(include);
+    }
+
+    @Test
+    public void shouldLookUpRequestOncePerProperty() {
+        //given
+        HttpServletRequest request = spy(new MockHttpServletRequest());
+        IgnoreByNameInRequestFilter.ignoreByName(request, "test1", "test2");
+        IgnoreByNameInRequestFilter requestFilter = new IgnoreByNameInRequestFilter(request);
+        PropertyWriter writer = mock(PropertyWriter.class);
+        when(writer.getName()).thenReturn("test2");
+        reset(request);
+
+        //when
+        boolean include = requestFilter.include(writer);
+
+        //then
+        assertFalse(include);
+        verify(request, times(1)).getAttribute(anyString());
+    }
+}
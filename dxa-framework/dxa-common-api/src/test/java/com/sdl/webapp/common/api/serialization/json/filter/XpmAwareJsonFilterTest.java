@@ -16,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
@@ -23,6 +24,9 @@ import java.util.HashMap;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -115,6 +119,29 @@ public class XpmAwareJsonFilterTest {
         assertTrue(include1);
     }
 
+    @Test
+    public void shouldExcludeXpmNamesIfNotBeanPropertyWriterAndNotSessionPreview() {
+        //given
+        PropertyWriter writer1 = propertyWriter(PropertyWriter.class, "XpmMetadata", null);
+        PropertyWriter writer2 = propertyWriter(PropertyWriter.class, "XpmPropertyMetadata", null);
+        PropertyWriter writer3 = propertyWriter(PropertyWriter.class, "Title", null);
+        when(writer1.getName()).thenReturn("XpmMetadata");
+        when(writer2.getName()).thenReturn("XpmPropertyMetadata");
+        when(writer3.getName()).thenReturn("Title");
+
+        when(webRequestContext.isSessionPreview()).thenReturn(false);
+
+        //when
+        boolean include = xpmAwareJsonFilter.include(writer1);
+        boolean include1 = xpmAwareJsonFilter.include(writer2);
+        boolean include2 = xpmAwareJsonFilter.include(writer3);
+
+        //then
+        assertFalse(include);
+        assertFalse(include1);
+        assertTrue(include2);
+    }
+
     @Test
     public void shouldIncludeIfNotEnabled() {
         //given 
@@ -127,6 +154,47 @@ public class XpmAwareJsonFilterTest {
         assertTrue(include);
     }
 
+    @Test
+    public void shouldResolveXpmAwarenessOncePerWriter() {
+        //given
+        AnnotatedMember member = getAnnotatedMember(JsonXpmAware.class);
+        PropertyWriter writer = propertyWriter(BeanPropertyWriter.class, "Test", member);
+
+        when(webRequestContext.isSessionPreview()).thenReturn(false, true);
+
+        //when
+        boolean include = xpmAwareJsonFilter.include(writer);
+        boolean include1 = xpmAwareJsonFilter.include(writer);
+
+        //then
+        assertFalse(include);
+        assertTrue(include1);
+        verify(writer, times(1)).getFullName();
+    }
+
+    @Test
+    public void shouldResolveXpmAwarenessOncePerPropertyOfClass() {
+        //given
+        PropertyWriter writer = propertyWriter(BeanPropertyWriter.class, "Test", getAnnotatedMember(JsonXpmAware.class));
+        PropertyWriter sameProperty = propertyWriter(BeanPropertyWriter.class, "Test", getAnnotatedMember(JsonXpmAware.class));
+        PropertyWriter otherProperty = propertyWriter(BeanPropertyWriter.class, "Other", getAnnotatedMember(null));
+        when(writer.getName()).thenReturn("Test");
+        when(sameProperty.getName()).thenReturn("Test");
+        when(otherProperty.getName()).thenReturn("Other");
+
+        //when
+        boolean include = xpmAwareJsonFilter.include(writer);
+        boolean include1 = xpmAwareJsonFilter.include(sameProperty);
+        boolean include2 = xpmAwareJsonFilter.include(otherProperty);
+
+        //then
+        assertFalse(include);
+        assertFalse(include1);
+        assertTrue(include2);
+        verify(sameProperty, never()).getFullName();
+        verify(otherProperty, times(1)).getFullName();
+    }
+
     private AnnotatedMember getAnnotatedMember(Class<? extends Annotation> annotation) {
         AnnotationMap annMap = new AnnotationMap();
         if (annotation != null) {
@@ -136,7 +204,7 @@ public class XpmAwareJsonFilterTest {
                 }
             });
         }
-        return new AnnotatedField(null, null, annMap);
+        return new AnnotatedField(null, ReflectionUtils.findField(XpmAwareJsonFilterTest.class, "webRequestContext"), annMap);
     }
 
     private PropertyWriter propertyWriter(Class<? extends PropertyWriter> aClass, String propName, AnnotatedMember member) {
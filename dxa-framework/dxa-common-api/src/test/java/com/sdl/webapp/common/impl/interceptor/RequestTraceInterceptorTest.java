@@ -0,0 +1,50 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.sdl.dxa.performance.Performance;
+import com.sdl.dxa.performance.RequestTrace;
+import com.sdl.dxa.performance.RequestTracing;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RequestTraceInterceptorTest {
+
+    @Test
+    public void shouldSendServerTimingAndKeepSlowTrace() throws Exception {
+        //given
+        RequestTracing tracing = new RequestTracing();
+        ReflectionTestUtils.setField(tracing, "enabled", true);
+        ReflectionTestUtils.setField(tracing, "serverTimingEnabled", true);
+        ReflectionTestUtils.setField(tracing, "slowThresholdMillis", 0L);
+        ReflectionTestUtils.setField(tracing, "slowTracesSize", 10);
+        tracing.init();
+        RequestTraceInterceptor interceptor = new RequestTraceInterceptor();
+        ReflectionTestUtils.setField(interceptor, "requestTracing", tracing);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/en/page");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, null);
+        try (Performance perf = Performance.phase("content")) {
+            Thread.sleep(1);
+        }
+        interceptor.postHandle(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        //then
+        assertNull(RequestTrace.current());
+        assertTrue(response.getHeader("Server-Timing"), response.getHeader("Server-Timing").startsWith("content;dur="));
+        List<Map<String, Object>> traces = tracing.getSlowTraces();
+        assertEquals(1, traces.size());
+        assertEquals("GET /en/page", traces.get(0).get("name"));
+        assertEquals(2, ((List<?>) traces.get(0).get("spans")).size());
+    }
+}
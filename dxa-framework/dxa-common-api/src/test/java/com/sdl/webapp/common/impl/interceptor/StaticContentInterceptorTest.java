@@ -0,0 +1,124 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.content.StaticContentItem;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.util.StaticContentVariants;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StaticContentInterceptorTest {
+
+    private static final String PATH = "/system/v1.0/assets/css/main.css";
+
+    private static final String CSS = new String(new char[100]).replace("\0", ".a { color: red; }\n");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StaticContentInterceptor interceptor = new StaticContentInterceptor();
+
+    private File file;
+
+    @Before
+    public void init() throws Exception {
+        file = folder.newFile("main.css");
+        Files.write(file.toPath(), CSS.getBytes(StandardCharsets.UTF_8));
+        StaticContentVariants.createVariants(file);
+
+        Localization localization = mock(Localization.class);
+        when(localization.isStaticContent(PATH)).thenReturn(true);
+        when(localization.getId()).thenReturn("1");
+        when(localization.getPath()).thenReturn("/");
+        WebRequestContext webRequestContext = mock(WebRequestContext.class);
+        when(webRequestContext.getRequestPath()).thenReturn(PATH);
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        ContentProvider contentProvider = mock(ContentProvider.class);
+        when(contentProvider.getStaticContent(PATH, "1", "/")).thenReturn(new StaticContentItem("text/css", file, true));
+        ReflectionTestUtils.setField(interceptor, "webRequestContext", webRequestContext);
+        ReflectionTestUtils.setField(interceptor, "contentProvider", contentProvider);
+    }
+
+    @Test
+    public void shouldSendGzipVariantIfAccepted() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertArrayEquals(Files.readAllBytes(new File(file.getPath() + ".gz").toPath()), response.getContentAsByteArray());
+    }
+
+    @Test
+    public void shouldSendContentIfGzipIsNotAccepted() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, br");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(CSS, response.getContentAsString());
+    }
+
+    @Test
+    public void shouldCacheFingerprintedContentAsImmutable() throws Exception {
+        //given
+        MockHttpServletRequest fingerprinted = new MockHttpServletRequest("GET", PATH);
+        fingerprinted.setParameter("v", StaticContentVariants.fingerprint(file));
+        MockHttpServletRequest outdated = new MockHttpServletRequest("GET", PATH);
+        outdated.setParameter("v", "0000000000000000");
+        MockHttpServletResponse fingerprintedResponse = new MockHttpServletResponse();
+        MockHttpServletResponse outdatedResponse = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(fingerprinted, fingerprintedResponse, false);
+        interceptor.preHandle(outdated, outdatedResponse, false);
+
+        //then
+        assertTrue(fingerprintedResponse.getHeader(HttpHeaders.CACHE_CONTROL).endsWith(", immutable"));
+        assertFalse(outdatedResponse.getHeader(HttpHeaders.CACHE_CONTROL).contains("immutable"));
+    }
+
+    @Test
+    public void shouldNotCacheFingerprintedContentInPreview() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.setParameter("v", StaticContentVariants.fingerprint(file));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, true);
+
+        //then
+        assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+}
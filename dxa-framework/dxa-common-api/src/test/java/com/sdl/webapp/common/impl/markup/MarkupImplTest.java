@@ -1,6 +1,9 @@
 package com.sdl.webapp.common.impl.markup;
 
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.content.StaticContentItem;
+import com.sdl.webapp.common.api.content.StaticContentNotFoundException;
 import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
 import com.sdl.webapp.common.api.model.entity.SitemapItem;
 import com.sdl.webapp.common.api.model.region.RegionModelImpl;
@@ -12,6 +15,7 @@ import com.sdl.webapp.common.markup.Markup;
 import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormat;
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -20,6 +24,12 @@ import java.util.Locale;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class MarkupImplTest {
 
@@ -157,6 +167,40 @@ public class MarkupImplTest {
         assertEquals("/test/xyz/system/v0.5/example", content);
     }
 
+    @Test
+    public void shouldReturnFingerprintedContentAndLookUpFingerprintOnce() throws Exception {
+        //given
+        ContentProvider contentProvider = mock(ContentProvider.class);
+        StaticContentItem item = mock(StaticContentItem.class);
+        when(item.getFingerprint()).thenReturn("0123456789abcdef");
+        when(contentProvider.getStaticContent(eq("/xyz/system/v0.5/example"), anyString(), anyString())).thenReturn(item);
+        ReflectionTestUtils.setField(markup, "contentProvider", contentProvider);
+
+        //when
+        String content = markup.fingerprintedContent("/example");
+        String again = markup.fingerprintedContent("/example");
+
+        //then
+        assertEquals("/test/xyz/system/v0.5/example?v=0123456789abcdef", content);
+        assertEquals(content, again);
+        verify(contentProvider, times(1)).getStaticContent(eq("/xyz/system/v0.5/example"), anyString(), anyString());
+    }
+
+    @Test
+    public void shouldReturnVersionedContentIfFingerprintIsNotAvailable() throws Exception {
+        //given
+        ContentProvider contentProvider = mock(ContentProvider.class);
+        when(contentProvider.getStaticContent(anyString(), anyString(), anyString()))
+                .thenThrow(new StaticContentNotFoundException("not found"));
+        ReflectionTestUtils.setField(markup, "contentProvider", contentProvider);
+
+        //when
+        String content = markup.fingerprintedContent("/example");
+
+        //then
+        assertEquals("/test/xyz/system/v0.5/example", content);
+    }
+
     @Test
     public void shouldReturnRegion() throws DxaException {
         //given
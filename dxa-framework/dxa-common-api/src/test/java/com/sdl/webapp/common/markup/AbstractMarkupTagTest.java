@@ -0,0 +1,222 @@
+package com.sdl.webapp.common.markup;
+
+import com.sdl.dxa.caching.wrapper.OutputCache;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.markup.html.HtmlNode;
+import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockPageContext;
+
+import javax.servlet.ServletException;
+import javax.servlet.jsp.JspWriter;
+import javax.servlet.jsp.tagext.BodyContent;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractMarkupTagTest {
+
+    private static final String INCLUDE = "/WEB-INF/Views/Test/Entity/Article.jsp";
+
+    private static final String ARTICLE = "<div>article</div>";
+
+    @Mock
+    private MarkupDecoratorRegistry markupDecoratorRegistry;
+
+    @Mock
+    private MarkupDecorator markupDecorator;
+
+    @Mock
+    private WebRequestContext webRequestContext;
+
+    @Mock
+    private OutputCache outputCache;
+
+    @Mock
+    private ViewModel model;
+
+    private MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private IncludingPageContext pageContext = new IncludingPageContext();
+
+    private AbstractMarkupTag tag;
+
+    @Before
+    public void init() {
+        when(markupDecoratorRegistry.getDecorators("TestMarkup")).thenReturn(Collections.singletonList(markupDecorator));
+
+        tag = new TestMarkupTag();
+        tag.setPageContext(pageContext);
+    }
+
+    @Test
+    public void shouldIncludeDirectlyIntoPageIfNoDecoratorIsActive() throws Exception {
+        //given
+        when(markupDecorator.isActive(model, webRequestContext)).thenReturn(false);
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+
+        //then
+        assertEquals(ARTICLE, pageOutput());
+        assertEquals(Collections.singletonList("direct " + INCLUDE), pageContext.includes);
+        assertEquals(0, pageContext.pushedBodies);
+        verify(markupDecorator, never()).process(any(HtmlNode.class), any(ViewModel.class), any(WebRequestContext.class));
+        assertSame(model, request.getAttribute("ParentModel"));
+    }
+
+    @Test
+    public void shouldBufferAndDecorateIncludeIfDecoratorIsActive() throws Exception {
+        //given
+        when(markupDecorator.isActive(model, webRequestContext)).thenReturn(true);
+        when(markupDecorator.process(any(HtmlNode.class), any(ViewModel.class), any(WebRequestContext.class)))
+                .thenAnswer(invocation -> new ParsableHtmlNode("<!-- decorated -->" + ((HtmlNode) invocation.getArguments()[0]).toHtml()));
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+
+        //then
+        assertEquals("<!-- decorated -->" + ARTICLE, pageOutput());
+        assertEquals(Collections.singletonList("buffered " + INCLUDE), pageContext.includes);
+        assertEquals(1, pageContext.pushedBodies);
+        assertEquals(1, pageContext.poppedBodies);
+    }
+
+    @Test
+    public void shouldBufferIncludeIfItsMarkupIsProcessed() throws Exception {
+        //given
+        when(markupDecorator.isActive(model, webRequestContext)).thenReturn(false);
+        when(markupDecorator.process(any(HtmlNode.class), any(ViewModel.class), any(WebRequestContext.class)))
+                .thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        //when
+        String html = tag.processInclude(INCLUDE, model);
+
+        //then
+        assertEquals(ARTICLE, html);
+        assertEquals("", pageOutput());
+        assertEquals(Collections.singletonList("buffered " + INCLUDE), pageContext.includes);
+        assertEquals(1, pageContext.poppedBodies);
+    }
+
+    @Test
+    public void shouldPopBodyAndWriteNothingIfBufferedIncludeFails() throws Exception {
+        //given
+        when(markupDecorator.isActive(model, webRequestContext)).thenReturn(true);
+        pageContext.failure = new ServletException("include failed");
+
+        //when
+        try {
+            tag.decorateInclude(INCLUDE, model);
+            fail("ServletException expected");
+        } catch (ServletException expected) {
+            //then
+            assertEquals("", pageOutput());
+            assertEquals(1, pageContext.pushedBodies);
+            assertEquals(1, pageContext.poppedBodies);
+        }
+    }
+
+    private String pageOutput() throws IOException {
+        pageContext.getOut().flush();
+        return response.getContentAsString();
+    }
+
+    private class TestMarkupTag extends AbstractMarkupTag {
+
+        @Override
+        protected MarkupDecoratorRegistry getMarkupDecoratorRegistry() {
+            return markupDecoratorRegistry;
+        }
+
+        @Override
+        protected WebRequestContext getWebRequestContext() {
+            return webRequestContext;
+        }
+
+        @Override
+        protected OutputCache getOutputCache() {
+            return outputCache;
+        }
+    }
+
+    /**
+     * Page context whose includes render {@link #ARTICLE} into the page or into the pushed body content.
+     */
+    private class IncludingPageContext extends MockPageContext {
+
+        private List<String> includes = new ArrayList<>();
+
+        private StringWriter bodyWriter;
+
+        private int pushedBodies;
+
+        private int poppedBodies;
+
+        private ServletException failure;
+
+        IncludingPageContext() {
+            super(null, request, response);
+        }
+
+        @Override
+        public void include(String path) throws ServletException, IOException {
+            includes.add("buffered " + path);
+            render();
+        }
+
+        @Override
+        public void include(String path, boolean flush) throws ServletException, IOException {
+            includes.add("direct " + path);
+            render();
+        }
+
+        @Override
+        public BodyContent pushBody() {
+            pushedBodies++;
+            bodyWriter = new StringWriter();
+            BodyContent body = mock(BodyContent.class);
+            when(body.getString()).thenAnswer(invocation -> bodyWriter.toString());
+            return body;
+        }
+
+        @Override
+        public JspWriter popBody() {
+            poppedBodies++;
+            bodyWriter = null;
+            return getOut();
+        }
+
+        private void render() throws ServletException, IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            if (bodyWriter != null) {
+                bodyWriter.write(ARTICLE);
+            } else {
+                getOut().write(ARTICLE);
+            }
+        }
+    }
+}
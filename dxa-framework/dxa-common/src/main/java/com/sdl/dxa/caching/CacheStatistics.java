@@ -0,0 +1,193 @@
+package com.sdl.dxa.caching;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Usage statistics of a single DXA cache.
+ * <p>Hits, misses, puts and loads are recorded by the code accessing the cache, evictions, expirations and removals
+ * are recorded by the cache itself. Skipped puts are values the cache did not store, usually because they are larger
+ * than the object graph a cache sized in memory is allowed to walk. Entry count and occupied bytes are read from the cache when a snapshot is taken,
+ * {@code -1} means the cache does not report them.</p>
+ */
+public final class CacheStatistics {
+
+    private static final LongSupplier UNKNOWN = () -> -1;
+
+    @Getter
+    private final String cacheName;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder puts = new LongAdder();
+
+    private final LongAdder skippedPuts = new LongAdder();
+
+    private final LongAdder loadFailures = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private final LongAdder removals = new LongAdder();
+
+    private final LongAdder revalidations = new LongAdder();
+
+    private final LongAdder revalidationMisses = new LongAdder();
+
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+
+    private volatile LongSupplier entries = UNKNOWN;
+
+    private volatile LongSupplier occupiedBytes = UNKNOWN;
+
+    CacheStatistics(@NotNull String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordPut() {
+        puts.increment();
+    }
+
+    public void recordSkippedPut() {
+        skippedPuts.increment();
+    }
+
+    /**
+     * Records a successful load of a missing value.
+     *
+     * @param nanos time the load took in nanoseconds
+     */
+    public void recordLoad(long nanos) {
+        loadLatency.record(nanos);
+    }
+
+    /**
+     * Records a load of a missing value that failed with an exception.
+     *
+     * @param nanos time until the load failed in nanoseconds
+     */
+    public void recordLoadFailure(long nanos) {
+        loadFailures.increment();
+        loadLatency.record(nanos);
+    }
+
+    public void recordEviction() {
+        evictions.increment();
+    }
+
+    public void recordExpiration() {
+        expirations.increment();
+    }
+
+    public void recordRemoval() {
+        removals.increment();
+    }
+
+    /**
+     * Records a check whether an expired value is still up to date.
+     *
+     * @param notModified whether the value was still up to date and has been reused
+     */
+    public void recordRevalidation(boolean notModified) {
+        (notModified ? revalidations : revalidationMisses).increment();
+    }
+
+    /**
+     * Sets where the current number of entries is read from.
+     *
+     * @param entries supplier of the entry count, returns {@code -1} if unknown
+     */
+    public void setEntries(@NotNull LongSupplier entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Sets where the current number of bytes occupied by the cache is read from.
+     *
+     * @param occupiedBytes supplier of occupied bytes, returns {@code -1} if unknown
+     */
+    public void setOccupiedBytes(@NotNull LongSupplier occupiedBytes) {
+        this.occupiedBytes = occupiedBytes;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns current statistics in a form suitable for JSON serialization.
+     *
+     * @return snapshot of the statistics, never {@code null}
+     */
+    public Map<String, Object> snapshot() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("hits", hitCount);
+        snapshot.put("misses", missCount);
+        snapshot.put("hitRatio", requests == 0 ? 0.0 : hitCount / (double) requests);
+        snapshot.put("puts", puts.sum());
+        snapshot.put("skippedPuts", skippedPuts.sum());
+        snapshot.put("loads", loadLatency.getCount() - loadFailures.sum());
+        snapshot.put("loadFailures", loadFailures.sum());
+        snapshot.put("loadLatency", loadLatency.snapshot());
+        snapshot.put("evictions", evictions.sum());
+        snapshot.put("expirations", expirations.sum());
+        snapshot.put("removals", removals.sum());
+        long revalidated = revalidations.sum();
+        long revalidationChecks = revalidated + revalidationMisses.sum();
+        snapshot.put("revalidations", revalidated);
+        snapshot.put("revalidationMisses", revalidationChecks - revalidated);
+        snapshot.put("revalidationHitRatio", revalidationChecks == 0 ? 0.0 : revalidated / (double) revalidationChecks);
+        snapshot.put("entries", readSafely(entries));
+        snapshot.put("occupiedBytes", readSafely(occupiedBytes));
+        return snapshot;
+    }
+
+    /**
+     * Resets all the counters, entry count and occupied bytes are not affected.
+     */
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        puts.reset();
+        skippedPuts.reset();
+        loadFailures.reset();
+        evictions.reset();
+        expirations.reset();
+        removals.reset();
+        revalidations.reset();
+        revalidationMisses.reset();
+        loadLatency.reset();
+    }
+
+    private static long readSafely(LongSupplier supplier) {
+        try {
+            return supplier.getAsLong();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.sdl.dxa.caching;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link CacheStatistics} of all the DXA caches, one instance per cache name.
+ */
+@Component
+public class CacheStatisticsRegistry {
+
+    private final ConcurrentMap<String, CacheStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Returns statistics of the given cache creating them if needed.
+     *
+     * @param cacheName name of the cache
+     * @return statistics of the cache, never {@code null}
+     */
+    @NotNull
+    public CacheStatistics forCache(@NotNull String cacheName) {
+        CacheStatistics cacheStatistics = statistics.get(cacheName);
+        if (cacheStatistics == null) {
+            cacheStatistics = statistics.computeIfAbsent(cacheName, CacheStatistics::new);
+        }
+        return cacheStatistics;
+    }
+
+    /**
+     * Returns snapshots of statistics of all the known caches sorted by cache name.
+     *
+     * @return cache name to statistics snapshot
+     */
+    @NotNull
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        statistics.forEach((name, cacheStatistics) -> snapshot.put(name, cacheStatistics.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Resets counters of all the known caches.
+     */
+    public void reset() {
+        statistics.values().forEach(CacheStatistics::reset);
+    }
+}
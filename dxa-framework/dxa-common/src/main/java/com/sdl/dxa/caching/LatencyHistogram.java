@@ -0,0 +1,91 @@
+package com.sdl.dxa.caching;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with fixed buckets from 100 microseconds to 10 seconds.
+ * <p>Buckets are cumulative when read with {@link #snapshot()}, so {@code le_5ms} is the number of recordings
+ * that took at most 5 milliseconds.</p>
+ */
+public final class LatencyHistogram {
+
+    private static final long[] BOUNDS_MICROS = {
+            100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000, 5_000_000, 10_000_000
+    };
+
+    private static final String[] BOUND_NAMES = {
+            "le_100us", "le_500us", "le_1ms", "le_5ms", "le_10ms", "le_50ms", "le_100ms", "le_500ms", "le_1s", "le_5s", "le_10s"
+    };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_MICROS.length + 1);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a single duration.
+     *
+     * @param nanos duration in nanoseconds, negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMicros(duration)));
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulateAndGet(duration, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the recorded distribution as count, mean and max in milliseconds and cumulative buckets.
+     *
+     * @return snapshot of the histogram, never {@code null}
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        long total = count.sum();
+        snapshot.put("count", total);
+        snapshot.put("meanMs", total == 0 ? 0.0 : totalNanos.sum() / (double) total / 1_000_000);
+        snapshot.put("maxMs", maxNanos.get() / 1_000_000.0);
+
+        long cumulative = 0;
+        for (int i = 0; i < BOUND_NAMES.length; i++) {
+            cumulative += buckets.get(i);
+            snapshot.put(BOUND_NAMES[i], cumulative);
+        }
+        snapshot.put("le_inf", cumulative + buckets.get(BOUNDS_MICROS.length));
+        return snapshot;
+    }
+
+    /**
+     * Forgets all recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    private static int bucketOf(long micros) {
+        for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+            if (micros <= BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return BOUNDS_MICROS.length;
+    }
+}
@@ -21,8 +21,17 @@ public class LocalizationAwareKeyGenerator implements KeyGenerator {
 
     @Override
     public LocalizationAwareCacheKey generate(Object target, Method method, Object... params) {
-        Object key = SimpleKeyGenerator.generateKey(params);
-        return new LocalizationAwareCacheKey(localizationIdProvider.getId(), params.length == 1 ? new SimpleKey(key) : (Serializable) key);
+        return new LocalizationAwareCacheKey(localizationIdProvider.getId(), generateKey(params));
+    }
+
+    private static Serializable generateKey(Object... params) {
+        if (params.length == 1) {
+            Object param = params[0];
+            // fast path for the most common single-argument call, the key is the same SimpleKeyGenerator would give
+            return param != null && !param.getClass().isArray() ?
+                    new SimpleKey(param) : new SimpleKey(SimpleKeyGenerator.generateKey(params));
+        }
+        return (Serializable) SimpleKeyGenerator.generateKey(params);
     }
 
     public LocalizationAwareCacheKey generate(Object... params) {
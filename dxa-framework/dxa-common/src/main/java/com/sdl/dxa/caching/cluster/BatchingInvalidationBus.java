@@ -0,0 +1,136 @@
+package com.sdl.dxa.caching.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Base of {@link InvalidationBus}es that send messages in batches.
+ * <p>Messages published within a batch window are collected and sent together. Equal messages are sent once,
+ * and evictions of single entries are dropped if the whole cache is cleared in the same batch, so a storm
+ * of invalidations becomes a few small batches.</p>
+ */
+@Slf4j
+public abstract class BatchingInvalidationBus implements InvalidationBus, AutoCloseable {
+
+    private final long batchWindowMillis;
+
+    private final int maxBatchSize;
+
+    private final List<Consumer<InvalidationMessage>> receivers = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService sender;
+
+    private Set<InvalidationMessage> pending = new LinkedHashSet<>();
+
+    protected BatchingInvalidationBus(long batchWindowMillis, int maxBatchSize) {
+        this.batchWindowMillis = batchWindowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dxa-invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void publish(@NotNull InvalidationMessage message) {
+        boolean first;
+        boolean full;
+        synchronized (this) {
+            first = pending.isEmpty();
+            pending.add(message);
+            full = pending.size() >= maxBatchSize;
+        }
+        try {
+            if (full) {
+                sender.execute(this::flush);
+            } else if (first) {
+                sender.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            log.debug("Invalidation bus is closed, message {} is not sent", message);
+        }
+    }
+
+    @Override
+    public void subscribe(@NotNull Consumer<InvalidationMessage> receiver) {
+        receivers.add(receiver);
+    }
+
+    /**
+     * Sends all the pending messages now.
+     */
+    public void flush() {
+        List<InvalidationMessage> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = collapse(pending);
+            pending = new LinkedHashSet<>();
+        }
+        try {
+            send(batch);
+        } catch (RuntimeException e) {
+            log.warn("Cannot send {} invalidation messages to the cluster", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        sender.shutdownNow();
+    }
+
+    /**
+     * Sends a batch of messages to the other nodes.
+     *
+     * @param batch messages to send, never empty
+     */
+    protected abstract void send(@NotNull List<InvalidationMessage> batch);
+
+    /**
+     * Passes a batch received from another node to the receivers of this node.
+     *
+     * @param batch received messages
+     */
+    protected void deliver(@NotNull List<InvalidationMessage> batch) {
+        for (InvalidationMessage message : batch) {
+            for (Consumer<InvalidationMessage> receiver : receivers) {
+                try {
+                    receiver.accept(message);
+                } catch (RuntimeException e) {
+                    log.warn("Cannot apply invalidation message {}", message, e);
+                }
+            }
+        }
+    }
+
+    private static List<InvalidationMessage> collapse(Set<InvalidationMessage> messages) {
+        Set<String> clearedCaches = new HashSet<>();
+        for (InvalidationMessage message : messages) {
+            if (message.getType() == InvalidationMessage.Type.CLEAR) {
+                clearedCaches.add(message.getCacheName());
+            }
+        }
+        List<InvalidationMessage> batch = new ArrayList<>(messages.size());
+        for (InvalidationMessage message : messages) {
+            if (message.getType() != InvalidationMessage.Type.EVICT || !clearedCaches.contains(message.getCacheName())) {
+                batch.add(message);
+            }
+        }
+        return batch;
+    }
+}
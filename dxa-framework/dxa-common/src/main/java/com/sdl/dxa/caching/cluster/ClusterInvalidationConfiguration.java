@@ -0,0 +1,72 @@
+package com.sdl.dxa.caching.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.StringUtils;
+
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the {@link InvalidationBus} of this node if the {@code dxa.caching.cluster} profile is active.
+ * <p>Invalidations are sent over UDP to the other nodes listed in {@code dxa.caching.cluster.peers} as
+ * {@code host:port}, signed with {@code dxa.caching.cluster.secret}. Without the profile there is no bus
+ * and the node is alone.</p>
+ */
+@Configuration
+@Profile("dxa.caching.cluster")
+public class ClusterInvalidationConfiguration {
+
+    @Value("${dxa.caching.cluster.peers:}")
+    private String peers;
+
+    @Value("${dxa.caching.cluster.port:7800}")
+    private int port;
+
+    @Value("${dxa.caching.cluster.bind-address:}")
+    private String bindAddress;
+
+    @Value("${dxa.caching.cluster.secret:}")
+    private String secret;
+
+    @Value("${dxa.caching.cluster.batch.window-ms:200}")
+    private long batchWindowMillis;
+
+    @Value("${dxa.caching.cluster.batch.max-size:500}")
+    private int maxBatchSize;
+
+    @Bean(destroyMethod = "close")
+    public BatchingInvalidationBus invalidationBus() throws SocketException {
+        List<InetSocketAddress> addresses = parsePeers(peers);
+        if (addresses.isEmpty()) {
+            throw new IllegalStateException("dxa.caching.cluster.peers are required when dxa.caching.cluster profile is active");
+        }
+        if (secret.isEmpty()) {
+            throw new IllegalStateException("dxa.caching.cluster.secret is required when dxa.caching.cluster.peers are configured");
+        }
+        InetSocketAddress local = bindAddress.trim().isEmpty()
+                ? new InetSocketAddress(port) : new InetSocketAddress(bindAddress.trim(), port);
+        return new UdpInvalidationBus(local, addresses, secret, batchWindowMillis, maxBatchSize);
+    }
+
+    static List<InetSocketAddress> parsePeers(String peers) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (String peer : StringUtils.commaDelimitedListToStringArray(peers)) {
+            String trimmed = peer.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.lastIndexOf(':');
+            if (colon <= 0 || colon == trimmed.length() - 1) {
+                throw new IllegalArgumentException("Cluster peer should be host:port, but is " + trimmed);
+            }
+            addresses.add(new InetSocketAddress(trimmed.substring(0, colon),
+                    Integer.parseInt(trimmed.substring(colon + 1))));
+        }
+        return addresses;
+    }
+}
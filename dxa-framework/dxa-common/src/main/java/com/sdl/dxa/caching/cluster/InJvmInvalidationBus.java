@@ -0,0 +1,43 @@
+package com.sdl.dxa.caching.cluster;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link InvalidationBus} connecting buses of the same channel within a JVM.
+ * <p>Used in tests and benchmarks to simulate several nodes in one JVM.</p>
+ */
+public class InJvmInvalidationBus extends BatchingInvalidationBus {
+
+    private static final ConcurrentMap<String, Set<InJvmInvalidationBus>> CHANNELS = new ConcurrentHashMap<>();
+
+    private final String channel;
+
+    public InJvmInvalidationBus(@NotNull String channel, long batchWindowMillis, int maxBatchSize) {
+        super(batchWindowMillis, maxBatchSize);
+        this.channel = channel;
+        CHANNELS.computeIfAbsent(channel, name -> ConcurrentHashMap.newKeySet()).add(this);
+    }
+
+    @Override
+    protected void send(@NotNull List<InvalidationMessage> batch) {
+        for (InJvmInvalidationBus bus : CHANNELS.getOrDefault(channel, ConcurrentHashMap.newKeySet())) {
+            if (bus != this) {
+                bus.deliver(batch);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        CHANNELS.computeIfPresent(channel, (name, buses) -> {
+            buses.remove(this);
+            return buses.isEmpty() ? null : buses;
+        });
+    }
+}
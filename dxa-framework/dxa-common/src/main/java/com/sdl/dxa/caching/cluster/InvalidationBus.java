@@ -0,0 +1,27 @@
+package com.sdl.dxa.caching.cluster;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport of {@link InvalidationMessage}s between the nodes of a cluster.
+ * <p>A message published on a node is delivered to the receivers of all the other nodes, but never back
+ * to the receivers of the node it was published on.</p>
+ */
+public interface InvalidationBus {
+
+    /**
+     * Sends a message to the other nodes, possibly later together with other messages.
+     *
+     * @param message message to send
+     */
+    void publish(@NotNull InvalidationMessage message);
+
+    /**
+     * Registers a receiver of messages published on the other nodes.
+     *
+     * @param receiver receiver of messages
+     */
+    void subscribe(@NotNull Consumer<InvalidationMessage> receiver);
+}
@@ -0,0 +1,76 @@
+package com.sdl.dxa.caching.cluster;
+
+import com.sdl.dxa.caching.invalidation.PublishEvent;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+
+/**
+ * Invalidation sent to the other nodes of a cluster. Equal messages are sent once per batch.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class InvalidationMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Kind of invalidation.
+     */
+    public enum Type {
+        /**
+         * Items were published, every node evicts the entries depending on them.
+         */
+        PUBLISH,
+        /**
+         * A single entry of a cache is evicted.
+         */
+        EVICT,
+        /**
+         * All the entries of a cache are evicted.
+         */
+        CLEAR,
+        /**
+         * A localization is refreshed.
+         */
+        REFRESH_LOCALIZATION
+    }
+
+    private final Type type;
+
+    private final String cacheName;
+
+    private final Serializable key;
+
+    private final String localizationId;
+
+    private final PublishEvent publishEvent;
+
+    private InvalidationMessage(Type type, String cacheName, Serializable key, String localizationId, PublishEvent publishEvent) {
+        this.type = type;
+        this.cacheName = cacheName;
+        this.key = key;
+        this.localizationId = localizationId;
+        this.publishEvent = publishEvent;
+    }
+
+    public static InvalidationMessage publish(@NotNull PublishEvent event) {
+        return new InvalidationMessage(Type.PUBLISH, null, null, null, event);
+    }
+
+    public static InvalidationMessage evict(@NotNull String cacheName, @NotNull Serializable key) {
+        return new InvalidationMessage(Type.EVICT, cacheName, key, null, null);
+    }
+
+    public static InvalidationMessage clear(@NotNull String cacheName) {
+        return new InvalidationMessage(Type.CLEAR, cacheName, null, null, null);
+    }
+
+    public static InvalidationMessage refreshLocalization(@NotNull String localizationId) {
+        return new InvalidationMessage(Type.REFRESH_LOCALIZATION, null, null, localizationId, null);
+    }
+}
@@ -0,0 +1,205 @@
+package com.sdl.dxa.caching.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.invalidation.PublishEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts batches of {@link InvalidationMessage}s to signed JSON and back.
+ * <p>A datagram is the HMAC-SHA256 of the JSON followed by the JSON itself, signed with the secret shared by
+ * the nodes. Datagrams with a wrong signature are rejected before the JSON is parsed, and batches sent more than
+ * five minutes ago are ignored, so recorded datagrams cannot be replayed later. Only plain values are read from
+ * the JSON, so no class is chosen by the sender.</p>
+ * <p>Keys of evicted entries can be strings, numbers, booleans and {@link LocalizationAwareCacheKey}s of them.
+ * Evictions of other keys, such as the {@code SimpleKey}s of several parameters, are sent as a clear of the whole
+ * cache.</p>
+ */
+final class InvalidationMessageCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SecretKeySpec secret;
+
+    InvalidationMessageCodec(@NotNull String secret) {
+        if (secret.isEmpty()) {
+            throw new IllegalArgumentException("Secret of the invalidation messages is empty");
+        }
+        this.secret = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Checks whether the key of an entry can be sent to the other nodes.
+     *
+     * @param key key of a cache entry
+     * @return whether the key is sent as it is
+     */
+    static boolean isSupportedKey(@Nullable Object key) {
+        if (key instanceof String || key instanceof Integer || key instanceof Long || key instanceof Boolean) {
+            return true;
+        }
+        return key instanceof LocalizationAwareCacheKey && isSupportedKey(((LocalizationAwareCacheKey) key).getKey());
+    }
+
+    @NotNull
+    byte[] encode(@NotNull List<InvalidationMessage> batch) throws IOException {
+        ObjectNode envelope = JsonNodeFactory.instance.objectNode();
+        envelope.put("sentAt", System.currentTimeMillis());
+        ArrayNode messages = envelope.putArray("messages");
+        for (InvalidationMessage message : batch) {
+            messages.add(encode(message));
+        }
+        byte[] json = objectMapper.writeValueAsBytes(envelope);
+        byte[] data = Arrays.copyOf(sign(json, 0, json.length), SIGNATURE_LENGTH + json.length);
+        System.arraycopy(json, 0, data, SIGNATURE_LENGTH, json.length);
+        return data;
+    }
+
+    @NotNull
+    List<InvalidationMessage> decode(@NotNull byte[] data, int length) throws IOException {
+        if (length <= SIGNATURE_LENGTH) {
+            throw new IOException("Invalidation messages are not signed");
+        }
+        byte[] signature = Arrays.copyOf(data, SIGNATURE_LENGTH);
+        if (!MessageDigest.isEqual(signature, sign(data, SIGNATURE_LENGTH, length - SIGNATURE_LENGTH))) {
+            throw new IOException("Signature of invalidation messages is not valid");
+        }
+
+        JsonNode envelope = objectMapper.readTree(new String(data, SIGNATURE_LENGTH, length - SIGNATURE_LENGTH, StandardCharsets.UTF_8));
+        long age = System.currentTimeMillis() - envelope.path("sentAt").asLong();
+        if (Math.abs(age) > MAX_AGE_MILLIS) {
+            throw new IOException("Invalidation messages were sent " + age + " ms ago and are ignored");
+        }
+        List<InvalidationMessage> batch = new ArrayList<>();
+        for (JsonNode message : envelope.path("messages")) {
+            batch.add(decode(message));
+        }
+        return batch;
+    }
+
+    private ObjectNode encode(InvalidationMessage message) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        InvalidationMessage.Type type = message.getType();
+        if (type == InvalidationMessage.Type.EVICT && !isSupportedKey(message.getKey())) {
+            type = InvalidationMessage.Type.CLEAR;
+        }
+        node.put("type", type.name());
+        switch (type) {
+            case PUBLISH:
+                node.set("publishEvent", objectMapper.valueToTree(message.getPublishEvent()));
+                break;
+            case EVICT:
+                node.put("cacheName", message.getCacheName());
+                node.set("key", encodeKey(message.getKey()));
+                break;
+            case CLEAR:
+                node.put("cacheName", message.getCacheName());
+                break;
+            case REFRESH_LOCALIZATION:
+                node.put("localizationId", message.getLocalizationId());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown invalidation message " + message);
+        }
+        return node;
+    }
+
+    private InvalidationMessage decode(JsonNode node) throws IOException {
+        String cacheName = node.path("cacheName").asText();
+        InvalidationMessage.Type type;
+        try {
+            type = InvalidationMessage.Type.valueOf(node.path("type").asText());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown invalidation message " + node, e);
+        }
+        switch (type) {
+            case PUBLISH:
+                try {
+                    return InvalidationMessage.publish(objectMapper.treeToValue(node.path("publishEvent"), PublishEvent.class));
+                } catch (JsonProcessingException e) {
+                    throw new IOException("Cannot read publish event " + node, e);
+                }
+            case EVICT:
+                return InvalidationMessage.evict(cacheName, decodeKey(node.path("key")));
+            case CLEAR:
+                return InvalidationMessage.clear(cacheName);
+            case REFRESH_LOCALIZATION:
+                return InvalidationMessage.refreshLocalization(node.path("localizationId").asText());
+            default:
+                throw new IOException("Unknown invalidation message " + node);
+        }
+    }
+
+    private static JsonNode encodeKey(Object key) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        if (key instanceof String) {
+            node.put("string", (String) key);
+        } else if (key instanceof Integer) {
+            node.put("int", (Integer) key);
+        } else if (key instanceof Long) {
+            node.put("long", (Long) key);
+        } else if (key instanceof Boolean) {
+            node.put("boolean", (Boolean) key);
+        } else {
+            LocalizationAwareCacheKey localizationAwareKey = (LocalizationAwareCacheKey) key;
+            node.put("localizationId", localizationAwareKey.getLocalizationId());
+            node.set("key", encodeKey(localizationAwareKey.getKey()));
+        }
+        return node;
+    }
+
+    private static Serializable decodeKey(JsonNode node) throws IOException {
+        if (node.has("string")) {
+            return node.get("string").asText();
+        }
+        if (node.has("int")) {
+            return node.get("int").asInt();
+        }
+        if (node.has("long")) {
+            return node.get("long").asLong();
+        }
+        if (node.has("boolean")) {
+            return node.get("boolean").asBoolean();
+        }
+        if (node.has("key")) {
+            JsonNode localizationId = node.path("localizationId");
+            return new LocalizationAwareCacheKey(localizationId.isNull() ? null : localizationId.asText(), decodeKey(node.get("key")));
+        }
+        throw new IOException("Unknown key of invalidation message " + node);
+    }
+
+    private byte[] sign(byte[] data, int offset, int length) throws IOException {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secret);
+            mac.update(data, offset, length);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Cannot sign invalidation messages", e);
+        }
+    }
+}
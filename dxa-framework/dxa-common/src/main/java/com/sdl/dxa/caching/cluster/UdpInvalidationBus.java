@@ -0,0 +1,155 @@
+package com.sdl.dxa.caching.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link InvalidationBus} sending batches as UDP datagrams to a configured list of peers.
+ * <p>Batches are signed with a secret shared by the nodes, datagrams that are not signed with it or that do not
+ * come from the addresses of the peers are dropped. Delivery is not guaranteed, a lost batch leaves a peer with
+ * stale entries until they expire, as without the bus.</p>
+ */
+@Slf4j
+public class UdpInvalidationBus extends BatchingInvalidationBus {
+
+    private static final int MAX_DATAGRAM_SIZE = 60_000;
+
+    private static final long MIN_RECEIVE_PAUSE_MILLIS = 100;
+
+    private static final long MAX_RECEIVE_PAUSE_MILLIS = 5_000;
+
+    private final DatagramSocket socket;
+
+    private final List<InetSocketAddress> peers;
+
+    private final Set<InetAddress> peerAddresses = new HashSet<>();
+
+    private final InvalidationMessageCodec codec;
+
+    /**
+     * Creates a bus listening on the given address.
+     *
+     * @param bindAddress       local address and UDP port to listen on, port {@code 0} for any free port
+     * @param peers             addresses of the other nodes
+     * @param secret            secret shared by the nodes to sign the batches
+     * @param batchWindowMillis how long messages are collected before they are sent
+     * @param maxBatchSize      number of messages that are sent immediately
+     * @throws SocketException if the port cannot be opened
+     */
+    public UdpInvalidationBus(@NotNull InetSocketAddress bindAddress, @NotNull List<InetSocketAddress> peers,
+                              @NotNull String secret, long batchWindowMillis, int maxBatchSize) throws SocketException {
+        super(batchWindowMillis, maxBatchSize);
+        this.codec = new InvalidationMessageCodec(secret);
+        this.socket = new DatagramSocket(bindAddress);
+        this.peers = Collections.unmodifiableList(new ArrayList<>(peers));
+        for (InetSocketAddress peer : peers) {
+            peerAddresses.add(peer.getAddress());
+        }
+
+        Thread receiver = new Thread(this::receive, "dxa-invalidation-bus-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+        log.info("Invalidation bus listens on UDP {}:{}, peers {}", socket.getLocalAddress().getHostAddress(),
+                socket.getLocalPort(), peers);
+    }
+
+    /**
+     * @return UDP port this bus listens on
+     */
+    public int getPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    protected void send(@NotNull List<InvalidationMessage> batch) {
+        byte[] data;
+        try {
+            data = codec.encode(batch);
+        } catch (IOException e) {
+            log.warn("Cannot serialize invalidation messages {}", batch, e);
+            return;
+        }
+
+        if (data.length > MAX_DATAGRAM_SIZE) {
+            if (batch.size() > 1) {
+                send(batch.subList(0, batch.size() / 2));
+                send(batch.subList(batch.size() / 2, batch.size()));
+            } else {
+                log.warn("Invalidation message is too big to be sent: {}", batch.get(0));
+            }
+            return;
+        }
+
+        for (InetSocketAddress peer : peers) {
+            try {
+                socket.send(new DatagramPacket(data, data.length, peer));
+            } catch (IOException e) {
+                log.warn("Cannot send invalidation messages to {}", peer, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        socket.close();
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_DATAGRAM_SIZE + 1];
+        long pauseMillis = 0;
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                pauseMillis = 0;
+            } catch (IOException e) {
+                if (socket.isClosed()) {
+                    return;
+                }
+                // an error of the socket itself usually persists, so do not retry it in a busy loop
+                pauseMillis = nextReceivePause(pauseMillis);
+                log.warn("Cannot receive invalidation messages, retrying in {} ms", pauseMillis, e);
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+            if (!peerAddresses.contains(packet.getAddress())) {
+                log.warn("Invalidation messages from unknown node {} are ignored", packet.getAddress());
+                continue;
+            }
+            // nothing in a single datagram may stop the receiver, or the node would silently miss all the later ones
+            try {
+                deliver(codec.decode(packet.getData(), packet.getLength()));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Invalidation messages from {} are dropped", packet.getAddress(), e);
+            }
+        }
+    }
+
+    /**
+     * Returns how long the receiver waits after a failed receive, doubling with each failure in a row.
+     *
+     * @param previousMillis the previous pause, {@code 0} after a successful receive
+     * @return the next pause in milliseconds
+     */
+    static long nextReceivePause(long previousMillis) {
+        return previousMillis == 0 ? MIN_RECEIVE_PAUSE_MILLIS : Math.min(previousMillis * 2, MAX_RECEIVE_PAUSE_MILLIS);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Fan-out of cache invalidations to the other nodes of a DXA cluster.
+ */
+package com.sdl.dxa.caching.cluster;
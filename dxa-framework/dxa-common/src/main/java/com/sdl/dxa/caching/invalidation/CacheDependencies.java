@@ -0,0 +1,119 @@
+package com.sdl.dxa.caching.invalidation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Collects dependencies of values being loaded into caches on the current thread.
+ * <p>Loading code reports what it reads with {@link #record(CacheDependency)}, the code that caches the
+ * loaded value opens a {@link Capture} around the load and registers the captured dependencies in
+ * {@link CacheDependencyIndex}. Captures nest, dependencies of an inner load are also dependencies
+ * of the outer one.</p>
+ * <pre><code>
+ * try (CacheDependencies.Capture capture = CacheDependencies.capture()) {
+ *     value = load();
+ *     dependencyIndex.register(cacheName, key, capture.getDependencies());
+ * }
+ * </code></pre>
+ */
+public final class CacheDependencies {
+
+    private static final ThreadLocal<Deque<Capture>> CAPTURES = new ThreadLocal<>();
+
+    private CacheDependencies() {
+    }
+
+    /**
+     * Starts capturing dependencies on the current thread, the capture should be closed in the same thread.
+     *
+     * @return new capture
+     */
+    @NotNull
+    public static Capture capture() {
+        Deque<Capture> captures = CAPTURES.get();
+        if (captures == null) {
+            captures = new ArrayDeque<>(4);
+            CAPTURES.set(captures);
+        }
+        Capture capture = new Capture(captures);
+        captures.push(capture);
+        return capture;
+    }
+
+    /**
+     * @return whether dependencies are being captured on the current thread
+     */
+    public static boolean isCapturing() {
+        Deque<Capture> captures = CAPTURES.get();
+        return captures != null && !captures.isEmpty();
+    }
+
+    /**
+     * Records a dependency of the value being loaded, does nothing if nothing is captured.
+     *
+     * @param dependency dependency to record, ignored if {@code null}
+     */
+    public static void record(CacheDependency dependency) {
+        Deque<Capture> captures = CAPTURES.get();
+        if (dependency != null && captures != null && !captures.isEmpty()) {
+            captures.peek().dependencies.add(dependency);
+        }
+    }
+
+    /**
+     * Records dependencies of the value being loaded, does nothing if nothing is captured.
+     *
+     * @param dependencies dependencies to record
+     */
+    public static void recordAll(@NotNull Collection<CacheDependency> dependencies) {
+        Deque<Capture> captures = CAPTURES.get();
+        if (!dependencies.isEmpty() && captures != null && !captures.isEmpty()) {
+            captures.peek().dependencies.addAll(dependencies);
+        }
+    }
+
+    /**
+     * Dependencies captured since {@link #capture()}.
+     */
+    public static final class Capture implements AutoCloseable {
+
+        private final Deque<Capture> captures;
+
+        private final Set<CacheDependency> dependencies = new HashSet<>();
+
+        private Capture(Deque<Capture> captures) {
+            this.captures = captures;
+        }
+
+        /**
+         * @return dependencies captured so far
+         */
+        @NotNull
+        public Set<CacheDependency> getDependencies() {
+            return Collections.unmodifiableSet(dependencies);
+        }
+
+        /**
+         * Stops capturing and passes the captured dependencies to the enclosing capture if any.
+         */
+        @Override
+        public void close() {
+            if (captures.peek() != this) {
+                return;
+            }
+            captures.pop();
+            Capture parent = captures.peek();
+            if (parent != null) {
+                parent.dependencies.addAll(dependencies);
+            } else {
+                CAPTURES.remove();
+            }
+        }
+    }
+}
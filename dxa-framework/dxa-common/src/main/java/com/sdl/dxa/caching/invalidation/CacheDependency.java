@@ -0,0 +1,67 @@
+package com.sdl.dxa.caching.invalidation;
+
+import com.sdl.webapp.common.util.TcmUri;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * CM item in a publication that a cached value was built from.
+ * <p>The item type is not part of a dependency, so a page and a component with the same item ID are
+ * the same dependency. This only results in an unneeded eviction in a rare case.</p>
+ */
+@Getter
+@EqualsAndHashCode
+public final class CacheDependency {
+
+    private final int publicationId;
+
+    private final int itemId;
+
+    private CacheDependency(int publicationId, int itemId) {
+        this.publicationId = publicationId;
+        this.itemId = itemId;
+    }
+
+    public static CacheDependency of(int publicationId, int itemId) {
+        return new CacheDependency(publicationId, itemId);
+    }
+
+    /**
+     * Creates a dependency on a CM item from an ID of a page or an entity model.
+     *
+     * @param publicationId ID of the publication, usually the localization ID
+     * @param modelId       ID as {@code 123}, {@code 123-456} for a component presentation or a CM URI
+     * @return dependency or {@code null} if the item ID cannot be found
+     */
+    @Nullable
+    public static CacheDependency fromModelId(@Nullable String publicationId, @Nullable String modelId) {
+        int publication = leadingNumber(publicationId);
+        if (publication < 0 || modelId == null) {
+            return null;
+        }
+        TcmUri tcmUri = TcmUri.parseCached(modelId);
+        int item = tcmUri == null ? leadingNumber(modelId) : tcmUri.getItemId();
+        return item < 0 ? null : new CacheDependency(publication, item);
+    }
+
+    private static int leadingNumber(@Nullable String value) {
+        if (value == null) {
+            return -1;
+        }
+        long result = 0;
+        int i = 0;
+        for (; i < value.length() && Character.isDigit(value.charAt(i)); i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+            if (result > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return i == 0 ? -1 : (int) result;
+    }
+
+    @Override
+    public String toString() {
+        return publicationId + "-" + itemId;
+    }
+}
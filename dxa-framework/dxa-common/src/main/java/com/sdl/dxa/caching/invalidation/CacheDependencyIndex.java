@@ -0,0 +1,216 @@
+package com.sdl.dxa.caching.invalidation;
+
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index from CM items to the cache entries built from them.
+ * <p>Entries are registered when values are loaded into caches and forgotten when they leave the caches,
+ * so the index holds only keys of cached values, never the values themselves.</p>
+ * <p>Every invalidation of a CM item increases the invalidation generation and remembers it for the item. A value
+ * loaded while one of its dependencies was invalidated may have been built from the old item, so it is only cached
+ * with {@link #register(String, Object, Collection, long, Runnable)} if none of its dependencies was invalidated
+ * since the {@link #generation()} taken before the load.</p>
+ */
+@Component
+public class CacheDependencyIndex {
+
+    private static final int MAX_INVALIDATED_DEPENDENCIES = 10_000;
+
+    private final ConcurrentMap<CacheDependency, Set<CachedEntry>> dependents = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<CachedEntry, Set<CacheDependency>> dependencies = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<CacheDependency, Long> invalidatedInGeneration = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Loads that started before this generation are treated as outdated, as the generations of their dependencies
+     * are not remembered anymore.
+     */
+    private volatile long forgottenGeneration;
+
+    private final ReadWriteLock invalidationLock = new ReentrantReadWriteLock();
+
+    /**
+     * Returns the current invalidation generation, should be taken before a value is loaded and passed to
+     * {@link #register(String, Object, Collection, long, Runnable)} when the value is cached.
+     *
+     * @return current invalidation generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a loaded value and registers its dependencies unless any of them was invalidated since the given
+     * generation. The check, the registration and the put are atomic with {@link #removeDependents(CacheDependency)},
+     * so an invalidation either happens before and the value is not cached, or after and finds the entry.
+     *
+     * @param cacheName    name of the cache
+     * @param key          key of the entry in the cache
+     * @param dependencies CM items the value was built from
+     * @param generation   invalidation generation taken before the value was loaded
+     * @param put          puts the value in the cache
+     * @return whether the value was cached, {@code false} if it was built from an invalidated item
+     */
+    public boolean register(@NotNull String cacheName, @NotNull Object key, @NotNull Collection<CacheDependency> dependencies,
+                            long generation, @NotNull Runnable put) {
+        invalidationLock.readLock().lock();
+        try {
+            if (isInvalidatedSince(dependencies, generation)) {
+                return false;
+            }
+            put.run();
+            register(cacheName, key, dependencies);
+            return true;
+        } finally {
+            invalidationLock.readLock().unlock();
+        }
+    }
+
+    private boolean isInvalidatedSince(Collection<CacheDependency> dependencies, long generation) {
+        if (generation < forgottenGeneration) {
+            return true;
+        }
+        for (CacheDependency dependency : dependencies) {
+            Long invalidated = invalidatedInGeneration.get(dependency);
+            if (invalidated != null && invalidated > generation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers dependencies of a cache entry replacing the previously registered ones.
+     *
+     * @param cacheName    name of the cache
+     * @param key          key of the entry in the cache
+     * @param dependencies CM items the cached value was built from
+     */
+    public void register(@NotNull String cacheName, @NotNull Object key, @NotNull Collection<CacheDependency> dependencies) {
+        CachedEntry entry = new CachedEntry(cacheName, key);
+        forget(entry);
+        if (dependencies.isEmpty()) {
+            return;
+        }
+        this.dependencies.put(entry, new HashSet<>(dependencies));
+        for (CacheDependency dependency : dependencies) {
+            dependents.computeIfAbsent(dependency, d -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+    }
+
+    /**
+     * Returns registered dependencies of a cache entry.
+     *
+     * @param cacheName name of the cache
+     * @param key       key of the entry in the cache
+     * @return dependencies of the entry, empty if the entry is not known
+     */
+    @NotNull
+    public Set<CacheDependency> getDependencies(@NotNull String cacheName, @NotNull Object key) {
+        Set<CacheDependency> registered = dependencies.get(new CachedEntry(cacheName, key));
+        return registered == null ? Collections.emptySet() : Collections.unmodifiableSet(registered);
+    }
+
+    /**
+     * Forgets a cache entry, should be called when the entry leaves the cache.
+     *
+     * @param cacheName name of the cache
+     * @param key       key of the entry in the cache
+     */
+    public void forget(@NotNull String cacheName, @NotNull Object key) {
+        forget(new CachedEntry(cacheName, key));
+    }
+
+    /**
+     * Removes and returns all the cache entries that depend on the given CM item.
+     *
+     * @param dependency CM item
+     * @return dependent cache entries, the index does not know them anymore
+     */
+    @NotNull
+    public Set<CachedEntry> removeDependents(@NotNull CacheDependency dependency) {
+        invalidationLock.writeLock().lock();
+        try {
+            long invalidated = generation.incrementAndGet();
+            if (invalidatedInGeneration.size() >= MAX_INVALIDATED_DEPENDENCIES) {
+                invalidatedInGeneration.clear();
+                forgottenGeneration = invalidated;
+            }
+            invalidatedInGeneration.put(dependency, invalidated);
+
+            Set<CachedEntry> entries = dependents.remove(dependency);
+            if (entries == null) {
+                return Collections.emptySet();
+            }
+            entries.forEach(this::forget);
+            return entries;
+        } finally {
+            invalidationLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forgets all the entries of a cache, should be called when the cache is cleared.
+     *
+     * @param cacheName name of the cache
+     */
+    public void forgetCache(@NotNull String cacheName) {
+        dependencies.keySet().stream()
+                .filter(entry -> entry.getCacheName().equals(cacheName))
+                .forEach(this::forget);
+    }
+
+    /**
+     * Forgets all the entries of all the caches.
+     */
+    public void clear() {
+        dependencies.clear();
+        dependents.clear();
+    }
+
+    /**
+     * @return number of cache entries known to the index
+     */
+    public int size() {
+        return dependencies.size();
+    }
+
+    private void forget(CachedEntry entry) {
+        Set<CacheDependency> previous = dependencies.remove(entry);
+        if (previous == null) {
+            return;
+        }
+        for (CacheDependency dependency : previous) {
+            dependents.computeIfPresent(dependency, (d, entries) -> {
+                entries.remove(entry);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    /**
+     * Entry of a cache identified by the name of the cache and the key.
+     */
+    @Value
+    public static class CachedEntry {
+
+        private String cacheName;
+
+        private Object key;
+    }
+}
@@ -0,0 +1,118 @@
+package com.sdl.dxa.caching.invalidation;
+
+import com.sdl.dxa.caching.NamedCacheProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.cache.Cache;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evicts exactly the cache entries affected by published or unpublished items.
+ * <p>Events are taken from {@link PublishEventQueue} by a background thread, dependent entries are found
+ * in {@link CacheDependencyIndex} and removed from the caches of {@link NamedCacheProvider}.</p>
+ */
+@Slf4j
+@Service
+public class CacheInvalidationService {
+
+    private final CacheDependencyIndex dependencyIndex;
+
+    private final NamedCacheProvider cacheProvider;
+
+    private final PublishEventQueue eventQueue;
+
+    @Value("${dxa.caching.invalidation.enabled:true}")
+    private boolean enabled = true;
+
+    private volatile Thread worker;
+
+    @Autowired
+    public CacheInvalidationService(CacheDependencyIndex dependencyIndex, NamedCacheProvider cacheProvider,
+                                    PublishEventQueue eventQueue) {
+        this.dependencyIndex = dependencyIndex;
+        this.cacheProvider = cacheProvider;
+        this.eventQueue = eventQueue;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Cache invalidation on publishing is disabled");
+            return;
+        }
+        Thread thread = new Thread(this::processEvents, "dxa-cache-invalidation");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Queues an event for invalidation.
+     *
+     * @param event published or unpublished items
+     * @return whether the event was accepted
+     */
+    public boolean submit(@NotNull PublishEvent event) {
+        return enabled && eventQueue.offer(event);
+    }
+
+    /**
+     * Evicts all the cache entries that depend on the items of the event.
+     *
+     * @param event published or unpublished items
+     * @return number of evicted entries
+     */
+    public int invalidate(@NotNull PublishEvent event) {
+        int evicted = 0;
+        for (CacheDependency dependency : event.toDependencies()) {
+            for (CacheDependencyIndex.CachedEntry entry : dependencyIndex.removeDependents(dependency)) {
+                if (evict(entry)) {
+                    evicted++;
+                }
+            }
+        }
+        log.debug("{} of publication {} evicted {} cache entries", event.getAction(), event.getPublicationId(), evicted);
+        return evicted;
+    }
+
+    private boolean evict(CacheDependencyIndex.CachedEntry entry) {
+        try {
+            Cache<Object, Object> cache = cacheProvider.getCache(entry.getCacheName());
+            return cache.remove(entry.getKey());
+        } catch (IllegalStateException e) {
+            log.debug("Cannot evict {}, cache is closed", entry, e);
+            return false;
+        }
+    }
+
+    private void processEvents() {
+        while (worker == Thread.currentThread()) {
+            try {
+                PublishEvent event = eventQueue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    invalidate(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Cannot process publish event", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.sdl.dxa.caching.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-memory {@link PublishEventQueue}, events are lost on restart.
+ */
+@Slf4j
+@Component
+public class InMemoryPublishEventQueue implements PublishEventQueue {
+
+    private final BlockingQueue<PublishEvent> queue;
+
+    public InMemoryPublishEventQueue(@Value("${dxa.caching.invalidation.queue.size:10000}") int capacity) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public boolean offer(@NotNull PublishEvent event) {
+        boolean accepted = queue.offer(event);
+        if (!accepted) {
+            log.warn("Publish event queue is full, event {} is dropped", event);
+        }
+        return accepted;
+    }
+
+    @Override
+    public PublishEvent poll(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sdl.dxa.caching.invalidation;
+
+import lombok.Data;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Notification that items of a publication were published or unpublished.
+ * <p>Binaries are multimedia components, so binary IDs are component IDs of the binaries.</p>
+ */
+@Data
+public class PublishEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Kind of the publishing action.
+     */
+    public enum Action {
+        PUBLISH, UNPUBLISH
+    }
+
+    private Action action = Action.PUBLISH;
+
+    private int publicationId;
+
+    private List<Integer> pageIds = Collections.emptyList();
+
+    private List<Integer> componentIds = Collections.emptyList();
+
+    private List<Integer> binaryIds = Collections.emptyList();
+
+    /**
+     * Returns all the published or unpublished items as cache dependencies.
+     *
+     * @return dependencies affected by this event
+     */
+    @NotNull
+    public List<CacheDependency> toDependencies() {
+        List<CacheDependency> dependencies = new ArrayList<>();
+        addAll(dependencies, pageIds);
+        addAll(dependencies, componentIds);
+        addAll(dependencies, binaryIds);
+        return dependencies;
+    }
+
+    private void addAll(List<CacheDependency> dependencies, List<Integer> itemIds) {
+        if (itemIds != null) {
+            for (Integer itemId : itemIds) {
+                if (itemId != null) {
+                    dependencies.add(CacheDependency.of(publicationId, itemId));
+                }
+            }
+        }
+    }
+}
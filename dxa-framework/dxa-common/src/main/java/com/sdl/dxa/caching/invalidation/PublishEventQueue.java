@@ -0,0 +1,33 @@
+package com.sdl.dxa.caching.invalidation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Source of {@link PublishEvent}s consumed by {@link CacheInvalidationService}.
+ * <p>The default implementation is an in-memory queue fed by the admin endpoint. Register another bean
+ * of this type to receive events from a message broker or the deployer instead.</p>
+ */
+public interface PublishEventQueue {
+
+    /**
+     * Adds an event to the queue.
+     *
+     * @param event event to add
+     * @return whether the event was accepted, {@code false} if the queue is full
+     */
+    boolean offer(@NotNull PublishEvent event);
+
+    /**
+     * Takes the next event waiting up to the given time if the queue is empty.
+     *
+     * @param timeout how long to wait
+     * @param unit    unit of the timeout
+     * @return next event or {@code null} if none arrived in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Nullable
+    PublishEvent poll(long timeout, @NotNull TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,4 @@
+/**
+ * Targeted invalidation of DXA caches on publish and unpublish of content.
+ */
+package com.sdl.dxa.caching.invalidation;
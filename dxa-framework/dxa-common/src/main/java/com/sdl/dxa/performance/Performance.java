@@ -7,35 +7,65 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Created by inikonov on 9/2/2015.
+ * <p>If a {@link RequestTrace} is active on the current thread, the measured time is also recorded as its span.</p>
  */
 public class Performance implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger("dxa.docs.profiling");
+    private static final Performance NOT_TRACED = new Performance(Long.MAX_VALUE, "not traced", null);
     private long startTime = System.nanoTime();
     private long totalTime;
-    private long warnIfMoreThanMillis=2L;
-    private String name=Thread.currentThread().getName();
+    private long warnIfMoreThanMillis;
+    private String name;
+    private final RequestTrace trace;
+    private final int span;
     private static AtomicInteger counter=new AtomicInteger();
 
     public Performance() {
+        this(2L);
     }
 
     public Performance(long warnIfMoreThanMillis) {
-        this.warnIfMoreThanMillis = warnIfMoreThanMillis;
+        this(warnIfMoreThanMillis, Thread.currentThread().getName());
     }
 
     public Performance(long warnIfMoreThanMillis, String name) {
-        this(warnIfMoreThanMillis);
-        this.name = name;
+        this(warnIfMoreThanMillis, name, RequestTrace.current());
     }
 
     public Performance(String name) {
+        this(2L, name);
+    }
+
+    private Performance(long warnIfMoreThanMillis, String name, RequestTrace trace) {
+        this.warnIfMoreThanMillis = warnIfMoreThanMillis;
         this.name = name;
+        this.trace = trace;
+        this.span = trace == null ? -1 : trace.enter(startTime);
+    }
+
+    /**
+     * Measures a phase of the current request without ever logging a warning. If the current thread is not traced,
+     * returns a shared instance that measures nothing, so phases cost next to nothing when tracing is disabled.
+     *
+     * @param name name of the phase, becomes the name of the span
+     * @return measurement to be closed when the phase ends
+     */
+    public static Performance phase(String name) {
+        RequestTrace trace = RequestTrace.current();
+        return trace == null ? NOT_TRACED : new Performance(Long.MAX_VALUE, name, trace);
     }
 
     @Override
     public void close() {
+        if (this == NOT_TRACED) {
+            return;
+        }
+        long endTime = System.nanoTime();
+        if (trace != null) {
+            trace.exit(span, name, endTime);
+        }
         counter.incrementAndGet();
-        totalTime = (System.nanoTime() - startTime) / 1_000_000L;
+        totalTime = (endTime - startTime) / 1_000_000L;
         if (totalTime >= warnIfMoreThanMillis) {
             logger.warn("{} took {} ms ("+counter.get()+" times)", name, totalTime);
         }
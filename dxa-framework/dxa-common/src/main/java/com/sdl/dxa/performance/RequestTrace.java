@@ -0,0 +1,273 @@
+package com.sdl.dxa.performance;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timeline of a single request made of nested spans, one per {@link Performance} measured while the trace is active.
+ * <p>A trace belongs to the thread that started it and is not thread-safe. Spans measured on other threads
+ * at the same time, e.g. entities built in parallel, are recorded on a {@link #fork()} of the trace each and
+ * added to the trace with {@link #join(RequestTrace)}. A trace is handed over to another thread with {@link #attach()}
+ * and {@link #detach()}, one thread at a time.</p>
+ */
+public final class RequestTrace {
+
+    static final int MAX_SPANS = 1000;
+
+    private static final int MAX_SERVER_TIMING_METRICS = 30;
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+
+    private final long startedAtMillis;
+
+    private final long startedAt;
+
+    private final List<Span> spans = new ArrayList<>();
+
+    private int depth;
+
+    private int droppedSpans;
+
+    private long durationNanos = -1;
+
+    private RequestTrace(String name) {
+        this.name = name;
+        this.startedAtMillis = System.currentTimeMillis();
+        this.startedAt = System.nanoTime();
+    }
+
+    private RequestTrace(RequestTrace parent) {
+        this.name = parent.name;
+        this.startedAtMillis = parent.startedAtMillis;
+        this.startedAt = parent.startedAt;
+        this.depth = parent.depth;
+    }
+
+    /**
+     * Starts a trace on the current thread replacing the trace that may have been left there.
+     *
+     * @param name name of the trace, e.g. method and path of the request
+     * @return the started trace
+     */
+    @NotNull
+    public static RequestTrace start(@NotNull String name) {
+        RequestTrace trace = new RequestTrace(name);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Returns the trace of the current thread.
+     *
+     * @return the active trace or {@code null} if the current thread is not traced
+     */
+    @Nullable
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes the trace the trace of the current thread, e.g. the worker that a fork was created for.
+     * The thread that had the trace before must not measure anything for it any more.
+     */
+    public void attach() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * Detaches the trace from the current thread without ending it, so that it can be continued on another thread.
+     */
+    public void detach() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Creates a trace for spans measured on another thread while this trace is active, e.g. by a worker that builds
+     * a part of the page. The fork is attached on the other thread, its spans are nested in the span that is open
+     * here, and it is joined by the thread of this trace when the work is done.
+     *
+     * @return new trace with the same start as this one
+     */
+    @NotNull
+    public RequestTrace fork() {
+        return new RequestTrace(this);
+    }
+
+    /**
+     * Adds the closed spans of a fork to this trace, should be called on the thread of this trace.
+     *
+     * @param fork trace created with {@link #fork()} whose thread is done with it
+     */
+    public void join(@NotNull RequestTrace fork) {
+        if (durationNanos >= 0) {
+            return;
+        }
+        for (Span span : fork.spans) {
+            if (span.durationNanos < 0) {
+                continue;
+            }
+            if (spans.size() >= MAX_SPANS) {
+                droppedSpans++;
+            } else {
+                spans.add(span);
+            }
+        }
+        droppedSpans += fork.droppedSpans;
+    }
+
+    /**
+     * Ends the trace and detaches it from the current thread. Spans that are still open are not recorded any more.
+     */
+    public void finish() {
+        if (durationNanos < 0) {
+            durationNanos = System.nanoTime() - startedAt;
+        }
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Opens a span.
+     *
+     * @param startNanos {@link System#nanoTime()} when the span started
+     * @return index of the span to close it with, {@code -1} if the span is not recorded
+     */
+    int enter(long startNanos) {
+        if (durationNanos >= 0) {
+            return -1;
+        }
+        depth++;
+        if (spans.size() >= MAX_SPANS) {
+            droppedSpans++;
+            return -1;
+        }
+        spans.add(new Span(depth - 1, startNanos - startedAt));
+        return spans.size() - 1;
+    }
+
+    void exit(int index, String spanName, long endNanos) {
+        if (durationNanos >= 0) {
+            return;
+        }
+        depth = Math.max(depth - 1, 0);
+        if (index >= 0) {
+            Span span = spans.get(index);
+            span.name = spanName;
+            span.durationNanos = endNanos - startedAt - span.offsetNanos;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns how long the request took.
+     *
+     * @return duration in nanoseconds, or the time elapsed so far if the trace is not finished
+     */
+    public long getDurationNanos() {
+        return durationNanos < 0 ? System.nanoTime() - startedAt : durationNanos;
+    }
+
+    /**
+     * Returns the closed spans as a value of the {@code Server-Timing} header. Spans with the same name are summed up,
+     * the number of them is given as the description. The time of the whole request so far is reported as {@code total}.
+     *
+     * @return value of the {@code Server-Timing} header
+     */
+    @NotNull
+    public String toServerTiming() {
+        Map<String, long[]> metrics = new LinkedHashMap<>();
+        for (Span span : spans) {
+            if (span.durationNanos >= 0 && (metrics.size() < MAX_SERVER_TIMING_METRICS || metrics.containsKey(span.name))) {
+                long[] metric = metrics.computeIfAbsent(span.name, key -> new long[2]);
+                metric[0] += span.durationNanos;
+                metric[1]++;
+            }
+        }
+        StringBuilder header = new StringBuilder();
+        metrics.forEach((metricName, metric) -> {
+            appendMetric(header, toToken(metricName), metric[0]);
+            if (metric[1] > 1) {
+                header.append(";desc=\"").append(metric[1]).append("x\"");
+            }
+            header.append(", ");
+        });
+        appendMetric(header, "total", getDurationNanos());
+        return header.toString();
+    }
+
+    /**
+     * Returns the trace as nested maps and lists that can be serialized to JSON.
+     *
+     * @return name, start time, duration and spans of the trace
+     */
+    @NotNull
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", name);
+        map.put("startedAt", startedAtMillis);
+        map.put("durationMs", toMillis(getDurationNanos()));
+        List<Map<String, Object>> spanMaps = new ArrayList<>(spans.size());
+        for (Span span : spans) {
+            if (span.durationNanos >= 0) {
+                Map<String, Object> spanMap = new LinkedHashMap<>();
+                spanMap.put("name", span.name);
+                spanMap.put("depth", span.depth);
+                spanMap.put("offsetMs", toMillis(span.offsetNanos));
+                spanMap.put("durationMs", toMillis(span.durationNanos));
+                spanMaps.add(spanMap);
+            }
+        }
+        map.put("spans", spanMaps);
+        if (droppedSpans > 0) {
+            map.put("droppedSpans", droppedSpans);
+        }
+        return map;
+    }
+
+    private static void appendMetric(StringBuilder header, String metricName, long nanos) {
+        header.append(metricName).append(";dur=").append(toMillis(nanos));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static String toToken(String metricName) {
+        StringBuilder token = new StringBuilder(metricName.length());
+        for (int i = 0; i < metricName.length(); i++) {
+            char c = metricName.charAt(i);
+            token.append((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '.' || c == '-' || c == '_' ? c : '_');
+        }
+        return token.length() == 0 ? "_" : token.toString();
+    }
+
+    private static final class Span {
+
+        private final int depth;
+
+        private final long offsetNanos;
+
+        private String name;
+
+        private long durationNanos = -1;
+
+        private Span(int depth, long offsetNanos) {
+            this.depth = depth;
+            this.offsetNanos = offsetNanos;
+        }
+    }
+}
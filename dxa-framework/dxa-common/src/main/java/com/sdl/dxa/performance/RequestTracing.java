@@ -0,0 +1,121 @@
+package com.sdl.dxa.performance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects finished {@linkplain RequestTrace request traces}: a sample of them is logged as JSON to the
+ * {@code dxa.tracing} logger, and the slow ones are kept in a ring buffer to be browsed from the admin area.
+ */
+@Component
+@Slf4j
+public class RequestTracing {
+
+    private static final Logger traceLog = LoggerFactory.getLogger("dxa.tracing");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Value("${dxa.tracing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${dxa.tracing.server-timing:true}")
+    private boolean serverTimingEnabled;
+
+    @Value("${dxa.tracing.log.sample-rate:0.01}")
+    private double logSampleRate;
+
+    @Value("${dxa.tracing.slow.threshold-ms:500}")
+    private long slowThresholdMillis;
+
+    @Value("${dxa.tracing.slow.size:50}")
+    private int slowTracesSize;
+
+    private RequestTrace[] slowTraces = new RequestTrace[0];
+
+    private int nextSlowTrace;
+
+    @PostConstruct
+    public void init() {
+        slowTraces = new RequestTrace[Math.max(slowTracesSize, 0)];
+        if (enabled) {
+            log.info("Request tracing is enabled, {} of requests are logged, requests slower than {} ms are kept",
+                    logSampleRate, slowThresholdMillis);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isServerTimingEnabled() {
+        return enabled && serverTimingEnabled;
+    }
+
+    /**
+     * Logs a finished trace if it is sampled and keeps it if it is slow.
+     *
+     * @param trace finished trace
+     */
+    public void record(@NotNull RequestTrace trace) {
+        if (logSampleRate > 0 && traceLog.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            try {
+                traceLog.info(OBJECT_MAPPER.writeValueAsString(trace.toMap()));
+            } catch (JsonProcessingException e) {
+                log.warn("Cannot write request trace {} as JSON", trace.getName(), e);
+            }
+        }
+        if (slowTraces.length > 0 && trace.getDurationNanos() >= TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis)) {
+            synchronized (this) {
+                slowTraces[nextSlowTrace] = trace;
+                nextSlowTrace = (nextSlowTrace + 1) % slowTraces.length;
+            }
+        }
+    }
+
+    /**
+     * Returns the most recent slow traces, the slowest first.
+     *
+     * @return traces as maps that can be serialized to JSON
+     */
+    @NotNull
+    public List<Map<String, Object>> getSlowTraces() {
+        List<RequestTrace> traces = new ArrayList<>(slowTraces.length);
+        synchronized (this) {
+            for (RequestTrace trace : slowTraces) {
+                if (trace != null) {
+                    traces.add(trace);
+                }
+            }
+        }
+        traces.sort(Comparator.comparingLong(RequestTrace::getDurationNanos).reversed());
+        List<Map<String, Object>> maps = new ArrayList<>(traces.size());
+        for (RequestTrace trace : traces) {
+            maps.add(trace.toMap());
+        }
+        return maps;
+    }
+
+    /**
+     * Forgets all the kept slow traces.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < slowTraces.length; i++) {
+            slowTraces[i] = null;
+        }
+        nextSlowTrace = 0;
+    }
+}
@@ -1,5 +1,7 @@
 package com.sdl.webapp.common.api.content;
 
+import com.sdl.webapp.common.util.TcmUri;
+
 /**
  * Link resolver that resolves links to components.
  *
@@ -60,4 +62,30 @@ public interface LinkResolver {
      * @return The translated URL.
      */
     String resolveLink(String url, String localizationId, boolean resolveToBinary, String contextId);
+
+    /**
+     * Resolves a link for an already parsed TCM URI. Same as {@link #resolveLink(String, String)} without parsing
+     * the URI again where the implementation supports it.
+     *
+     * @param tcmUri         The TCM URI to resolve.
+     * @param localizationId The localization ID to use.
+     * @return The translated URL.
+     */
+    default String resolveLink(TcmUri tcmUri, String localizationId) {
+        return resolveLink(tcmUri, localizationId, false, null);
+    }
+
+    /**
+     * Resolves a link for an already parsed TCM URI. Same as {@link #resolveLink(String, String, boolean, String)}
+     * without parsing the URI again where the implementation supports it.
+     *
+     * @param tcmUri          The TCM URI to resolve.
+     * @param localizationId  The localization ID to use.
+     * @param resolveToBinary whether the expected URL is an URL to a binary
+     * @param contextId The ID of the context page within which we are resolving
+     * @return The translated URL.
+     */
+    default String resolveLink(TcmUri tcmUri, String localizationId, boolean resolveToBinary, String contextId) {
+        return resolveLink(tcmUri.toString(), localizationId, resolveToBinary, contextId);
+    }
 }
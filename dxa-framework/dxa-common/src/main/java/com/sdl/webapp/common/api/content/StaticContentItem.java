@@ -1,5 +1,8 @@
 package com.sdl.webapp.common.api.content;
 
+import com.sdl.webapp.common.util.StaticContentVariants;
+import org.jetbrains.annotations.Nullable;
+
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -54,6 +57,39 @@ public class StaticContentItem {
         return new BufferedInputStream(new FileInputStream(this.contentFile));
     }
 
+    /**
+     * Returns an {@link java.io.InputStream} from which the content encoded with the given content coding can be read,
+     * if the static content item has a pre-compressed variant with this coding. Callers are expected to close the stream.
+     *
+     * @param contentEncoding content coding, e.g. {@value StaticContentVariants#GZIP}
+     * @return the encoded content, or {@code null} if there is no such variant
+     * @throws java.io.IOException When an I/O error occurs while opening the stream.
+     */
+    @Nullable
+    public InputStream getContent(String contentEncoding) throws IOException {
+        File variant = StaticContentVariants.getVariant(this.contentFile, contentEncoding);
+        return variant == null ? null : new BufferedInputStream(new FileInputStream(variant));
+    }
+
+    /**
+     * Returns whether the static content item is a text file that may have pre-compressed variants.
+     *
+     * @return whether the content may be encoded
+     */
+    public boolean isCompressible() {
+        return StaticContentVariants.isCompressible(this.contentFile);
+    }
+
+    /**
+     * Returns the fingerprint of the content, which changes whenever the content changes.
+     *
+     * @return the fingerprint of the content
+     * @throws java.io.IOException When an I/O error occurs while reading the content.
+     */
+    public String getFingerprint() throws IOException {
+        return StaticContentVariants.fingerprint(this.contentFile);
+    }
+
     /**
      * Returns whether the file is versioned.
      *
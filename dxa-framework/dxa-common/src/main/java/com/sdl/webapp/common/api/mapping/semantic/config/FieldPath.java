@@ -1,5 +1,6 @@
 package com.sdl.webapp.common.api.mapping.semantic.config;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -10,8 +11,8 @@ import org.jetbrains.annotations.Nullable;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 @Getter
-@ToString
-@EqualsAndHashCode
+@ToString(exclude = "xPath")
+@EqualsAndHashCode(exclude = "xPath")
 @Slf4j
 public final class FieldPath implements WithXPath {
 
@@ -19,6 +20,12 @@ public final class FieldPath implements WithXPath {
 
     private final FieldPath tail;
 
+    /**
+     * XPath of this path without context, built on first use. Field paths are immutable and shared by semantic schemas.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile String xPath;
+
     public FieldPath(String path) {
         if (path.startsWith("/")) {
             path = path.substring(1);
@@ -45,29 +52,42 @@ public final class FieldPath implements WithXPath {
     @Override
     @NotNull
     public String getXPath(@Nullable String contextXPath) {
-        FieldPath pathCopy = this;
-
-        StringBuilder builder = new StringBuilder(pathCopy.isMetadata() ? "tcm:Metadata" : "tcm:Content");
+        String xPath = getXPathWithoutContext();
+        if (isNullOrEmpty(contextXPath)) {
+            return xPath;
+        }
 
-        while (true) {
-            builder.append("/custom:").append(pathCopy.getHead());
-            if (!pathCopy.hasTail()) {
-                break;
-            }
-            pathCopy = pathCopy.getTail();
+        int predicate = contextXPath.indexOf('[');
+        String contextPathWithoutPredicate = predicate < 0 ? contextXPath : contextXPath.substring(0, predicate);
+        if (xPath.startsWith(contextPathWithoutPredicate)) {
+            return contextXPath.concat(xPath.substring(contextPathWithoutPredicate.length()));
         }
 
-        String xPath = builder.toString();
-        String contextPathWithoutPredicate = null;
-        if (!isNullOrEmpty(contextXPath)) {
-            contextPathWithoutPredicate = contextXPath.split("\\[")[0];
+        // This should not happen, but if it happens, we just stick with the original XPath.
+        log.warn("Semantic field's XPath ('{}}') does not match context XPath '{}'.", xPath, contextXPath);
+        int index = xPath.indexOf(contextPathWithoutPredicate);
+        return index < 0 ? xPath :
+                xPath.substring(0, index) + contextXPath + xPath.substring(index + contextPathWithoutPredicate.length());
+    }
 
-            if (!xPath.startsWith(contextPathWithoutPredicate)) {
-                // This should not happen, but if it happens, we just stick with the original XPath.
-                log.warn("Semantic field's XPath ('{}}') does not match context XPath '{}'.", xPath, contextXPath);
+    private String getXPathWithoutContext() {
+        String result = xPath;
+        if (result == null) {
+            FieldPath pathCopy = this;
+
+            StringBuilder builder = new StringBuilder(isMetadata() ? "tcm:Metadata" : "tcm:Content");
+
+            while (true) {
+                builder.append("/custom:").append(pathCopy.getHead());
+                if (!pathCopy.hasTail()) {
+                    break;
+                }
+                pathCopy = pathCopy.getTail();
             }
-        }
 
-        return contextPathWithoutPredicate == null ? xPath : xPath.replaceFirst(contextPathWithoutPredicate, contextXPath);
+            result = builder.toString();
+            xPath = result;
+        }
+        return result;
     }
 }
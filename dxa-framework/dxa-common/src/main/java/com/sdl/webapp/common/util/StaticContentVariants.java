@@ -0,0 +1,139 @@
+package com.sdl.webapp.common.util;
+
+import com.google.common.hash.Hashing;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-compressed variants and content fingerprints of static content files.
+ * <p>Text files (CSS, JavaScript, SVG and JSON) get a gzip variant next to them when they are stored, e.g.
+ * {@code main.css.gz}, so that they are not compressed again for every request. A variant is only used as long as
+ * it is not older than its file. A fingerprint is a hash of the content, computed once per version of a file.</p>
+ */
+@Slf4j
+public final class StaticContentVariants {
+
+    /**
+     * Content coding of the gzip variants.
+     */
+    public static final String GZIP = "gzip";
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private static final Pattern COMPRESSIBLE = Pattern.compile(".+\\.(css|js|svg|json)$", Pattern.CASE_INSENSITIVE);
+
+    private static final int FINGERPRINT_LENGTH = 16;
+
+    private static final ConcurrentMap<String, Fingerprint> FINGERPRINTS = new ConcurrentHashMap<>();
+
+    private StaticContentVariants() {
+    }
+
+    /**
+     * Checks whether the file is a text file that is worth to be compressed.
+     *
+     * @param file file to check
+     * @return whether the file gets compressed variants
+     */
+    public static boolean isCompressible(@NotNull File file) {
+        return COMPRESSIBLE.matcher(file.getName()).matches();
+    }
+
+    /**
+     * Creates the compressed variants of the file if it is compressible, replacing the previous ones.
+     * A variant that is not smaller than the file itself is not kept.
+     *
+     * @param file file that has just been written
+     * @throws IOException if the variants cannot be written
+     */
+    public static void createVariants(@NotNull File file) throws IOException {
+        if (!isCompressible(file)) {
+            return;
+        }
+        File variant = new File(file.getPath() + GZIP_SUFFIX);
+        Path temp = Files.createTempFile(file.getAbsoluteFile().getParentFile().toPath(), file.getName(), ".tmp");
+        try {
+            try (InputStream in = Files.newInputStream(file.toPath());
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (Files.size(temp) >= file.length()) {
+                log.trace("Compressed variant of {} is not smaller, not kept", file);
+                Files.deleteIfExists(variant.toPath());
+                return;
+            }
+            Files.move(temp, variant.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Written compressed variant {}", variant);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the variant of the file with the given content coding if there is an up-to-date one.
+     *
+     * @param file            the file
+     * @param contentEncoding content coding of the variant, only {@value #GZIP} has variants
+     * @return the variant, or {@code null} if there is none or it is older than the file
+     */
+    @Nullable
+    public static File getVariant(@NotNull File file, @NotNull String contentEncoding) {
+        if (!GZIP.equalsIgnoreCase(contentEncoding) || !isCompressible(file)) {
+            return null;
+        }
+        File variant = new File(file.getPath() + GZIP_SUFFIX);
+        long lastModified = variant.lastModified();
+        return lastModified != 0L && lastModified >= file.lastModified() ? variant : null;
+    }
+
+    /**
+     * Returns the fingerprint of the content of the file, a hex prefix of its SHA-256 hash.
+     * The hash is computed again only when the file has changed.
+     *
+     * @param file the file
+     * @return the fingerprint
+     * @throws IOException if the file cannot be read
+     */
+    @NotNull
+    public static String fingerprint(@NotNull File file) throws IOException {
+        String key = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        Fingerprint fingerprint = FINGERPRINTS.get(key);
+        if (fingerprint != null && fingerprint.lastModified == lastModified && fingerprint.length == length) {
+            return fingerprint.value;
+        }
+        String value = com.google.common.io.Files.asByteSource(file).hash(Hashing.sha256()).toString()
+                .substring(0, FINGERPRINT_LENGTH);
+        FINGERPRINTS.put(key, new Fingerprint(lastModified, length, value));
+        return value;
+    }
+
+    @AllArgsConstructor
+    private static final class Fingerprint {
+
+        private final long lastModified;
+
+        private final long length;
+
+        private final String value;
+    }
+}
@@ -0,0 +1,258 @@
+package com.sdl.webapp.common.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parsed TCM URI looking like <code>NAMESPACE:PUB_ID-ITEM_ID</code> or <code>NAMESPACE:PUB_ID-ITEM_ID-ITEM_TYPE</code>,
+ * where namespace is either <code>tcm</code> or <code>ish</code>.
+ * <p>The URI is parsed in one pass without regular expressions. Use {@link #parseCached(String)} for URIs which are
+ * parsed over and over again, like the ones in links.</p>
+ */
+public final class TcmUri {
+
+    public static final String TCM_NAMESPACE = "tcm";
+
+    public static final String ISH_NAMESPACE = "ish";
+
+    private static final int CACHE_SIZE = 1024;
+
+    /**
+     * Direct-mapped cache of parsed URIs. Races only cause a cache miss because instances are immutable.
+     */
+    private static final TcmUri[] CACHE = new TcmUri[CACHE_SIZE];
+
+    private final String namespace;
+
+    private final int publicationId;
+
+    private final int itemId;
+
+    private final int itemType;
+
+    private final String uri;
+
+    private TcmUri(String namespace, int publicationId, int itemId, int itemType, String uri) {
+        this.namespace = namespace;
+        this.publicationId = publicationId;
+        this.itemId = itemId;
+        this.itemType = itemType;
+        this.uri = uri;
+    }
+
+    /**
+     * Creates a TCM URI without item type looking like <code>NAMESPACE:PUB_ID-ITEM_ID</code>.
+     *
+     * @param namespace     namespace, either <code>tcm</code> or <code>ish</code>
+     * @param publicationId publication ID
+     * @param itemId        item ID
+     * @return TCM URI
+     */
+    @NotNull
+    public static TcmUri of(@NotNull String namespace, int publicationId, int itemId) {
+        return new TcmUri(namespace, publicationId, itemId, -1, null);
+    }
+
+    /**
+     * Creates a TCM URI looking like <code>NAMESPACE:PUB_ID-ITEM_ID-ITEM_TYPE</code>.
+     *
+     * @param namespace     namespace, either <code>tcm</code> or <code>ish</code>
+     * @param publicationId publication ID
+     * @param itemId        item ID
+     * @param itemType      item type
+     * @return TCM URI
+     */
+    @NotNull
+    public static TcmUri of(@NotNull String namespace, int publicationId, int itemId, int itemType) {
+        return new TcmUri(namespace, publicationId, itemId, itemType, null);
+    }
+
+    /**
+     * Parses a TCM URI.
+     *
+     * @param uri string to parse
+     * @return parsed TCM URI or <code>null</code> if the string is not a valid TCM URI
+     */
+    @Nullable
+    @Contract("null -> null")
+    public static TcmUri parse(@Nullable String uri) {
+        if (uri == null || uri.length() < 7) {
+            return null;
+        }
+
+        String namespace;
+        if (uri.startsWith(TCM_NAMESPACE + ":")) {
+            namespace = TCM_NAMESPACE;
+        } else if (uri.startsWith(ISH_NAMESPACE + ":")) {
+            namespace = ISH_NAMESPACE;
+        } else {
+            return null;
+        }
+
+        int publicationEnd = digitsEnd(uri, 4);
+        if (publicationEnd < 0 || publicationEnd == uri.length() || uri.charAt(publicationEnd) != '-') {
+            return null;
+        }
+        int itemEnd = digitsEnd(uri, publicationEnd + 1);
+        if (itemEnd < 0) {
+            return null;
+        }
+
+        int itemType = -1;
+        if (itemEnd != uri.length()) {
+            if (uri.charAt(itemEnd) != '-' || digitsEnd(uri, itemEnd + 1) != uri.length()) {
+                return null;
+            }
+            itemType = toInt(uri, itemEnd + 1, uri.length());
+        }
+
+        int publicationId = toInt(uri, 4, publicationEnd);
+        int itemId = toInt(uri, publicationEnd + 1, itemEnd);
+        if (publicationId < 0 || itemId < 0 || (itemType < 0 && itemEnd != uri.length())) {
+            return null;
+        }
+        return new TcmUri(namespace, publicationId, itemId, itemType, uri);
+    }
+
+    /**
+     * @return index after the digits starting at the position, or <code>-1</code> if there are no digits
+     */
+    private static int digitsEnd(String uri, int start) {
+        int position = start;
+        while (position < uri.length() && uri.charAt(position) >= '0' && uri.charAt(position) <= '9') {
+            position++;
+        }
+        return position == start ? -1 : position;
+    }
+
+    /**
+     * @return value of the digits or <code>-1</code> if it doesn't fit into an int
+     */
+    private static int toInt(String uri, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (uri.charAt(i) - '0');
+            if (value > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) value;
+    }
+
+    /**
+     * Same as {@link #parse(String)}, but returns an already parsed instance if the same URI has been parsed recently.
+     *
+     * @param uri string to parse
+     * @return parsed TCM URI or <code>null</code> if the string is not a valid TCM URI
+     */
+    @Nullable
+    @Contract("null -> null")
+    public static TcmUri parseCached(@Nullable String uri) {
+        if (uri == null) {
+            return null;
+        }
+
+        int index = (uri.hashCode() ^ (uri.hashCode() >>> 16)) & (CACHE_SIZE - 1);
+        TcmUri cached = CACHE[index];
+        if (cached != null && cached.uri.equals(uri)) {
+            return cached;
+        }
+
+        TcmUri tcmUri = parse(uri);
+        if (tcmUri != null) {
+            CACHE[index] = tcmUri;
+        }
+        return tcmUri;
+    }
+
+    /**
+     * Returns whether the string is a valid TCM URI.
+     *
+     * @param uri string to check
+     * @return whether the string is a valid TCM URI
+     */
+    @Contract("null -> false")
+    public static boolean isValid(@Nullable String uri) {
+        return parse(uri) != null;
+    }
+
+    @NotNull
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public int getPublicationId() {
+        return publicationId;
+    }
+
+    public int getItemId() {
+        return itemId;
+    }
+
+    /**
+     * @return whether the URI has an item type
+     */
+    public boolean hasItemType() {
+        return itemType >= 0;
+    }
+
+    /**
+     * Returns the item type, a URI without item type is a component.
+     *
+     * @return item type or {@link TcmUtils#COMPONENT_ITEM_TYPE} if the URI has no item type
+     */
+    public int getItemType() {
+        return hasItemType() ? itemType : TcmUtils.COMPONENT_ITEM_TYPE;
+    }
+
+    /**
+     * Returns this URI in another publication.
+     * <p>E.g. <code>tcm:1-2-3</code> in publication <code>8</code> is <code>tcm:8-2-3</code>.</p>
+     *
+     * @param publicationId publication ID
+     * @return localized TCM URI
+     */
+    @NotNull
+    public TcmUri localize(int publicationId) {
+        return publicationId == this.publicationId ? this : new TcmUri(namespace, publicationId, itemId, itemType, null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TcmUri tcmUri = (TcmUri) o;
+        return publicationId == tcmUri.publicationId && itemId == tcmUri.itemId && itemType == tcmUri.itemType
+                && namespace.equals(tcmUri.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = namespace.hashCode();
+        result = 31 * result + publicationId;
+        result = 31 * result + itemId;
+        result = 31 * result + itemType;
+        return result;
+    }
+
+    /**
+     * @return the URI as it was parsed, or its canonical form if it was created with {@code of}
+     */
+    @Override
+    public String toString() {
+        if (uri != null) {
+            return uri;
+        }
+        StringBuilder builder = new StringBuilder(namespace.length() + 24)
+                .append(namespace).append(':').append(publicationId).append('-').append(itemId);
+        if (hasItemType()) {
+            builder.append('-').append(itemType);
+        }
+        return builder.toString();
+    }
+}
@@ -1,16 +1,12 @@
 package com.sdl.webapp.common.util;
 
 import com.sdl.dxa.api.datamodel.Constants;
-import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Simple utility functions to process TCM-URIs.
- *
+ * <p>If you need more than one part of the same URI, parse it once with {@link TcmUri#parse(String)}.</p>
  */
 @Slf4j
 public final class TcmUtils {
@@ -39,12 +35,6 @@ public final class TcmUtils {
 
     private static final String DEFAULT_NAMESPACE = Constants.DEFAULT_NAMESPACE;
 
-    private static final String NS_ID_ID = "%s:%s-%s";
-
-    private static final String NS_ID_ID_ID = "%s:%s-%s-%s";
-
-    private static final Pattern URI_SCHEMA = Pattern.compile("(?<namespace>tcm|ish):(?<publicationId>\\d+)-(?<itemId>\\d+)(-(?<itemType>\\d+))?");
-
     private TcmUtils() {
     }
 
@@ -231,7 +221,7 @@ public final class TcmUtils {
     }
 
     private static String buildTcmUriInternal(String namespace, String publicationId, String itemId) {
-        return String.format(NS_ID_ID, namespace, publicationId, itemId);
+        return namespace + ':' + publicationId + '-' + itemId;
     }
 
     /**
@@ -271,11 +261,11 @@ public final class TcmUtils {
     }
 
     private static String buildTcmUriInternal(String namespace, String publicationId, String itemId, String itemType) {
-        return String.format(NS_ID_ID_ID, namespace, publicationId, itemId, itemType);
+        return namespace + ':' + publicationId + '-' + itemId + '-' + itemType;
     }
 
     private static String buildTcmUriInternalForRootPublication(String namespace, String publicationId, String itemType) {
-        return String.format(NS_ID_ID_ID, namespace, "0", publicationId, itemType);
+        return buildTcmUriInternal(namespace, "0", publicationId, itemType);
     }
 
     /**
@@ -285,23 +275,8 @@ public final class TcmUtils {
      * @return item type ID or <code>-1</code> if URI is not valid or null
      */
     public static int getItemType(String tcmUri) {
-        ExtractResult extractResult = extractGroupFromTcm(tcmUri, "itemType");
-        return extractResult.status == ExtractStatus.NO_MATCH ? COMPONENT_ITEM_TYPE : extractResult.getInt();
-    }
-
-    private static ExtractResult extractGroupFromTcm(String tcmUri, String group) {
-        if (tcmUri == null) {
-            return new ExtractResult(ExtractStatus.FAILED, null);
-        }
-
-        Matcher matcher = URI_SCHEMA.matcher(tcmUri);
-        if (matcher.matches()) {
-            String match = matcher.group(group);
-            return match == null ?
-                    new ExtractResult(ExtractStatus.NO_MATCH, null) :
-                    new ExtractResult(ExtractStatus.SUCCESS, match);
-        }
-        return new ExtractResult(ExtractStatus.FAILED, null);
+        TcmUri parsed = TcmUri.parse(tcmUri);
+        return parsed == null ? -1 : parsed.getItemType();
     }
 
     /**
@@ -311,7 +286,8 @@ public final class TcmUtils {
      * @return publication ID or <code>-1</code> if URI is not valid or null
      */
     public static int getPublicationId(String tcmUri) {
-        return extractGroupFromTcm(tcmUri, "publicationId").getInt();
+        TcmUri parsed = TcmUri.parse(tcmUri);
+        return parsed == null ? -1 : parsed.getPublicationId();
     }
 
     /**
@@ -334,7 +310,8 @@ public final class TcmUtils {
      * @return item ID or <code>-1</code> if URI is not valid or null
      */
     public static int getItemId(String tcmUri) {
-        return extractGroupFromTcm(tcmUri, "itemId").getInt();
+        TcmUri parsed = TcmUri.parse(tcmUri);
+        return parsed == null ? -1 : parsed.getItemId();
     }
 
     /**
@@ -344,8 +321,8 @@ public final class TcmUtils {
      * @return namespace or <code>-1</code> if URI is not valid or null
      */
     public static String getNamespace(String tcmUri) {
-        ExtractResult extractResult = extractGroupFromTcm(tcmUri, "namespace");
-        return extractResult.status == ExtractStatus.SUCCESS ? extractResult.result : null;
+        TcmUri parsed = TcmUri.parse(tcmUri);
+        return parsed == null ? null : parsed.getNamespace();
     }
 
     /**
@@ -357,14 +334,13 @@ public final class TcmUtils {
      * @return localized TCM URI of an item
      */
     public static String localizeTcmUri(String tcmUri, int publicationId) {
-        Matcher matcher = URI_SCHEMA.matcher(tcmUri);
-        if (!matcher.matches()) {
+        TcmUri parsed = TcmUri.parse(tcmUri);
+        if (parsed == null) {
             log.warn("TCM URI {} is not valid", tcmUri);
             throw new IllegalArgumentException("TCM URI is not valid: " + tcmUri);
         }
-        String itemType = matcher.group("itemType");
-        return itemType == null ? buildTcmUri(publicationId, getItemId(tcmUri)) :
-                buildTcmUri(publicationId, getItemId(tcmUri), Integer.parseInt(itemType));
+        return parsed.hasItemType() ? buildTcmUri(publicationId, parsed.getItemId(), parsed.getItemType()) :
+                buildTcmUri(publicationId, parsed.getItemId());
 
     }
 
@@ -398,23 +374,7 @@ public final class TcmUtils {
      * @return whether the string is TCM URI
      */
     public static boolean isTcmUri(@Nullable Object tcmUri) {
-        return tcmUri != null && URI_SCHEMA.matcher(String.valueOf(tcmUri)).matches();
-    }
-
-    private enum ExtractStatus {
-        FAILED, NO_MATCH, SUCCESS
-    }
-
-    @Value
-    private static class ExtractResult {
-
-        private ExtractStatus status;
-
-        private String result;
-
-        public int getInt() {
-            return status != ExtractStatus.SUCCESS || result == null ? -1 : Integer.parseInt(result);
-        }
+        return tcmUri instanceof TcmUri || tcmUri != null && TcmUri.isValid(String.valueOf(tcmUri));
     }
 
     /**
@@ -426,11 +386,11 @@ public final class TcmUtils {
         }
 
         public static String getTaxonomySitemapIdentifier(String taxonomyId) {
-            return String.format("t%s", taxonomyId);
+            return "t" + taxonomyId;
         }
 
         public static String getTaxonomySitemapIdentifier(String taxonomyId, SitemapItemType type, String subItemId) {
-            return String.format("t%s-%s%s", taxonomyId, type == SitemapItemType.PAGE ? "p" : "k", subItemId);
+            return "t" + taxonomyId + (type == SitemapItemType.PAGE ? "-p" : "-k") + subItemId;
         }
 
         /**
@@ -1,15 +1,18 @@
 package com.sdl.webapp.tridion.linking;
 
 import com.google.common.base.Strings;
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
 import com.sdl.dxa.common.util.PathUtils;
+import com.sdl.dxa.performance.Performance;
 import com.sdl.dxa.tridion.annotations.impl.ValueAnnotationLogger;
 import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.util.TcmUri;
 import com.sdl.webapp.common.util.TcmUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.math.NumberUtils;
-import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,52 +39,60 @@ public abstract class AbstractLinkResolver implements LinkResolver, Initializing
 
     @Override
     public String resolveLink(@Nullable String url, @Nullable String localizationId, boolean resolveToBinary, @Nullable String contextId) {
+        // links are resolved over and over again for the same URIs, so reuse parsed ones
+        TcmUri tcmUri = TcmUri.parseCached(url);
+        return tcmUri == null ? postProcess(url) : resolveLink(tcmUri, localizationId, resolveToBinary, contextId);
+    }
+
+    /**
+     * Resolves a link for an already parsed TCM URI, cached in the same entries as {@link #resolveLink(String, String)}.
+     */
+    @Override
+    @Cacheable(value = "resolvedLinks", key = "{ #root.methodName,  #tcmUri.toString(), #localizationId, #resolveToBinary, #contextId }", sync = true)
+    public String resolveLink(TcmUri tcmUri, @Nullable String localizationId) {
+        return resolveLink(tcmUri, localizationId, false, null);
+    }
+
+    @Override
+    public String resolveLink(TcmUri tcmUri, @Nullable String localizationId, boolean resolveToBinary, @Nullable String contextId) {
         final int publicationId = !Strings.isNullOrEmpty(localizationId) ? Integer.parseInt(localizationId) : 0;
+        return postProcess(_resolveLink(tcmUri, publicationId, resolveToBinary, contextId));
+    }
 
-        String resolvedLink = _resolveLink(url, publicationId, resolveToBinary, contextId);
+    private String postProcess(String resolvedLink) {
         String resolvedUrl = shouldStripIndexPath ? PathUtils.stripIndexPath(resolvedLink) : resolvedLink;
         return shouldRemoveExtension ? PathUtils.stripDefaultExtension(resolvedUrl) : resolvedUrl;
     }
 
-    @Contract("null, _, _ , null-> null; !null, _, _, !null -> !null")
-    private String _resolveLink(String uri, int publicationId, boolean isBinary, String contextId) {
-        if (!TcmUtils.isTcmUri(uri)) {
-            return uri;
-        }
-
+    private String _resolveLink(TcmUri tcmUri, int publicationId, boolean isBinary, String contextId) {
         //Page ID is either tcm uri or int (in string form) -1 means no page context
         int pageId = getPageId(contextId);
 
-        int itemId = TcmUtils.getItemId(uri);
-
-        ResolvingData resolvingData;
         if (publicationId <= 0) {
-            publicationId = TcmUtils.getPublicationId(uri);
+            publicationId = tcmUri.getPublicationId();
         }
-        resolvingData = new ResolvingData(publicationId, itemId, uri, pageId);
-
-        switch (TcmUtils.getItemType(uri)) {
-            case TcmUtils.COMPONENT_ITEM_TYPE:
-                if (isBinary) {
-                    return resolveBinary(resolvingData);
-                }
-                return resolveComponent(resolvingData);
-            case TcmUtils.PAGE_ITEM_TYPE:
-                return resolvePage(resolvingData);
-            default:
-                log.warn("Could not resolve {}link: {} in pub: {}", isBinary?"binary ":"", uri, publicationId);
-                return "";
+        CacheDependencies.record(CacheDependency.of(publicationId, tcmUri.getItemId()));
+        ResolvingData resolvingData = new ResolvingData(publicationId, tcmUri.getItemId(), tcmUri.toString(), pageId, tcmUri);
+
+        try (Performance perf = Performance.phase("link")) {
+            switch (tcmUri.getItemType()) {
+                case TcmUtils.COMPONENT_ITEM_TYPE:
+                    if (isBinary) {
+                        return resolveBinary(resolvingData);
+                    }
+                    return resolveComponent(resolvingData);
+                case TcmUtils.PAGE_ITEM_TYPE:
+                    return resolvePage(resolvingData);
+                default:
+                    log.warn("Could not resolve {}link: {} in pub: {}", isBinary?"binary ":"", tcmUri, publicationId);
+                    return "";
+            }
         }
     }
 
     private int getPageId(String contextId) {
-        int pageId;
-        if (TcmUtils.isTcmUri(contextId)) {
-            pageId = TcmUtils.getItemId(contextId);
-        } else {
-            pageId = NumberUtils.toInt(contextId, -1);
-        }
-        return pageId;
+        TcmUri contextUri = TcmUri.parseCached(contextId);
+        return contextUri != null ? contextUri.getItemId() : NumberUtils.toInt(contextId, -1);
     }
 
     protected abstract String resolveComponent(ResolvingData resolvingData);
@@ -101,6 +112,12 @@ public abstract class AbstractLinkResolver implements LinkResolver, Initializing
         private String uri;
 
         private int pageId;
+
+        private TcmUri tcmUri;
+
+        public ResolvingData(int publicationId, int itemId, String uri, int pageId) {
+            this(publicationId, itemId, uri, pageId, TcmUri.parse(uri));
+        }
     }
 
     @Override
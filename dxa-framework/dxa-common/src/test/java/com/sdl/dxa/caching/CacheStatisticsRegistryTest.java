@@ -0,0 +1,67 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class CacheStatisticsRegistryTest {
+
+    private CacheStatisticsRegistry registry = new CacheStatisticsRegistry();
+
+    @Test
+    public void shouldCollectStatisticsPerCache() {
+        //given
+        CacheStatistics pages = registry.forCache("pageModels");
+        pages.recordHit();
+        pages.recordHit();
+        pages.recordHit();
+        pages.recordMiss();
+        pages.recordLoad(TimeUnit.MILLISECONDS.toNanos(3));
+        pages.recordLoadFailure(TimeUnit.SECONDS.toNanos(20));
+        pages.recordEviction();
+        pages.setEntries(() -> 42);
+
+        //when
+        Map<String, Map<String, Object>> snapshot = registry.snapshot();
+
+        //then
+        assertSame(pages, registry.forCache("pageModels"));
+        Map<String, Object> statistics = snapshot.get("pageModels");
+        assertEquals(3L, statistics.get("hits"));
+        assertEquals(1L, statistics.get("misses"));
+        assertEquals(0.75, statistics.get("hitRatio"));
+        assertEquals(1L, statistics.get("loads"));
+        assertEquals(1L, statistics.get("loadFailures"));
+        assertEquals(1L, statistics.get("evictions"));
+        assertEquals(42L, statistics.get("entries"));
+        assertEquals(-1L, statistics.get("occupiedBytes"));
+
+        Map<?, ?> latency = (Map<?, ?>) statistics.get("loadLatency");
+        assertEquals(2L, latency.get("count"));
+        assertEquals(0L, latency.get("le_1ms"));
+        assertEquals(1L, latency.get("le_5ms"));
+        assertEquals(1L, latency.get("le_10s"));
+        assertEquals(2L, latency.get("le_inf"));
+    }
+
+    @Test
+    public void shouldResetCounters() {
+        //given
+        CacheStatistics links = registry.forCache("resolvedLinks");
+        links.recordHit();
+        links.recordLoad(1000);
+
+        //when
+        registry.reset();
+
+        //then
+        Map<String, Object> statistics = registry.snapshot().get("resolvedLinks");
+        assertEquals(0L, statistics.get("hits"));
+        assertEquals(0L, statistics.get("loads"));
+        assertEquals(0L, ((Map<?, ?>) statistics.get("loadLatency")).get("le_inf"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.assertEquals;
+
+public class LocalizationAwareKeyGeneratorTest {
+
+    private LocalizationAwareKeyGenerator keyGenerator = new LocalizationAwareKeyGenerator();
+
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(keyGenerator, "localizationIdProvider", (LocalizationIdProvider) () -> "1");
+    }
+
+    @Test
+    public void shouldGenerateSameKeysAsSimpleKeyGenerator() {
+        assertEquals(new LocalizationAwareCacheKey("1", SimpleKey.EMPTY), keyGenerator.generate());
+        assertEquals(new LocalizationAwareCacheKey("1", new SimpleKey("a")), keyGenerator.generate("a"));
+        assertEquals(new LocalizationAwareCacheKey("1", new SimpleKey(new SimpleKey((Object) null))), keyGenerator.generate((Object) null));
+        assertEquals(new LocalizationAwareCacheKey("1", new SimpleKey("a", 2)), keyGenerator.generate("a", 2));
+
+        Object[] array = {new int[]{1, 2}};
+        assertEquals(new LocalizationAwareCacheKey("1", new SimpleKey(SimpleKeyGenerator.generateKey(array))),
+                keyGenerator.generate(array));
+    }
+}
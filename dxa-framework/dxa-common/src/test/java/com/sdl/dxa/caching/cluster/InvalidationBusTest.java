@@ -0,0 +1,182 @@
+package com.sdl.dxa.caching.cluster;
+
+import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.invalidation.PublishEvent;
+import org.junit.Test;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InvalidationBusTest {
+
+    @Test
+    public void shouldSendDeduplicatedBatchToOtherNodesOnly() {
+        //given
+        String channel = "test-" + System.nanoTime();
+        List<InvalidationMessage> received = new ArrayList<>();
+        List<InvalidationMessage> echoed = new ArrayList<>();
+        try (InJvmInvalidationBus node1 = new InJvmInvalidationBus(channel, 60_000, 100);
+             InJvmInvalidationBus node2 = new InJvmInvalidationBus(channel, 60_000, 100)) {
+            node1.subscribe(echoed::add);
+            node2.subscribe(received::add);
+
+            //when
+            node1.publish(InvalidationMessage.evict("pageModels", "key1"));
+            node1.publish(InvalidationMessage.evict("pageModels", "key1"));
+            node1.publish(InvalidationMessage.evict("entityModels", "key2"));
+            node1.publish(InvalidationMessage.evict("resolvedLinks", "key3"));
+            node1.publish(InvalidationMessage.clear("resolvedLinks"));
+            node1.publish(InvalidationMessage.refreshLocalization("5"));
+            node1.flush();
+
+            //then
+            assertEquals(Arrays.asList(
+                    InvalidationMessage.evict("pageModels", "key1"),
+                    InvalidationMessage.evict("entityModels", "key2"),
+                    InvalidationMessage.clear("resolvedLinks"),
+                    InvalidationMessage.refreshLocalization("5")), received);
+            assertTrue(echoed.isEmpty());
+        }
+    }
+
+    @Test
+    public void shouldSendBatchWhenFull() throws InterruptedException {
+        //given
+        String channel = "test-" + System.nanoTime();
+        List<InvalidationMessage> received = new CopyOnWriteArrayList<>();
+        try (InJvmInvalidationBus node1 = new InJvmInvalidationBus(channel, 60_000, 2);
+             InJvmInvalidationBus node2 = new InJvmInvalidationBus(channel, 60_000, 2)) {
+            node2.subscribe(received::add);
+
+            //when
+            node1.publish(InvalidationMessage.clear("pageModels"));
+            node1.publish(InvalidationMessage.clear("entityModels"));
+
+            //then
+            waitFor(received, 2);
+            assertEquals(2, received.size());
+        }
+    }
+
+    @Test
+    public void shouldSendBatchOverUdp() throws Exception {
+        //given
+        List<InvalidationMessage> received = new CopyOnWriteArrayList<>();
+        PublishEvent event = new PublishEvent();
+        event.setPublicationId(5);
+        event.setPageIds(Collections.singletonList(64));
+        Serializable key = new LocalizationAwareCacheKey("5", "/index");
+        try (UdpInvalidationBus node2 = udpBus(1, "secret");
+             UdpInvalidationBus node1 = udpBus(node2.getPort(), "secret")) {
+            node2.subscribe(received::add);
+
+            //when
+            node1.publish(InvalidationMessage.publish(event));
+            node1.publish(InvalidationMessage.evict("pageModels", key));
+            node1.publish(InvalidationMessage.evict("entityModels", new Object[]{"unsupported"}));
+            node1.publish(InvalidationMessage.evict("navigationModels", new LocalizationAwareCacheKey("5", new SimpleKey("/index", 2L))));
+
+            //then
+            waitFor(received, 4);
+            assertEquals(Arrays.asList(InvalidationMessage.publish(event),
+                    InvalidationMessage.evict("pageModels", key),
+                    InvalidationMessage.clear("entityModels"),
+                    InvalidationMessage.clear("navigationModels")), received);
+        }
+    }
+
+    @Test
+    public void shouldDropMessagesSignedWithAnotherSecretAndKeepReceiving() throws Exception {
+        //given
+        List<InvalidationMessage> received = new CopyOnWriteArrayList<>();
+        try (UdpInvalidationBus node2 = udpBus(1, "secret");
+             UdpInvalidationBus intruder = udpBus(node2.getPort(), "another secret");
+             DatagramSocket garbage = new DatagramSocket(new InetSocketAddress("127.0.0.1", 0));
+             UdpInvalidationBus node1 = udpBus(node2.getPort(), "secret")) {
+            node2.subscribe(received::add);
+            byte[] data = "{\"messages\":[{\"type\":\"CLEAR\"}]}".getBytes(StandardCharsets.UTF_8);
+
+            //when
+            intruder.publish(InvalidationMessage.clear("pageModels"));
+            intruder.flush();
+            garbage.send(new DatagramPacket(data, data.length, new InetSocketAddress("127.0.0.1", node2.getPort())));
+            Thread.sleep(100);
+            node1.publish(InvalidationMessage.clear("entityModels"));
+
+            //then
+            waitFor(received, 1);
+            assertEquals(Collections.singletonList(InvalidationMessage.clear("entityModels")), received);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectTamperedMessages() throws IOException {
+        //given
+        InvalidationMessageCodec codec = new InvalidationMessageCodec("secret");
+        byte[] data = codec.encode(Collections.singletonList(InvalidationMessage.evict("pageModels", "key")));
+        data[data.length - 4] ^= 1;
+
+        //when
+        codec.decode(data, data.length);
+    }
+
+    @Test
+    public void shouldDecodeOnlySignedMessages() throws IOException {
+        //given
+        List<InvalidationMessage> batch = Collections.singletonList(InvalidationMessage.refreshLocalization("5"));
+        byte[] data = new InvalidationMessageCodec("secret").encode(batch);
+
+        //when
+        List<InvalidationMessage> decoded = new InvalidationMessageCodec("secret").decode(data, data.length);
+
+        //then
+        assertEquals(batch, decoded);
+        try {
+            new InvalidationMessageCodec("another secret").decode(data, data.length);
+            fail("Messages signed with another secret are decoded");
+        } catch (IOException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldPauseLongerAfterEachFailedReceive() {
+        //when
+        long first = UdpInvalidationBus.nextReceivePause(0);
+        long second = UdpInvalidationBus.nextReceivePause(first);
+        long longest = UdpInvalidationBus.nextReceivePause(TimeUnit.MINUTES.toMillis(1));
+
+        //then
+        assertEquals(100, first);
+        assertEquals(200, second);
+        assertEquals(5_000, longest);
+    }
+
+    private static UdpInvalidationBus udpBus(int peerPort, String secret) throws SocketException {
+        return new UdpInvalidationBus(new InetSocketAddress("127.0.0.1", 0),
+                Collections.singletonList(new InetSocketAddress("127.0.0.1", peerPort)), secret, 10, 100);
+    }
+
+    private static void waitFor(List<?> received, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
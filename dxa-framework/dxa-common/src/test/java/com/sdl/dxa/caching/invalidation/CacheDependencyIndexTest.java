@@ -0,0 +1,118 @@
+package com.sdl.dxa.caching.invalidation;
+
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CacheDependencyIndexTest {
+
+    private CacheDependencyIndex index = new CacheDependencyIndex();
+
+    @Test
+    public void shouldRemoveAllDependentEntries() {
+        //given
+        CacheDependency page = CacheDependency.of(5, 64);
+        CacheDependency component = CacheDependency.of(5, 123);
+        index.register("pageModels", "by path", Sets.newHashSet(page, component));
+        index.register("pageModels", "by id", Sets.newHashSet(page, component));
+        index.register("entityModels", "entity", Collections.singleton(component));
+        index.register("entityModels", "other publication", Collections.singleton(CacheDependency.of(6, 123)));
+
+        //when
+        int dependents = index.removeDependents(component).size();
+
+        //then
+        assertEquals(3, dependents);
+        assertTrue(index.removeDependents(page).isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void shouldForgetEntriesLeavingCache() {
+        //given
+        CacheDependency component = CacheDependency.of(5, 123);
+        index.register("entityModels", "entity", Collections.singleton(component));
+        index.register("entityModels", "entity", Collections.singleton(CacheDependency.of(5, 124)));
+
+        //when
+        index.forget("entityModels", "entity");
+
+        //then
+        assertTrue(index.getDependencies("entityModels", "entity").isEmpty());
+        assertTrue(index.removeDependents(component).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void shouldNotCacheValueBuiltWhileDependencyWasInvalidated() {
+        //given
+        CacheDependency component = CacheDependency.of(5, 123);
+        CacheDependency other = CacheDependency.of(5, 124);
+        long generation = index.generation();
+        index.removeDependents(component);
+        boolean[] put = {false, false};
+
+        //when
+        boolean outdated = index.register("entityModels", "entity", Collections.singleton(component), generation, () -> put[0] = true);
+        boolean unaffected = index.register("entityModels", "other", Collections.singleton(other), generation, () -> put[1] = true);
+
+        //then
+        assertFalse(outdated);
+        assertFalse(put[0]);
+        assertTrue(index.getDependencies("entityModels", "entity").isEmpty());
+        assertTrue(unaffected);
+        assertTrue(put[1]);
+        assertEquals(Collections.singleton(other), index.getDependencies("entityModels", "other"));
+    }
+
+    @Test
+    public void shouldCacheValueBuiltAfterDependencyWasInvalidated() {
+        //given
+        CacheDependency component = CacheDependency.of(5, 123);
+        index.removeDependents(component);
+        long generation = index.generation();
+
+        //when
+        boolean registered = index.register("entityModels", "entity", Collections.singleton(component), generation, () -> { });
+
+        //then
+        assertTrue(registered);
+        assertEquals(1, index.removeDependents(component).size());
+    }
+
+    @Test
+    public void shouldCaptureNestedDependencies() {
+        //given
+        CacheDependency outer = CacheDependency.of(1, 2);
+        CacheDependency inner = CacheDependency.of(1, 3);
+
+        //when
+        try (CacheDependencies.Capture capture = CacheDependencies.capture()) {
+            CacheDependencies.record(outer);
+            try (CacheDependencies.Capture nested = CacheDependencies.capture()) {
+                CacheDependencies.record(inner);
+                assertEquals(Collections.singleton(inner), nested.getDependencies());
+            }
+
+            //then
+            assertEquals(Sets.newHashSet(outer, inner), capture.getDependencies());
+        }
+        assertEquals(false, CacheDependencies.isCapturing());
+    }
+
+    @Test
+    public void shouldCreateDependenciesFromModelIds() {
+        assertEquals(CacheDependency.of(5, 123), CacheDependency.fromModelId("5", "123-456"));
+        assertEquals(CacheDependency.of(5, 64), CacheDependency.fromModelId("5", "64"));
+        assertEquals(CacheDependency.of(5, 7), CacheDependency.fromModelId("5", "tcm:5-7-64"));
+        assertNull(CacheDependency.fromModelId("5", "dynamic"));
+        assertNull(CacheDependency.fromModelId(null, "123"));
+        assertNull(CacheDependency.fromModelId("5", "99999999999"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.sdl.dxa.caching.invalidation;
+
+import com.sdl.dxa.caching.NamedCacheProvider;
+import org.junit.Test;
+
+import javax.cache.Cache;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CacheInvalidationServiceTest {
+
+    @Test
+    public void shouldEvictOnlyDependentEntries() {
+        //given
+        CacheDependencyIndex index = new CacheDependencyIndex();
+        index.register("pageModels", "page", Arrays.asList(CacheDependency.of(5, 64), CacheDependency.of(5, 123)));
+        index.register("resolvedLinks", "link", Collections.singleton(CacheDependency.of(5, 123)));
+        index.register("staticContentItems", "binary", Collections.singleton(CacheDependency.of(5, 200)));
+
+        //noinspection unchecked
+        Cache<Object, Object> pages = mock(Cache.class);
+        //noinspection unchecked
+        Cache<Object, Object> links = mock(Cache.class);
+        //noinspection unchecked
+        Cache<Object, Object> binaries = mock(Cache.class);
+        when(pages.remove("page")).thenReturn(true);
+        when(links.remove("link")).thenReturn(true);
+        NamedCacheProvider cacheProvider = mock(NamedCacheProvider.class);
+        when(cacheProvider.getCache("pageModels")).thenReturn(pages);
+        when(cacheProvider.getCache("resolvedLinks")).thenReturn(links);
+        when(cacheProvider.getCache("staticContentItems")).thenReturn(binaries);
+
+        CacheInvalidationService service = new CacheInvalidationService(index, cacheProvider, new InMemoryPublishEventQueue(10));
+        PublishEvent event = new PublishEvent();
+        event.setPublicationId(5);
+        event.setComponentIds(Collections.singletonList(123));
+
+        //when
+        int evicted = service.invalidate(event);
+
+        //then
+        assertEquals(2, evicted);
+        verify(pages).remove("page");
+        verify(links).remove("link");
+        verify(binaries, never()).remove("binary");
+        assertEquals(1, index.size());
+    }
+}
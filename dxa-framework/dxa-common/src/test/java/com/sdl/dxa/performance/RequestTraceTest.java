@@ -0,0 +1,163 @@
+package com.sdl.dxa.performance;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RequestTraceTest {
+
+    @After
+    public void detachTrace() {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.finish();
+        }
+    }
+
+    @Test
+    public void shouldJoinSpansMeasuredOnForks() throws Exception {
+        //given
+        RequestTrace trace = RequestTrace.start("GET /page");
+
+        //when
+        try (Performance content = Performance.phase("content")) {
+            RequestTrace fork = trace.fork();
+            Thread worker = new Thread(() -> {
+                fork.attach();
+                try (Performance entity = Performance.phase("entity.DefaultModelBuilder")) {
+                    assertSame(fork, RequestTrace.current());
+                }
+                fork.detach();
+            });
+            worker.start();
+            worker.join();
+            trace.join(fork);
+        }
+        trace.finish();
+
+        //then
+        List<Map<String, Object>> spans = spans(trace);
+        assertEquals(2, spans.size());
+        assertEquals("content", spans.get(0).get("name"));
+        assertEquals(0, spans.get(0).get("depth"));
+        assertEquals("entity.DefaultModelBuilder", spans.get(1).get("name"));
+        assertEquals(1, spans.get(1).get("depth"));
+    }
+
+    @Test
+    public void shouldRecordNestedPhasesOfTracedRequest() {
+        //given
+        RequestTrace trace = RequestTrace.start("GET /page");
+
+        //when
+        try (Performance content = Performance.phase("content")) {
+            try (Performance stage = Performance.phase("entity.DefaultModelBuilder")) {
+                assertSame(trace, RequestTrace.current());
+            }
+            try (Performance stage = Performance.phase("entity.DefaultModelBuilder")) {
+                assertSame(trace, RequestTrace.current());
+            }
+        }
+        try (Performance navigation = new Performance(1_000L, "getNavigationModel")) {
+            assertSame(trace, RequestTrace.current());
+        }
+        trace.finish();
+
+        //then
+        assertNull(RequestTrace.current());
+        List<Map<String, Object>> spans = spans(trace);
+        assertEquals(4, spans.size());
+        assertEquals("content", spans.get(0).get("name"));
+        assertEquals(0, spans.get(0).get("depth"));
+        assertEquals("entity.DefaultModelBuilder", spans.get(1).get("name"));
+        assertEquals(1, spans.get(1).get("depth"));
+        assertEquals("getNavigationModel", spans.get(3).get("name"));
+        assertEquals(0, spans.get(3).get("depth"));
+
+        String serverTiming = trace.toServerTiming();
+        assertTrue(serverTiming, serverTiming.matches(
+                "content;dur=[\\d.]+, entity\\.DefaultModelBuilder;dur=[\\d.]+;desc=\"2x\", getNavigationModel;dur=[\\d.]+, total;dur=[\\d.]+"));
+    }
+
+    @Test
+    public void shouldContinueTraceOnAnotherThread() throws InterruptedException {
+        //given
+        RequestTrace trace = RequestTrace.start("GET /page");
+        trace.detach();
+
+        //when
+        Thread worker = new Thread(() -> {
+            trace.attach();
+            try (Performance content = Performance.phase("content")) {
+                assertSame(trace, RequestTrace.current());
+            }
+            trace.detach();
+        });
+        worker.start();
+        worker.join();
+        trace.attach();
+        Performance.phase("render").close();
+        trace.finish();
+
+        //then
+        assertNull(RequestTrace.current());
+        List<Map<String, Object>> spans = spans(trace);
+        assertEquals(2, spans.size());
+        assertEquals("content", spans.get(0).get("name"));
+        assertEquals("render", spans.get(1).get("name"));
+    }
+
+    @Test
+    public void shouldNotMeasurePhasesWhenRequestIsNotTraced() {
+        //when
+        Performance first = Performance.phase("content");
+        Performance second = Performance.phase("render");
+        first.close();
+
+        //then
+        assertSame("a shared instance is used when tracing is disabled", first, second);
+        assertNull(RequestTrace.current());
+    }
+
+    @Test
+    public void shouldKeepMostRecentSlowTracesSlowestFirst() throws InterruptedException {
+        //given
+        RequestTracing tracing = new RequestTracing();
+        ReflectionTestUtils.setField(tracing, "logSampleRate", 0.0);
+        ReflectionTestUtils.setField(tracing, "slowThresholdMillis", 5L);
+        ReflectionTestUtils.setField(tracing, "slowTracesSize", 2);
+        tracing.init();
+
+        //when
+        tracing.record(finished("GET /first", 10));
+        tracing.record(finished("GET /fast", 0));
+        tracing.record(finished("GET /second", 5));
+        tracing.record(finished("GET /third", 20));
+
+        //then
+        List<Map<String, Object>> traces = tracing.getSlowTraces();
+        assertEquals(2, traces.size());
+        assertEquals("GET /third", traces.get(0).get("name"));
+        assertEquals("GET /second", traces.get(1).get("name"));
+    }
+
+    private static RequestTrace finished(String name, long millis) throws InterruptedException {
+        RequestTrace trace = RequestTrace.start(name);
+        Thread.sleep(millis);
+        trace.finish();
+        return trace;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> spans(RequestTrace trace) {
+        return (List<Map<String, Object>>) trace.toMap().get("spans");
+    }
+}
@@ -33,4 +33,19 @@ public class FieldPathTest {
         assertTrue(metadata2.isMetadata());
         assertFalse(test.isMetadata());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldBuildXPathWithinContext() {
+        //given
+        FieldPath path = new FieldPath("/Article/articleBody/content");
+        FieldPath metadata = new FieldPath("/Metadata/standardMeta/name");
+
+        //then
+        assertEquals("tcm:Content/custom:Article/custom:articleBody/custom:content", path.getXPath(null));
+        assertEquals("tcm:Content/custom:Article/custom:articleBody/custom:content", path.getXPath(""));
+        assertEquals("tcm:Content/custom:Article/custom:articleBody[2]/custom:content",
+                path.getXPath("tcm:Content/custom:Article/custom:articleBody[2]"));
+        assertEquals("tcm:Metadata/custom:Metadata/custom:standardMeta/custom:name", metadata.getXPath(null));
+        assertEquals(path.getXPath(null), path.getXPath("tcm:Content/custom:Other[1]"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.sdl.webapp.common.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+import static com.sdl.webapp.common.util.StaticContentVariants.GZIP;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class StaticContentVariantsTest {
+
+    private static final String CSS = "body { margin: 0; }\n" + new String(new char[100]).replace("\0", ".a { color: red; }\n");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldCreateGzipVariantOfTextFile() throws IOException {
+        //given
+        File file = write("main.css", CSS);
+
+        //when
+        StaticContentVariants.createVariants(file);
+        File variant = StaticContentVariants.getVariant(file, GZIP);
+
+        //then
+        assertNotNull(variant);
+        assertEquals(new File(file.getPath() + ".gz"), variant);
+        assertTrue(variant.length() < file.length());
+        assertEquals(CSS, gunzip(variant));
+    }
+
+    @Test
+    public void shouldNotCreateVariantsOfOtherFiles() throws IOException {
+        //given
+        File file = write("image.png", CSS);
+
+        //when
+        StaticContentVariants.createVariants(file);
+
+        //then
+        assertFalse(StaticContentVariants.isCompressible(file));
+        assertFalse(new File(file.getPath() + ".gz").exists());
+        assertNull(StaticContentVariants.getVariant(file, GZIP));
+    }
+
+    @Test
+    public void shouldNotKeepVariantThatIsNotSmaller() throws IOException {
+        //given
+        File file = write("tiny.js", "a");
+
+        //when
+        StaticContentVariants.createVariants(file);
+
+        //then
+        assertNull(StaticContentVariants.getVariant(file, GZIP));
+    }
+
+    @Test
+    public void shouldIgnoreVariantOlderThanFile() throws IOException {
+        //given
+        File file = write("main.js", CSS);
+        StaticContentVariants.createVariants(file);
+        assertTrue(new File(file.getPath() + ".gz").setLastModified(file.lastModified() - 10000L));
+
+        //when
+        File variant = StaticContentVariants.getVariant(file, GZIP);
+
+        //then
+        assertNull(variant);
+    }
+
+    @Test
+    public void shouldReturnNoVariantForUnknownEncoding() throws IOException {
+        //given
+        File file = write("main.svg", CSS);
+        StaticContentVariants.createVariants(file);
+
+        //when
+        File variant = StaticContentVariants.getVariant(file, "br");
+
+        //then
+        assertNull(variant);
+    }
+
+    @Test
+    public void shouldChangeFingerprintWhenContentChanges() throws IOException {
+        //given
+        File file = write("main.css", CSS);
+        String fingerprint = StaticContentVariants.fingerprint(file);
+
+        //when
+        String same = StaticContentVariants.fingerprint(file);
+        write("main.css", CSS + "p { }");
+        assertTrue(file.setLastModified(file.lastModified() + 10000L));
+        String changed = StaticContentVariants.fingerprint(file);
+
+        //then
+        assertEquals(16, fingerprint.length());
+        assertEquals(fingerprint, same);
+        assertNotEquals(fingerprint, changed);
+    }
+
+    private File write(String name, String content) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String gunzip(File file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
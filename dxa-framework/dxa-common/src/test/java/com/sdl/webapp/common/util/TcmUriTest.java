@@ -0,0 +1,87 @@
+package com.sdl.webapp.common.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TcmUriTest {
+
+    @Test
+    public void shouldParseTcmUriWithItemType() {
+        //when
+        TcmUri tcmUri = TcmUri.parse("tcm:1-22-64");
+
+        //then
+        assertNotNull(tcmUri);
+        assertEquals("tcm", tcmUri.getNamespace());
+        assertEquals(1, tcmUri.getPublicationId());
+        assertEquals(22, tcmUri.getItemId());
+        assertTrue(tcmUri.hasItemType());
+        assertEquals(64, tcmUri.getItemType());
+        assertEquals("tcm:1-22-64", tcmUri.toString());
+    }
+
+    @Test
+    public void shouldParseUriWithoutItemTypeAsComponent() {
+        //when
+        TcmUri tcmUri = TcmUri.parse("ish:10054-64587");
+
+        //then
+        assertNotNull(tcmUri);
+        assertEquals("ish", tcmUri.getNamespace());
+        assertEquals(10054, tcmUri.getPublicationId());
+        assertEquals(64587, tcmUri.getItemId());
+        assertFalse(tcmUri.hasItemType());
+        assertEquals(TcmUtils.COMPONENT_ITEM_TYPE, tcmUri.getItemType());
+    }
+
+    @Test
+    public void shouldNotParseInvalidUris() {
+        for (String uri : new String[]{null, "", "tcm:", "tcm:1", "tcm:1-", "tcm:-1", "tcm:1-2-", "tcm:1-2-3-4",
+                "tcm:1-2-a", "tcm:a-2", "abc:1-2", "TCM:1-2", " tcm:1-2", "tcm:1-2 ", "tcm:1--2", "tcm:1-99999999999",
+                "/index.html", "1-2"}) {
+            assertNull(uri, TcmUri.parse(uri));
+            assertFalse(uri, TcmUri.isValid(uri));
+        }
+    }
+
+    @Test
+    public void shouldReturnSameInstanceFromCache() {
+        //when
+        TcmUri first = TcmUri.parseCached(new String("tcm:5-6-16"));
+        TcmUri second = TcmUri.parseCached(new String("tcm:5-6-16"));
+
+        //then
+        assertSame(first, second);
+        assertNull(TcmUri.parseCached("not a uri"));
+        assertNull(TcmUri.parseCached(null));
+    }
+
+    @Test
+    public void shouldBeEqualToParsedUri() {
+        //when
+        TcmUri created = TcmUri.of("tcm", 1, 2, 64);
+        TcmUri parsed = TcmUri.parse("tcm:1-2-64");
+
+        //then
+        assertEquals(parsed, created);
+        assertEquals(parsed.hashCode(), created.hashCode());
+        assertEquals("tcm:1-2-64", created.toString());
+        assertEquals("tcm:1-2", TcmUri.of("tcm", 1, 2).toString());
+        assertFalse(TcmUri.of("tcm", 1, 2).equals(created));
+    }
+
+    @Test
+    public void shouldLocalizeUri() {
+        //when
+        TcmUri localized = TcmUri.parse("ish:1-2-3").localize(8);
+
+        //then
+        assertEquals("ish:8-2-3", localized.toString());
+    }
+}
@@ -1,5 +1,6 @@
 package com.sdl.webapp.tridion.linking;
 
+import com.sdl.webapp.common.util.TcmUri;
 import org.junit.Test;
 import org.springframework.context.annotation.Profile;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -42,6 +43,22 @@ public class AbstractLinkResolverTest {
         assertEquals("resolved-page-2", linkPage);
     }
 
+    @Test
+    public void shouldResolveParsedTcmUri() {
+        //given
+        TestLinkResolver linkResolver = new TestLinkResolver();
+
+        //when
+        String link = linkResolver.resolveLink(TcmUri.of(TcmUri.TCM_NAMESPACE, 2, 3), null);
+        String linkBinary = linkResolver.resolveLink(TcmUri.parse("tcm:2-3"), "", true, null);
+        String linkPage = linkResolver.resolveLink(TcmUri.parse("tcm:2-3-64"), "");
+
+        //then
+        assertEquals("resolved-component-2", link);
+        assertEquals("resolved-binary-2", linkBinary);
+        assertEquals("resolved-page-2", linkPage);
+    }
+
     @Test
     public void shouldNotRemoveExtension_IfDisabled() {
         //given
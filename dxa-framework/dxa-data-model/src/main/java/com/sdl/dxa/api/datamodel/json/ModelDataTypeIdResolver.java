@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.DatabindContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.primitives.Primitives;
 import com.sdl.dxa.api.datamodel.Constants;
 import com.sdl.dxa.api.datamodel.DataModelSpringConfiguration;
@@ -22,7 +23,6 @@ import org.springframework.core.type.filter.AnnotationTypeFilter;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.fasterxml.jackson.databind.type.TypeFactory.unknownType;
@@ -41,16 +41,25 @@ import static org.springframework.util.ClassUtils.getDefaultClassLoader;
  * <p>Basic {@code java.lang.*} objects lists are also handled.</p>
  * <p>The mapping information is gotten from {@link JsonTypeName} annotation on classes inside the package of {@link ViewModelData}
  * or from basic information about the known class in annotation is not present.</p>
+ * <p>The mapping is resolved once into an immutable two-way table, so that no reflection is done per JSON node.
+ * Classes outside of that package are added to the table when first seen, or can be registered
+ * with {@link #registerType(String, Class)}.</p>
  */
 @Slf4j
 public class ModelDataTypeIdResolver extends TypeIdResolverBase {
 
-    private static final Map<String, JavaType> BASIC_MAPPING = new HashMap<>();
+    private static final JavaType UNKNOWN_MODEL_DATA_TYPE =
+            TypeFactory.defaultInstance().constructSpecializedType(unknownType(), UnknownModelData.class);
+
+    private static volatile Mappings mappings;
 
     static {
-        addMapping(String.class.getSimpleName(), String.class, null);
-        Primitives.allWrapperTypes().forEach(aClass -> addMapping(aClass.getSimpleName(), aClass, null));
-        Stream.of(Date.class, DateTime.class).forEach(aClass -> addMapping(aClass.getSimpleName(), String.class, null));
+        Map<String, JavaType> types = new HashMap<>();
+        Map<Class<?>, String> ids = new HashMap<>();
+
+        addMapping(types, String.class.getSimpleName(), String.class, null);
+        Primitives.allWrapperTypes().forEach(aClass -> addMapping(types, aClass.getSimpleName(), aClass, null));
+        Stream.of(Date.class, DateTime.class).forEach(aClass -> addMapping(types, aClass.getSimpleName(), String.class, null));
 
         ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
         scanner.addIncludeFilter(new AnnotationTypeFilter(JsonTypeName.class));
@@ -59,28 +68,66 @@ public class ModelDataTypeIdResolver extends TypeIdResolverBase {
                     try {
                         Class<?> aClass = forName(type.getBeanClassName(), getDefaultClassLoader());
                         JsonTypeName typeName = aClass.getAnnotation(JsonTypeName.class);
-                        addMapping(defaultIfBlank(typeName.value(), aClass.getSimpleName()), aClass, null);
+                        addMapping(types, defaultIfBlank(typeName.value(), aClass.getSimpleName()), aClass, null);
+                        if (!isEmpty(typeName.value())) {
+                            ids.put(aClass, typeName.value());
+                        }
                     } catch (ClassNotFoundException e) {
                         log.warn("Class not found while mapping model data to typeIDs. Should never happen.", e);
                     }
                 });
 
-        // now go through all the mappings to add all additional [] that are not yet added (= no explicit implementation for it)
-        BASIC_MAPPING.entrySet().stream()
-                .filter(entry -> !entry.getKey().contains(Constants.LIST_MARKER))
-                .filter(entry -> !BASIC_MAPPING.containsKey(entry.getKey() + Constants.LIST_MARKER))
-                .collect(Collectors.toList())
-                .forEach(entry -> addMapping(entry.getKey() + Constants.LIST_MARKER, ListWrapper.class, entry.getValue().getRawClass()));
+        addListMappings(types);
+        mappings = new Mappings(types, ids);
+    }
+
+    /**
+     * Registers a type ID for a class that is not in the package of {@link ViewModelData}, e.g. model data of a module.
+     * A mapping of {@code typeId[]} to a {@link ListWrapper} of the class is added unless it is already known.
+     *
+     * @param typeId type ID of the class in JSON
+     * @param aClass class to map the type ID to
+     */
+    public static synchronized void registerType(String typeId, Class<?> aClass) {
+        Map<String, JavaType> types = new HashMap<>(mappings.types);
+        Map<Class<?>, String> ids = new HashMap<>(mappings.ids);
+        addMapping(types, typeId, aClass, null);
+        ids.put(aClass, typeId);
+        addListMappings(types);
+        mappings = new Mappings(types, ids);
     }
 
-    private static void addMapping(String classId, Class<?> basicClass, Class<?> genericClass) {
+    private static void addMapping(Map<String, JavaType> types, String classId, Class<?> basicClass, Class<?> genericClass) {
         JavaType javaType = genericClass == null ?
                 TypeFactory.defaultInstance().constructSpecializedType(unknownType(), basicClass) :
                 TypeFactory.defaultInstance().constructParametricType(basicClass, genericClass);
-        BASIC_MAPPING.put(classId, javaType);
+        types.put(classId, javaType);
         log.trace("Added mapping for polymorphic deserialization {} <-> {}", classId, javaType);
     }
 
+    /**
+     * Goes through all the mappings to add all additional [] that are not yet added (= no explicit implementation for it).
+     */
+    private static void addListMappings(Map<String, JavaType> types) {
+        new HashMap<>(types).forEach((id, javaType) -> {
+            if (!id.contains(Constants.LIST_MARKER) && !types.containsKey(id + Constants.LIST_MARKER)) {
+                addMapping(types, id + Constants.LIST_MARKER, ListWrapper.class, javaType.getRawClass());
+            }
+        });
+    }
+
+    /**
+     * Remembers the type ID of a class that is not in the table yet. Races only ever add the same ID twice.
+     */
+    private static synchronized void cacheId(Class<?> aClass, String id) {
+        Mappings current = mappings;
+        if (!current.ids.containsKey(aClass)) {
+            Map<Class<?>, String> ids = new HashMap<>(current.ids);
+            ids.put(aClass, id);
+            mappings = new Mappings(current.types, ids);
+        }
+    }
+
     @Override
     public String idFromValue(Object value) {
         return getIdFromValue(value);
@@ -103,41 +150,72 @@ public class ModelDataTypeIdResolver extends TypeIdResolverBase {
             return UNKNOWN_TYPE;
         }
 
-        JsonTypeName annotation = value.getClass().getAnnotation(JsonTypeName.class);
+        Class<?> aClass = value.getClass();
+        String id = mappings.ids.get(aClass);
+        if (id != null) {
+            return id;
+        }
+
+        JsonTypeName annotation = aClass.getAnnotation(JsonTypeName.class);
         if (annotation != null && !isEmpty(annotation.value())) {
-            log.trace("Type ID for value '{}' taken from annotation and is '{}'", value, annotation.value());
+            log.trace("Type ID for class '{}' taken from annotation and is '{}'", aClass, annotation.value());
+            cacheId(aClass, annotation.value());
             return annotation.value();
         }
 
-        if (value instanceof ListWrapper && !((ListWrapper) value).empty()) {
-            Object firstValue = ((ListWrapper) value).get(0);
+        if (value instanceof ListWrapper) {
+            // the type of a list without an explicit implementation depends on its elements, so it is never cached
+            return getListId((ListWrapper<?>) value);
+        }
 
-            log.debug("Need to guess list type, use first element for this, it defines the whole list type");
-            String typeId = firstValue instanceof HandlesHierarchyTypeInformation ?
-                    ((HandlesHierarchyTypeInformation) firstValue).getTypeId() : getIdFromValue(firstValue);
-            String id = typeId + Constants.LIST_MARKER;
-            log.trace("Value is instance of ListWrapper without an explicit implementation, " +
-                    "value = '{}', id = '{}'", value, id);
-            return id;
+        id = getMappingName(aClass.getSimpleName());
+        log.trace("Class '{}' is unknown class without annotation, id = '{}'", aClass, id);
+        cacheId(aClass, id);
+        return id;
+    }
+
+    private String getListId(ListWrapper<?> value) {
+        if (value.empty()) {
+            return getMappingName(value.getClass().getSimpleName());
         }
 
-        String id = getMappingName(value.getClass().getSimpleName());
-        log.trace("Value is unknown class without annotation, value = '{}', id = '{}'", value, id);
+        Object firstValue = value.get(0);
+        log.debug("Need to guess list type, use first element for this, it defines the whole list type");
+        String typeId = firstValue instanceof HandlesHierarchyTypeInformation ?
+                ((HandlesHierarchyTypeInformation) firstValue).getTypeId() : getIdFromValue(firstValue);
+        String id = typeId + Constants.LIST_MARKER;
+        log.trace("Value is instance of ListWrapper without an explicit implementation, id = '{}'", id);
         return id;
     }
 
     private String getMappingName(String simpleName) {
-        return BASIC_MAPPING.containsKey(simpleName) ? BASIC_MAPPING.get(simpleName).getRawClass().getSimpleName() : simpleName;
+        JavaType javaType = mappings.types.get(simpleName);
+        return javaType != null ? javaType.getRawClass().getSimpleName() : simpleName;
     }
 
     @Override
     public JavaType typeFromId(DatabindContext context, String id) {
-        JavaType javaType = BASIC_MAPPING.get(id);
+        JavaType javaType = mappings.types.get(id);
         if (javaType == null) {
             log.debug("Found id = {} which we don't know, create a content holder to just save the data", id);
-            return TypeFactory.defaultInstance().constructSpecializedType(unknownType(), UnknownModelData.class);
+            return UNKNOWN_MODEL_DATA_TYPE;
         }
         log.trace("Type ID '{}' is mapped to '{}'", id, javaType);
         return javaType;
     }
+
+    /**
+     * Immutable two-way table of type IDs, replaced as a whole when a type is added.
+     */
+    private static final class Mappings {
+
+        private final Map<String, JavaType> types;
+
+        private final Map<Class<?>, String> ids;
+
+        private Mappings(Map<String, JavaType> types, Map<Class<?>, String> ids) {
+            this.types = ImmutableMap.copyOf(types);
+            this.ids = ImmutableMap.copyOf(ids);
+        }
+    }
 }
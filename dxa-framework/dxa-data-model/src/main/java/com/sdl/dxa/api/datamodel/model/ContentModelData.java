@@ -8,42 +8,113 @@ import com.sdl.dxa.api.datamodel.model.util.CanWrapContentAndMetadata;
 import com.sdl.dxa.api.datamodel.model.util.ModelDataWrapper;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static com.sdl.dxa.api.datamodel.Constants.DOLLAR_TYPE;
 
 /**
  * {@link Map} implemenation to handle DXA polymorphic JSON logic. Is created to be able to address to {@code ContentModelData[]}.
+ * <p>Field sets of entities have few fields and the same fields for all the entities of a schema, so the map is compact:
+ * the values are kept in an array and the field names in an immutable key layout that is shared by all the maps
+ * with the same fields in the same order. Field names of shared layouts are interned. Maps with more than
+ * {@value #MAX_ARRAY_FIELDS} fields or a {@code null} key are kept in a {@link LinkedHashMap} instead.</p>
+ * <p>It remains a {@link HashMap} for compatibility, but overrides all of its methods, so the hash table
+ * inherited from it is never allocated. Entries are iterated in insertion order.</p>
  */
 @JsonTypeName
 public class ContentModelData extends HashMap<String, Object>
         implements Map<String, Object>, CanGetAndCast<String>, CanWrapContentAndMetadata {
 
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_ARRAY_FIELDS = 32;
+
+    private static final Object[] NO_VALUES = {};
+
+    private transient KeyLayout layout = KeyLayout.EMPTY;
+
+    private transient Object[] values = NO_VALUES;
+
+    private transient Map<String, Object> overflow;
+
+    private transient Set<Entry<String, Object>> entrySet;
+
+    private transient Set<String> keySet;
+
+    private transient Collection<Object> valueCollection;
+
     //region Constructors matching super and copy-constructor
     public ContentModelData(int initialCapacity, float loadFactor) {
+        // validates the arguments only, the table of HashMap is allocated on the first put to it, which never happens
         super(initialCapacity, loadFactor);
+        if (initialCapacity > 0) {
+            values = new Object[Math.min(initialCapacity, MAX_ARRAY_FIELDS)];
+        }
     }
 
     public ContentModelData(int initialCapacity) {
-        super(initialCapacity);
+        this(initialCapacity, 0.75f);
     }
 
     public ContentModelData() {
-        super();
     }
 
     public ContentModelData(Map<? extends String, ?> m) {
-        super(m);
+        this(m.size());
+        m.forEach(this::putValue);
     }
 
     public ContentModelData(ContentModelData other) {
     }
     //endregion
 
+    @Override
+    public int size() {
+        return overflow != null ? overflow.size() : layout.keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return overflow != null ? overflow.containsKey(key) : layout.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (overflow != null) {
+            return overflow.get(key);
+        }
+        int index = layout.indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
     @Override
     public Object put(String key, Object value) {
-        return DOLLAR_TYPE.equals(key) && isRemoveDollarType(value) ? null : super.put(key, value);
+        return DOLLAR_TYPE.equals(key) && isRemoveDollarType(value) ? null : putValue(key, value);
     }
 
     @Override
@@ -51,12 +122,271 @@ public class ContentModelData extends HashMap<String, Object>
         if (m.containsKey(DOLLAR_TYPE) && isRemoveDollarType(m.get(DOLLAR_TYPE))) {
             m.remove(DOLLAR_TYPE);
         }
-        super.putAll(m);
+        m.forEach(this::putValue);
     }
 
     @Override
     public Object putIfAbsent(String key, Object value) {
-        return DOLLAR_TYPE.equals(key) && isRemoveDollarType(value) ? null : super.putIfAbsent(key, value);
+        if (DOLLAR_TYPE.equals(key) && isRemoveDollarType(value)) {
+            return null;
+        }
+        Object current = get(key);
+        return current == null ? putValue(key, value) : current;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (overflow != null) {
+            return overflow.remove(key);
+        }
+        int index = layout.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object removed = values[index];
+        String[] keys = layout.keys;
+        KeyLayout remaining = KeyLayout.EMPTY;
+        for (int i = 0; i < keys.length; i++) {
+            if (i != index) {
+                remaining = remaining.with(keys[i]);
+            }
+        }
+        System.arraycopy(values, index + 1, values, index, keys.length - index - 1);
+        values[keys.length - 1] = null;
+        layout = remaining;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        layout = KeyLayout.EMPTY;
+        values = NO_VALUES;
+        overflow = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> entries = entrySet;
+        if (entries == null) {
+            entries = entrySet = new EntrySet();
+        }
+        return entries;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> keys = keySet;
+        if (keys == null) {
+            keys = keySet = new KeySet();
+        }
+        return keys;
+    }
+
+    @Override
+    public Collection<Object> values() {
+        Collection<Object> collection = valueCollection;
+        if (collection == null) {
+            collection = valueCollection = new Values();
+        }
+        return collection;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (overflow != null) {
+            return overflow.containsValue(value);
+        }
+        for (int i = 0; i < layout.keys.length; i++) {
+            if (Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (!containsKey(key) || !Objects.equals(get(key), value)) {
+            return false;
+        }
+        remove(key);
+        return true;
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        if (!containsKey(key) || !Objects.equals(get(key), oldValue)) {
+            return false;
+        }
+        putValue(key, newValue);
+        return true;
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        return containsKey(key) ? putValue(key, value) : null;
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        Object current = get(key);
+        if (current != null) {
+            return current;
+        }
+        Object value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Object current = get(key);
+        if (current == null) {
+            return null;
+        }
+        Object value = remappingFunction.apply(key, current);
+        if (value == null) {
+            remove(key);
+        } else {
+            putValue(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Object current = get(key);
+        Object value = remappingFunction.apply(key, current);
+        if (value == null) {
+            if (current != null || containsKey(key)) {
+                remove(key);
+            }
+            return null;
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Objects.requireNonNull(value);
+        Object current = get(key);
+        Object merged = current == null ? value : remappingFunction.apply(current, value);
+        if (merged == null) {
+            remove(key);
+        } else {
+            put(key, merged);
+        }
+        return merged;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        Objects.requireNonNull(action);
+        if (overflow != null) {
+            overflow.forEach(action);
+            return;
+        }
+        KeyLayout expectedLayout = layout;
+        for (int i = 0; i < expectedLayout.keys.length; i++) {
+            action.accept(expectedLayout.keys[i], values[i]);
+            if (layout != expectedLayout) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        Objects.requireNonNull(function);
+        if (overflow != null) {
+            overflow.replaceAll(function);
+            return;
+        }
+        KeyLayout expectedLayout = layout;
+        for (int i = 0; i < expectedLayout.keys.length; i++) {
+            values[i] = function.apply(expectedLayout.keys[i], values[i]);
+            if (layout != expectedLayout) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Object clone() {
+        ContentModelData clone = (ContentModelData) super.clone();
+        // HashMap copies the entries into its own table of the clone, which is not used
+        clone.clearHashTable();
+        clone.values = values.length == 0 ? NO_VALUES : values.clone();
+        clone.overflow = overflow == null ? null : new LinkedHashMap<>(overflow);
+        clone.entrySet = null;
+        clone.keySet = null;
+        clone.valueCollection = null;
+        return clone;
+    }
+
+    private void clearHashTable() {
+        super.clear();
+    }
+
+    private Object putValue(String key, Object value) {
+        if (overflow != null) {
+            return overflow.put(key, value);
+        }
+        int index = layout.indexOf(key);
+        if (index >= 0) {
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        int size = layout.keys.length;
+        if (key == null || size == MAX_ARRAY_FIELDS) {
+            overflow = new LinkedHashMap<>(size * 2 + 2);
+            for (int i = 0; i < size; i++) {
+                overflow.put(layout.keys[i], values[i]);
+            }
+            layout = KeyLayout.EMPTY;
+            values = NO_VALUES;
+            return overflow.put(key, value);
+        }
+
+        if (values.length == size) {
+            values = Arrays.copyOf(values, Math.min(Math.max(4, size + (size >> 1)), MAX_ARRAY_FIELDS));
+        }
+        values[size] = value;
+        layout = layout.with(key);
+        return null;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size());
+        for (Entry<String, Object> entry : entrySet()) {
+            out.writeObject(entry.getKey());
+            out.writeObject(entry.getValue());
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        layout = KeyLayout.EMPTY;
+        values = NO_VALUES;
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            putValue((String) in.readObject(), in.readObject());
+        }
     }
 
     @Override
@@ -98,4 +428,272 @@ public class ContentModelData extends HashMap<String, Object>
         // default implementation does nothing with typeId
         return true;
     }
+
+    /**
+     * Immutable ordered field names of a map. Adding a field to a layout leads to the same layout for every map with
+     * the same fields, so all the maps of a schema share the field names and the lookup index.
+     */
+    private static final class KeyLayout {
+
+        private static final KeyLayout EMPTY = new KeyLayout(new String[0]);
+
+        private static final int LINEAR_SEARCH_LIMIT = 8;
+
+        private static final int MAX_TRANSITIONS = 64;
+
+        /**
+         * Bounds the number of shared layouts in case the keys are data rather than field names.
+         */
+        private static final int MAX_SHARED_LAYOUTS = 10_000;
+
+        private static final AtomicInteger SHARED_LAYOUTS = new AtomicInteger();
+
+        private final String[] keys;
+
+        private final Map<String, Integer> index;
+
+        private final ConcurrentMap<String, KeyLayout> transitions = new ConcurrentHashMap<>(4);
+
+        private KeyLayout(String[] keys) {
+            this.keys = keys;
+            if (keys.length > LINEAR_SEARCH_LIMIT) {
+                index = new HashMap<>(keys.length * 2);
+                for (int i = 0; i < keys.length; i++) {
+                    index.put(keys[i], i);
+                }
+            } else {
+                index = null;
+            }
+        }
+
+        private int indexOf(Object key) {
+            if (index != null) {
+                Integer position = index.get(key);
+                return position == null ? -1 : position;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                // interned keys usually match by identity
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private KeyLayout with(String key) {
+            KeyLayout next = transitions.get(key);
+            if (next != null) {
+                return next;
+            }
+            String[] nextKeys = Arrays.copyOf(keys, keys.length + 1);
+            // keys of layouts that are not shared are not interned, so data used as keys doesn't fill the string pool
+            if (transitions.size() >= MAX_TRANSITIONS || SHARED_LAYOUTS.get() >= MAX_SHARED_LAYOUTS) {
+                nextKeys[keys.length] = key;
+                return new KeyLayout(nextKeys);
+            }
+            nextKeys[keys.length] = key.intern();
+            next = new KeyLayout(nextKeys);
+            KeyLayout existing = transitions.putIfAbsent(key, next);
+            if (existing != null) {
+                return existing;
+            }
+            SHARED_LAYOUTS.incrementAndGet();
+            return next;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return ContentModelData.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ContentModelData.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return overflow != null ? overflow.entrySet().iterator() : new EntryIterator();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public int size() {
+            return ContentModelData.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!containsKey(o)) {
+                return false;
+            }
+            ContentModelData.this.remove(o);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            ContentModelData.this.clear();
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            Iterator<Entry<String, Object>> entries = entrySet().iterator();
+            return new Iterator<String>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return entries.next().getKey();
+                }
+
+                @Override
+                public void remove() {
+                    entries.remove();
+                }
+            };
+        }
+    }
+
+    private final class Values extends AbstractCollection<Object> {
+
+        @Override
+        public int size() {
+            return ContentModelData.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            ContentModelData.this.clear();
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            Iterator<Entry<String, Object>> entries = entrySet().iterator();
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return entries.next().getValue();
+                }
+
+                @Override
+                public void remove() {
+                    entries.remove();
+                }
+            };
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private KeyLayout expectedLayout = layout;
+
+        private int next;
+
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < expectedLayout.keys.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (layout != expectedLayout) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new ValueEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (layout != expectedLayout) {
+                throw new ConcurrentModificationException();
+            }
+            ContentModelData.this.remove(expectedLayout.keys[last]);
+            expectedLayout = layout;
+            next = last;
+            last = -1;
+        }
+    }
+
+    private final class ValueEntry implements Entry<String, Object> {
+
+        private final KeyLayout entryLayout = layout;
+
+        private final int index;
+
+        private ValueEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return entryLayout.keys[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return layout == entryLayout ? values[index] : get(getKey());
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return putValue(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
 }
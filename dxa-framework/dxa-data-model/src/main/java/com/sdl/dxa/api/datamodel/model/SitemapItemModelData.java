@@ -4,7 +4,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
-import com.google.common.collect.ComparisonChain;
 import com.sdl.dxa.api.datamodel.json.Polymorphic;
 import lombok.AccessLevel;
 import lombok.Data;
@@ -92,13 +91,11 @@ public class SitemapItemModelData implements Comparable<SitemapItemModelData> {
 
     @Override
     public int compareTo(@NotNull SitemapItemModelData o) {
-        ComparisonChain chain = ComparisonChain.start();
-        if (this.getOriginalTitle() == null || o.getOriginalTitle() == null) {
-            chain = chain.compareFalseFirst(this.getOriginalTitle() == null, o.getOriginalTitle() == null);
-        } else {
-            chain = chain.compare(this.getOriginalTitle(), o.getOriginalTitle());
-        }
-        return chain.compare(this.getId(), o.getId()).result();
+        // items without original title go last
+        int result = this.getOriginalTitle() == null || o.getOriginalTitle() == null
+                ? Boolean.compare(this.getOriginalTitle() == null, o.getOriginalTitle() == null)
+                : this.getOriginalTitle().compareTo(o.getOriginalTitle());
+        return result != 0 ? result : this.getId().compareTo(o.getId());
     }
 
     /**
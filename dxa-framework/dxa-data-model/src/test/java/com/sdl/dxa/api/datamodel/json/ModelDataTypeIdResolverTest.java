@@ -0,0 +1,93 @@
+package com.sdl.dxa.api.datamodel.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.sdl.dxa.api.datamodel.model.ContentModelData;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.unknown.UnknownModelData;
+import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+public class ModelDataTypeIdResolverTest {
+
+    private ModelDataTypeIdResolver resolver = new ModelDataTypeIdResolver();
+
+    @Test
+    public void shouldResolveModelDataBothWays() {
+        //given
+        EntityModelData entity = new EntityModelData();
+
+        //when
+        String id = resolver.idFromValue(entity);
+        String cachedId = resolver.idFromValue(new EntityModelData());
+        JavaType type = resolver.typeFromId(null, id);
+
+        //then
+        assertEquals("EntityModelData", id);
+        assertEquals("EntityModelData", cachedId);
+        assertEquals(EntityModelData.class, type.getRawClass());
+    }
+
+    @Test
+    public void shouldResolveListsByTheirElements() {
+        //given
+        ListWrapper<String> strings = new ListWrapper<>(Collections.singletonList("value"));
+        ListWrapper<Integer> integers = new ListWrapper<>(Collections.singletonList(1));
+        ListWrapper<ContentModelData> contents = new ListWrapper.ContentModelDataListWrapper(Collections.singletonList(new ContentModelData()));
+
+        //when
+        JavaType stringListType = resolver.typeFromId(null, "String[]");
+
+        //then
+        assertEquals("String[]", resolver.idFromValue(strings));
+        assertEquals("Integer[]", resolver.idFromValue(integers));
+        assertEquals("ContentModelData[]", resolver.idFromValue(contents));
+        assertEquals(ListWrapper.class, stringListType.getRawClass());
+        assertEquals(String.class, stringListType.containedType(0).getRawClass());
+        assertEquals(ListWrapper.ContentModelDataListWrapper.class, resolver.typeFromId(null, "ContentModelData[]").getRawClass());
+    }
+
+    @Test
+    public void shouldMapDatesToStrings() {
+        //when
+        String id = resolver.idFromValue(new Date());
+
+        //then
+        assertEquals("String", id);
+        assertEquals(String.class, resolver.typeFromId(null, "Date").getRawClass());
+    }
+
+    @Test
+    public void shouldResolveRegisteredTypes() {
+        //given
+        ModelDataTypeIdResolver.registerType("ModuleModelData", ModuleModelData.class);
+
+        //when
+        String id = resolver.idFromValue(new ModuleModelData());
+        JavaType type = resolver.typeFromId(null, "ModuleModelData");
+        JavaType listType = resolver.typeFromId(null, "ModuleModelData[]");
+
+        //then
+        assertEquals("ModuleModelData", id);
+        assertEquals(ModuleModelData.class, type.getRawClass());
+        assertEquals(ListWrapper.class, listType.getRawClass());
+        assertEquals(ModuleModelData.class, listType.containedType(0).getRawClass());
+    }
+
+    @Test
+    public void shouldResolveUnknownIdsToUnknownModelData() {
+        //when
+        JavaType type = resolver.typeFromId(null, "NotKnownModelData");
+
+        //then
+        assertEquals(UnknownModelData.class, type.getRawClass());
+    }
+
+    private static class ModuleModelData {
+
+    }
+}
@@ -0,0 +1,189 @@
+package com.sdl.dxa.api.datamodel.model;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static com.sdl.dxa.api.datamodel.Constants.DOLLAR_TYPE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ContentModelDataTest {
+
+    @Test
+    public void shouldBehaveAsMap() {
+        //given
+        ContentModelData data = new ContentModelData();
+
+        //when
+        data.put("headline", "Headline");
+        data.put("introText", null);
+        Object previous = data.put("headline", "Other headline");
+
+        //then
+        assertEquals("Headline", previous);
+        assertEquals(2, data.size());
+        assertEquals("Other headline", data.get("headline"));
+        assertTrue(data.containsKey("introText"));
+        assertFalse(data.containsKey("date"));
+        assertNull(data.get("date"));
+        assertEquals(Arrays.asList("headline", "introText"), new ArrayList<>(data.keySet()));
+    }
+
+    @Test
+    public void shouldBeEqualToHashMapWithSameEntries() {
+        //given
+        ContentModelData data = new ContentModelData();
+        data.put("headline", "Headline");
+        data.put("tags", 3);
+        Map<String, Object> map = new HashMap<>();
+        map.put("tags", 3);
+        map.put("headline", "Headline");
+
+        //then
+        assertEquals(map, data);
+        assertEquals(data, map);
+        assertEquals(map.hashCode(), data.hashCode());
+    }
+
+    @Test
+    public void shouldShareFieldNamesOfMapsWithSameFields() {
+        //given
+        ContentModelData first = new ContentModelData();
+        ContentModelData second = new ContentModelData();
+
+        //when
+        first.put(new String("headline"), "first");
+        second.put(new String("headline"), "second");
+
+        //then
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+        assertEquals("second", second.get("headline"));
+    }
+
+    @Test
+    public void shouldRemoveEntries() {
+        //given
+        ContentModelData data = new ContentModelData();
+        data.put("a", 1);
+        data.put("b", 2);
+        data.put("c", 3);
+
+        //when
+        Object removed = data.remove("b");
+        Iterator<Map.Entry<String, Object>> iterator = data.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        //then
+        assertEquals(2, removed);
+        assertEquals(1, data.size());
+        assertEquals(3, data.get("c"));
+        assertFalse(data.containsKey("a"));
+    }
+
+    @Test
+    public void shouldKeepManyFieldsAndNullKeys() {
+        //given
+        ContentModelData data = new ContentModelData();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            data.put("field" + i, i);
+        }
+        data.put(null, "null key");
+
+        //then
+        assertEquals(101, data.size());
+        assertEquals(42, data.get("field42"));
+        assertEquals("null key", data.get(null));
+        assertEquals("field0", data.keySet().iterator().next());
+    }
+
+    @Test
+    public void shouldSetValuesThroughEntries() {
+        //given
+        ContentModelData data = new ContentModelData();
+        data.put("headline", "Headline");
+
+        //when
+        data.entrySet().iterator().next().setValue("Other headline");
+
+        //then
+        assertEquals("Other headline", data.get("headline"));
+    }
+
+    @Test
+    public void shouldNotKeepDollarType() {
+        //given
+        ContentModelData data = new ContentModelData();
+
+        //when
+        data.put(DOLLAR_TYPE, "ContentModelData");
+        data.putIfAbsent(DOLLAR_TYPE, "ContentModelData");
+
+        //then
+        assertTrue(data.isEmpty());
+    }
+
+    @Test
+    public void shouldBeSerializable() throws Exception {
+        //given
+        ContentModelData data = new ContentModelData();
+        data.put("headline", "Headline");
+        data.put("tags", new ArrayList<>(Arrays.asList("a", "b")));
+
+        //when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(data);
+        }
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = in.readObject();
+        }
+
+        //then
+        assertEquals(data, copy);
+    }
+
+    @Test
+    public void shouldKeepHashMapApi() {
+        //given
+        ContentModelData data = new ContentModelData();
+        data.put("headline", "Headline");
+        data.put("tags", 3);
+
+        //when
+        data.merge("tags", 2, (a, b) -> (Integer) a + (Integer) b);
+        data.computeIfAbsent("date", key -> "today");
+        data.computeIfPresent("headline", (key, value) -> null);
+        data.replaceAll((key, value) -> value + "!");
+        HashMap<String, Object> clone = (HashMap<String, Object>) data.clone();
+        clone.put("other", "value");
+        Map<String, Object> visited = new HashMap<>();
+        data.forEach(visited::put);
+
+        //then
+        assertTrue(data instanceof HashMap);
+        assertEquals(Arrays.asList("tags", "date"), new ArrayList<>(data.keySet()));
+        assertEquals(Arrays.asList("5!", "today!"), new ArrayList<>(data.values()));
+        assertTrue(data.containsValue("5!"));
+        assertEquals(data, visited);
+        assertEquals(2, data.size());
+        assertEquals(3, clone.size());
+        assertEquals(ContentModelData.class, clone.getClass());
+        assertEquals(Arrays.asList("tags", "date", "other"), new ArrayList<>(clone.keySet()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.caching.cluster.InvalidationBus;
+import com.sdl.dxa.caching.cluster.InvalidationMessage;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.Cache;
+
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+
+/**
+ * Spring {@link Cache} that sends its evictions and clears to the other nodes of the cluster.
+ * <p>Invalidations received from the other nodes are applied to the underlying caches directly, so they are
+ * never sent back. A key that is not {@link Serializable} is sent as a clear of the whole cache.</p>
+ *
+ * @see InvalidationBus
+ */
+class BroadcastingCache implements Cache {
+
+    private final Cache delegate;
+
+    private final InvalidationBus bus;
+
+    BroadcastingCache(@NotNull Cache delegate, @NotNull InvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        bus.publish(key instanceof Serializable ?
+                InvalidationMessage.evict(getName(), (Serializable) key) : InvalidationMessage.clear(getName()));
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        bus.publish(InvalidationMessage.clear(getName()));
+    }
+
+    @Override
+    public String toString() {
+        return "BroadcastingCache{" + delegate + '}';
+    }
+}
@@ -0,0 +1,79 @@
+package com.sdl.dxa.caching;
+
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Builds Ehcache resource pools from {@code dxa.caching.*} size properties.
+ * <p>A size is either a number of entries like {@code 10000} or an amount of memory like {@code 64MB}
+ * (units {@code B}, {@code KB}, {@code MB}, {@code GB}). A heap sized in memory is weighed by Ehcache
+ * measuring the object graph of each entry.</p>
+ */
+final class CacheResourcePools {
+
+    private CacheResourcePools() {
+    }
+
+    /**
+     * Builds resource pools with a heap tier.
+     *
+     * @param heapSize size of the heap tier, entries or memory
+     * @return resource pools builder
+     * @throws IllegalArgumentException if the size cannot be parsed
+     */
+    @NotNull
+    static ResourcePoolsBuilder build(@NotNull String heapSize) {
+        ResourcePoolsBuilder builder = ResourcePoolsBuilder.newResourcePoolsBuilder();
+        String heap = heapSize.trim();
+        if (isMemorySize(heap)) {
+            builder = builder.heap(parseAmount(heap), parseMemoryUnit(heap));
+        } else {
+            builder = builder.heap(parseAmount(heap), EntryUnit.ENTRIES);
+        }
+        return builder;
+    }
+
+    /**
+     * @param size size property value
+     * @return whether the size is an amount of memory rather than a number of entries
+     */
+    static boolean isMemorySize(@NotNull String size) {
+        String trimmed = size.trim();
+        return !trimmed.isEmpty() && !Character.isDigit(trimmed.charAt(trimmed.length() - 1));
+    }
+
+    private static long parseAmount(String size) {
+        int end = 0;
+        while (end < size.length() && Character.isDigit(size.charAt(end))) {
+            end++;
+        }
+        if (end == 0) {
+            throw new IllegalArgumentException("Cache size should start with a number: " + size);
+        }
+        return Long.parseLong(size.substring(0, end));
+    }
+
+    private static MemoryUnit parseMemoryUnit(String size) {
+        int start = 0;
+        while (start < size.length() && Character.isDigit(size.charAt(start))) {
+            start++;
+        }
+        String unit = size.substring(start).trim().toUpperCase(Locale.ROOT);
+        switch (unit) {
+            case "B":
+                return MemoryUnit.B;
+            case "KB":
+                return MemoryUnit.KB;
+            case "MB":
+                return MemoryUnit.MB;
+            case "GB":
+                return MemoryUnit.GB;
+            default:
+                throw new IllegalArgumentException("Unknown memory unit in cache size: " + size);
+        }
+    }
+}
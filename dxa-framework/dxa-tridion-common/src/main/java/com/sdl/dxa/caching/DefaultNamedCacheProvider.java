@@ -1,5 +1,6 @@
 package com.sdl.dxa.caching;
 
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
 import com.sdl.web.client.cache.CacheProviderInitializer;
 import com.sdl.web.client.cache.GeneralCacheProvider;
 import com.sdl.web.client.configuration.ClientConstants;
@@ -9,16 +10,31 @@ import com.tridion.util.ReflectionUtil;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Triple;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.Configuration;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.event.EventFiring;
+import org.ehcache.event.EventOrdering;
+import org.ehcache.event.EventType;
 import org.ehcache.expiry.Duration;
+import org.ehcache.impl.internal.statistics.StatsUtils;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
 import org.ehcache.xml.XmlConfiguration;
+import org.ehcache.xml.exceptions.XmlConfigurationException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
+import org.terracotta.statistics.ValueStatistic;
 
 import javax.annotation.PostConstruct;
 import javax.cache.Cache;
@@ -34,13 +50,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 import static com.sdl.web.client.configuration.ClientConstants.Cache.DEFAULT_CACHE_URI;
 import static java.nio.file.Files.exists;
@@ -67,6 +86,21 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
     @Value("${dxa.caching.configuration:#{null}}")
     private String cachingConfigurationFile;
 
+    @Value("${dxa.caching.heap.size:10000}")
+    private String defaultHeapSize;
+
+    @Value("${dxa.caching.max-object-graph-size:100000}")
+    private long maxObjectGraphSize;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired(required = false)
+    private CacheStatisticsRegistry statisticsRegistry;
+
+    @Autowired(required = false)
+    private CacheDependencyIndex dependencyIndex;
+
     private boolean isCilConfigUsed;
 
     @Getter
@@ -112,7 +146,7 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         Cache<K, V> newCache = cacheManager.getCache(cacheName, keyType, valueType);
         if (newCache == null) {
             log.debug("Cache name '{}' for such key/value does not exist, auto-creating...", cacheName);
-            newCache = cacheManager.createCache(cacheName, buildDefaultCacheConfiguration(keyType, valueType));
+            newCache = cacheManager.createCache(cacheName, buildDefaultCacheConfiguration(cacheName, keyType, valueType));
         }
 
         if (ownCachesNames.add(cacheName)) {
@@ -121,6 +155,7 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
             if (oldCache == null) {
                 log.debug("Added cache '{}' to own caches of DXA", cacheName);
             }
+            registerListeners(cacheName, newCache);
         }
         return newCache;
     }
@@ -145,11 +180,93 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         return isCacheEnabled() && !disabledCaches.contains(cacheName);
     }
 
+    /**
+     * Makes Ehcache report evictions, expirations, removals, entry count and occupied bytes of the cache
+     * to {@link CacheStatisticsRegistry}, and entries leaving the cache to {@link CacheDependencyIndex}.
+     * Hits, misses and loads are recorded by the callers of the cache.
+     * Occupied bytes are only known for caches with a heap sized in memory.
+     */
+    private void registerListeners(String cacheName, Cache<?, ?> cache) {
+        if (statisticsRegistry == null && dependencyIndex == null) {
+            return;
+        }
+        org.ehcache.Cache<?, ?> ehcache;
+        try {
+            ehcache = cache.unwrap(org.ehcache.Cache.class);
+        } catch (IllegalArgumentException e) {
+            log.info("Cache '{}' is not an Ehcache, evictions and entry count are not reported", cacheName);
+            return;
+        }
+
+        CacheStatistics statistics = statisticsRegistry == null ? null : statisticsRegistry.forCache(cacheName);
+        // synchronous, so an entry that is loaded again right after its eviction is not forgotten by a late event
+        ehcache.getRuntimeConfiguration().registerCacheEventListener(event -> {
+                    if (dependencyIndex != null) {
+                        dependencyIndex.forget(cacheName, event.getKey());
+                    }
+                    if (statistics == null) {
+                        return;
+                    }
+                    if (event.getType() == EventType.EVICTED) {
+                        statistics.recordEviction();
+                    } else if (event.getType() == EventType.EXPIRED) {
+                        statistics.recordExpiration();
+                    } else {
+                        statistics.recordRemoval();
+                    }
+                }, EventOrdering.UNORDERED, EventFiring.SYNCHRONOUS,
+                EnumSet.of(EventType.EVICTED, EventType.EXPIRED, EventType.REMOVED));
+
+        if (statistics == null) {
+            return;
+        }
+        try {
+            String[] tiers = StatsUtils.findTiers(ehcache);
+            statistics.setEntries(tierStatistic(ehcache, StatsUtils.findLowestTier(tiers), "mappings"));
+            statistics.setOccupiedBytes(tierStatistic(ehcache, "OnHeap", "occupiedMemory"));
+        } catch (RuntimeException e) {
+            // statistics are an Ehcache internal API, the counters above still work without them
+            log.warn("Cannot read tier statistics of cache '{}', entry count and size are not reported", cacheName, e);
+        }
+    }
+
+    private static LongSupplier tierStatistic(org.ehcache.Cache<?, ?> ehcache, String tier, String name) {
+        Optional<ValueStatistic<Number>> statistic = StatsUtils.findStatisticOnDescendants(ehcache, tier, name);
+        return statistic.<LongSupplier>map(value -> () -> value.value().longValue()).orElse(() -> -1);
+    }
+
     @NotNull
-    private <K, V> javax.cache.configuration.Configuration<K, V> buildDefaultCacheConfiguration(Class<K> keyType, Class<V> valueType) {
-        return fromEhcacheCacheConfiguration(isCilConfigUsed ?
+    private <K, V> javax.cache.configuration.Configuration<K, V> buildDefaultCacheConfiguration(String cacheName, Class<K> keyType, Class<V> valueType) {
+        CacheConfigurationBuilder<K, V> builder = isCilConfigUsed ?
                 buildDefaultCilCacheConfiguration(keyType, valueType) :
-                buildDefaultConfigCacheConfiguration(keyType, valueType));
+                buildDefaultConfigCacheConfiguration(keyType, valueType);
+        return fromEhcacheCacheConfiguration(withConfiguredSize(builder, cacheName));
+    }
+
+    /**
+     * Overrides the size of the template with {@code dxa.caching.heap.size.CACHE_NAME} if it is set.
+     */
+    @NotNull
+    private <K, V> CacheConfigurationBuilder<K, V> withConfiguredSize(CacheConfigurationBuilder<K, V> builder, String cacheName) {
+        String heapSize = environment == null ? null : environment.getProperty("dxa.caching.heap.size." + cacheName);
+        return heapSize == null ? builder : withResourcePools(builder, cacheName, heapSize);
+    }
+
+    @NotNull
+    private <K, V> CacheConfigurationBuilder<K, V> withResourcePools(CacheConfigurationBuilder<K, V> builder, String cacheName,
+                                                                     String heapSize) {
+        if (heapSize == null || heapSize.trim().isEmpty()) {
+            return builder;
+        }
+
+        try {
+            CacheConfigurationBuilder<K, V> sized = builder.withResourcePools(CacheResourcePools.build(heapSize));
+            log.info("Cache '{}' is sized with heap {}", cacheName, heapSize);
+            return CacheResourcePools.isMemorySize(heapSize) ? sized.withSizeOfMaxObjectGraph(maxObjectGraphSize) : sized;
+        } catch (IllegalArgumentException e) {
+            log.warn("Cannot apply configured size to cache '{}', using the default size", cacheName, e);
+            return builder;
+        }
     }
 
     @NotNull
@@ -228,16 +345,81 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
     }
 
     private <K, V> CacheConfigurationBuilder<K, V> buildFallbackCacheConfiguration(Class<K> keyType, Class<V> valueType) {
-        return newCacheConfigurationBuilder(keyType, valueType, ResourcePoolsBuilder.heap(10000))
+        CacheConfigurationBuilder<K, V> builder = newCacheConfigurationBuilder(keyType, valueType, ResourcePoolsBuilder.heap(10000))
                 .withExpiry(timeToLiveExpiration(of(5, TimeUnit.MINUTES)));
+        return withResourcePools(builder, "fallback configuration", defaultHeapSize);
     }
 
     private CacheManager getCacheManager(String cacheManagerUri) {
         CachingProvider cachingProvider = Caching.getCachingProvider(); // NOSONAR
         URI configUri = getConfigUri(cacheManagerUri);
-        return configUri != null ?
-                cachingProvider.getCacheManager(configUri, null) :
-                cachingProvider.getCacheManager();
+        if (configUri == null) {
+            return cachingProvider.getCacheManager();
+        }
+        Configuration sizedConfiguration = cachingProvider instanceof EhcacheCachingProvider ?
+                loadWithConfiguredSizes(configUri) : null;
+        return sizedConfiguration != null ?
+                ((EhcacheCachingProvider) cachingProvider).getCacheManager(configUri, sizedConfiguration) :
+                cachingProvider.getCacheManager(configUri, null);
+    }
+
+    @Nullable
+    private Configuration loadWithConfiguredSizes(URI configUri) {
+        try {
+            return withConfiguredSizes(new XmlConfiguration(configUri.toURL()));
+        } catch (MalformedURLException | XmlConfigurationException e) {
+            log.warn("Cannot read cache config {} to apply configured sizes, caches keep the sizes of the file", configUri, e);
+            return null;
+        }
+    }
+
+    /**
+     * Overrides the heap sizes of the caches of the configuration file with {@code dxa.caching.heap.size.CACHE_NAME},
+     * as for automatically created caches.
+     *
+     * @param configuration configuration read from the cache configuration file
+     * @return configuration with the overridden sizes, or {@code null} if no cache of the file is overridden
+     */
+    @Nullable
+    Configuration withConfiguredSizes(Configuration configuration) {
+        ConfigurationBuilder builder = ConfigurationBuilder.newConfigurationBuilder();
+        boolean overridden = false;
+        for (Map.Entry<String, CacheConfiguration<?, ?>> cache : configuration.getCacheConfigurations().entrySet()) {
+            CacheConfiguration<?, ?> sized = withConfiguredSize(cache.getKey(), cache.getValue());
+            overridden |= sized != cache.getValue();
+            builder = builder.addCache(cache.getKey(), sized);
+        }
+        if (!overridden) {
+            return null;
+        }
+        for (ServiceCreationConfiguration<?> service : configuration.getServiceCreationConfigurations()) {
+            builder = builder.addService(service);
+        }
+        return configuration.getClassLoader() == null ? builder.build() : builder.withClassLoader(configuration.getClassLoader()).build();
+    }
+
+    /**
+     * Replaces the heap tier of a cache of the configuration file by the configured size, its other tiers and
+     * settings are kept.
+     */
+    @NotNull
+    private <K, V> CacheConfiguration<K, V> withConfiguredSize(String cacheName, CacheConfiguration<K, V> configuration) {
+        String heapSize = environment == null ? null : environment.getProperty("dxa.caching.heap.size." + cacheName);
+        if (heapSize == null || heapSize.trim().isEmpty()) {
+            return configuration;
+        }
+
+        try {
+            ResourcePools configured = CacheResourcePools.build(heapSize).build();
+            ResourcePoolsBuilder pools = ResourcePoolsBuilder.newResourcePoolsBuilder(configuration.getResourcePools())
+                    .withReplacing(configured.getPoolForResource(ResourceType.Core.HEAP));
+            CacheConfigurationBuilder<K, V> sized = newCacheConfigurationBuilder(configuration).withResourcePools(pools);
+            log.info("Cache '{}' of the cache configuration file is sized with heap {}", cacheName, heapSize);
+            return (CacheResourcePools.isMemorySize(heapSize) ? sized.withSizeOfMaxObjectGraph(maxObjectGraphSize) : sized).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Cannot apply configured size to cache '{}', using the size of the cache configuration file", cacheName, e);
+            return configuration;
+        }
     }
 
     @Nullable
@@ -0,0 +1,111 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Spring {@link Cache} that registers dependencies captured while loading values in {@link CacheDependencyIndex}.
+ * <p>On a hit the dependencies of the cached value are passed to the enclosing capture, so a value built from
+ * a cached one depends on the same items.</p>
+ *
+ * @see CacheDependencies
+ */
+class DependencyTrackingCache implements Cache {
+
+    private final Cache delegate;
+
+    private final CacheDependencyIndex dependencyIndex;
+
+    DependencyTrackingCache(@NotNull Cache delegate, @NotNull CacheDependencyIndex dependencyIndex) {
+        this.delegate = delegate;
+        this.dependencyIndex = dependencyIndex;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            propagateDependencies(key);
+        }
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        if (value != null) {
+            propagateDependencies(key);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = {false};
+        boolean[] outdated = {false};
+        long generation = dependencyIndex.generation();
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            try (CacheDependencies.Capture capture = CacheDependencies.capture()) {
+                T loadedValue = valueLoader.call();
+                // JCache puts the value in the same entry processor when the loader returns,
+                // so an invalidation that finds the registered entry removes it after the put
+                outdated[0] = !dependencyIndex.register(getName(), key, capture.getDependencies(), generation, () -> { });
+                return loadedValue;
+            }
+        });
+        if (outdated[0]) {
+            delegate.evict(key);
+        } else if (!loaded[0]) {
+            propagateDependencies(key);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        dependencyIndex.forget(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        dependencyIndex.forgetCache(getName());
+    }
+
+    private void propagateDependencies(Object key) {
+        if (CacheDependencies.isCapturing()) {
+            CacheDependencies.recordAll(dependencyIndex.getDependencies(getName(), key));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DependencyTrackingCache{" + delegate + '}';
+    }
+}
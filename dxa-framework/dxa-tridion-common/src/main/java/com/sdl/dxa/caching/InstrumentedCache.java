@@ -0,0 +1,109 @@
+package com.sdl.dxa.caching;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Spring {@link Cache} that records hits, misses, puts and loads of a delegate cache in {@link CacheStatistics}.
+ */
+class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+
+    private final CacheStatistics statistics;
+
+    InstrumentedCache(@NotNull Cache delegate, @NotNull CacheStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return recorded(delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        //noinspection unchecked
+        return (T) value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            //noinspection unchecked
+            return (T) wrapper.get();
+        }
+        return delegate.get(key, () -> load(valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        statistics.recordPut();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            statistics.recordPut();
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private ValueWrapper recorded(ValueWrapper wrapper) {
+        if (wrapper != null) {
+            statistics.recordHit();
+        } else {
+            statistics.recordMiss();
+        }
+        return wrapper;
+    }
+
+    private <T> T load(Callable<T> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        try {
+            T value = valueLoader.call();
+            statistics.recordLoad(System.nanoTime() - start);
+            statistics.recordPut();
+            return value;
+        } catch (Exception e) {
+            statistics.recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedCache{" + delegate + '}';
+    }
+}
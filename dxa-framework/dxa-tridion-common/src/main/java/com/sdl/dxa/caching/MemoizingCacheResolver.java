@@ -0,0 +1,58 @@
+package com.sdl.dxa.caching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.BasicOperation;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves caches of a cache operation once and then returns the same collection for every invocation.
+ * <p>Operations are created once per annotated method by Spring and caches are never removed from
+ * {@link SpringJCacheManagerAdapter}, so the resolved caches of an operation never change.</p>
+ */
+@Slf4j
+public class MemoizingCacheResolver implements CacheResolver {
+
+    private final CacheManager cacheManager;
+
+    private final ConcurrentMap<BasicOperation, Collection<? extends Cache>> resolvedCaches = new ConcurrentHashMap<>();
+
+    public MemoizingCacheResolver(@NotNull CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        BasicOperation operation = context.getOperation();
+        Collection<? extends Cache> caches = resolvedCaches.get(operation);
+        if (caches == null) {
+            caches = resolvedCaches.computeIfAbsent(operation, this::resolve);
+        }
+        return caches;
+    }
+
+    private Collection<? extends Cache> resolve(BasicOperation operation) {
+        List<Cache> caches = new ArrayList<>(operation.getCacheNames().size());
+        for (String name : operation.getCacheNames()) {
+            log.debug("Requested cache name = '{}', cache manager caches = {}", name, cacheManager.getCacheNames());
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null) {
+                log.warn("Cache {} is not found", name);
+                continue;
+            }
+            log.debug("Resolved cache {} which is a {} cache", cache.getName(), cache.getClass());
+            caches.add(cache);
+        }
+        return Collections.unmodifiableList(caches);
+    }
+}
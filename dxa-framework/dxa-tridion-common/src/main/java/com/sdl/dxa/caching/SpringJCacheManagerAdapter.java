@@ -1,7 +1,10 @@
 package com.sdl.dxa.caching;
 
+import com.sdl.dxa.caching.cluster.InvalidationBus;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.jcache.JCacheCache;
@@ -20,29 +23,64 @@ public class SpringJCacheManagerAdapter implements CacheManager {
 
     private final NamedCacheProvider cacheProvider;
 
+    private final CacheStatisticsRegistry statisticsRegistry;
+
+    private final CacheDependencyIndex dependencyIndex;
+
+    private final InvalidationBus invalidationBus;
+
     private final NoOpCacheManager noOpCacheManager = new NoOpCacheManager();
 
     private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
 
     public SpringJCacheManagerAdapter(@NotNull NamedCacheProvider cacheProvider) {
+        this(cacheProvider, null, null, null);
+    }
+
+    /**
+     * Creates the adapter whose enabled caches record their usage and dependencies of their values.
+     *
+     * @param cacheProvider      provider of the caches
+     * @param statisticsRegistry registry of cache statistics, {@code null} if statistics are not collected
+     * @param dependencyIndex    index of dependencies of cached values, {@code null} if dependencies are not tracked
+     * @param invalidationBus    bus to send evictions and clears to the other nodes, {@code null} if there is none
+     */
+    public SpringJCacheManagerAdapter(@NotNull NamedCacheProvider cacheProvider,
+                                      @Nullable CacheStatisticsRegistry statisticsRegistry,
+                                      @Nullable CacheDependencyIndex dependencyIndex,
+                                      @Nullable InvalidationBus invalidationBus) {
         this.cacheProvider = cacheProvider;
+        this.statisticsRegistry = statisticsRegistry;
+        this.dependencyIndex = dependencyIndex;
+        this.invalidationBus = invalidationBus;
     }
 
     @Override
     public Cache getCache(String name) {
-        if (!caches.containsKey(name)) {
-            boolean cacheEnabled = cacheProvider.isCacheEnabled(name);
-            log.info("Cache [{}] is {}", name, cacheEnabled ? "enabled" : "disabled");
-            Cache cache = cacheEnabled
-                    ? new JCacheCache(cacheProvider.getCache(name))
-                    : noOpCacheManager.getCache(name);
-            caches.putIfAbsent(name, cache);
-        }
         Cache cache = caches.get(name);
-        if (log.isDebugEnabled()) log.debug("Got cache {} -> {}", name, cache.getClass().getCanonicalName());
+        if (cache == null) {
+            cache = caches.computeIfAbsent(name, this::createCache);
+        }
+        log.trace("Got cache {} -> {}", name, cache);
         return cache;
     }
 
+    private Cache createCache(String name) {
+        boolean cacheEnabled = cacheProvider.isCacheEnabled(name);
+        log.info("Cache [{}] is {}", name, cacheEnabled ? "enabled" : "disabled");
+        if (!cacheEnabled) {
+            return noOpCacheManager.getCache(name);
+        }
+        Cache cache = new JCacheCache(cacheProvider.getCache(name));
+        if (dependencyIndex != null) {
+            cache = new DependencyTrackingCache(cache, dependencyIndex);
+        }
+        if (invalidationBus != null) {
+            cache = new BroadcastingCache(cache, invalidationBus);
+        }
+        return statisticsRegistry == null ? cache : new InstrumentedCache(cache, statisticsRegistry.forCache(name));
+    }
+
     @Override
     public Collection<String> getCacheNames() {
         return new ArrayList<>(caches.keySet());
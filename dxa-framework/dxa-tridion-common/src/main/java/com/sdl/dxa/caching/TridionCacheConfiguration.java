@@ -1,9 +1,10 @@
 package com.sdl.dxa.caching;
 
+import com.sdl.dxa.caching.cluster.InvalidationBus;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
@@ -15,9 +16,6 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
-import java.util.Objects;
-import java.util.stream.Collectors;
-
 @Configuration
 @EnableCaching
 @Profile("!dxa.no-cache")
@@ -29,6 +27,15 @@ public class TridionCacheConfiguration extends CachingConfigurerSupport {
 
     private final NamedCacheProvider defaultCacheProvider;
 
+    @Autowired(required = false)
+    private CacheStatisticsRegistry cacheStatisticsRegistry;
+
+    @Autowired(required = false)
+    private CacheDependencyIndex cacheDependencyIndex;
+
+    @Autowired(required = false)
+    private InvalidationBus invalidationBus;
+
     @Autowired
     @Qualifier("compositeCacheManager")
     CacheManager compositeCacheManager;
@@ -44,7 +51,7 @@ public class TridionCacheConfiguration extends CachingConfigurerSupport {
     @Override
     public CacheManager cacheManager() {
         CompositeCacheManager compositeCacheManager = new CompositeCacheManager(
-                new SpringJCacheManagerAdapter(defaultCacheProvider));
+                new SpringJCacheManagerAdapter(defaultCacheProvider, cacheStatisticsRegistry, cacheDependencyIndex, invalidationBus));
         compositeCacheManager.setFallbackToNoOpCache(true);
         return compositeCacheManager;
     }
@@ -57,19 +64,7 @@ public class TridionCacheConfiguration extends CachingConfigurerSupport {
     @Bean
     @Override
     public CacheResolver cacheResolver() {
-        return context -> context.getOperation().getCacheNames().stream()
-                .peek(name -> log.debug("Requested cache name = '{}', cache manager caches = {}", name, compositeCacheManager.getCacheNames()))
-                .map(name -> {
-                    Cache cache = compositeCacheManager.getCache(name);
-                    if (cache == null) {
-                        log.warn("Cache {} is not found", name);
-                        return null;
-                    }
-                    log.debug("Resolved cache {} which is a {} cache", cache.getName(), cache.getClass());
-                    return cache;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return new MemoizingCacheResolver(compositeCacheManager);
     }
 
 }
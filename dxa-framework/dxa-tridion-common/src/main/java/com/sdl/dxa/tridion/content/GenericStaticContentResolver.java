@@ -5,6 +5,7 @@ import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
 import com.sdl.webapp.common.api.content.StaticContentNotLoadedException;
 import com.sdl.webapp.common.util.ImageUtils;
+import com.sdl.webapp.common.util.StaticContentVariants;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -112,6 +113,11 @@ public abstract class GenericStaticContentResolver implements StaticContentResol
         } catch (IOException e) {
             throw new StaticContentNotLoadedException("Cannot write new loaded content to a file: " + file.getAbsolutePath(), e);
         }
+        try {
+            StaticContentVariants.createVariants(file);
+        } catch (IOException e) {
+            log.warn("Cannot write compressed variants of {}, the file is served uncompressed", file, e);
+        }
     }
 
     @NotNull
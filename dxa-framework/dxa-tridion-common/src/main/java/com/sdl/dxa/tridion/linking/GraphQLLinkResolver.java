@@ -4,6 +4,7 @@ import com.sdl.dxa.exception.DxaTridionCommonException;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.web.pca.client.ApiClient;
 import com.sdl.web.pca.client.contentmodel.enums.ContentNamespace;
+import com.sdl.webapp.common.util.TcmUri;
 import com.sdl.webapp.tridion.linking.AbstractLinkResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
@@ -26,7 +27,7 @@ public class GraphQLLinkResolver extends AbstractLinkResolver {
     @Override
     protected String resolveComponent(ResolvingData resolvingData) {
         ApiClient client = apiClientProvider.getClient();
-        ContentNamespace namespace = resolveNamespace(resolvingData.getUri());
+        ContentNamespace namespace = resolveNamespace(resolvingData);
         int pubId = resolvingData.getPublicationId();
         int itemId = resolvingData.getItemId();
         int pageId = resolvingData.getPageId();
@@ -40,7 +41,7 @@ public class GraphQLLinkResolver extends AbstractLinkResolver {
     @Override
     protected String resolvePage(ResolvingData resolvingData) {
         ApiClient client = apiClientProvider.getClient();
-        ContentNamespace namespace = resolveNamespace(resolvingData.getUri());
+        ContentNamespace namespace = resolveNamespace(resolvingData);
         int pubId = resolvingData.getPublicationId();
         int itemId = resolvingData.getItemId();
         String pageLink = client.resolvePageLink(namespace, pubId, itemId, true);
@@ -53,7 +54,7 @@ public class GraphQLLinkResolver extends AbstractLinkResolver {
     @Override
     protected String resolveBinary(ResolvingData resolvingData) {
         ApiClient client = apiClientProvider.getClient();
-        ContentNamespace namespace = resolveNamespace(resolvingData.getUri());
+        ContentNamespace namespace = resolveNamespace(resolvingData);
         int pubId = resolvingData.getPublicationId();
         int itemId = resolvingData.getItemId();
         String binaryLink = client.resolveBinaryLink(namespace, pubId, itemId, null, true);
@@ -63,12 +64,13 @@ public class GraphQLLinkResolver extends AbstractLinkResolver {
         return binaryLink;
     }
 
-    private ContentNamespace resolveNamespace(String uri) {
-        if (uri.startsWith("tcm:"))
+    private ContentNamespace resolveNamespace(ResolvingData resolvingData) {
+        TcmUri tcmUri = resolvingData.getTcmUri();
+        if (tcmUri == null)
+            throw new DxaTridionCommonException("Not a valid Tridion CmUri request uri " + resolvingData.getUri());
+        else if (TcmUri.TCM_NAMESPACE.equals(tcmUri.getNamespace()))
             return ContentNamespace.Sites;
-        else if (uri.startsWith("ish:"))
-            return ContentNamespace.Docs;
         else
-            throw new DxaTridionCommonException("Not a valid Tridion CmUri request uri " + uri);
+            return ContentNamespace.Docs;
     }
 }
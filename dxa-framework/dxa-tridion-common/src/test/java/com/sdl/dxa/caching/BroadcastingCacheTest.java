@@ -0,0 +1,38 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.caching.cluster.InvalidationBus;
+import com.sdl.dxa.caching.cluster.InvalidationMessage;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class BroadcastingCacheTest {
+
+    private InvalidationBus bus = mock(InvalidationBus.class);
+
+    private Cache cache = new BroadcastingCache(new ConcurrentMapCache("pageModels"), bus);
+
+    @Test
+    public void shouldSendEvictionsAndClearsOnly() {
+        //given
+        cache.put("key", "value");
+        cache.get("key");
+
+        //when
+        cache.evict("key");
+        cache.evict(new Object());
+        cache.clear();
+
+        //then
+        assertNull(cache.get("key"));
+        verify(bus).publish(InvalidationMessage.evict("pageModels", "key"));
+        verify(bus, times(2)).publish(InvalidationMessage.clear("pageModels"));
+        verifyNoMoreInteractions(bus);
+    }
+}
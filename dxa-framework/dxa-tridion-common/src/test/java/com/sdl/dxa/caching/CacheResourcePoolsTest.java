@@ -0,0 +1,48 @@
+package com.sdl.dxa.caching;
+
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CacheResourcePoolsTest {
+
+    @Test
+    public void shouldBuildHeapSizedInEntries() {
+        //when
+        ResourcePools pools = CacheResourcePools.build("10000").build();
+
+        //then
+        assertEquals(10000, pools.getPoolForResource(ResourceType.Core.HEAP).getSize());
+        assertEquals(EntryUnit.ENTRIES, pools.getPoolForResource(ResourceType.Core.HEAP).getUnit());
+        assertNull(pools.getPoolForResource(ResourceType.Core.OFFHEAP));
+    }
+
+    @Test
+    public void shouldBuildHeapSizedInMemory() {
+        //when
+        ResourcePools pools = CacheResourcePools.build(" 64mb ").build();
+
+        //then
+        assertEquals(64, pools.getPoolForResource(ResourceType.Core.HEAP).getSize());
+        assertEquals(MemoryUnit.MB, pools.getPoolForResource(ResourceType.Core.HEAP).getUnit());
+        assertNull(pools.getPoolForResource(ResourceType.Core.OFFHEAP));
+    }
+
+    @Test
+    public void shouldDetectMemorySizes() {
+        assertTrue(CacheResourcePools.isMemorySize("1GB"));
+        assertFalse(CacheResourcePools.isMemorySize("500"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAcceptUnknownUnits() {
+        CacheResourcePools.build("64TB");
+    }
+}
@@ -0,0 +1,80 @@
+package com.sdl.dxa.caching;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.Configuration;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+import org.springframework.core.env.Environment;
+
+import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultNamedCacheProviderTest {
+
+    @Mock
+    private Environment environment;
+
+    @InjectMocks
+    private DefaultNamedCacheProvider cacheProvider;
+
+    @Test
+    public void shouldApplyConfiguredSizesToCachesOfConfigurationFile() {
+        //given
+        Whitebox.setInternalState(cacheProvider, "maxObjectGraphSize", 100000L);
+        CacheConfiguration<String, String> pageModels = newCacheConfigurationBuilder(String.class, String.class,
+                ResourcePoolsBuilder.newResourcePoolsBuilder().heap(128, MemoryUnit.MB)).build();
+        CacheConfiguration<String, String> entityModels = newCacheConfigurationBuilder(String.class, String.class,
+                ResourcePoolsBuilder.heap(10000)).build();
+        CacheConfiguration<String, String> navigation = newCacheConfigurationBuilder(String.class, String.class,
+                ResourcePoolsBuilder.heap(500)).build();
+        Configuration file = ConfigurationBuilder.newConfigurationBuilder()
+                .addCache("pageModels", pageModels)
+                .addCache("entityModels", entityModels)
+                .addCache("navigation", navigation)
+                .build();
+        when(environment.getProperty("dxa.caching.heap.size.pageModels")).thenReturn("32MB");
+        when(environment.getProperty("dxa.caching.heap.size.entityModels")).thenReturn("5000");
+
+        //when
+        Configuration sized = cacheProvider.withConfiguredSizes(file);
+
+        //then
+        ResourcePools pageModelPools = sized.getCacheConfigurations().get("pageModels").getResourcePools();
+        assertEquals(32, pageModelPools.getPoolForResource(ResourceType.Core.HEAP).getSize());
+        assertEquals(MemoryUnit.MB, pageModelPools.getPoolForResource(ResourceType.Core.HEAP).getUnit());
+
+        ResourcePools entityModelPools = sized.getCacheConfigurations().get("entityModels").getResourcePools();
+        assertEquals(5000, entityModelPools.getPoolForResource(ResourceType.Core.HEAP).getSize());
+        assertEquals(EntryUnit.ENTRIES, entityModelPools.getPoolForResource(ResourceType.Core.HEAP).getUnit());
+
+        assertSame(navigation, sized.getCacheConfigurations().get("navigation"));
+    }
+
+    @Test
+    public void shouldKeepConfigurationFileWithoutConfiguredSizes() {
+        //given
+        Configuration file = ConfigurationBuilder.newConfigurationBuilder()
+                .addCache("navigation", newCacheConfigurationBuilder(String.class, String.class, ResourcePoolsBuilder.heap(500)).build())
+                .build();
+
+        //when
+        Configuration sized = cacheProvider.withConfiguredSizes(file);
+
+        //then
+        assertNull(sized);
+    }
+}
@@ -0,0 +1,72 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DependencyTrackingCacheTest {
+
+    private CacheDependencyIndex index = new CacheDependencyIndex();
+
+    private Cache cache = new DependencyTrackingCache(new ConcurrentMapCache("resolvedLinks"), index);
+
+    @Test
+    public void shouldRegisterDependenciesOfLoadedValues() {
+        //given
+        CacheDependency component = CacheDependency.of(5, 123);
+
+        //when
+        String link = cache.get("key", () -> {
+            CacheDependencies.record(component);
+            return "/page";
+        });
+
+        //then
+        assertEquals("/page", link);
+        assertEquals(Collections.singleton(component), index.getDependencies("resolvedLinks", "key"));
+    }
+
+    @Test
+    public void shouldPassDependenciesOfCachedValuesToEnclosingLoad() {
+        //given
+        CacheDependency component = CacheDependency.of(5, 123);
+        cache.get("key", () -> {
+            CacheDependencies.record(component);
+            return "/page";
+        });
+
+        //when
+        try (CacheDependencies.Capture capture = CacheDependencies.capture()) {
+            cache.get("key", () -> "/other");
+
+            //then
+            assertEquals(Collections.singleton(component), capture.getDependencies());
+        }
+    }
+
+    @Test
+    public void shouldNotKeepValueLoadedWhileDependencyWasInvalidated() {
+        //given
+        CacheDependency component = CacheDependency.of(5, 123);
+
+        //when
+        String link = cache.get("key", () -> {
+            CacheDependencies.record(component);
+            index.removeDependents(component);
+            return "/old-page";
+        });
+
+        //then
+        assertEquals("/old-page", link);
+        assertNull(cache.get("key"));
+        assertEquals(Collections.emptySet(), index.getDependencies("resolvedLinks", "key"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class InstrumentedCacheTest {
+
+    private CacheStatisticsRegistry registry = new CacheStatisticsRegistry();
+
+    private Cache cache = new InstrumentedCache(new ConcurrentMapCache("resolvedLinks"), registry.forCache("resolvedLinks"));
+
+    @Test
+    public void shouldRecordHitsMissesAndLoads() {
+        //when
+        assertNull(cache.get("a"));
+        assertEquals("/a", cache.get("a", () -> "/a"));
+        assertEquals("/a", cache.get("a", () -> "/other"));
+        assertEquals("/a", cache.get("a", String.class));
+
+        //then
+        Map<String, Object> statistics = registry.snapshot().get("resolvedLinks");
+        assertEquals(2L, statistics.get("hits"));
+        assertEquals(2L, statistics.get("misses"));
+        assertEquals(1L, statistics.get("loads"));
+        assertEquals(1L, statistics.get("puts"));
+    }
+
+    @Test
+    public void shouldRecordFailedLoads() {
+        //when
+        try {
+            cache.get("b", () -> {
+                throw new IllegalStateException("test");
+            });
+            fail("Exception of the loader should be rethrown");
+        } catch (Cache.ValueRetrievalException e) {
+            assertEquals(IllegalStateException.class, e.getCause().getClass());
+        }
+
+        //then
+        Map<String, Object> statistics = registry.snapshot().get("resolvedLinks");
+        assertEquals(1L, statistics.get("misses"));
+        assertEquals(0L, statistics.get("loads"));
+        assertEquals(1L, statistics.get("loadFailures"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.sdl.dxa.caching;
+
+import com.google.common.collect.Sets;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheableOperation;
+
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MemoizingCacheResolverTest {
+
+    @Test
+    public void shouldResolveCachesOncePerOperation() {
+        //given
+        CacheManager cacheManager = mock(CacheManager.class);
+        Cache links = new ConcurrentMapCache("resolvedLinks");
+        when(cacheManager.getCache("resolvedLinks")).thenReturn(links);
+        MemoizingCacheResolver resolver = new MemoizingCacheResolver(cacheManager);
+        CacheOperationInvocationContext<?> context = context("resolvedLinks", "unknown");
+
+        //when
+        Collection<? extends Cache> first = resolver.resolveCaches(context);
+        Collection<? extends Cache> second = resolver.resolveCaches(context);
+
+        //then
+        assertEquals(1, first.size());
+        assertSame(links, first.iterator().next());
+        assertSame(first, second);
+        verify(cacheManager, times(1)).getCache("resolvedLinks");
+        verify(cacheManager, times(1)).getCache("unknown");
+    }
+
+    private static CacheOperationInvocationContext<?> context(String... cacheNames) {
+        CacheableOperation.Builder builder = new CacheableOperation.Builder();
+        builder.setName("resolveLink");
+        builder.setCacheNames(cacheNames);
+        CacheableOperation operation = builder.build();
+
+        CacheOperationInvocationContext<?> context = mock(CacheOperationInvocationContext.class);
+        when(context.getOperation()).thenReturn((CacheableOperation) operation);
+        assertEquals(Sets.newHashSet(cacheNames), operation.getCacheNames());
+        return context;
+    }
+}
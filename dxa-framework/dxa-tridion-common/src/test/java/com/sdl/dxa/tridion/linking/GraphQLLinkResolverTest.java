@@ -3,6 +3,7 @@ package com.sdl.dxa.tridion.linking;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.web.pca.client.ApiClient;
 import com.sdl.web.pca.client.contentmodel.enums.ContentNamespace;
+import com.sdl.webapp.common.util.TcmUri;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -56,4 +57,20 @@ public class GraphQLLinkResolverTest {
         String binaryLinkresult = linkResolver.resolveLink("tcm:2-3", "2", true);
         assertEquals("/media/baloon.png", binaryLinkresult);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void resolveDocsPageLink() {
+        when(apiClientProvider.getClient().resolvePageLink(ContentNamespace.Docs, 2, 3, true)).thenReturn("/docs/page.html");
+
+        String pageLinkresult = linkResolver.resolveLink("ish:1-3-64", "2", false);
+        assertEquals("/docs/page.html", pageLinkresult);
+    }
+
+    @Test
+    public void resolveDocsPageLinkForParsedUri() {
+        when(apiClientProvider.getClient().resolvePageLink(ContentNamespace.Docs, 2, 3, true)).thenReturn("/docs/page.html");
+
+        String pageLinkresult = linkResolver.resolveLink(TcmUri.parse("ish:1-3-64"), "2", false, null);
+        assertEquals("/docs/page.html", pageLinkresult);
+    }
+}
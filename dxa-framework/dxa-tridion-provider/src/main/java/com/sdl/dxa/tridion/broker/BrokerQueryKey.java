@@ -0,0 +1,93 @@
+package com.sdl.dxa.tridion.broker;
+
+import com.google.common.base.Strings;
+import com.sdl.web.pca.client.contentmodel.generated.SortFieldType;
+import com.sdl.web.pca.client.contentmodel.generated.SortOrderType;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+
+/**
+ * Normalized {@link SimpleBrokerQuery}, holding only what is sent to the Content Service.
+ * <p>Queries that only differ in the spelling of their sort or in properties that are not part of the request
+ * get equal keys, so they share cached results and cursors.</p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class BrokerQueryKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int publicationId;
+
+    private final int schemaId;
+
+    private final SortFieldType sortBy;
+
+    private final SortOrderType sortOrder;
+
+    private final int pageSize;
+
+    private final String cursor;
+
+    private BrokerQueryKey(int publicationId, int schemaId, SortFieldType sortBy, SortOrderType sortOrder,
+                           int pageSize, String cursor) {
+        this.publicationId = publicationId;
+        this.schemaId = schemaId;
+        this.sortBy = sortBy;
+        this.sortOrder = sortOrder;
+        this.pageSize = pageSize;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Creates a key of a page of query results, the page starts after the cursor of the query.
+     *
+     * @param query query
+     * @return key of the page
+     */
+    @NotNull
+    public static BrokerQueryKey of(@NotNull SimpleBrokerQuery query) {
+        // keyword filters are not sent to the Content Service yet, add them here once they are
+        String sort = query.getSort();
+        if (Strings.isNullOrEmpty(sort) || "none".equalsIgnoreCase(sort.trim())) {
+            return new BrokerQueryKey(query.getPublicationId(), query.getSchemaId(), null, null,
+                    query.getPageSize(), query.getCursor());
+        }
+
+        String trimmed = sort.trim();
+        int idx = trimmed.indexOf(' ');
+        String sortColumn = idx > 0 ? trimmed.substring(0, idx) : trimmed;
+        SortFieldType sortBy;
+        switch (sortColumn.toLowerCase()) {
+            case "title":
+                sortBy = SortFieldType.TITLE;
+                break;
+            case "pubdate":
+                sortBy = SortFieldType.LAST_PUBLISH_DATE;
+                break;
+            default:
+                sortBy = SortFieldType.CREATION_DATE;
+                break;
+        }
+        SortOrderType sortOrder = trimmed.toLowerCase().endsWith("asc") ? SortOrderType.Ascending : SortOrderType.Descending;
+        return new BrokerQueryKey(query.getPublicationId(), query.getSchemaId(), sortBy, sortOrder,
+                query.getPageSize(), query.getCursor());
+    }
+
+    /**
+     * Returns the key of the page of results after the given cursor.
+     *
+     * @param cursor cursor of the last result of the previous page, {@code null} for the first page
+     * @return key of the page
+     */
+    @NotNull
+    public BrokerQueryKey withCursor(String cursor) {
+        return new BrokerQueryKey(publicationId, schemaId, sortBy, sortOrder, pageSize, cursor);
+    }
+}
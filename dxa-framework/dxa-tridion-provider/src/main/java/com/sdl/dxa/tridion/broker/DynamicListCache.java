@@ -0,0 +1,119 @@
+package com.sdl.dxa.tridion.broker;
+
+import com.sdl.webapp.common.api.model.EntityModel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Shares the cursors and the built entity models of dynamic lists between all visitors.
+ * <p>Cursors are kept per query and start index, so any visitor can open any page of a list without paging through
+ * the list in the same session. Built entity models are kept per page and per page context their links were resolved
+ * in. Both are stored in {@code queryCache} and expire with the query results.</p>
+ */
+public class DynamicListCache {
+
+    private final Cache queryCache;
+
+    public DynamicListCache(CacheManager cacheManager) {
+        this.queryCache = cacheManager.getCache("queryCache");
+    }
+
+    /**
+     * Returns the cursor of the last result before the given start index.
+     *
+     * @param query   query of the list, its cursor is ignored
+     * @param startAt start index of a page
+     * @return cursor to query the page with, {@code null} if not known
+     */
+    @Nullable
+    public String getCursor(@NotNull BrokerQueryKey query, int startAt) {
+        Cache.ValueWrapper cursor = queryCache.get(new CursorKey(query.withCursor(null), startAt));
+        return cursor == null ? null : (String) cursor.get();
+    }
+
+    public void putCursor(@NotNull BrokerQueryKey query, int startAt, @NotNull String cursor) {
+        queryCache.put(new CursorKey(query.withCursor(null), startAt), cursor);
+    }
+
+    /**
+     * Returns the built entity models of a page of query results.
+     *
+     * @param page        key of the page
+     * @param entityType  type the results were built as
+     * @param linkContext page context the links of the results were resolved in, {@code null} for none
+     * @return the page, {@code null} if not cached
+     */
+    @Nullable
+    public ResultPage getPage(@NotNull BrokerQueryKey page, @NotNull Class<? extends EntityModel> entityType,
+                              @Nullable String linkContext) {
+        Cache.ValueWrapper result = queryCache.get(new PageKey(page, entityType.getName(), linkContext));
+        return result == null ? null : (ResultPage) result.get();
+    }
+
+    public void putPage(@NotNull BrokerQueryKey page, @NotNull Class<? extends EntityModel> entityType,
+                        @Nullable String linkContext, @NotNull ResultPage result) {
+        queryCache.put(new PageKey(page, entityType.getName(), linkContext), result);
+    }
+
+    /**
+     * Built entity models of a page of query results. The models are shared and need to be copied before use.
+     */
+    @Getter
+    public static final class ResultPage {
+
+        private final List<EntityModel> entities;
+
+        private final boolean hasMore;
+
+        private final String nextCursor;
+
+        public ResultPage(@NotNull List<EntityModel> entities, boolean hasMore, @Nullable String nextCursor) {
+            this.entities = entities;
+            this.hasMore = hasMore;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    @ToString
+    @EqualsAndHashCode
+    private static final class CursorKey implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BrokerQueryKey query;
+
+        private final int startAt;
+
+        private CursorKey(BrokerQueryKey query, int startAt) {
+            this.query = query;
+            this.startAt = startAt;
+        }
+    }
+
+    @ToString
+    @EqualsAndHashCode
+    private static final class PageKey implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BrokerQueryKey page;
+
+        private final String entityType;
+
+        private final String linkContext;
+
+        private PageKey(BrokerQueryKey page, String entityType, String linkContext) {
+            this.page = page;
+            this.entityType = entityType;
+            this.linkContext = linkContext;
+        }
+    }
+}
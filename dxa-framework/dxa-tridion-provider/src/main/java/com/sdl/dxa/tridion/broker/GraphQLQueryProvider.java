@@ -1,6 +1,5 @@
 package com.sdl.dxa.tridion.broker;
 
-import com.google.common.base.Strings;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.web.pca.client.contentmodel.Pagination;
 import com.sdl.web.pca.client.contentmodel.enums.ContentIncludeMode;
@@ -9,14 +8,13 @@ import com.sdl.web.pca.client.contentmodel.generated.InputSchemaCriteria;
 import com.sdl.web.pca.client.contentmodel.generated.InputSortParam;
 import com.sdl.web.pca.client.contentmodel.generated.Item;
 import com.sdl.web.pca.client.contentmodel.generated.ItemConnection;
-import com.sdl.web.pca.client.contentmodel.generated.SortFieldType;
-import com.sdl.web.pca.client.contentmodel.generated.SortOrderType;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.SimpleValueWrapper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -51,45 +49,47 @@ public class GraphQLQueryProvider implements QueryProvider {
 
     @Override
     public List<Item> executeQueryItems(SimpleBrokerQuery queryParams) {
-        String key = queryParams.toString();
+        BrokerQueryKey key = BrokerQueryKey.of(queryParams);
 
         SimpleValueWrapper simpleValueWrapper = null;
         if (!webRequestContext.isSessionPreview()) {
             simpleValueWrapper = (SimpleValueWrapper) queryCache.get(key);
         }
 
-        List<Item> result;
+        QueryResult result;
         if (simpleValueWrapper != null) {
             //Query result is in cache
-            result = (List<Item>) simpleValueWrapper.get();
+            result = (QueryResult) simpleValueWrapper.get();
         } else {
             //Not in cache, query from backend
-            InputItemFilter filter = buildFilter(queryParams);
-            InputSortParam sort = buildSort(queryParams);
-            int pageSize = queryParams.getPageSize() > 0 ? queryParams.getPageSize() + 1 : queryParams.getPageSize();
+            InputItemFilter filter = buildFilter(key);
+            InputSortParam sort = buildSort(key);
+            int pageSize = key.getPageSize() > 0 ? key.getPageSize() + 1 : key.getPageSize();
             Pagination pagination = new Pagination();
             pagination.setFirst(pageSize);
-            pagination.setAfter(queryParams.getCursor());
+            pagination.setAfter(key.getCursor());
             ItemConnection results = clientProvider.getClient().executeItemQuery(filter, sort, pagination, null, ContentIncludeMode.EXCLUDE, false, null);
             List<Item> resultList = results.getEdges().stream().map(edge -> edge.getNode()).collect(Collectors.toList());
 
             if (pageSize == -1) {
-                cursor = null;
-                return resultList;
+                result = new QueryResult(resultList, false, null);
+            } else {
+                boolean more = results.getEdges().size() > key.getPageSize();
+                int n = more ? key.getPageSize() : results.getEdges().size();
+                result = new QueryResult(more ? new ArrayList<>(resultList.subList(0, key.getPageSize())) : resultList, more,
+                        n > 0 ? results.getEdges().get(n - 1).getCursor() : null);
             }
-            hasMore = results.getEdges().size() > queryParams.getPageSize();
-            int n = hasMore ? queryParams.getPageSize() : results.getEdges().size();
-            cursor = n > 0 ? results.getEdges().get(n - 1).getCursor() : null;
-            result = hasMore ? resultList.subList(0, queryParams.getPageSize()) : resultList;
 
             if (!webRequestContext.isSessionPreview()) {
                 queryCache.put(key, result);
             }
         }
-        return result;
+        hasMore = result.hasMore;
+        cursor = result.cursor;
+        return result.items;
     }
 
-    private InputItemFilter buildFilter(SimpleBrokerQuery queryParams) {
+    private InputItemFilter buildFilter(BrokerQueryKey queryParams) {
         InputItemFilter filter = new InputItemFilter();
         filter.setItemTypes(Arrays.asList(COMPONENT));
 
@@ -120,30 +120,32 @@ public class GraphQLQueryProvider implements QueryProvider {
         return filter;
     }
 
-    private InputSortParam buildSort(SimpleBrokerQuery queryParams) {
-        if (Strings.isNullOrEmpty(queryParams.getSort()) ||
-            "none".equalsIgnoreCase(queryParams.getSort())) {
+    private InputSortParam buildSort(BrokerQueryKey queryParams) {
+        if (queryParams.getSortBy() == null) {
             return null;
         }
 
         InputSortParam sort = new InputSortParam();
+        sort.setOrder(queryParams.getSortOrder());
+        sort.setSortBy(queryParams.getSortBy());
+        return sort;
+    }
+
+    /**
+     * A page of query results, cached with the paging state that belongs to it.
+     */
+    private static final class QueryResult {
+
+        private final List<Item> items;
 
-        sort.setOrder(queryParams.getSort().toLowerCase().endsWith("asc") ?
-                SortOrderType.Ascending : SortOrderType.Descending);
-        int idx = queryParams.getSort().trim().indexOf(" ");
-        String sortColumn = idx > 0 ? queryParams.getSort().trim().substring(0, idx) : queryParams.getSort().trim();
-
-        switch (sortColumn.toLowerCase()) {
-            case "title":
-                sort.setSortBy(SortFieldType.TITLE);
-                break;
-            case "pubdate":
-                sort.setSortBy(SortFieldType.LAST_PUBLISH_DATE);
-                break;
-            default:
-                sort.setSortBy(SortFieldType.CREATION_DATE);
-                break;
+        private final boolean hasMore;
+
+        private final String cursor;
+
+        private QueryResult(List<Item> items, boolean hasMore, String cursor) {
+            this.items = items;
+            this.hasMore = hasMore;
+            this.cursor = cursor;
         }
-        return sort;
     }
 }
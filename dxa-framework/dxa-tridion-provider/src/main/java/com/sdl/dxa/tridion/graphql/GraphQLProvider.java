@@ -11,12 +11,14 @@ import com.sdl.dxa.tridion.pcaclient.GraphQLUtils;
 import com.sdl.web.pca.client.ApiClient;
 import com.sdl.web.pca.client.contentmodel.ContextData;
 import com.sdl.web.pca.client.contentmodel.enums.ContentIncludeMode;
+import com.sdl.web.pca.client.contentmodel.enums.ContentNamespace;
 import com.sdl.web.pca.client.contentmodel.enums.ContentType;
 import com.sdl.web.pca.client.contentmodel.enums.DataModelType;
 import com.sdl.web.pca.client.contentmodel.enums.DcpType;
 import com.sdl.web.pca.client.contentmodel.enums.ModelServiceLinkRendering;
 import com.sdl.web.pca.client.contentmodel.enums.PageInclusion;
 import com.sdl.web.pca.client.contentmodel.enums.TcdlLinkRendering;
+import com.sdl.web.pca.client.contentmodel.generated.Page;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.PageNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 import static com.sdl.dxa.common.util.PathUtils.normalizePathToDefaults;
 import static com.sdl.web.pca.client.contentmodel.enums.ContentNamespace.Sites;
@@ -132,6 +135,48 @@ public class GraphQLProvider {
         return result;
     }
 
+    /**
+     * Returns the last publish date of a page without loading its content, to check whether a cached model of
+     * the page is still up to date. Like {@link #loadPage(Class, PageRequestDto, ContentType)}, the index page
+     * is tried if there is no page with the given path.
+     *
+     * @param namespace     CM URI scheme of the localization
+     * @param publicationId ID of the publication
+     * @param path          path of the page
+     * @return last publish date, {@code null} if the page is not found or the request failed
+     */
+    public String getPageLastPublishDate(String namespace, int publicationId, String path) {
+        ContentNamespace contentNamespace = GraphQLUtils.convertUriToGraphQLContentNamespace(namespace);
+        String lastPublishDate = getLastPublishDate(() -> getPcaClient().getPage(contentNamespace, publicationId,
+                normalizePathToDefaults(path), null, ContentIncludeMode.EXCLUDE, null));
+        return lastPublishDate != null ? lastPublishDate : getLastPublishDate(() -> getPcaClient().getPage(contentNamespace,
+                publicationId, normalizePathToDefaults(path, true), null, ContentIncludeMode.EXCLUDE, null));
+    }
+
+    /**
+     * Returns the last publish date of a page without loading its content.
+     *
+     * @param namespace     CM URI scheme of the localization
+     * @param publicationId ID of the publication
+     * @param pageId        ID of the page
+     * @return last publish date, {@code null} if the page is not found or the request failed
+     */
+    public String getPageLastPublishDate(String namespace, int publicationId, int pageId) {
+        ContentNamespace contentNamespace = GraphQLUtils.convertUriToGraphQLContentNamespace(namespace);
+        return getLastPublishDate(() -> getPcaClient().getPage(contentNamespace, publicationId, pageId, null,
+                ContentIncludeMode.EXCLUDE, null));
+    }
+
+    private static String getLastPublishDate(Supplier<Page> request) {
+        try {
+            Page page = request.get();
+            return page == null ? null : page.getLastPublishDate();
+        } catch (RuntimeException e) {
+            log.debug("Cannot request the last publish date of a page", e);
+            return null;
+        }
+    }
+
     public EntityModelData getEntityModelData(EntityRequestDto entityRequest) throws ContentProviderException {
         JsonNode node = null;
         try {
@@ -11,10 +11,12 @@ import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.entity.Link;
 import com.sdl.webapp.common.exceptions.DxaException;
+import com.sdl.webapp.common.util.TcmUri;
 import com.sdl.webapp.common.util.TcmUtils;
 import com.sdl.webapp.tridion.fields.exceptions.FieldConverterException;
 import com.sdl.webapp.tridion.fields.exceptions.UnsupportedTargetTypeException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.TypeDescriptor;
@@ -48,6 +50,10 @@ public class GenericSemanticModelDataConverter {
 
     private static String resolveLink(String itemId, WebRequestContext webRequestContext, LinkResolver linkResolver) {
         String publicationId = webRequestContext.getLocalization().getId();
+        if (!TcmUtils.isTcmUri(itemId) && NumberUtils.isDigits(publicationId) && NumberUtils.isDigits(itemId)) {
+            // the URI is known without building and parsing it
+            return linkResolver.resolveLink(TcmUri.of(TcmUri.TCM_NAMESPACE, Integer.parseInt(publicationId), Integer.parseInt(itemId)), publicationId);
+        }
         String url = TcmUtils.isTcmUri(itemId) ? itemId : TcmUtils.buildTcmUri(publicationId, itemId);
         return linkResolver.resolveLink(url, publicationId);
     }
@@ -1,27 +1,40 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
+import com.sdl.dxa.caching.CacheStatistics;
+import com.sdl.dxa.caching.CacheStatisticsRegistry;
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
 import com.sdl.dxa.common.ClaimValues;
+import com.sdl.dxa.performance.Performance;
+import com.sdl.dxa.tridion.warmup.PageAccessJournal;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.exceptions.DxaRuntimeException;
 import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebContext;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.util.Assert;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public abstract class AbstractContentProvider {
@@ -30,11 +43,17 @@ public abstract class AbstractContentProvider {
     protected WebRequestContext webRequestContext;
     private final Cache pagemodelCache;
     private final Cache entitymodelCache;
+    private final Cache stalePagemodelCache;
+    private CacheDependencyIndex dependencyIndex;
+    private PageAccessJournal pageAccessJournal;
+    private CacheStatistics pagemodelStatistics;
+    private long revalidationMaxAgeMillis = TimeUnit.MINUTES.toMillis(30);
 
     protected AbstractContentProvider(WebRequestContext webRequestContext, CacheManager cacheManager) {
         this.webRequestContext = webRequestContext;
         this.pagemodelCache = cacheManager.getCache("pageModels");
         this.entitymodelCache = cacheManager.getCache("entityModels");
+        this.stalePagemodelCache = cacheManager.getCache("stalePageModels");
     }
 
     @Autowired(required = false)
@@ -42,6 +61,32 @@ public abstract class AbstractContentProvider {
         this.entityEvaluators = entityEvaluators;
     }
 
+    @Autowired(required = false)
+    public void setDependencyIndex(CacheDependencyIndex dependencyIndex) {
+        this.dependencyIndex = dependencyIndex;
+    }
+
+    @Autowired(required = false)
+    public void setPageAccessJournal(PageAccessJournal pageAccessJournal) {
+        this.pageAccessJournal = pageAccessJournal;
+    }
+
+    /**
+     * Sets how long after it was loaded a page model can be revalidated. Embedded components and linked items
+     * can be published without the page, so its validator does not change; an older page model is loaded again.
+     *
+     * @param revalidationMaxAgeSeconds maximum age of a revalidated page model in seconds
+     */
+    @Value("${dxa.caching.pagemodels.revalidation.max-age-seconds:1800}")
+    public void setRevalidationMaxAgeSeconds(long revalidationMaxAgeSeconds) {
+        this.revalidationMaxAgeMillis = TimeUnit.SECONDS.toMillis(revalidationMaxAgeSeconds);
+    }
+
+    @Autowired(required = false)
+    public void setCacheStatisticsRegistry(CacheStatisticsRegistry cacheStatisticsRegistry) {
+        this.pagemodelStatistics = cacheStatisticsRegistry.forCache("pageModels");
+    }
+
 
     /**
      * This default implementation handles caching and cloning the pagemodel.
@@ -55,7 +100,7 @@ public abstract class AbstractContentProvider {
     public PageModel getPageModel(String path, Localization localization) throws ContentProviderException {
         PageModel pageModel = null;
         long time = System.currentTimeMillis();
-        try {
+        try (Performance perf = Performance.phase("content")) {
             Assert.notNull(localization);
             String key = createKeyForCacheByPath(path, localization, "pagemodel");
             SimpleValueWrapper simpleValueWrapper = null;
@@ -66,11 +111,20 @@ public abstract class AbstractContentProvider {
                 //Pagemodel is in cache
                 pageModel = (PageModel) simpleValueWrapper.get();
             } else {
-                //Not in cache, load from backend.
-                pageModel = loadPage(path, localization);
-                if (pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                    pagemodelCache.put(key, pageModel);
-                    pagemodelCache.put(createKeyForCacheByPath(pageModel.getId(), localization, "pagemodel"), pageModel);
+                StalePageModel stale = webRequestContext.isSessionPreview() ? null : getStalePageModel(key);
+                String validator = stale == null ? null : getPageValidator(path, localization);
+                pageModel = revalidate(key, stale, validator);
+                if (pageModel == null) {
+                    //Not in cache or changed, load from backend.
+                    long generation = dependencyIndex == null ? 0 : dependencyIndex.generation();
+                    try (CacheDependencies.Capture capture = CacheDependencies.capture();
+                         Performance load = Performance.phase("content.load")) {
+                        pageModel = loadPage(path, localization);
+                        if (pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
+                            String idKey = createKeyForCacheByPath(pageModel.getId(), localization, "pagemodel");
+                            cachePageModel(pageModel, validator, localization, capture.getDependencies(), generation, key, idKey);
+                        }
+                    }
                 }
             }
             try {
@@ -83,6 +137,10 @@ public abstract class AbstractContentProvider {
             pageModel.filterConditionalEntities(entityEvaluators);
 
             webRequestContext.setPage(pageModel);
+            if (pageAccessJournal != null && pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
+                pageAccessJournal.record(localization.getId(), webRequestContext.getFullUrl(),
+                        webRequestContext.getContextPath(), path);
+            }
             return pageModel;
         } finally {
             if (pageModel != null && log.isDebugEnabled()) {
@@ -118,7 +176,7 @@ public abstract class AbstractContentProvider {
     public PageModel getPageModel(int pageId, Localization localization) throws ContentProviderException {
         PageModel pageModel = null;
         long time = System.currentTimeMillis();
-        try {
+        try (Performance perf = Performance.phase("content")) {
             Assert.notNull(localization);
             String key = createKeyForCacheById("" + pageId, localization, "pagemodel");
 
@@ -130,11 +188,20 @@ public abstract class AbstractContentProvider {
                 //Pagemodel is in cache
                 pageModel = (PageModel) simpleValueWrapper.get();
             } else {
-                //Not in cache, load from backend.
-                pageModel = loadPage(pageId, localization);
-                if (pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                    pagemodelCache.put(key, pageModel);
-                    pagemodelCache.put(createKeyForCacheByPath(pageModel.getUrl(), localization, "pagemodel"), pageModel);
+                StalePageModel stale = webRequestContext.isSessionPreview() ? null : getStalePageModel(key);
+                String validator = stale == null ? null : getPageValidator(pageId, localization);
+                pageModel = revalidate(key, stale, validator);
+                if (pageModel == null) {
+                    //Not in cache or changed, load from backend.
+                    long generation = dependencyIndex == null ? 0 : dependencyIndex.generation();
+                    try (CacheDependencies.Capture capture = CacheDependencies.capture();
+                         Performance load = Performance.phase("content.load")) {
+                        pageModel = loadPage(pageId, localization);
+                        if (pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
+                            String pathKey = createKeyForCacheByPath(pageModel.getUrl(), localization, "pagemodel");
+                            cachePageModel(pageModel, validator, localization, capture.getDependencies(), generation, key, pathKey);
+                        }
+                    }
                 }
             }
             try {
@@ -159,11 +226,157 @@ public abstract class AbstractContentProvider {
         }
     }
 
+    /**
+     * Returns whether expired page models are kept and revalidated with {@link #getPageValidator(String, Localization)}.
+     *
+     * @return whether page models are revalidated
+     */
+    protected boolean isPageRevalidationSupported() {
+        return false;
+    }
+
+    /**
+     * Returns a validator of the current version of a page, used to check whether an expired page model is still
+     * up to date. The validator is only requested when an expired page model is kept, and before the page is loaded
+     * again, so a page published in between is never mistaken for an unchanged one.
+     *
+     * @param path         path of the page
+     * @param localization localization of the page
+     * @return validator of the page, e.g. its last publish date, {@code null} if expired page models are not revalidated
+     */
+    protected String getPageValidator(String path, Localization localization) {
+        return null;
+    }
+
+    /**
+     * Returns a validator of the current version of a page.
+     *
+     * @param pageId       ID of the page
+     * @param localization localization of the page
+     * @return validator of the page, {@code null} if expired page models are not revalidated
+     * @see #getPageValidator(String, Localization)
+     */
+    protected String getPageValidator(int pageId, Localization localization) {
+        return null;
+    }
+
+    private StalePageModel getStalePageModel(String key) {
+        if (!isPageRevalidationSupported() || stalePagemodelCache == null) {
+            return null;
+        }
+        Cache.ValueWrapper wrapper = stalePagemodelCache.get(key);
+        return wrapper == null ? null : (StalePageModel) wrapper.get();
+    }
+
+    /**
+     * Returns the page model of an expired cache entry if the page has not changed since it was loaded, and caches it
+     * again, so the page is neither downloaded nor built again. A page model loaded without a validator, or loaded
+     * too long ago, is not revalidated.
+     */
+    private PageModel revalidate(String key, StalePageModel stale, String validator) {
+        if (stale == null) {
+            return null;
+        }
+        boolean notModified = validator != null && validator.equals(stale.validator)
+                && System.currentTimeMillis() - stale.loadedAt < revalidationMaxAgeMillis;
+        if (pagemodelStatistics != null) {
+            pagemodelStatistics.recordRevalidation(notModified);
+        }
+        if (!notModified) {
+            log.debug("Page model {} has changed or is too old since it was cached", key);
+            for (String staleKey : stale.keys) {
+                stalePagemodelCache.evict(staleKey);
+            }
+            return null;
+        }
+        log.debug("Page model {} has not changed since it was cached, caching it again", key);
+        for (String staleKey : stale.keys) {
+            pagemodelCache.put(staleKey, stale.pageModel);
+            stalePagemodelCache.put(staleKey, stale);
+            if (dependencyIndex != null) {
+                dependencyIndex.register("pageModels", staleKey, stale.dependencies);
+            }
+        }
+        return stale.pageModel;
+    }
+
+    /**
+     * Keeps a page model with its validator after its cache entry expires. Publishing the page or anything it
+     * depends on evicts it here as well. Without a validator, the page model is only kept to know that the page
+     * is requested again after it expires, and the validator is requested then.
+     */
+    private void keepForRevalidation(PageModel pageModel, String validator, Set<CacheDependency> dependencies, String... keys) {
+        if (!isPageRevalidationSupported() || stalePagemodelCache == null) {
+            return;
+        }
+        StalePageModel stale = new StalePageModel(pageModel, validator, System.currentTimeMillis(), dependencies, keys);
+        for (String key : keys) {
+            stalePagemodelCache.put(key, stale);
+            if (dependencyIndex != null) {
+                dependencyIndex.register("stalePageModels", key, dependencies);
+            }
+        }
+    }
+
+    /**
+     * Caches a loaded page model by path and by ID, and registers the page, its entities and everything captured
+     * while loading the page as its dependencies, so that publishing any of them evicts the page. A page model
+     * is not cached if any of them was published while it was loaded, as it may have been built from the old item.
+     */
+    private void cachePageModel(PageModel pageModel, String validator, Localization localization,
+                                Collection<CacheDependency> captured, long generation, String... keys) {
+        if (dependencyIndex == null) {
+            for (String key : keys) {
+                pagemodelCache.put(key, pageModel);
+            }
+            keepForRevalidation(pageModel, validator, Collections.emptySet(), keys);
+            return;
+        }
+        Set<CacheDependency> dependencies = new HashSet<>(captured);
+        addDependency(dependencies, localization, pageModel.getId());
+        if (pageModel.getRegions() != null) {
+            pageModel.getRegions().forEach(region -> addEntityDependencies(dependencies, localization, region));
+        }
+        for (String key : keys) {
+            if (!dependencyIndex.register("pageModels", key, dependencies, generation, () -> pagemodelCache.put(key, pageModel))) {
+                log.debug("Page model {} is not cached, it was published while it was loaded", key);
+                return;
+            }
+        }
+        keepForRevalidation(pageModel, validator, dependencies, keys);
+    }
+
+    private static void addEntityDependencies(Set<CacheDependency> dependencies, Localization localization, RegionModel region) {
+        if (region.getEntities() != null) {
+            for (EntityModel entity : region.getEntities()) {
+                if (entity != null) {
+                    addDependency(dependencies, localization, entity.getId());
+                }
+            }
+        }
+        if (region.getRegions() != null) {
+            region.getRegions().forEach(nested -> addEntityDependencies(dependencies, localization, nested));
+        }
+    }
+
+    private static void addDependency(Set<CacheDependency> dependencies, Localization localization, String modelId) {
+        CacheDependency dependency = CacheDependency.fromModelId(localization.getId(), modelId);
+        if (dependency != null) {
+            dependencies.add(dependency);
+        }
+    }
+
     /**
      * Create a cache key for the current claims.
      * @return cache key
      */
     private String getClaimCacheKey() {
+        try (Performance perf = Performance.phase("claims")) {
+            return claimCacheKey();
+        }
+    }
+
+    private String claimCacheKey() {
         ClaimStore currentClaimStore = WebContext.getCurrentClaimStore();
         if (currentClaimStore == null) {
             return " noclaims";
@@ -208,12 +421,24 @@ public abstract class AbstractContentProvider {
             entityModel = (EntityModel) simpleValueWrapper.get();
         } else {
             //Not in cache, load from backend.
-            entityModel = getEntityModel(id);
-            if (entityModel.getXpmMetadata() != null) {
-                entityModel.getXpmMetadata().put("IsQueryBased", true);
-            }
-            if (entityModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                entitymodelCache.put(key, entityModel);
+            long generation = dependencyIndex == null ? 0 : dependencyIndex.generation();
+            try (CacheDependencies.Capture capture = CacheDependencies.capture()) {
+                entityModel = getEntityModel(id);
+                if (entityModel.getXpmMetadata() != null) {
+                    entityModel.getXpmMetadata().put("IsQueryBased", true);
+                }
+                if (entityModel.canBeCached() && !webRequestContext.isSessionPreview()) {
+                    EntityModel loaded = entityModel;
+                    if (dependencyIndex == null) {
+                        entitymodelCache.put(key, loaded);
+                    } else {
+                        Set<CacheDependency> dependencies = new HashSet<>(capture.getDependencies());
+                        addDependency(dependencies, localization, id);
+                        if (!dependencyIndex.register("entityModels", key, dependencies, generation, () -> entitymodelCache.put(key, loaded))) {
+                            log.debug("Entity model {} is not cached, it was published while it was loaded", key);
+                        }
+                    }
+                }
             }
         }
 
@@ -234,4 +459,25 @@ public abstract class AbstractContentProvider {
     }
 
     protected abstract EntityModel getEntityModel(String componentId) throws ContentProviderException;
+
+    private static final class StalePageModel {
+
+        private final PageModel pageModel;
+
+        private final String validator;
+
+        private final long loadedAt;
+
+        private final Set<CacheDependency> dependencies;
+
+        private final String[] keys;
+
+        private StalePageModel(PageModel pageModel, String validator, long loadedAt, Set<CacheDependency> dependencies, String[] keys) {
+            this.pageModel = pageModel;
+            this.validator = validator;
+            this.loadedAt = loadedAt;
+            this.dependencies = dependencies;
+            this.keys = keys;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import com.sdl.webapp.common.api.model.query.ComponentMetadata;
 import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
 import com.sdl.webapp.common.exceptions.DxaException;
 import com.sdl.webapp.common.util.FileUtils;
+import com.sdl.webapp.common.util.TcmUri;
 import com.tridion.broker.StorageException;
 import com.tridion.broker.querying.MetadataType;
 import com.tridion.broker.querying.Query;
@@ -327,7 +328,7 @@ public class DefaultContentProvider extends AbstractContentProvider implements C
 
         return ComponentMetadata.builder()
                 .id(String.valueOf(compMeta.getId()))
-                .componentUrl(linkResolver.resolveLink("tcm:" + compMeta.getPublicationId() + '-' + compMeta.getId(), null))
+                .componentUrl(linkResolver.resolveLink(TcmUri.of(TcmUri.TCM_NAMESPACE, compMeta.getPublicationId(), compMeta.getId()), null))
                 .publicationId(String.valueOf(compMeta.getPublicationId()))
                 .owningPublicationId(String.valueOf(compMeta.getOwningPublicationId()))
                 .schemaId(String.valueOf(compMeta.getSchemaId()))
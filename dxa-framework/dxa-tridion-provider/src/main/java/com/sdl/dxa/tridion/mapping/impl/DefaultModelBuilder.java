@@ -9,9 +9,14 @@ import com.sdl.dxa.api.datamodel.model.PageModelData;
 import com.sdl.dxa.api.datamodel.model.RegionModelData;
 import com.sdl.dxa.api.datamodel.model.ViewModelData;
 import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
+import com.sdl.dxa.performance.RequestTrace;
 import com.sdl.dxa.tridion.mapping.EntityModelBuilder;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.mapping.PageModelBuilder;
+import com.sdl.webapp.common.api.ThreadContextPropagator;
+import com.sdl.webapp.common.api.ThreadLocalManager;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
@@ -41,19 +46,36 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Default implementation of {@link EntityModelBuilder} and {@link PageModelBuilder}. Priority of this builder is always {@code highest precedence}.
- *
+ * <p>If {@code dxa.model.builder.parallel.enabled} is set, entities of a region are built concurrently on a bounded executor.
+ * The order of entities and the {@link ExceptionEntity} fallback are the same as for sequential building. The workers get
+ * the request attributes and the state of all {@link ThreadContextPropagator}s of the request, spans of the request trace
+ * and cache dependencies captured on the workers are passed back to the request thread.</p>
  */
 @Slf4j
 @Service
@@ -71,6 +93,46 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     @Autowired
     private WebRequestContext webRequestContext;
 
+    @Autowired(required = false)
+    private List<ThreadContextPropagator<?>> propagators = Collections.emptyList();
+
+    @Autowired(required = false)
+    private ThreadLocalManager threadLocalManager;
+
+    @Value("${dxa.model.builder.parallel.enabled:false}")
+    private boolean parallelBuildEnabled;
+
+    @Value("${dxa.model.builder.parallel.threads:4}")
+    private int parallelBuildThreads;
+
+    @Value("${dxa.model.builder.parallel.queue:1000}")
+    private int parallelBuildQueueSize;
+
+    private ExecutorService entityBuildExecutor;
+
+    @PostConstruct
+    void initEntityBuildExecutor() {
+        if (!parallelBuildEnabled || parallelBuildThreads < 2) {
+            log.debug("Parallel entity model building is disabled");
+            return;
+        }
+        log.info("Parallel entity model building is enabled with {} threads", parallelBuildThreads);
+        // caller-runs keeps the pool bounded: once the queue is full the request thread builds the entity itself
+        entityBuildExecutor = new ThreadPoolExecutor(parallelBuildThreads, parallelBuildThreads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, parallelBuildQueueSize)),
+                new CustomizableThreadFactory("dxa-model-builder-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdownEntityBuildExecutor() {
+        if (entityBuildExecutor != null) {
+            entityBuildExecutor.shutdownNow();
+            entityBuildExecutor = null;
+        }
+    }
+
     @Override
     public int getOrder() {
         return HIGHEST_PRECEDENCE;
@@ -251,6 +313,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     @Override
     @NotNull
     public PageModel buildPageModel(@Nullable PageModel originalPageModel, @NotNull PageModelData modelData) throws SemanticMappingException {
+        long start = System.nanoTime();
         PageModel pageModel = instantiatePageModel(originalPageModel, modelData);
 
         webRequestContext.setPageContextId(modelData.getId());
@@ -262,6 +325,10 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         pageModel.setTitle(getPageTitle(modelData));
         pageModel.setUrl(modelData.getUrlPath());
         processRegions(modelData.getRegions(), pageModel.getRegions());
+        if (log.isDebugEnabled()) {
+            log.debug("Page model '{}' built in {} ms (parallel entities: {})", modelData.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), entityBuildExecutor != null);
+        }
         return pageModel;
     }
 
@@ -350,15 +417,142 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         if (regionModelData.getEntities() == null) {
             return;
         }
-        regionModelData.getEntities().stream()
-                .map(entityModelData -> {
-                    EntityModel entityModel = createEntityModel(entityModelData);
+        createEntityModels(regionModelData.getEntities()).stream()
+                .peek(entityModel -> {
                     MvcDataImpl.MvcDataImplBuilder creator = MvcDataCreator.creator(entityModel.getMvcData()).builder().regionName(regionModelData.getName());
                     entityModel.setMvcData(creator.build());
-                    return entityModel;
                 }).forEach(regionModel::addEntity);
     }
 
+    /**
+     * Builds entity models in the same order as the given model data, either sequentially or on the entity build executor.
+     *
+     * @param entities entity model data of a single region
+     * @return entity models, never contains {@code null}s
+     */
+    @NotNull
+    List<EntityModel> createEntityModels(@NotNull List<EntityModelData> entities) {
+        if (entityBuildExecutor == null || entities.size() < 2) {
+            return entities.stream().map(this::createEntityModel).collect(Collectors.toList());
+        }
+
+        // request-scoped beans (WebRequestContext and its localization) are resolved through RequestContextHolder,
+        // so the worker threads need the attributes of the current request
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        List<Object> contexts = new ArrayList<>(propagators.size());
+        for (ThreadContextPropagator<?> propagator : propagators) {
+            contexts.add(propagator.capture());
+        }
+        RequestTrace trace = RequestTrace.current();
+        Thread requestThread = Thread.currentThread();
+        resolveRequestContext();
+
+        List<Future<EntityBuild>> futures = new ArrayList<>(entities.size());
+        for (EntityModelData entityModelData : entities) {
+            // a trace is not thread-safe, every worker records on its own fork
+            RequestTrace fork = trace == null ? null : trace.fork();
+            futures.add(entityBuildExecutor.submit(() -> buildOnWorker(entityModelData, requestThread, requestAttributes, contexts, fork)));
+        }
+
+        List<EntityModel> entityModels = new ArrayList<>(entities.size());
+        for (int i = 0; i < futures.size(); i++) {
+            EntityBuild build = awaitEntityModel(futures.get(i), entities.get(i));
+            if (trace != null && build.trace != null) {
+                trace.join(build.trace);
+            }
+            CacheDependencies.recordAll(build.dependencies);
+            entityModels.add(build.entityModel);
+        }
+        return entityModels;
+    }
+
+    /**
+     * Resolves the lazily computed state of the request context on the request thread, so that the workers only read it.
+     */
+    private void resolveRequestContext() {
+        webRequestContext.getLocalization();
+        webRequestContext.isSessionPreview();
+        webRequestContext.getFullUrl();
+        webRequestContext.isDeveloperMode();
+    }
+
+    private EntityBuild buildOnWorker(EntityModelData entityModelData, Thread requestThread, RequestAttributes requestAttributes,
+                                      List<Object> contexts, RequestTrace fork) {
+        // with caller-runs the request thread may build the entity itself, its state is put back afterwards
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        RequestTrace previousTrace = RequestTrace.current();
+        boolean onWorker = Thread.currentThread() != requestThread;
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        if (onWorker) {
+            for (int i = 0; i < propagators.size(); i++) {
+                if (contexts.get(i) != null) {
+                    restore(propagators.get(i), contexts.get(i));
+                }
+            }
+        }
+        if (fork != null) {
+            fork.attach();
+        }
+        try (CacheDependencies.Capture capture = CacheDependencies.capture()) {
+            EntityModel entityModel = createEntityModel(entityModelData);
+            return new EntityBuild(entityModel, capture.getDependencies(), fork);
+        } finally {
+            if (fork != null) {
+                fork.detach();
+            }
+            if (onWorker) {
+                propagators.forEach(ThreadContextPropagator::reset);
+                if (threadLocalManager != null) {
+                    threadLocalManager.clearAll();
+                }
+            } else if (previousTrace != null) {
+                previousTrace.attach();
+            }
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void restore(ThreadContextPropagator<T> propagator, Object context) {
+        propagator.restore((T) context);
+    }
+
+    @NotNull
+    private EntityBuild awaitEntityModel(Future<EntityBuild> future, EntityModelData entityModelData) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while creating an entity model for model data " + entityModelData, e);
+            return new EntityBuild(new ExceptionEntity(e), Collections.emptySet(), null);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            log.error("Cannot create an entity model for model data " + entityModelData, cause);
+            return new EntityBuild(new ExceptionEntity((Exception) cause), Collections.emptySet(), null);
+        }
+    }
+
+    /**
+     * Entity model built on a worker with what the worker recorded for the request.
+     */
+    private static final class EntityBuild {
+
+        private final EntityModel entityModel;
+
+        private final Set<CacheDependency> dependencies;
+
+        private final RequestTrace trace;
+
+        private EntityBuild(EntityModel entityModel, Set<CacheDependency> dependencies, RequestTrace trace) {
+            this.entityModel = entityModel;
+            this.dependencies = dependencies;
+            this.trace = trace;
+        }
+    }
+
     void processOwnSchema(RegionModelData regionModelData, Class<? extends ViewModel> viewModelType, RegionModel regionModel, String schemaId) {
         Localization localization = webRequestContext.getLocalization();
         SemanticSchema semanticSchema = localization.getSemanticSchemas().get(Long.parseLong(schemaId));
@@ -28,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.context.ApplicationContext;
 import org.springframework.core.convert.TypeDescriptor;
 
 import java.util.HashMap;
@@ -41,14 +42,17 @@ import static com.sdl.webapp.common.util.ApplicationContextHolder.getContext;
 @Slf4j
 public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvider {
 
-    private ModelDataWrapper dataWrapper;
+    /**
+     * Beans of the current application context, looked up once instead of for every provider.
+     */
+    private static volatile Dependencies sharedDependencies;
 
-    @Getter
-    private SemanticSchema semanticSchema;
+    private final ModelDataWrapper dataWrapper;
 
-    private GenericSemanticModelDataConverter genericSemanticModelDataConverter;
+    @Getter
+    private final SemanticSchema semanticSchema;
 
-    private ModelBuilderPipeline pipeline;
+    private final Dependencies dependencies;
 
     private int embeddingLevel = 0;
 
@@ -56,25 +60,34 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
 
     private String context = null;
 
-    private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema) {
+    private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema, Dependencies dependencies) {
         this.dataWrapper = dataWrapper;
         this.semanticSchema = semanticSchema;
-        this.genericSemanticModelDataConverter = getContext().getBean(GenericSemanticModelDataConverter.class);
-        this.pipeline = getContext().getBean(ModelBuilderPipeline.class);
+        this.dependencies = dependencies;
     }
 
     @Nullable
     public static DefaultSemanticFieldDataProvider getFor(ViewModelData model, SemanticSchema semanticSchema) {
-        return getFor((Object) model, semanticSchema);
+        return getFor((Object) model, semanticSchema, getDependencies());
     }
 
     @Nullable
-    private static DefaultSemanticFieldDataProvider getFor(@NotNull Object model, SemanticSchema semanticSchema) {
+    private static DefaultSemanticFieldDataProvider getFor(@NotNull Object model, SemanticSchema semanticSchema, Dependencies dependencies) {
         if (!(model instanceof CanWrapContentAndMetadata)) {
             log.debug("Type {} is not supported by embedded SemanticFieldDataProvider", model.getClass());
             return null;
         }
-        return new DefaultSemanticFieldDataProvider(((CanWrapContentAndMetadata) model).getDataWrapper(), semanticSchema);
+        return new DefaultSemanticFieldDataProvider(((CanWrapContentAndMetadata) model).getDataWrapper(), semanticSchema, dependencies);
+    }
+
+    private static Dependencies getDependencies() {
+        ApplicationContext applicationContext = getContext();
+        Dependencies dependencies = sharedDependencies;
+        if (dependencies == null || dependencies.applicationContext != applicationContext) {
+            dependencies = new Dependencies(applicationContext);
+            sharedDependencies = dependencies;
+        }
+        return dependencies;
     }
 
     /**
@@ -87,11 +100,13 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
      */
     @Nullable
     public DefaultSemanticFieldDataProvider iteration(Object model, SemanticField semanticField, int index) {
-        DefaultSemanticFieldDataProvider provider = getFor(model, semanticSchema);
+        DefaultSemanticFieldDataProvider provider = getFor(model, semanticSchema, dependencies);
         if (provider != null) {
             provider.embeddingLevel = this.embeddingLevel;
             provider.iteration = index + 1;
-            provider.context = semanticField.getXPath(this.context) + "[" + provider.iteration + "]";
+            String fieldXPath = semanticField.getXPath(this.context);
+            provider.context = new StringBuilder(fieldXPath.length() + 6)
+                    .append(fieldXPath).append('[').append(provider.iteration).append(']').toString();
             log.trace("Iterating over some list, current index = {}, item = {}, embedding level = {}, context = {}",
                     index, model, this.embeddingLevel, provider.context);
         }
@@ -106,7 +121,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
      */
     @Nullable
     public DefaultSemanticFieldDataProvider embedded(Object value) {
-        DefaultSemanticFieldDataProvider provider = getFor(value, this.semanticSchema);
+        DefaultSemanticFieldDataProvider provider = getFor(value, this.semanticSchema, dependencies);
         if (provider != null) {
             provider.iteration = this.iteration;
             provider.context = this.context;
@@ -135,7 +150,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             return null;
         }
 
-        Object value = genericSemanticModelDataConverter.convert(field.get(), targetType, semanticField, pipeline, this);
+        Object value = dependencies.converter.convert(field.get(), targetType, semanticField, dependencies.pipeline, this);
 
         return new FieldData(value, semanticField.getXPath(this.context));
     }
@@ -145,7 +160,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
         Class<?> objectType = targetType.getObjectType();
         if (MediaItem.class.isAssignableFrom(objectType) || Link.class.isAssignableFrom(objectType) || String.class.isAssignableFrom(objectType)) {
             try {
-                return genericSemanticModelDataConverter.selfLink(dataWrapper.getWrappedModel(), targetType, pipeline);
+                return dependencies.converter.selfLink(dataWrapper.getWrappedModel(), targetType, dependencies.pipeline);
             } catch (DxaException e) {
                 throw new SemanticMappingException("Failed self-linking " + targetType, e);
             }
@@ -185,7 +200,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             {
                 if (value instanceof KeywordModelData) 
                 {
-                    T keyword = (T) genericSemanticModelDataConverter.convert(value, TypeDescriptor.valueOf(KeywordModel.class), null, pipeline, this);
+                    T keyword = (T) dependencies.converter.convert(value, TypeDescriptor.valueOf(KeywordModel.class), null, dependencies.pipeline, this);
                     
                     fieldData.put(entry.getKey(), keyword);
                 }             
@@ -194,8 +209,8 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             {
                 Optional<T> emdTcmUri = (Optional<T>) getEntityModelDataTcmUriOrNull(value);
                 fieldData.put(entry.getKey(), emdTcmUri.orElse(
-                    (T) genericSemanticModelDataConverter.convert(value, TypeDescriptor.valueOf(String.class), null,
-                            pipeline, this)));
+                    (T) dependencies.converter.convert(value, TypeDescriptor.valueOf(String.class), null,
+                            dependencies.pipeline, this)));
             }   
         }
     }
@@ -213,7 +228,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             return Optional.empty();
         }
 
-        String localizationId = getContext().getBean(WebRequestContext.class).getLocalization().getId();
+        String localizationId = dependencies.getWebRequestContext().getLocalization().getId();
         return Optional.of(TcmUtils.buildTcmUri(localizationId, modelData.getId()));
     }
 
@@ -249,4 +264,35 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
         return Optional.ofNullable(field);
     }
 
+    /**
+     * Immutable beans shared by all providers created for the same application context.
+     */
+    private static final class Dependencies {
+
+        private final ApplicationContext applicationContext;
+
+        private final GenericSemanticModelDataConverter converter;
+
+        private final ModelBuilderPipeline pipeline;
+
+        /**
+         * Looked up on first use because not every mapping needs it.
+         */
+        private volatile WebRequestContext webRequestContext;
+
+        private Dependencies(ApplicationContext applicationContext) {
+            this.applicationContext = applicationContext;
+            this.converter = applicationContext.getBean(GenericSemanticModelDataConverter.class);
+            this.pipeline = applicationContext.getBean(ModelBuilderPipeline.class);
+        }
+
+        private WebRequestContext getWebRequestContext() {
+            WebRequestContext result = webRequestContext;
+            if (result == null) {
+                result = applicationContext.getBean(WebRequestContext.class);
+                webRequestContext = result;
+            }
+            return result;
+        }
+    }
 }
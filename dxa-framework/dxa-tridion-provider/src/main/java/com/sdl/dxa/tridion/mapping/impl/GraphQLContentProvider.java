@@ -3,9 +3,13 @@ package com.sdl.dxa.tridion.mapping.impl;
 import com.sdl.dxa.api.datamodel.model.ContentModelData;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
 import com.sdl.dxa.common.dto.EntityRequestDto;
 import com.sdl.dxa.common.dto.PageRequestDto;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
+import com.sdl.dxa.tridion.broker.BrokerQueryKey;
+import com.sdl.dxa.tridion.broker.DynamicListCache;
 import com.sdl.dxa.tridion.broker.GraphQLQueryProvider;
 import com.sdl.dxa.tridion.broker.QueryProvider;
 import com.sdl.dxa.tridion.content.StaticContentResolver;
@@ -35,18 +39,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import org.springframework.web.context.request.RequestContextHolder;
 
-import javax.servlet.http.HttpSession;
-import java.io.Serializable;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -64,6 +65,10 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
     private final WebRequestContext webRequestContext;
     private ApiClientProvider pcaClientProvider;
     private CacheManager cacheManager;
+    private final DynamicListCache dynamicListCache;
+
+    @Value("${dxa.dynamiclist.max-cursor-walk-pages:20}")
+    private int maxCursorWalkPages = 20;
 
     @Autowired
     public GraphQLContentProvider(WebRequestContext webRequestContext,
@@ -75,6 +80,7 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
         this.webRequestContext = webRequestContext;
         this.pcaClientProvider = pcaClientProvider;
         this.cacheManager = cacheManager;
+        this.dynamicListCache = new DynamicListCache(cacheManager);
         this.staticContentResolver = staticContentResolver;
         this.builderPipeline = builderPipeline;
         this.graphQLProvider = graphQLProvider;
@@ -91,39 +97,83 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
             return;
         }
         SimpleBrokerQuery simpleBrokerQuery = dynamicList.getQuery(localization);
+        BrokerQueryKey listKey = BrokerQueryKey.of(simpleBrokerQuery);
 
-        // get our cursor indexer for this list
-        CursorIndexer cursors = CursorIndexer.getCursorIndexer(dynamicList.getId());
-
-        // given our start index into the paged list we need to translate that to a cursor
-        int start = simpleBrokerQuery.getStartAt();
-
-        simpleBrokerQuery.setCursor(cursors.get(start));
-        // the cursor retrieved may of came from a different start index so we update start
+        // translate the start index into a paged list to a cursor, the cursors of all the lists are shared
+        // so any page can be opened directly, pages without a known cursor are reached from the nearest known one
+        // within maxCursorWalkPages, further pages are empty
+        int pageSize = simpleBrokerQuery.getPageSize();
+        int page = 0;
+        String cursor = null;
+        if (pageSize > 0 && simpleBrokerQuery.getStartAt() >= pageSize) {
+            int targetPage = simpleBrokerQuery.getStartAt() / pageSize;
+            int lowestPage = Math.max(0, targetPage - maxCursorWalkPages);
+            page = targetPage;
+            while (page > lowestPage && (cursor = dynamicListCache.getCursor(listKey, page * pageSize)) == null) {
+                page--;
+            }
+            if (cursor == null && page > 0) {
+                log.debug("No cursor within {} pages of page {} of dynamic list {}, the page is empty",
+                        maxCursorWalkPages, targetPage, listKey);
+                dynamicList.setStart(targetPage * pageSize);
+                return;
+            }
+            while (page < targetPage) {
+                QueryProvider brokerQuery = new GraphQLQueryProvider(pcaClientProvider, cacheManager, webRequestContext);
+                simpleBrokerQuery.setCursor(cursor);
+                brokerQuery.executeQueryItems(simpleBrokerQuery);
+                if (!brokerQuery.hasMore() || brokerQuery.getCursor() == null) {
+                    log.debug("Dynamic list {} ends before page {}, the page is empty", listKey, targetPage);
+                    dynamicList.setStart(targetPage * pageSize);
+                    return;
+                }
+                page++;
+                cursor = brokerQuery.getCursor();
+                dynamicListCache.putCursor(listKey, page * pageSize, cursor);
+            }
+        }
+        int start = page * pageSize;
+        simpleBrokerQuery.setCursor(cursor);
         simpleBrokerQuery.setStartAt(start);
-        dynamicList.setStart(cursors.getStart());
+        dynamicList.setStart(start);
 
-        QueryProvider brokerQuery = new GraphQLQueryProvider(pcaClientProvider, cacheManager, webRequestContext);
+        // the built teasers are shared per page context, since their links are resolved in the context of the page
+        boolean sessionPreview = webRequestContext.isSessionPreview();
+        String linkContext = webRequestContext.getPageContextId();
+        Class<T> resultType = dynamicList.getEntityType();
+        BrokerQueryKey pageKey = listKey.withCursor(cursor);
+        DynamicListCache.ResultPage resultPage = sessionPreview ? null : dynamicListCache.getPage(pageKey, resultType, linkContext);
+        if (resultPage == null) {
+            QueryProvider brokerQuery = new GraphQLQueryProvider(pcaClientProvider, cacheManager, webRequestContext);
+            List<Item> components = brokerQuery.executeQueryItems(simpleBrokerQuery);
+            log.debug("Broker query returned {} results. hasMore={}", components.size(), brokerQuery.hasMore());
 
-        List<Item> components = brokerQuery.executeQueryItems(simpleBrokerQuery);
-        log.debug("Broker query returned {} results. hasMore={}", components.size(), brokerQuery.hasMore());
+            List<EntityModel> entities = new ArrayList<>(components.size());
+            for (Item component : components) {
+                try {
+                    entities.add(builderPipeline.createEntityModel(createEntityModelData((Component) component), resultType));
+                } catch (DxaException e) {
+                    throw new DxaRuntimeException(e);
+                }
+            }
+            resultPage = new DynamicListCache.ResultPage(entities, brokerQuery.hasMore(), brokerQuery.getCursor());
+            if (!sessionPreview) {
+                dynamicListCache.putPage(pageKey, resultType, linkContext, resultPage);
+            }
+        }
 
-        if (components.size() > 0) {
-            Class<T> resultType = dynamicList.getEntityType();
+        if (!resultPage.getEntities().isEmpty()) {
+            // the cached models are shared, so every list gets its own copies
             dynamicList.setQueryResults(
-                    components.stream().map(c -> {
-                        try {
-                            return builderPipeline.createEntityModel(createEntityModelData((Component) c), resultType);
-                        } catch (DxaException e) {
-                            throw new DxaRuntimeException(e);
-                        }
-                    }).collect(Collectors.toList()),
-                    brokerQuery.hasMore()
+                    resultPage.getEntities().stream()
+                            .map(entity -> resultType.cast(entity.deepCopy()))
+                            .collect(Collectors.toList()),
+                    resultPage.isHasMore()
             );
         }
 
-        if (brokerQuery.hasMore()) {
-            cursors.cursors.put(simpleBrokerQuery.getStartAt() + simpleBrokerQuery.getPageSize(), brokerQuery.getCursor());
+        if (resultPage.isHasMore() && pageSize > 0 && resultPage.getNextCursor() != null) {
+            dynamicListCache.putCursor(listKey, start + pageSize, resultPage.getNextCursor());
         }
     }
 
@@ -190,6 +240,21 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
         return builderPipeline.createPageModel(pageModelData);
     }
 
+    @Override
+    protected boolean isPageRevalidationSupported() {
+        return true;
+    }
+
+    @Override
+    protected String getPageValidator(String path, Localization localization) {
+        return graphQLProvider.getPageLastPublishDate(localization.getCmUriScheme(), Integer.parseInt(localization.getId()), path);
+    }
+
+    @Override
+    protected String getPageValidator(int pageId, Localization localization) {
+        return graphQLProvider.getPageLastPublishDate(localization.getCmUriScheme(), Integer.parseInt(localization.getId()), pageId);
+    }
+
     @NotNull
     protected EntityModel getEntityModel(String componentId) throws ContentProviderException {
         Localization localization = webRequestContext.getLocalization();
@@ -211,6 +276,7 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
         String localizationId = localization.getId();
         String localizationPath = localization.getPath();
         String contentNamespace = localization.getCmUriScheme();
+        CacheDependencies.record(CacheDependency.fromModelId(localizationId, String.valueOf(binaryId)));
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder(binaryId, localizationId)
                 .localizationPath(localizationPath)
                 .baseUrl(webRequestContext.getBaseUrl())
@@ -233,55 +299,4 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
                 .build();
         return staticContentResolver.getStaticContent(requestDto);
     }
-
-    private static class CursorIndexer implements Serializable {
-        public static final String SESSION_KEY = "dxa_indexer";
-        private Map<Integer, String> cursors = new HashMap<>();
-        private int startIndex;
-
-        public CursorIndexer() {
-        }
-
-        public static CursorIndexer getCursorIndexer(String id) {
-            HttpSession session = (HttpSession) RequestContextHolder.getRequestAttributes().getSessionMutex();
-            Map<String, CursorIndexer> indexer = (Map<String, CursorIndexer>) session.getAttribute(SESSION_KEY);
-            if (indexer == null) {
-                indexer = new HashMap<>();
-            }
-            if (!indexer.containsKey(id)) {
-                indexer.put(id, new CursorIndexer());
-            }
-            session.setAttribute(SESSION_KEY, indexer);
-            return indexer.get(id);
-        }
-
-        public String get(int index) {
-            if (index == 0) {
-                startIndex = 0;
-                return null;
-            }
-            if (cursors.isEmpty()) {
-                startIndex = 0;
-                return null;
-            }
-            if (cursors.containsKey(index)) {
-                startIndex = index;
-                return cursors.get(index);
-            }
-            int min = 0;
-            for (Integer x : cursors.keySet()) {
-                if (x >= min && x < index) min = x;
-            }
-            startIndex = min;
-            return startIndex == 0 ? null : cursors.get(startIndex);
-        }
-
-        public void set(int index, String value) {
-            cursors.put(index, value);
-        }
-
-        public int getStart() {
-            return startIndex;
-        }
-    }
-}
\ No newline at end of file
+}
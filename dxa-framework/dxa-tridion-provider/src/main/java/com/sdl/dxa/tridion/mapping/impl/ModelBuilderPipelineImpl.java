@@ -2,6 +2,7 @@ package com.sdl.dxa.tridion.mapping.impl;
 
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.performance.Performance;
 import com.sdl.dxa.tridion.mapping.EntityModelBuilder;
 import com.sdl.dxa.tridion.mapping.ModelBuilder;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
@@ -17,6 +18,7 @@ import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import java.util.Collections;
 import java.util.List;
@@ -37,14 +39,29 @@ public class ModelBuilderPipelineImpl implements ModelBuilderPipeline {
 
     private List<PageModelBuilder> pageModelBuilders = Collections.emptyList();
 
+    // names of the traced stages, computed once so that tracing costs nothing when it is disabled
+    private String[] entityStageNames = new String[0];
+
+    private String[] pageStageNames = new String[0];
+
     @Autowired
     public void setEntityModelBuilders(List<EntityModelBuilder> entityModelBuilders) {
         this.entityModelBuilders = entityModelBuilders;
+        this.entityStageNames = stageNames("entity.", entityModelBuilders);
     }
 
     @Autowired
     public void setPageModelBuilders(List<PageModelBuilder> pageModelBuilders) {
         this.pageModelBuilders = pageModelBuilders;
+        this.pageStageNames = stageNames("page.", pageModelBuilders);
+    }
+
+    private static String[] stageNames(String prefix, List<?> builders) {
+        String[] names = new String[builders.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = prefix + ClassUtils.getUserClass(builders.get(i)).getSimpleName();
+        }
+        return names;
     }
 
     /**
@@ -56,8 +73,10 @@ public class ModelBuilderPipelineImpl implements ModelBuilderPipeline {
     public PageModel createPageModel(@NotNull PageModelData modelData) {
         PageModel pageModel = null;
         try {
-            for (PageModelBuilder builder : pageModelBuilders) {
-                pageModel = builder.buildPageModel(pageModel, modelData);
+            for (int i = 0; i < pageModelBuilders.size(); i++) {
+                try (Performance perf = Performance.phase(pageStageNames[i])) {
+                    pageModel = pageModelBuilders.get(i).buildPageModel(pageModel, modelData);
+                }
             }
             Assert.notNull(pageModel, "Page Model is null after model pipeline, model builders are not set?");
             return pageModel;
@@ -84,8 +103,10 @@ public class ModelBuilderPipelineImpl implements ModelBuilderPipeline {
     @Override
     public <T extends EntityModel> T createEntityModel(@NotNull EntityModelData modelData, @Nullable Class<T> expectedClass) throws DxaException {
         T entityModel = null;
-        for (EntityModelBuilder builder : entityModelBuilders) {
-            entityModel = builder.buildEntityModel(entityModel, modelData, expectedClass);
+        for (int i = 0; i < entityModelBuilders.size(); i++) {
+            try (Performance perf = Performance.phase(entityStageNames[i])) {
+                entityModel = entityModelBuilders.get(i).buildEntityModel(entityModel, modelData, expectedClass);
+            }
         }
         Assert.notNull(entityModel, "Entity Model is null after model pipeline, model builder are not set?");
         return entityModel; //NOSONAR
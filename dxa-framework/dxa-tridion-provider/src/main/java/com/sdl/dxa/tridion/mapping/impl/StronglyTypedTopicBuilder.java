@@ -26,7 +26,6 @@ import org.springframework.util.ReflectionUtils;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -41,10 +40,6 @@ import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -53,9 +48,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -73,8 +65,6 @@ import java.util.Set;
 @Service
 @Profile("!dxa.generictopic.disabled")
 public class StronglyTypedTopicBuilder implements EntityModelBuilder {
-    private static String SELF = "_self";
-
     private static final Logger LOG = LoggerFactory.getLogger(StronglyTypedTopicBuilder.class);
 
     @Autowired
@@ -89,13 +79,6 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
     private DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
     private ThreadLocal<DocumentBuilder> documentBuilderThreadLocal = new ThreadLocal<>();
     private ThreadLocal<Transformer> transformerThreadLocal = new ThreadLocal<>();
-    private XPathFactory xPathFactory = XPathFactory.newInstance();
-    private final XPathExpression linkXPath;
-    private ThreadLocal<Map<String, XPathExpression>> xpathExpressionCacheThreadLocal = new ThreadLocal<>();
-
-    public StronglyTypedTopicBuilder() throws XPathExpressionException {
-        linkXPath = getXpathExpression(".//a");
-    }
 
     /**
      * Tries to convert a given generic Topic to a Strongly Typed Topic Model.
@@ -123,9 +106,12 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
             return null;
         }
 
+        // class names of the topic are indexed once, all the property lookups are answered from the index
+        TopicClassIndex classIndex = TopicClassIndex.build(rootElement);
+
         Class<T> topicType = ofType;
         if (ofType == null) {
-            topicType = determineTopicType(rootElement, registeredTopicTypes);
+            topicType = determineTopicType(rootElement, classIndex, registeredTopicTypes);
             if (topicType == null) {
                 LOG.debug("No matching Strongly Typed Topic Model found.");
                 return null;
@@ -134,7 +120,7 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
 
         T stronglyTypedTopic = null;
         try {
-            stronglyTypedTopic = buildStronglyTypedTopic(topicType, rootElement);
+            stronglyTypedTopic = buildStronglyTypedTopic(topicType, rootElement, classIndex);
         } catch (ReflectiveOperationException e) {
             throw new DxaException("Could not build strongly typed topic " + topicType.getCanonicalName(), e);
         }
@@ -199,84 +185,8 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         return documentBuilder;
     }
 
-    /**
-     * Get a XPathExpression for a string.
-     * This implementation ensures that you get a XPathExpression that is specific for this thread.
-     *
-     * @param xPath
-     * @return a XpathExpression
-     * @throws XPathExpressionException
-     */
-    private XPathExpression getXpathExpression(String xPath) throws XPathExpressionException {
-        Map<String, XPathExpression> xpathExpressionCache = xpathExpressionCacheThreadLocal.get();
-        if (xpathExpressionCache == null) {
-            xpathExpressionCache = new HashMap<>();
-            xpathExpressionCacheThreadLocal.set(xpathExpressionCache);
-        }
-
-        XPathExpression result = xpathExpressionCache.get(xPath);
-        if (result == null) {
-            result = xPathFactory.newXPath().compile(xPath);
-            xpathExpressionCache.put(xPath, result);
-        }
-        return result;
-    }
-
-    protected String getPropertyXPath(String propertyName) {
-        if (SELF.equals(propertyName))
-            return ".";
-
-        String[] propertyNameSegments = propertyName.split("/");
-        StringBuilder xPathBuilder = new StringBuilder(".");
-        for (String propertyNameSegment : propertyNameSegments) {
-            xPathBuilder.append("//*[contains(@class, '" + propertyNameSegment + "')]");
-        }
-        return xPathBuilder.toString();
-    }
-
-    /**
-     * Filters the XHTML elements found by the XPath query.
-     *
-     * Because we use "contains" in the XPath, it may match on part of a class name.
-     * We filter out any partial matches here.
-     *
-     * @param htmlNodes list of html nodes
-     * @param ditaPropertyName property name
-     * @return List of filtered elements
-     */
-    protected List<Element> filterXPathResults(NodeList htmlNodes, String ditaPropertyName) {
-        if (htmlNodes == null || htmlNodes.getLength() == 0)
-            return null;
-
-        List<Element> result = new ArrayList<>(htmlNodes.getLength());
-
-        if (ditaPropertyName.equals(SELF)) {
-            for (int i = 0; i < htmlNodes.getLength(); i++) {
-                result.add((Element) htmlNodes.item(i));
-            }
-            return result;
-        }
-
-        // Only look at last path segment
-        int lastSlashPos = ditaPropertyName.lastIndexOf('/');
-        if (lastSlashPos >= 0)
-            ditaPropertyName = ditaPropertyName.substring(lastSlashPos + 1);
-
-        for (int i = 0; i < htmlNodes.getLength(); i++) {
-            Node htmlNode = htmlNodes.item(i);
-            if (htmlNode.getNodeType() == Node.ELEMENT_NODE) {
-                Element htmlElement = (Element) htmlNode;
-
-                String[] classes = htmlElement.getAttribute("class").split(" ");
-                if (new HashSet(Arrays.asList(classes)).contains(ditaPropertyName)) {
-                    result.add(htmlElement);
-                }
-            }
-        }
-        return result;
-    }
-
-    protected <T extends ViewModel> Class<T> determineTopicType(Element rootElement, Map<String, Field> registeredTopicTypes) {
+    protected <T extends ViewModel> Class<T> determineTopicType(Element rootElement, TopicClassIndex classIndex,
+                                                                Map<String, Field> registeredTopicTypes) {
         Class<T> bestMatch = null;
         int bestMatchClassPos = -1;
 
@@ -289,18 +199,8 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
                 continue;
             }
 
-            String xPath = getPropertyXPath(propertyName);
-            XPathExpression xpathToTry = null;
-            Element matchedElement = null;
-
-            try {
-                xpathToTry = getXpathExpression(xPath);
-
-                LOG.debug("Trying XPath \"" + xPath + "\" for type '" + modelType.getDeclaringClass().getName() + "'");
-                matchedElement = (Element) xpathToTry.evaluate(rootElement, XPathConstants.NODE);
-            } catch (XPathExpressionException e) {
-                LOG.warn("Error evaluating Xpath", e);
-            }
+            LOG.debug("Trying property \"{}\" for type '{}'", propertyName, modelType.getDeclaringClass().getName());
+            Element matchedElement = classIndex.findFirstContaining(rootElement, propertyName);
 
             if (matchedElement != null) {
                 LOG.debug("Matching XHTML element found.");
@@ -318,12 +218,13 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
     }
 
 
-    protected <E extends EntityModel> E buildStronglyTypedTopic(Class<E> modelType, Element htmlElement) throws IllegalAccessException, InstantiationException {
+    protected <E extends EntityModel> E buildStronglyTypedTopic(Class<E> modelType, Element htmlElement, TopicClassIndex classIndex)
+            throws IllegalAccessException, InstantiationException {
         LOG.debug("Building Strongly Typed Topic Model '" + modelType.getSimpleName() + "'...");
         E result = modelType.newInstance();
 
         mapBaseProperties((AbstractEntityModel) result, htmlElement);
-        mapSemanticProperties((AbstractEntityModel) result, htmlElement);
+        mapSemanticProperties((AbstractEntityModel) result, htmlElement, classIndex);
 
         // Let the View Model determine the View to be used.
         // Do this after mapping all properties so that the View name can be derived from the properties if needed.
@@ -343,45 +244,31 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         }
     }
 
-    protected void mapSemanticProperties(AbstractEntityModel stronglyTypedTopic, Element rootElement) {
+    protected void mapSemanticProperties(AbstractEntityModel stronglyTypedTopic, Element rootElement, TopicClassIndex classIndex) {
         // Map all the fields (including fields inherited from superclasses) of the entity
         ReflectionUtils.doWithFields(stronglyTypedTopic.getClass(), field -> {
 
             // Find the semantics for this field
             final Set<FieldSemantics> registrySemantics = semanticMappingRegistry.getFieldSemantics(field);
 
-            List<Element> htmlElements = null;
             for (FieldSemantics fieldSemantics : registrySemantics) {
                 String ditaPropertyName = fieldSemantics.getPropertyName();
-                String propertyXPath = getPropertyXPath(ditaPropertyName);
-                XPathExpression xpathToTry = null;
-                NodeList xPathResults = null;
-
-                try {
-                    xpathToTry = getXpathExpression(propertyXPath);
-
-                    LOG.debug("Trying XPath \"" + propertyXPath + "\" for property '" + fieldSemantics.getPropertyName() + "'");
-                    xPathResults = (NodeList) xpathToTry.evaluate(rootElement, XPathConstants.NODESET);
-                    htmlElements = filterXPathResults(xPathResults, ditaPropertyName);
-                    if (htmlElements != null && !htmlElements.isEmpty()) {
-                        setFieldValueViaFieldAccess(stronglyTypedTopic, field, htmlElements);
-                    }
-                    LOG.debug("No XHTML elements found for DITA property '" + ditaPropertyName + "'.");
-                } catch (XPathExpressionException e) {
-                    LOG.warn("Failed to evaluate Xpath " + propertyXPath, e);
-                }
-                if (htmlElements == null || htmlElements.isEmpty()) {
-                    LOG.debug("Unable to map property '" + fieldSemantics.getPropertyName() + "'");
+
+                LOG.debug("Trying to find XHTML elements for DITA property '{}'", ditaPropertyName);
+                List<Element> htmlElements = classIndex.findByPropertyName(rootElement, ditaPropertyName);
+                if (htmlElements.isEmpty()) {
+                    LOG.debug("Unable to map property '" + ditaPropertyName + "'");
                     continue;
                 }
                 LOG.debug(htmlElements.size() + " XHTML elements found.");
+                setFieldValueViaFieldAccess(stronglyTypedTopic, field, htmlElements, classIndex);
             }
         });
     }
 
-    private void setFieldValueViaFieldAccess(AbstractEntityModel stronglyTypedTopic, Field field, List<Element> htmlElements) {
+    private void setFieldValueViaFieldAccess(AbstractEntityModel stronglyTypedTopic, Field field, List<Element> htmlElements, TopicClassIndex classIndex) {
         try {
-            Object propertyValue = getPropertyValue(field, htmlElements);
+            Object propertyValue = getPropertyValue(field, htmlElements, classIndex);
             field.setAccessible(true);
             field.set(stronglyTypedTopic, propertyValue);
         } catch (Exception ex) {
@@ -389,7 +276,7 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         }
     }
 
-    protected Object getPropertyValue(Field modelPropertyType, List<Element> htmlElements) throws InstantiationException, IllegalAccessException, DxaException {
+    protected Object getPropertyValue(Field modelPropertyType, List<Element> htmlElements, TopicClassIndex classIndex) throws InstantiationException, IllegalAccessException, DxaException {
         Class targetType = modelPropertyType.getType();
         boolean isListProperty = targetType.isAssignableFrom(List.class);
         Object result;
@@ -399,17 +286,17 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
             targetType = (Class) genericType.getActualTypeArguments()[0];
             List list = new ArrayList<>();
             for (Element element : htmlElements) {
-                list.add(convertElement(element, targetType));
+                list.add(convertElement(element, targetType, classIndex));
             }
             result = list;
         } else {
-            result = convertElement(htmlElements.get(0), targetType);
+            result = convertElement(htmlElements.get(0), targetType, classIndex);
         }
 
         return result;
     }
 
-    private Object convertElement(Element element, Class targetType) throws DxaException, InstantiationException, IllegalAccessException {
+    private Object convertElement(Element element, Class targetType, TopicClassIndex classIndex) throws DxaException, InstantiationException, IllegalAccessException {
         if (targetType.equals(String.class)) {
             return element.getTextContent();
         } else if (targetType.equals(RichText.class)) {
@@ -417,7 +304,7 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         } else if (targetType.equals(Link.class)) {
             return buildLink(element);
         } else if (EntityModel.class.isAssignableFrom(targetType)) {
-            return buildStronglyTypedTopic(targetType, element);
+            return buildStronglyTypedTopic(targetType, element, classIndex);
         } else {
             throw new DxaException("Unexpected property type '" + targetType.getSimpleName() + "'");
         }
@@ -446,11 +333,7 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         if ("a".equals(htmlElement.getTagName())) {
             hyperlink = htmlElement;
         } else {
-            try {
-                hyperlink = (Element) linkXPath.evaluate(htmlElement, XPathConstants.NODE);
-            } catch (XPathExpressionException e) {
-                LOG.warn("Couldn't find <a> tag in {}", htmlElement, e);
-            }
+            hyperlink = (Element) htmlElement.getElementsByTagName("a").item(0);
             if (hyperlink == null) {
                 LOG.debug("No hyperlink found in XHTML element: {}", htmlElement);
                 return null;
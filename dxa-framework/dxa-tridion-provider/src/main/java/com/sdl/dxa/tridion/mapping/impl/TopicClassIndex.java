@@ -0,0 +1,161 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the XHTML elements of a topic by their {@code class} attribute, built in a single pass over the parsed topic.
+ * <p>Answers the class-based property lookups of {@link StronglyTypedTopicBuilder} without evaluating XPath. For a property
+ * name {@code a/b} the results are the same as for {@code .//*[contains(@class, 'a')]//*[contains(@class, 'b')]}
+ * where the last segment has to be a whole class name.</p>
+ * <p>Class names are split on any whitespace, as HTML does. The XPath lookup split them on spaces only, so an
+ * element whose classes were separated by tabs or line breaks did not match a property before.</p>
+ */
+public final class TopicClassIndex {
+
+    private static final String SELF = "_self";
+
+    private static final Pattern CLASS_SEPARATOR = Pattern.compile("\\s+");
+
+    /**
+     * All elements with a {@code class} attribute, in document order.
+     */
+    private final List<Element> elements = new ArrayList<>();
+
+    private final Map<Element, String> classes = new IdentityHashMap<>();
+
+    private final Map<String, List<Element>> elementsByClass = new HashMap<>();
+
+    private TopicClassIndex() {
+    }
+
+    /**
+     * Builds the index for the given element and all its descendants.
+     *
+     * @param root root element of the topic
+     * @return index of the topic
+     */
+    @NotNull
+    public static TopicClassIndex build(@NotNull Element root) {
+        TopicClassIndex index = new TopicClassIndex();
+        Node node = root;
+        while (node != null) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                index.add((Element) node);
+            }
+            node = next(node, root);
+        }
+        return index;
+    }
+
+    private static Node next(Node node, Node root) {
+        if (node.getFirstChild() != null) {
+            return node.getFirstChild();
+        }
+        Node current = node;
+        while (current != null && current != root) {
+            if (current.getNextSibling() != null) {
+                return current.getNextSibling();
+            }
+            current = current.getParentNode();
+        }
+        return null;
+    }
+
+    private void add(Element element) {
+        String htmlClass = element.getAttribute("class");
+        if (htmlClass.isEmpty()) {
+            return;
+        }
+        elements.add(element);
+        classes.put(element, htmlClass);
+        for (String token : CLASS_SEPARATOR.split(htmlClass.trim())) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            List<Element> elementsWithClass = elementsByClass.computeIfAbsent(token, key -> new ArrayList<>(2));
+            // a class repeated in the attribute lists the element once, elements are added in document order
+            if (elementsWithClass.isEmpty() || elementsWithClass.get(elementsWithClass.size() - 1) != element) {
+                elementsWithClass.add(element);
+            }
+        }
+    }
+
+    /**
+     * Finds elements for a DITA property name within the context element. The last segment of the property name
+     * should match a whole class name, all the previous segments are matched as a part of the ancestors' class attribute.
+     *
+     * @param context      element to search in, is not included in the results unless the property is {@code _self}
+     * @param propertyName DITA property name, possibly with {@code /}-separated segments
+     * @return matching elements in document order, never {@code null}
+     */
+    @NotNull
+    public List<Element> findByPropertyName(@NotNull Element context, @NotNull String propertyName) {
+        if (SELF.equals(propertyName)) {
+            return Collections.singletonList(context);
+        }
+
+        String[] segments = propertyName.split("/");
+        List<Element> candidates = elementsByClass.get(segments[segments.length - 1]);
+        if (candidates == null) {
+            return Collections.emptyList();
+        }
+
+        List<Element> result = new ArrayList<>(candidates.size());
+        for (Element candidate : candidates) {
+            if (matchesAncestors(candidate, context, segments)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the first element for a DITA property name within the context element. All segments of the property name are
+     * matched as a part of the class attribute.
+     *
+     * @param context      element to search in, is not included in the results
+     * @param propertyName DITA property name, possibly with {@code /}-separated segments
+     * @return first matching element in document order, or {@code null}
+     */
+    @Nullable
+    public Element findFirstContaining(@NotNull Element context, @NotNull String propertyName) {
+        String[] segments = propertyName.split("/");
+        String last = segments[segments.length - 1];
+        for (Element element : elements) {
+            if (classes.get(element).contains(last) && matchesAncestors(element, context, segments)) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that the element is a descendant of the context and that the segments before the last one
+     * are found (in order) in class attributes of ancestors between the context and the element.
+     */
+    private boolean matchesAncestors(Element element, Element context, String[] segments) {
+        int segment = segments.length - 2;
+        Node ancestor = element.getParentNode();
+        while (ancestor != null && ancestor != context) {
+            if (segment >= 0) {
+                String htmlClass = classes.get(ancestor);
+                if (htmlClass != null && htmlClass.contains(segments[segment])) {
+                    segment--;
+                }
+            }
+            ancestor = ancestor.getParentNode();
+        }
+        return ancestor != null && segment < 0;
+    }
+}
@@ -3,6 +3,8 @@ package com.sdl.dxa.tridion.modelservice;
 import com.google.common.base.Strings;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.CacheStatistics;
+import com.sdl.dxa.caching.CacheStatisticsRegistry;
 import com.sdl.dxa.common.dto.EntityRequestDto;
 import com.sdl.dxa.common.dto.PageRequestDto;
 import com.sdl.dxa.modelservice.service.ModelServiceProvider;
@@ -39,6 +41,17 @@ public class DefaultModelServiceProvider implements ModelServiceProvider {
         this.modelServiceClient = modelServiceClient;
     }
 
+    /**
+     * Counts revalidations of expired Model Service responses in the statistics of the {@code model-service} cache.
+     *
+     * @param statisticsRegistry registry of cache statistics
+     */
+    @Autowired(required = false)
+    public void setCacheStatisticsRegistry(CacheStatisticsRegistry statisticsRegistry) {
+        CacheStatistics statistics = statisticsRegistry.forCache("model-service");
+        modelServiceClient.setRevalidationListener((serviceUrl, notModified) -> statistics.recordRevalidation(notModified));
+    }
+
     @NotNull
     @Override
     public PageModelData loadPageModel(PageRequestDto pageRequest) throws ContentProviderException {
@@ -0,0 +1,239 @@
+package com.sdl.dxa.tridion.warmup;
+
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.ServletContextAware;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.annotation.PreDestroy;
+import javax.servlet.ServletContext;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the hottest pages of the last run into the caches when the application starts, and periodically
+ * saves the hottest pages of this run with {@link PageAccessJournal}.
+ * <p>Pages are loaded with {@link ContentProvider#getPageModel(String, Localization)} by a few threads in the
+ * background, so the application serves requests while the caches fill. Warm-up stops when its time budget
+ * is spent.</p>
+ * <p>Unless a journal file is configured, the journal is kept in the private temporary directory the servlet container
+ * gives the web application. Without one, it is kept in {@code java.io.tmpdir} in a file named after the context path,
+ * so web applications on the same host don't overwrite each other's journal.</p>
+ */
+@Slf4j
+@Service
+public class CacheWarmUpService implements ApplicationListener<ContextRefreshedEvent>, ServletContextAware {
+
+    private final PageAccessJournal journal;
+
+    private final ContentProvider contentProvider;
+
+    private final LocalizationResolver localizationResolver;
+
+    @Value("${dxa.caching.warmup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${dxa.caching.warmup.journal.file:}")
+    private String journalFile;
+
+    @Value("${dxa.caching.warmup.journal.interval-ms:300000}")
+    private long journalIntervalMillis;
+
+    @Value("${dxa.caching.warmup.pages:200}")
+    private int pagesPerLocalization;
+
+    @Value("${dxa.caching.warmup.threads:4}")
+    private int threads;
+
+    @Value("${dxa.caching.warmup.budget-ms:120000}")
+    private long budgetMillis;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final AtomicInteger planned = new AtomicInteger();
+
+    private final AtomicInteger warmed = new AtomicInteger();
+
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    private volatile long startedAt;
+
+    private volatile long finishedAt;
+
+    private String contextPath;
+
+    private File privateDirectory;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public CacheWarmUpService(PageAccessJournal journal, ContentProvider contentProvider,
+                              LocalizationResolver localizationResolver) {
+        this.journal = journal;
+        this.contentProvider = contentProvider;
+        this.localizationResolver = localizationResolver;
+    }
+
+    @Override
+    public void setServletContext(ServletContext servletContext) {
+        this.contextPath = servletContext.getContextPath();
+        Object directory = servletContext.getAttribute(ServletContext.TEMPDIR);
+        this.privateDirectory = directory instanceof File ? (File) directory : null;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (!enabled || !started.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dxa-cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::warmUp);
+        scheduler.scheduleWithFixedDelay(this::saveJournal, journalIntervalMillis, journalIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            saveJournal();
+        }
+    }
+
+    /**
+     * Loads the pages of the journal saved by the last run.
+     */
+    public void warmUp() {
+        List<PageAccessJournal.Entry> pages;
+        try {
+            pages = PageAccessJournal.load(getJournalPath(), pagesPerLocalization);
+        } catch (IOException e) {
+            log.warn("Cannot read page access journal {}, caches are not warmed up", getJournalPath(), e);
+            return;
+        }
+        warmUp(pages);
+    }
+
+    /**
+     * Loads the given pages into the caches within the time budget.
+     *
+     * @param pages pages to load, the most important first
+     */
+    public void warmUp(@NotNull List<PageAccessJournal.Entry> pages) {
+        startedAt = System.currentTimeMillis();
+        planned.set(pages.size());
+        log.info("Warming up caches with {} pages", pages.size());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        ExecutorService loaders = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "dxa-cache-warmup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (PageAccessJournal.Entry page : pages) {
+            loaders.execute(() -> {
+                if (System.nanoTime() - deadline > 0) {
+                    skipped.incrementAndGet();
+                    return;
+                }
+                PageAccessJournal.untracked(() -> load(page));
+            });
+        }
+        loaders.shutdown();
+        try {
+            if (!loaders.awaitTermination(budgetMillis, TimeUnit.MILLISECONDS)) {
+                loaders.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            loaders.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        skipped.set(planned.get() - warmed.get() - failed.get());
+        finishedAt = System.currentTimeMillis();
+        log.info("Cache warm-up finished in {} ms: {} pages loaded, {} failed, {} skipped",
+                finishedAt - startedAt, warmed.get(), failed.get(), skipped.get());
+    }
+
+    /**
+     * Returns the progress of the warm-up.
+     *
+     * @return planned, warmed, failed and skipped pages, and the elapsed time in milliseconds
+     */
+    @NotNull
+    public Map<String, Object> getProgress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("enabled", enabled);
+        progress.put("running", startedAt != 0 && finishedAt == 0);
+        progress.put("planned", planned.get());
+        progress.put("warmed", warmed.get());
+        progress.put("failed", failed.get());
+        progress.put("skipped", skipped.get());
+        progress.put("elapsedMs", startedAt == 0 ? 0 : (finishedAt == 0 ? System.currentTimeMillis() : finishedAt) - startedAt);
+        return progress;
+    }
+
+    private void load(PageAccessJournal.Entry page) {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(
+                WarmUpRequests.create(page.getUrl(), page.getContextPath()));
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            Localization localization = localizationResolver.getLocalization(page.getUrl());
+            contentProvider.getPageModel(page.getPath(), localization);
+            warmed.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.debug("Cannot warm up page {} of localization {}", page.getPath(), page.getLocalizationId(), e);
+        } finally {
+            attributes.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void saveJournal() {
+        try {
+            journal.save(getJournalPath(), pagesPerLocalization);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot save page access journal to {}", getJournalPath(), e);
+        }
+    }
+
+    Path getJournalPath() {
+        if (journalFile != null && !journalFile.isEmpty()) {
+            return Paths.get(journalFile);
+        }
+        if (privateDirectory != null) {
+            return privateDirectory.toPath().resolve("dxa-page-access-journal.tsv");
+        }
+        String application = "";
+        if (contextPath != null) {
+            application = "-" + (contextPath.isEmpty() ? "ROOT" : contextPath.substring(1).replaceAll("[^A-Za-z0-9._-]", "_"));
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "dxa-page-access-journal" + application + ".tsv");
+    }
+}
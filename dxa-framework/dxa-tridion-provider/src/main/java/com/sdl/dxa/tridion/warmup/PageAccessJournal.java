@@ -0,0 +1,270 @@
+package com.sdl.dxa.tridion.warmup;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Counts how often pages are requested per localization, so that the hottest pages can be loaded
+ * into the caches when the application starts.
+ * <p>The journal is saved as a small text file with one page per line. Counts are halved every time the journal
+ * is saved, so it follows what is hot now and not what was hot a week ago.</p>
+ */
+@Slf4j
+@Component
+public class PageAccessJournal {
+
+    private static final String HEADER = "# DXA page access journal: hits, localization ID, context path, URL, path";
+
+    private static final ThreadLocal<Boolean> SUSPENDED = new ThreadLocal<>();
+
+    private final ConcurrentMap<PageKey, PageCounter> counters = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+
+    private final int maxTrackedPages;
+
+    @Autowired
+    public PageAccessJournal(@Value("${dxa.caching.warmup.enabled:false}") boolean enabled,
+                             @Value("${dxa.caching.warmup.tracked.pages:10000}") int maxTrackedPages) {
+        this.enabled = enabled;
+        this.maxTrackedPages = maxTrackedPages;
+    }
+
+    /**
+     * Counts a request of a page.
+     *
+     * @param localizationId ID of the localization of the page
+     * @param url            full URL of the request, resolves to the localization; its query string is not kept
+     * @param contextPath    context path of the web application
+     * @param path           path of the page as given to the content provider
+     */
+    public void record(String localizationId, String url, String contextPath, String path) {
+        if (!enabled || localizationId == null || url == null || path == null || SUSPENDED.get() != null
+                || !isStorable(url) || !isStorable(path) || !isStorable(contextPath)) {
+            return;
+        }
+        PageKey key = new PageKey(localizationId, path);
+        PageCounter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maxTrackedPages) {
+                return;
+            }
+            counter = counters.computeIfAbsent(key, k -> new PageCounter());
+        }
+        counter.url = withoutQuery(url);
+        counter.contextPath = contextPath == null ? "" : contextPath;
+        counter.hits.increment();
+    }
+
+    /**
+     * Runs a task without counting the pages it requests, e.g. the warm-up itself.
+     *
+     * @param task task to run
+     */
+    public static void untracked(@NotNull Runnable task) {
+        SUSPENDED.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            SUSPENDED.remove();
+        }
+    }
+
+    /**
+     * Returns the most requested pages of each localization, the most requested first.
+     *
+     * @param perLocalization maximum number of pages per localization
+     * @return hottest pages
+     */
+    @NotNull
+    public List<Entry> hottest(int perLocalization) {
+        List<Entry> entries = new ArrayList<>();
+        counters.forEach((key, counter) -> {
+            long hits = counter.hits.sum();
+            if (hits > 0 && counter.url != null) {
+                entries.add(new Entry(key.localizationId, counter.contextPath, counter.url, key.path, hits));
+            }
+        });
+        return top(entries, perLocalization);
+    }
+
+    /**
+     * Writes the hottest pages to a file, replacing it atomically, and halves all the counts.
+     * <p>The pages are written to a new temporary file next to the given file, readable by the owner only where
+     * the file system supports it, and then moved over the given file.</p>
+     * Nothing is written if no page was requested, so a restart without traffic keeps the previous journal.
+     *
+     * @param file            file to write
+     * @param perLocalization maximum number of pages per localization
+     * @throws IOException if the file cannot be written
+     */
+    public void save(@NotNull Path file, int perLocalization) throws IOException {
+        List<Entry> entries = hottest(perLocalization);
+        if (entries.isEmpty()) {
+            return;
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temporary = createTemporaryFile(file);
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Entry entry : entries) {
+                    writer.write(entry.hits + "\t" + entry.localizationId + "\t" + entry.contextPath + "\t" +
+                            entry.url + "\t" + entry.path);
+                    writer.newLine();
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        decay();
+        log.debug("Saved {} hot pages to {}", entries.size(), file);
+    }
+
+    /**
+     * Reads the pages saved with {@link #save(Path, int)}. Malformed lines are skipped.
+     *
+     * @param file            file to read
+     * @param perLocalization maximum number of pages per localization
+     * @return pages of the file, the most requested first, empty if there is no file
+     * @throws IOException if the file cannot be read
+     */
+    @NotNull
+    public static List<Entry> load(@NotNull Path file, int perLocalization) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                if (line.startsWith("#") || fields.length != 5) {
+                    continue;
+                }
+                try {
+                    entries.add(new Entry(fields[1], fields[2], fields[3], fields[4], Long.parseLong(fields[0])));
+                } catch (NumberFormatException e) {
+                    log.debug("Skipping malformed line of page access journal {}: {}", file, line);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return Collections.emptyList();
+        }
+        return top(entries, perLocalization);
+    }
+
+    private static Path createTemporaryFile(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        String prefix = file.getFileName() + ".";
+        if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return Files.createTempFile(directory, prefix, ".tmp",
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        return Files.createTempFile(directory, prefix, ".tmp");
+    }
+
+    private static String withoutQuery(String url) {
+        int end = url.length();
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int fragment = url.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        return url.substring(0, end);
+    }
+
+    private void decay() {
+        counters.entrySet().removeIf(entry -> {
+            long hits = entry.getValue().hits.sumThenReset();
+            if (hits < 2) {
+                return true;
+            }
+            entry.getValue().hits.add(hits / 2);
+            return false;
+        });
+    }
+
+    private static List<Entry> top(List<Entry> entries, int perLocalization) {
+        Map<String, List<Entry>> byLocalization = entries.stream()
+                .sorted(Comparator.comparingLong(Entry::getHits).reversed())
+                .collect(Collectors.groupingBy(Entry::getLocalizationId, LinkedHashMap::new, Collectors.toList()));
+        List<Entry> result = new ArrayList<>();
+        byLocalization.values().forEach(pages -> result.addAll(pages.subList(0, Math.min(perLocalization, pages.size()))));
+        result.sort(Comparator.comparingLong(Entry::getHits).reversed());
+        return result;
+    }
+
+    private static boolean isStorable(String value) {
+        return value == null || (value.indexOf('\t') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0);
+    }
+
+    /**
+     * A page of the journal.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static final class Entry {
+
+        private final String localizationId;
+
+        private final String contextPath;
+
+        private final String url;
+
+        private final String path;
+
+        private final long hits;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class PageKey {
+
+        private final String localizationId;
+
+        private final String path;
+    }
+
+    private static class PageCounter {
+
+        private final LongAdder hits = new LongAdder();
+
+        private volatile String url;
+
+        private volatile String contextPath;
+    }
+}
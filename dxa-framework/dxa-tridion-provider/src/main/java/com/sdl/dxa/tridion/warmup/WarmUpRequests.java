@@ -0,0 +1,173 @@
+package com.sdl.dxa.tridion.warmup;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Creates requests for loading pages outside of a real request.
+ * <p>The content provider and the model builders use the request-scoped {@code WebRequestContext}, which needs
+ * a request to resolve the localization from its URL. A warm-up request is an anonymous {@code GET} of the URL
+ * without headers, cookies or parameters, so only content that every visitor gets is cached. Code that uses
+ * the session gets a new empty session of the request, which is discarded with it.</p>
+ * <p>Localizations refreshed in the background are loaded with such requests too.</p>
+ */
+public final class WarmUpRequests {
+
+    private WarmUpRequests() {
+    }
+
+    /**
+     * Creates a request for the given URL.
+     *
+     * @param url         full URL of the request
+     * @param contextPath context path of the web application, the start of the path of the URL
+     * @return anonymous {@code GET} request of the URL
+     */
+    @NotNull
+    public static HttpServletRequest create(@NotNull String url, @NotNull String contextPath) {
+        URI uri = URI.create(url);
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme();
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(scheme) ? 443 : 80);
+        String requestUri = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String servletPath = requestUri.startsWith(contextPath) ? requestUri.substring(contextPath.length()) : requestUri;
+        Map<String, Object> attributes = new HashMap<>();
+        HttpSession[] session = new HttpSession[1];
+
+        return (HttpServletRequest) Proxy.newProxyInstance(WarmUpRequests.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getRequestURL":
+                            return new StringBuffer(scheme).append("://").append(uri.getRawAuthority()).append(requestUri);
+                        case "getRequestURI":
+                            return requestUri;
+                        case "getContextPath":
+                            return contextPath;
+                        case "getServletPath":
+                            return servletPath;
+                        case "getScheme":
+                            return scheme;
+                        case "getServerName":
+                        case "getLocalName":
+                        case "getRemoteHost":
+                            return uri.getHost();
+                        case "getServerPort":
+                        case "getLocalPort":
+                            return port;
+                        case "isSecure":
+                            return "https".equals(scheme);
+                        case "getMethod":
+                            return "GET";
+                        case "getProtocol":
+                            return "HTTP/1.1";
+                        case "getCharacterEncoding":
+                            return "UTF-8";
+                        case "getLocale":
+                            return Locale.getDefault();
+                        case "getSession":
+                            if (session[0] == null && (args == null || (Boolean) args[0])) {
+                                session[0] = createSession(url);
+                            }
+                            return session[0];
+                        case "getDispatcherType":
+                            return DispatcherType.REQUEST;
+                        case "getAttribute":
+                            return attributes.get((String) args[0]);
+                        case "setAttribute":
+                            attributes.put((String) args[0], args[1]);
+                            return null;
+                        case "removeAttribute":
+                            attributes.remove((String) args[0]);
+                            return null;
+                        case "getAttributeNames":
+                            return Collections.enumeration(attributes.keySet());
+                        case "getHeaders":
+                        case "getHeaderNames":
+                        case "getParameterNames":
+                        case "getLocales":
+                            return Collections.emptyEnumeration();
+                        case "getParameterMap":
+                            return Collections.emptyMap();
+                        case "getIntHeader":
+                        case "getContentLength":
+                            return -1;
+                        case "getDateHeader":
+                        case "getContentLengthLong":
+                            return -1L;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "Warm-up request " + url;
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    private static HttpSession createSession(String url) {
+        Map<String, Object> attributes = new HashMap<>();
+        long creationTime = System.currentTimeMillis();
+        String id = "warm-up-" + Integer.toHexString(System.identityHashCode(attributes));
+        return (HttpSession) Proxy.newProxyInstance(WarmUpRequests.class.getClassLoader(),
+                new Class<?>[]{HttpSession.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getId":
+                            return id;
+                        case "getCreationTime":
+                        case "getLastAccessedTime":
+                            return creationTime;
+                        case "isNew":
+                            return true;
+                        case "getAttribute":
+                        case "getValue":
+                            return attributes.get((String) args[0]);
+                        case "setAttribute":
+                        case "putValue":
+                            attributes.put((String) args[0], args[1]);
+                            return null;
+                        case "removeAttribute":
+                        case "removeValue":
+                            attributes.remove((String) args[0]);
+                            return null;
+                        case "getAttributeNames":
+                            return Collections.enumeration(attributes.keySet());
+                        case "getValueNames":
+                            return attributes.keySet().toArray(new String[0]);
+                        case "invalidate":
+                            attributes.clear();
+                            return null;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "Session of warm-up request " + url;
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -1,7 +1,10 @@
 package com.sdl.webapp.tridion;
 
 import com.google.common.base.Strings;
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
+import com.sdl.dxa.tridion.warmup.WarmUpRequests;
 import com.sdl.web.pca.client.ApiClient;
 import com.sdl.web.pca.client.contentmodel.generated.PublicationMapping;
 import com.sdl.web.pca.client.exception.ApiClientException;
@@ -15,22 +18,44 @@ import lombok.SneakyThrows;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.UriUtils;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.cache.CacheManager;
 import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static com.sdl.web.pca.client.contentmodel.enums.ContentNamespace.Sites;
 
 /**
  * Implementation of {@code LocalizationResolver} that uses the Api Client to determine the localization for a request.
+ * <p>A refreshed localization is removed and created again by the next request of its publication. With
+ * {@code dxa.localization.refresh.background} it is created again in the background instead, and replaces the
+ * previous version only once it is created successfully. Requests keep using the previous version until then, and
+ * also if it cannot be created. The caches are cleared when the new version replaces the previous one, so that no
+ * entry built with the previous version outlives it. Localizations can then also be refreshed periodically, an
+ * unchanged localization is kept as it is and the caches are not cleared for it; {@code /admin/refresh} clears them
+ * anyway.</p>
+ * <p>Every localization created for a publication gets the next version number of the publication.</p>
  */
 @Component
 @Profile("!cil.providers.active")
@@ -38,12 +63,30 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
 
     private static final Logger LOG = LoggerFactory.getLogger(GraphQLLocalizationResolver.class);
 
-    private final ConcurrentMap<String, Localization> localizations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PublicationLocalization> localizations = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Long> versions = new ConcurrentHashMap<>();
+
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
 
     private LocalizationFactory localizationFactory;
 
     private ApiClient apiClient;
 
+    @Autowired(required = false)
+    private NamedCacheProvider cacheProvider;
+
+    @Autowired(required = false)
+    private CacheDependencyIndex cacheDependencyIndex;
+
+    @Value("${dxa.localization.refresh.background:false}")
+    private boolean backgroundRefresh;
+
+    @Value("${dxa.localization.refresh.interval-ms:0}")
+    private long refreshIntervalMillis;
+
+    private ScheduledExecutorService refreshExecutor;
+
     public GraphQLLocalizationResolver() {
     }
 
@@ -53,6 +96,30 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
         this.apiClient = apiClientProvider.getClient();
     }
 
+    @PostConstruct
+    void initRefreshExecutor() {
+        if (!backgroundRefresh) {
+            return;
+        }
+        LOG.info("Localizations are refreshed in the background{}", refreshIntervalMillis > 0 ?
+                " every " + refreshIntervalMillis + " ms" : "");
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dxa-localization-refresh-");
+        threadFactory.setDaemon(true);
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        if (refreshIntervalMillis > 0) {
+            refreshExecutor.scheduleWithFixedDelay(this::refreshAll,
+                    refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdownRefreshExecutor() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
+    }
+
     /**
      * Gets the publication mapping path. The returned path always starts with a "/" and does not end with a "/", unless
      * the path is the root path "/" itself.
@@ -87,14 +154,21 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
             throw new LocalizationResolverException("Publication mapping is not resolved for URL: " + url);
         }
 
-        Localization result = localizations.get(data.id);
-        if (result != null) {
-            LOG.trace("Cached localization returned by publication id: {}, id: {}", data.id, result.getId());
-            return result;
+        PublicationLocalization cached = localizations.get(data.id);
+        if (cached != null) {
+            LOG.trace("Cached localization returned by publication id: {}, id: {}", data.id, cached.localization.getId());
+            return cached.localization;
         }
 
-        result = createLocalization(data.id, data.path);
-        localizations.putIfAbsent(data.id, result);
+        long start = System.currentTimeMillis();
+        Localization result = createLocalization(data.id, data.path);
+        PublicationLocalization created = new PublicationLocalization(result, data.path, url, currentContextPath(),
+                versions.getOrDefault(data.id, 0L) + 1, start, System.currentTimeMillis() - start, 0);
+        cached = localizations.putIfAbsent(data.id, created);
+        if (cached != null) {
+            return cached.localization;
+        }
+        versions.merge(data.id, created.version, Math::max);
         LOG.trace("Creating and cache localization by publication id: {}, id: {}", data.id, result.getId());
         return result;
     }
@@ -104,13 +178,17 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
      */
     @Override
     public boolean refreshLocalization(Localization localization) {
-        if (localization == null) {
-            return false;
-        }
-        String localizationId = localization.getId();
+        return localization != null && refreshLocalization(localization.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean refreshLocalization(String localizationId) {
         Set<String> toRemove = new HashSet<>();
-        for (Map.Entry<String, Localization> entry : localizations.entrySet()) {
-            String id = entry.getValue().getId();
+        for (Map.Entry<String, PublicationLocalization> entry : localizations.entrySet()) {
+            String id = entry.getValue().localization.getId();
             if (id != null && id.equals(localizationId)) {
                 toRemove.add(entry.getKey());
                 LOG.debug("Found cached localization with id: {} and url: {}",
@@ -120,6 +198,10 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
         if (toRemove.isEmpty()) {
             return false;
         }
+        if (refreshExecutor != null) {
+            toRemove.forEach(this::scheduleRefresh);
+            return true;
+        }
         for (String idToRemove : toRemove) {
             localizations.remove(idToRemove);
             LOG.debug("Removed cached localization with id: {}", localizationId);
@@ -127,6 +209,131 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
         return true;
     }
 
+    /**
+     * Returns the version and the last refresh of the localization of each publication.
+     *
+     * @return publication ID to the localization ID and path, the version, when the localization was last created
+     * or found unchanged and how long it took, and the number of failed refreshes since
+     */
+    @Override
+    public Map<String, Map<String, Object>> getRefreshStatus() {
+        Map<String, Map<String, Object>> status = new TreeMap<>();
+        localizations.forEach((publicationId, cached) -> {
+            Map<String, Object> publication = new LinkedHashMap<>();
+            publication.put("localizationId", cached.localization.getId());
+            publication.put("path", cached.path);
+            publication.put("version", cached.version);
+            publication.put("lastRefresh", cached.createdAt);
+            publication.put("lastRefreshMs", cached.creationMillis);
+            publication.put("failedRefreshes", cached.failedRefreshes);
+            publication.put("refreshing", pendingRefreshes.contains(publicationId));
+            status.put(publicationId, publication);
+        });
+        return status;
+    }
+
+    private void refreshAll() {
+        localizations.keySet().forEach(this::scheduleRefresh);
+    }
+
+    private void scheduleRefresh(String publicationId) {
+        ScheduledExecutorService executor = refreshExecutor;
+        // a refresh requested while the localization is being created again starts over once it is done
+        if (executor != null && pendingRefreshes.add(publicationId)) {
+            executor.execute(() -> refresh(publicationId));
+        }
+    }
+
+    private void refresh(String publicationId) {
+        pendingRefreshes.remove(publicationId);
+        PublicationLocalization current = localizations.get(publicationId);
+        if (current == null) {
+            return;
+        }
+        ServletRequestAttributes attributes = null;
+        long start = System.currentTimeMillis();
+        try {
+            // the content provider uses the request-scoped WebRequestContext
+            attributes = new ServletRequestAttributes(WarmUpRequests.create(current.url, current.contextPath));
+            RequestContextHolder.setRequestAttributes(attributes);
+            Localization refreshed = createLocalization(publicationId, current.path);
+            validate(publicationId, current.localization, refreshed);
+            long creationMillis = System.currentTimeMillis() - start;
+            if (refreshed.equals(current.localization)) {
+                if (localizations.replace(publicationId, current, current.unchanged(start, creationMillis))) {
+                    LOG.debug("Localization of publication {} has not changed, version {} is still used",
+                            publicationId, current.version);
+                }
+                return;
+            }
+            PublicationLocalization next = new PublicationLocalization(refreshed, current.path, current.url,
+                    current.contextPath, current.version + 1, start, creationMillis, 0);
+            if (localizations.replace(publicationId, current, next)) {
+                versions.merge(publicationId, next.version, Math::max);
+                clearCaches();
+                LOG.info("Localization of publication {} is refreshed to version {} in {} ms",
+                        publicationId, next.version, next.creationMillis);
+            }
+        } catch (LocalizationResolverException | RuntimeException e) {
+            LOG.warn("Localization of publication {} cannot be refreshed, version {} is still used",
+                    publicationId, current.version, e);
+            localizations.replace(publicationId, current, current.failed());
+        } finally {
+            if (attributes != null) {
+                attributes.requestCompleted();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }
+    }
+
+    /**
+     * Checks that a localization created again is complete enough to replace the current one: it is the same
+     * localization, and it has a configuration and semantic schemas if the current one has them.
+     */
+    private static void validate(String publicationId, Localization current, Localization refreshed)
+            throws LocalizationResolverException {
+        String problem = null;
+        if (refreshed == null) {
+            problem = "is not created";
+        } else if (!Objects.equals(current.getId(), refreshed.getId()) || !Objects.equals(current.getPath(), refreshed.getPath())) {
+            problem = "is created as " + refreshed.getId() + " " + refreshed.getPath();
+        } else if (current.getCulture() != null && refreshed.getCulture() == null) {
+            problem = "has no configuration";
+        } else if (!isEmpty(current.getSemanticSchemas()) && isEmpty(refreshed.getSemanticSchemas())) {
+            problem = "has no semantic schemas";
+        }
+        if (problem != null) {
+            throw new LocalizationResolverException("Localization of publication " + publicationId + " " + problem);
+        }
+    }
+
+    private static boolean isEmpty(Map<?, ?> map) {
+        return map == null || map.isEmpty();
+    }
+
+    /**
+     * Clears the caches once a new version of a localization is used. They are shared by all the localizations, so
+     * they are all cleared, as {@code /admin/refresh} does.
+     */
+    private void clearCaches() {
+        if (cacheProvider != null) {
+            CacheManager cacheManager = cacheProvider.getCacheManager();
+            for (String cacheName : cacheManager.getCacheNames()) {
+                cacheManager.getCache(cacheName).clear();
+            }
+        }
+        if (cacheDependencyIndex != null) {
+            cacheDependencyIndex.clear();
+        }
+    }
+
+    private static String currentContextPath() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String contextPath = attributes instanceof ServletRequestAttributes ?
+                ((ServletRequestAttributes) attributes).getRequest().getContextPath() : null;
+        return contextPath == null ? "" : contextPath;
+    }
+
     protected PublicationMappingData getPublicationMappingData(String url) throws PublicationMappingNotFoundException {
         try {
             // Publication Mapping is more specific to Tridion Sites,
@@ -160,7 +367,35 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
         private String id, path;
     }
 
+    /**
+     * Localization of a publication with the request it was first created for, so that it can be created again
+     * outside of a request.
+     */
+    @AllArgsConstructor
+    private static final class PublicationLocalization {
+
+        private final Localization localization;
+
+        private final String path, url, contextPath;
+
+        private final long version, createdAt, creationMillis;
+
+        private final int failedRefreshes;
+
+        PublicationLocalization failed() {
+            return new PublicationLocalization(localization, path, url, contextPath,
+                    version, createdAt, creationMillis, failedRefreshes + 1);
+        }
+
+        PublicationLocalization unchanged(long checkedAt, long checkMillis) {
+            return new PublicationLocalization(localization, path, url, contextPath,
+                    version, checkedAt, checkMillis, 0);
+        }
+    }
+
     Map<String, Localization> getAllLocalizations() {
-        return new HashMap<>(localizations);
+        Map<String, Localization> all = new HashMap<>();
+        localizations.forEach((publicationId, cached) -> all.put(publicationId, cached.localization));
+        return all;
     }
 }
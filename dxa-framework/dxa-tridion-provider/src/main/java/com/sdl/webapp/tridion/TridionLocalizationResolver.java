@@ -86,10 +86,14 @@ public class TridionLocalizationResolver implements LocalizationResolver {
      */
     @Override
     public boolean refreshLocalization(Localization localization) {
-        if (localization == null) {
-            return false;
-        }
-        String localizationId = localization.getId();
+        return localization != null && refreshLocalization(localization.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean refreshLocalization(String localizationId) {
         if (localizations.remove(localizationId) != null) {
             LOG.debug("Removed cached localization with id: {}", localizationId);
             return true;
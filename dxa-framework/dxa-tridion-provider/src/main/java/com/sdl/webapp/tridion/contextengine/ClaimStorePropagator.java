@@ -0,0 +1,40 @@
+package com.sdl.webapp.tridion.contextengine;
+
+import com.sdl.webapp.common.api.ThreadContextPropagator;
+import com.tridion.ambientdata.AmbientDataContext;
+import com.tridion.ambientdata.claimstore.ClaimStore;
+import com.tridion.ambientdata.web.WebContext;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries the ADF claim store of a request to the threads that build its entities in parallel,
+ * so that claims are forwarded to the content services and context claims are available to the model builders.
+ */
+@Component
+public class ClaimStorePropagator implements ThreadContextPropagator<ClaimStore> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClaimStore capture() {
+        return AmbientDataContext.getCurrentClaimStore();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(@NotNull ClaimStore claimStore) {
+        WebContext.setCurrentClaimStore(claimStore);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        WebContext.setCurrentClaimStore(null);
+    }
+}
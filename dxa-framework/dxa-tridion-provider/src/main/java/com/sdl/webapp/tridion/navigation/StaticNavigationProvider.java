@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sdl.dxa.common.dto.PageRequestDto;
 import com.sdl.dxa.common.util.PathUtils;
 import com.sdl.dxa.modelservice.service.ModelServiceProvider;
+import com.sdl.dxa.performance.Performance;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.localization.Localization;
@@ -109,7 +110,7 @@ public class StaticNavigationProvider implements NavigationProvider {
 
     @Override
     public SitemapItem getNavigationModel(Localization localization) throws NavigationProviderException {
-        try {
+        try (Performance perf = Performance.phase("navigation")) {
             final String path = localization.localizePath(navigationModelUrl);
 
             return resolveLinks(objectMapper.readValue(getPageContent(path, localization), SitemapItem.class), localization);
@@ -76,6 +76,14 @@ public class EntityXpmMarkup implements MarkupDecorator {
         return new HtmlCommentNode(entity.getXpmMarkup(localization));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isActive(ViewModel model, WebRequestContext webRequestContext) {
+        return webRequestContext.isSessionPreview();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,6 +55,14 @@ public class RegionXpmMarkup implements MarkupDecorator {
         return new HtmlCommentNode(region.getXpmMarkup(localization));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isActive(ViewModel model, WebRequestContext webRequestContext) {
+        return webRequestContext.isSessionPreview();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -5,6 +5,12 @@ import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.MvcModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
 import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.dxa.caching.invalidation.CacheDependencies;
+import com.sdl.dxa.caching.invalidation.CacheDependency;
+import com.sdl.dxa.performance.Performance;
+import com.sdl.dxa.performance.RequestTrace;
+import com.sdl.webapp.common.api.ThreadContextPropagator;
+import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.MvcData;
@@ -12,6 +18,7 @@ import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.RegionModelSet;
 import com.sdl.webapp.common.api.model.ViewModelRegistry;
+import com.sdl.webapp.common.api.model.entity.ExceptionEntity;
 import com.sdl.webapp.common.api.model.mvcdata.DefaultsMvcData;
 import com.sdl.webapp.common.api.model.page.DefaultPageModel;
 import org.jetbrains.annotations.NotNull;
@@ -22,14 +29,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -194,6 +207,97 @@ public class DefaultModelBuilderOnMocksTest {
         verify(regionModel1).addEntity(entityModel);
     }
 
+    @Test
+    public void shouldBuildEntitiesInParallelPreservingOrder() {
+        ReflectionTestUtils.setField(modelBuilder, "webRequestContext", mock(WebRequestContext.class));
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildEnabled", true);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildThreads", 4);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildQueueSize", 2);
+        modelBuilder.initEntityBuildExecutor();
+        try {
+            List<EntityModelData> entities = new ArrayList<>();
+            List<EntityModel> expected = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                EntityModelData entityModelData = mock(EntityModelData.class);
+                EntityModel entityModel = mock(EntityModel.class);
+                doReturn(entityModel).when(modelBuilder).createEntityModel(entityModelData);
+                entities.add(entityModelData);
+                expected.add(entityModel);
+            }
+
+            assertEquals(expected, modelBuilder.createEntityModels(entities));
+        } finally {
+            modelBuilder.shutdownEntityBuildExecutor();
+        }
+    }
+
+    @Test
+    public void shouldReturnExceptionEntityWhenParallelBuildFails() {
+        ReflectionTestUtils.setField(modelBuilder, "webRequestContext", mock(WebRequestContext.class));
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildEnabled", true);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildThreads", 2);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildQueueSize", 10);
+        modelBuilder.initEntityBuildExecutor();
+        try {
+            EntityModelData good = mock(EntityModelData.class);
+            EntityModelData bad = mock(EntityModelData.class);
+            EntityModel entityModel = mock(EntityModel.class);
+            doReturn(entityModel).when(modelBuilder).createEntityModel(good);
+            doThrow(new IllegalStateException("test")).when(modelBuilder).createEntityModel(bad);
+
+            List<EntityModel> result = modelBuilder.createEntityModels(Lists.newArrayList(good, bad));
+
+            assertSame(entityModel, result.get(0));
+            assertTrue(result.get(1) instanceof ExceptionEntity);
+        } finally {
+            modelBuilder.shutdownEntityBuildExecutor();
+        }
+    }
+
+    @Test
+    public void shouldCarryRequestStateToParallelWorkersAndBack() {
+        ThreadLocal<String> state = new ThreadLocal<>();
+        ReflectionTestUtils.setField(modelBuilder, "webRequestContext", mock(WebRequestContext.class));
+        ReflectionTestUtils.setField(modelBuilder, "propagators", Collections.singletonList(new StatePropagator(state)));
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildEnabled", true);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildThreads", 2);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildQueueSize", 10);
+        modelBuilder.initEntityBuildExecutor();
+        state.set("request");
+        RequestTrace trace = RequestTrace.start("GET /page");
+        try (CacheDependencies.Capture capture = CacheDependencies.capture()) {
+            Map<Thread, String> statesSeen = new ConcurrentHashMap<>();
+            List<EntityModelData> entities = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                EntityModelData entityModelData = mock(EntityModelData.class);
+                CacheDependency dependency = CacheDependency.of(5, 100 + i);
+                doAnswer(invocation -> {
+                    try (Performance phase = Performance.phase("entity")) {
+                        statesSeen.put(Thread.currentThread(), state.get());
+                        CacheDependencies.record(dependency);
+                    }
+                    return mock(EntityModel.class);
+                }).when(modelBuilder).createEntityModel(entityModelData);
+                entities.add(entityModelData);
+            }
+
+            modelBuilder.createEntityModels(entities);
+            Set<CacheDependency> dependencies = capture.getDependencies();
+            trace.finish();
+
+            assertTrue(statesSeen.values().stream().allMatch("request"::equals));
+            assertEquals(4, dependencies.size());
+            assertTrue(dependencies.contains(CacheDependency.of(5, 103)));
+            assertTrue(trace.toServerTiming(), trace.toServerTiming().startsWith("entity;dur="));
+            assertTrue(trace.toServerTiming(), trace.toServerTiming().contains(";desc=\"4x\""));
+            assertEquals("request", state.get());
+        } finally {
+            trace.finish();
+            state.remove();
+            modelBuilder.shutdownEntityBuildExecutor();
+        }
+    }
+
     @NotNull
     private List<RegionModelData> prepareRegions() throws SemanticMappingException {
         RegionModelData regionModelData1 = mock(RegionModelData.class);
@@ -206,6 +310,30 @@ public class DefaultModelBuilderOnMocksTest {
         return regions;
     }
 
+    private static class StatePropagator implements ThreadContextPropagator<String> {
+
+        private final ThreadLocal<String> state;
+
+        private StatePropagator(ThreadLocal<String> state) {
+            this.state = state;
+        }
+
+        @Override
+        public String capture() {
+            return state.get();
+        }
+
+        @Override
+        public void restore(@NotNull String context) {
+            state.set(context);
+        }
+
+        @Override
+        public void reset() {
+            state.remove();
+        }
+    }
+
     public static class TestPageModel extends DefaultPageModel {
         private String localName;
 
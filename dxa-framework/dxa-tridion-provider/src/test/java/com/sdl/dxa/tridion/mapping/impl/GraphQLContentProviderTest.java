@@ -1,17 +1,27 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.caching.CacheStatisticsRegistry;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.dxa.tridion.content.StaticContentResolver;
 import com.sdl.dxa.tridion.graphql.GraphQLProvider;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
+import com.sdl.web.pca.client.ApiClient;
+import com.sdl.web.pca.client.contentmodel.Pagination;
+import com.sdl.web.pca.client.contentmodel.generated.Component;
+import com.sdl.web.pca.client.contentmodel.generated.CustomMetaConnection;
+import com.sdl.web.pca.client.contentmodel.generated.ItemConnection;
+import com.sdl.web.pca.client.contentmodel.generated.ItemEdge;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.StaticContentItem;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.entity.Configuration;
+import com.sdl.webapp.common.api.model.entity.DynamicList;
 import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -21,13 +31,25 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -92,6 +114,66 @@ public class GraphQLContentProviderTest {
         assertEquals("/path.html", result.getUrl());
     }
 
+    @Test
+    public void shouldReuseExpiredPageModelIfPageHasNotBeenPublished() throws Exception {
+        //given
+        CacheManager cacheManager = new ConcurrentMapCacheManager();
+        CacheStatisticsRegistry statisticsRegistry = new CacheStatisticsRegistry();
+        GraphQLContentProvider provider = revalidatingProvider(cacheManager);
+        provider.setCacheStatisticsRegistry(statisticsRegistry);
+        provider.getPageModel("/path.html", localization);
+        verify(graphQLProvider, never()).getPageLastPublishDate(anyString(), anyInt(), anyString());
+        cacheManager.getCache("pageModels").clear();
+        provider.getPageModel("/path.html", localization);
+
+        //when
+        cacheManager.getCache("pageModels").clear();
+        PageModel revalidated = provider.getPageModel("/path.html", localization);
+        when(graphQLProvider.getPageLastPublishDate("tcm", 5, "/path.html")).thenReturn("2020-02-01T10:00:00");
+        cacheManager.getCache("pageModels").clear();
+        PageModel republished = provider.getPageModel("/path.html", localization);
+
+        //then
+        assertEquals("42", revalidated.getId());
+        assertEquals("42", republished.getId());
+        verify(builderPipeline, times(3)).createPageModel(any());
+        Map<String, Object> statistics = statisticsRegistry.snapshot().get("pageModels");
+        assertEquals(1L, statistics.get("revalidations"));
+        assertEquals(2L, statistics.get("revalidationMisses"));
+    }
+
+    @Test
+    public void shouldNotReuseExpiredPageModelLoadedTooLongAgo() throws Exception {
+        //given
+        CacheManager cacheManager = new ConcurrentMapCacheManager();
+        GraphQLContentProvider provider = revalidatingProvider(cacheManager);
+        provider.setRevalidationMaxAgeSeconds(0);
+        provider.getPageModel("/path.html", localization);
+        cacheManager.getCache("pageModels").clear();
+        provider.getPageModel("/path.html", localization);
+
+        //when
+        cacheManager.getCache("pageModels").clear();
+        provider.getPageModel("/path.html", localization);
+
+        //then
+        verify(builderPipeline, times(3)).createPageModel(any());
+    }
+
+    private GraphQLContentProvider revalidatingProvider(CacheManager cacheManager) {
+        when(localization.getId()).thenReturn("5");
+        when(localization.getCmUriScheme()).thenReturn("tcm");
+        when(builderPipeline.createPageModel(any())).then(invocation -> {
+            PageModel page = new DefaultPageModel();
+            page.setId("42");
+            page.setUrl("/path.html");
+            return page;
+        });
+        when(graphQLProvider.getPageLastPublishDate("tcm", 5, "/path.html")).thenReturn("2020-01-01T10:00:00");
+        return new GraphQLContentProvider(webRequestContext, staticContentResolver,
+                builderPipeline, graphQLProvider, apiClientProvider, cacheManager);
+    }
+
     @Test
     public void getStaticContent() throws Exception {
         File contentFile = new File("path");
@@ -103,4 +185,150 @@ public class GraphQLContentProviderTest {
         assertEquals("path", contentFile.getName());
         assertEquals("testType", result.getContentType());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldShareCursorsAndBuiltEntitiesOfDynamicLists() throws Exception {
+        //given
+        ApiClient apiClient = givenQueryResults(5);
+        GraphQLContentProvider provider = new GraphQLContentProvider(webRequestContext, staticContentResolver,
+                builderPipeline, graphQLProvider, apiClientProvider, new ConcurrentMapCacheManager());
+
+        //when
+        TestList first = new TestList(2);
+        provider.populateDynamicList(first, localization);
+        TestList second = new TestList(2);
+        provider.populateDynamicList(second, localization);
+
+        //then
+        assertEquals(2, first.getStart());
+        assertEquals(2, first.results.size());
+        assertEquals("3", first.results.get(0).getId());
+        assertEquals("4", second.results.get(1).getId());
+        assertNotSame(first.results.get(0), second.results.get(0));
+        verify(apiClient, times(2)).executeItemQuery(any(), any(), any(), any(), any(), any(Boolean.class), any());
+        verify(builderPipeline, times(2)).createEntityModel(any(EntityModelData.class), any());
+    }
+
+    @Test
+    public void shouldBuildEntitiesOfDynamicListsPerPageContext() throws Exception {
+        //given
+        givenQueryResults(5);
+        GraphQLContentProvider provider = new GraphQLContentProvider(webRequestContext, staticContentResolver,
+                builderPipeline, graphQLProvider, apiClientProvider, new ConcurrentMapCacheManager());
+        when(webRequestContext.getPageContextId()).thenReturn("10");
+        provider.populateDynamicList(new TestList(0), localization);
+
+        //when
+        when(webRequestContext.getPageContextId()).thenReturn("20");
+        TestList list = new TestList(0);
+        provider.populateDynamicList(list, localization);
+
+        //then
+        assertEquals("1", list.results.get(0).getId());
+        verify(builderPipeline, times(4)).createEntityModel(any(EntityModelData.class), any());
+    }
+
+    @Test
+    public void shouldShowEmptyPageOfDynamicListIfPageIsTooFarFromKnownCursors() throws Exception {
+        //given
+        ApiClient apiClient = givenQueryResults(Integer.MAX_VALUE);
+        GraphQLContentProvider provider = new GraphQLContentProvider(webRequestContext, staticContentResolver,
+                builderPipeline, graphQLProvider, apiClientProvider, new ConcurrentMapCacheManager());
+
+        //when
+        TestList list = new TestList(Integer.MAX_VALUE - 1);
+        provider.populateDynamicList(list, localization);
+
+        //then
+        assertEquals(Integer.MAX_VALUE - 1, list.getStart());
+        assertTrue(list.results.isEmpty());
+        verify(apiClient, never()).executeItemQuery(any(), any(), any(), any(), any(), any(Boolean.class), any());
+    }
+
+    @Test
+    public void shouldShowEmptyPageOfDynamicListBeyondItsEnd() throws Exception {
+        //given
+        givenQueryResults(3);
+        GraphQLContentProvider provider = new GraphQLContentProvider(webRequestContext, staticContentResolver,
+                builderPipeline, graphQLProvider, apiClientProvider, new ConcurrentMapCacheManager());
+
+        //when
+        TestList list = new TestList(6);
+        provider.populateDynamicList(list, localization);
+
+        //then
+        assertEquals(6, list.getStart());
+        assertTrue(list.results.isEmpty());
+    }
+
+    private ApiClient givenQueryResults(int count) throws Exception {
+        ApiClient apiClient = mock(ApiClient.class);
+        when(apiClientProvider.getClient()).thenReturn(apiClient);
+        when(apiClient.executeItemQuery(any(), any(), any(), any(), any(), any(Boolean.class), any())).then(invocation -> {
+            Pagination pagination = invocation.getArgument(2);
+            int from = pagination.getAfter() == null ? 1 : Integer.parseInt(pagination.getAfter().substring(1)) + 1;
+            List<ItemEdge> edges = new ArrayList<>();
+            for (int i = from; i < from + pagination.getFirst() && i <= count; i++) {
+                Component component = new Component();
+                component.setItemId(i);
+                CustomMetaConnection metas = new CustomMetaConnection();
+                metas.setEdges(Collections.emptyList());
+                component.setCustomMetas(metas);
+                ItemEdge edge = new ItemEdge();
+                edge.setNode(component);
+                edge.setCursor("c" + i);
+                edges.add(edge);
+            }
+            ItemConnection connection = new ItemConnection();
+            connection.setEdges(edges);
+            return connection;
+        });
+        when(builderPipeline.createEntityModel(any(EntityModelData.class), any())).then(invocation -> {
+            Configuration entity = new Configuration();
+            entity.setId(((EntityModelData) invocation.getArgument(0)).getId());
+            return entity;
+        });
+        return apiClient;
+    }
+
+    private static class TestList extends DynamicList<Configuration, SimpleBrokerQuery> {
+
+        private final int startAt;
+
+        private List<Configuration> results = Collections.emptyList();
+
+        TestList(int startAt) {
+            this.startAt = startAt;
+        }
+
+        @Override
+        public SimpleBrokerQuery getQuery(Localization localization) {
+            SimpleBrokerQuery query = new SimpleBrokerQuery();
+            query.setPublicationId(5);
+            query.setPageSize(2);
+            query.setStartAt(startAt);
+            query.setSort("Title Asc");
+            return query;
+        }
+
+        @Override
+        public List<Configuration> getQueryResults() {
+            return results;
+        }
+
+        @Override
+        public void setQueryResults(List<Configuration> queryResults, boolean hasMore) {
+            results = queryResults;
+        }
+
+        @Override
+        public void setQueryResults(List<Configuration> queryResults) {
+            results = queryResults;
+        }
+
+        @Override
+        public Class<Configuration> getEntityType() {
+            return Configuration.class;
+        }
+    }
+}
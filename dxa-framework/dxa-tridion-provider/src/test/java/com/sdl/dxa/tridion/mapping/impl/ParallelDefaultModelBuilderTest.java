@@ -0,0 +1,23 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Runs the tests of {@link DefaultModelBuilderTest} with entities built in parallel.
+ */
+@TestPropertySource(properties = {"dxa.model.builder.parallel.enabled=true", "dxa.model.builder.parallel.threads=2"})
+public class ParallelDefaultModelBuilderTest extends DefaultModelBuilderTest {
+
+    @Autowired
+    private DefaultModelBuilder modelBuilder;
+
+    @Test
+    public void shouldBuildEntitiesInParallel() {
+        assertNotNull(ReflectionTestUtils.getField(modelBuilder, "entityBuildExecutor"));
+    }
+}
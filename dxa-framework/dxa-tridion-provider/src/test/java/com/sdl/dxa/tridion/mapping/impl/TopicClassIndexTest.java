@@ -0,0 +1,111 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TopicClassIndexTest {
+
+    private static final String TOPIC = "<topic>" +
+            "<h1 class=\"title \">Title</h1>" +
+            "<div class=\"body lcBaseBody lcOverviewBody \" id=\"b1\">" +
+            "<div class=\"section lcIntro \" id=\"s1\">Intro <span class=\"sectiondiv \">nested</span></div>" +
+            "<div class=\"section lcObjectives \" id=\"s2\">Objectives</div>" +
+            "</div>" +
+            "<div class=\"related-links \">" +
+            "<div class=\"childlink \"><a class=\"link \" href=\"/first.html\">First</a></div>" +
+            "<div class=\"parentlink \"><a class=\"link \" href=\"/parent.html\">Parent</a></div>" +
+            "</div>" +
+            "</topic>";
+
+    private Element root;
+
+    private TopicClassIndex index;
+
+    @Before
+    public void setUp() throws Exception {
+        root = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader(TOPIC))).getDocumentElement();
+        index = TopicClassIndex.build(root);
+    }
+
+    @Test
+    public void shouldFindSameElementsAsXPathWithClassFilter() throws Exception {
+        for (String property : Arrays.asList("title", "body", "section", "lcIntro", "link", "childlink/link",
+                "related-links/link", "body/section", "section/sectiondiv", "unknown", "body/link")) {
+            assertEquals(property, xpath(root, property, true), index.findByPropertyName(root, property));
+        }
+    }
+
+    @Test
+    public void shouldSplitClassesOnAnyWhitespaceAndListElementOnce() throws Exception {
+        //given
+        Element topic = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new InputSource(new StringReader(
+                "<topic><div class=\"\tbody\nsection  section\" id=\"b1\"><p class=\"section\">Text</p></div></topic>")))
+                .getDocumentElement();
+
+        //when
+        TopicClassIndex topicIndex = TopicClassIndex.build(topic);
+
+        //then
+        for (String property : Arrays.asList("body", "section", "body/section")) {
+            assertEquals(property, xpath(topic, property, true), topicIndex.findByPropertyName(topic, property));
+        }
+        assertEquals(2, topicIndex.findByPropertyName(topic, "section").size());
+    }
+
+    @Test
+    public void shouldSearchOnlyWithinContextElement() throws Exception {
+        Element body = index.findByPropertyName(root, "body").get(0);
+
+        assertEquals(xpath(body, "section", true), index.findByPropertyName(body, "section"));
+        assertEquals(0, index.findByPropertyName(body, "body").size());
+        assertEquals(0, index.findByPropertyName(body, "link").size());
+    }
+
+    @Test
+    public void shouldReturnContextForSelf() {
+        assertEquals(1, index.findByPropertyName(root, "_self").size());
+        assertSame(root, index.findByPropertyName(root, "_self").get(0));
+    }
+
+    @Test
+    public void shouldFindFirstElementContainingClassAsXPath() throws Exception {
+        for (String property : Arrays.asList("lcOverviewBody", "Body", "link", "related-links/link", "sect")) {
+            assertSame(property, xpath(root, property, false).get(0), index.findFirstContaining(root, property));
+        }
+        assertNull(index.findFirstContaining(root, "unknown"));
+    }
+
+    private static List<Element> xpath(Element context, String property, boolean exactLastClass) throws Exception {
+        String[] segments = property.split("/");
+        StringBuilder expression = new StringBuilder(".");
+        for (String segment : segments) {
+            expression.append("//*[contains(@class, '").append(segment).append("')]");
+        }
+        NodeList nodes = (NodeList) XPathFactory.newInstance().newXPath()
+                .evaluate(expression.toString(), context, XPathConstants.NODESET);
+        List<Element> result = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Element element = (Element) nodes.item(i);
+            if (!exactLastClass || Arrays.asList(element.getAttribute("class").trim().split("\\s+")).contains(segments[segments.length - 1])) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+}
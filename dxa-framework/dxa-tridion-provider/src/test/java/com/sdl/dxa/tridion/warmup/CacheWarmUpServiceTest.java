@@ -0,0 +1,101 @@
+package com.sdl.dxa.tridion.warmup;
+
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import org.junit.Test;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CacheWarmUpServiceTest {
+
+    @Test
+    public void shouldLoadPagesWithinRequest() throws Exception {
+        //given
+        Localization localization = mock(Localization.class);
+        LocalizationResolver localizationResolver = mock(LocalizationResolver.class);
+        when(localizationResolver.getLocalization("http://example.org/dxa/en/index")).thenReturn(localization);
+        when(localizationResolver.getLocalization("http://example.org/dxa/en/broken")).thenReturn(localization);
+        AtomicReference<HttpServletRequest> request = new AtomicReference<>();
+        ContentProvider contentProvider = mock(ContentProvider.class);
+        when(contentProvider.getPageModel("/en/index", localization)).then(invocation -> {
+            request.set(((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest());
+            request.get().getSession().setAttribute("visited", Boolean.TRUE);
+            return null;
+        });
+        when(contentProvider.getPageModel("/en/broken", localization)).thenThrow(new ContentProviderException("broken"));
+
+        CacheWarmUpService service = new CacheWarmUpService(new PageAccessJournal(true, 100), contentProvider, localizationResolver);
+        ReflectionTestUtils.setField(service, "threads", 2);
+        ReflectionTestUtils.setField(service, "budgetMillis", 10_000L);
+
+        //when
+        service.warmUp(Arrays.asList(
+                new PageAccessJournal.Entry("1", "/dxa", "http://example.org/dxa/en/index", "/en/index", 10),
+                new PageAccessJournal.Entry("1", "/dxa", "http://example.org/dxa/en/broken", "/en/broken", 5)));
+
+        //then
+        verify(contentProvider).getPageModel("/en/index", localization);
+        assertEquals("/dxa/en/index", request.get().getRequestURI());
+        assertEquals("/dxa", request.get().getContextPath());
+        assertEquals("http://example.org/dxa/en/index", request.get().getRequestURL().toString());
+        assertEquals(Boolean.TRUE, request.get().getSession(false).getAttribute("visited"));
+        assertNull(RequestContextHolder.getRequestAttributes());
+
+        Map<String, Object> progress = service.getProgress();
+        assertEquals(2, progress.get("planned"));
+        assertEquals(1, progress.get("warmed"));
+        assertEquals(1, progress.get("failed"));
+        assertEquals(0, progress.get("skipped"));
+        assertEquals(false, progress.get("running"));
+    }
+
+    @Test
+    public void shouldNameDefaultJournalAfterContextPath() {
+        //given
+        CacheWarmUpService service = new CacheWarmUpService(new PageAccessJournal(true, 100),
+                mock(ContentProvider.class), mock(LocalizationResolver.class));
+        Path tmp = Paths.get(System.getProperty("java.io.tmpdir"));
+        MockServletContext servletContext = new MockServletContext();
+        servletContext.removeAttribute(ServletContext.TEMPDIR);
+
+        //when
+        Path noWebApplication = service.getJournalPath();
+        servletContext.setContextPath("");
+        service.setServletContext(servletContext);
+        Path root = service.getJournalPath();
+        servletContext.setContextPath("/dxa/en");
+        service.setServletContext(servletContext);
+        Path nested = service.getJournalPath();
+        servletContext.setAttribute(ServletContext.TEMPDIR, new File("/work/dxa"));
+        service.setServletContext(servletContext);
+        Path privateDirectory = service.getJournalPath();
+        ReflectionTestUtils.setField(service, "journalFile", "/var/dxa/journal.tsv");
+        Path configured = service.getJournalPath();
+
+        //then
+        assertEquals(tmp.resolve("dxa-page-access-journal.tsv"), noWebApplication);
+        assertEquals(tmp.resolve("dxa-page-access-journal-ROOT.tsv"), root);
+        assertEquals(tmp.resolve("dxa-page-access-journal-dxa_en.tsv"), nested);
+        assertEquals(Paths.get("/work/dxa/dxa-page-access-journal.tsv"), privateDirectory);
+        assertEquals(Paths.get("/var/dxa/journal.tsv"), configured);
+    }
+}
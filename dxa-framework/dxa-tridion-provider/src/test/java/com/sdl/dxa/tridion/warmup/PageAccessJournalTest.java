@@ -0,0 +1,108 @@
+package com.sdl.dxa.tridion.warmup;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PageAccessJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldKeepHottestPagesPerLocalization() {
+        //given
+        PageAccessJournal journal = new PageAccessJournal(true, 100);
+        record(journal, "1", "/index", 3);
+        record(journal, "1", "/about", 5);
+        record(journal, "1", "/contact", 1);
+        record(journal, "2", "/de/index", 2);
+
+        //when
+        List<PageAccessJournal.Entry> hottest = journal.hottest(2);
+
+        //then
+        assertEquals(3, hottest.size());
+        assertEquals("/about", hottest.get(0).getPath());
+        assertEquals(5, hottest.get(0).getHits());
+        assertEquals("/index", hottest.get(1).getPath());
+        assertEquals("/de/index", hottest.get(2).getPath());
+    }
+
+    @Test
+    public void shouldSaveLoadAndDecay() throws Exception {
+        //given
+        PageAccessJournal journal = new PageAccessJournal(true, 100);
+        record(journal, "1", "/index", 4);
+        record(journal, "1", "/once", 1);
+        Path file = folder.getRoot().toPath().resolve("journal.tsv");
+
+        //when
+        journal.save(file, 10);
+        List<PageAccessJournal.Entry> loaded = PageAccessJournal.load(file, 10);
+
+        //then
+        assertEquals(2, loaded.size());
+        assertEquals("http://localhost/index", loaded.get(0).getUrl());
+        assertEquals("", loaded.get(0).getContextPath());
+        assertEquals(1, journal.hottest(10).size());
+        assertEquals(2, journal.hottest(10).get(0).getHits());
+    }
+
+    @Test
+    public void shouldSaveUrlsWithoutQueryToFileOfOwner() throws Exception {
+        //given
+        PageAccessJournal journal = new PageAccessJournal(true, 100);
+        journal.record("1", "http://localhost/search?q=secret&token=42", "", "/search");
+        journal.record("1", "http://localhost/faq#answer", "", "/faq");
+        Path file = folder.getRoot().toPath().resolve("journal.tsv");
+
+        //when
+        journal.save(file, 10);
+        List<PageAccessJournal.Entry> loaded = PageAccessJournal.load(file, 10);
+
+        //then
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.stream().anyMatch(entry -> "http://localhost/search".equals(entry.getUrl())));
+        assertTrue(loaded.stream().anyMatch(entry -> "http://localhost/faq".equals(entry.getUrl())));
+        try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            assertEquals(Collections.singletonList(file), files.collect(Collectors.toList()));
+        }
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file));
+        }
+    }
+
+    @Test
+    public void shouldNotRecordWhenDisabledOrUntracked() throws Exception {
+        //given
+        PageAccessJournal disabled = new PageAccessJournal(false, 100);
+        PageAccessJournal journal = new PageAccessJournal(true, 100);
+
+        //when
+        record(disabled, "1", "/index", 1);
+        PageAccessJournal.untracked(() -> record(journal, "1", "/index", 1));
+
+        //then
+        assertTrue(disabled.hottest(10).isEmpty());
+        assertTrue(journal.hottest(10).isEmpty());
+        assertTrue(PageAccessJournal.load(folder.getRoot().toPath().resolve("missing.tsv"), 10).isEmpty());
+    }
+
+    private static void record(PageAccessJournal journal, String localizationId, String path, int times) {
+        for (int i = 0; i < times; i++) {
+            journal.record(localizationId, "http://localhost" + path, "", path);
+        }
+    }
+}
@@ -1,22 +1,36 @@
 package com.sdl.webapp.tridion;
 
+import com.sdl.dxa.caching.NamedCacheProvider;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.web.pca.client.ApiClient;
 import com.sdl.web.pca.client.contentmodel.generated.PublicationMapping;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationFactory;
+import com.sdl.webapp.common.api.localization.LocalizationFactoryException;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 import static com.sdl.web.pca.client.contentmodel.enums.ContentNamespace.Sites;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -38,6 +52,12 @@ public class GraphQLLocalizationResolverTest {
     private Localization localization2;
     @Mock
     private Localization localization3;
+    @Mock
+    private NamedCacheProvider cacheProvider;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache<Object, Object> cache;
 
     private String testUrl = "http://localhost:8882/";
 
@@ -52,6 +72,11 @@ public class GraphQLLocalizationResolverTest {
         when(apiClientProvider.getClient().getPublicationMapping(Sites, testUrl)).thenReturn(publicationMapping);
     }
 
+    @After
+    public void shutdownRefreshExecutor() {
+        localizationResolver.shutdownRefreshExecutor();
+    }
+
     @Test
     public void getLocalization() throws Exception {
         assertSame(localization, localizationResolver.getLocalization(testUrl));
@@ -84,6 +109,126 @@ public class GraphQLLocalizationResolverTest {
         assertEquals(4, localizationResolver.getAllLocalizations().size());
     }
 
+    @Test
+    public void shouldUsePreviousVersionUntilRefreshedInBackground() throws Exception {
+        //given
+        enableBackgroundRefresh();
+        CountDownLatch created = new CountDownLatch(1);
+        when(localization3.getId()).thenReturn("5");
+        when(localizationFactory.createLocalization("5", "/verola")).thenReturn(localization).thenAnswer(invocation -> {
+            created.await();
+            return localization3;
+        });
+        assertSame(localization, localizationResolver.getLocalization(testUrl));
+
+        givenCaches();
+
+        //when
+        assertTrue(localizationResolver.refreshLocalization(localization));
+        Localization beforeSwap = localizationResolver.getLocalization(testUrl);
+        verify(cache, never()).clear();
+        created.countDown();
+
+        //then
+        assertSame(localization, beforeSwap);
+        awaitRefreshed();
+        assertSame(localization3, localizationResolver.getLocalization(testUrl));
+        // caches are cleared right after the new version is swapped in
+        verify(cache, timeout(5000)).clear();
+        Map<String, Object> status = localizationResolver.getRefreshStatus().get("5");
+        assertEquals(2L, status.get("version"));
+        assertEquals(0, status.get("failedRefreshes"));
+    }
+
+    @Test
+    public void shouldKeepPreviousVersionIfLocalizationCannotBeRefreshed() throws Exception {
+        //given
+        enableBackgroundRefresh();
+        when(localizationFactory.createLocalization("5", "/verola")).thenReturn(localization)
+                .thenThrow(new LocalizationFactoryException("Configuration is not available"));
+        localizationResolver.getLocalization(testUrl);
+
+        //when
+        localizationResolver.refreshLocalization(localization);
+        awaitRefreshed();
+
+        //then
+        assertSame(localization, localizationResolver.getLocalization(testUrl));
+        Map<String, Object> status = localizationResolver.getRefreshStatus().get("5");
+        assertEquals(1L, status.get("version"));
+        assertEquals(1, status.get("failedRefreshes"));
+    }
+
+    @Test
+    public void shouldKeepUnchangedLocalizationAndCaches() throws Exception {
+        //given
+        localizationResolver.getLocalization(testUrl);
+
+        //when
+        ReflectionTestUtils.invokeMethod(localizationResolver, "refresh", "5");
+
+        //then
+        assertSame(localization, localizationResolver.getLocalization(testUrl));
+        assertEquals(1L, localizationResolver.getRefreshStatus().get("5").get("version"));
+        verifyZeroInteractions(cacheProvider);
+    }
+
+    @Test
+    public void shouldNotReplaceLocalizationOfAnotherPublication() throws Exception {
+        //given
+        when(localization3.getId()).thenReturn("6");
+        when(localizationFactory.createLocalization("5", "/verola")).thenReturn(localization).thenReturn(localization3);
+        localizationResolver.getLocalization(testUrl);
+
+        //when
+        ReflectionTestUtils.invokeMethod(localizationResolver, "refresh", "5");
+
+        //then
+        assertSame(localization, localizationResolver.getLocalization(testUrl));
+        assertEquals(1, localizationResolver.getRefreshStatus().get("5").get("failedRefreshes"));
+        verifyZeroInteractions(cacheProvider);
+    }
+
+    @Test
+    public void shouldNumberVersionsConsecutively() throws Exception {
+        //given
+        when(localizationFactory.createLocalization("5", "/verola")).thenReturn(localization, localization3, localization2);
+        when(localization3.getId()).thenReturn("5");
+        when(localization2.getId()).thenReturn("5");
+        givenCaches();
+        localizationResolver.getLocalization(testUrl);
+
+        //when
+        ReflectionTestUtils.invokeMethod(localizationResolver, "refresh", "5");
+        localizationResolver.refreshLocalization("5");
+        localizationResolver.getLocalization(testUrl);
+
+        //then
+        assertEquals(3L, localizationResolver.getRefreshStatus().get("5").get("version"));
+    }
+
+    private void givenCaches() {
+        when(cacheProvider.getCacheManager()).thenReturn(cacheManager);
+        when(cacheManager.getCacheNames()).thenReturn(Collections.singletonList("pageModels"));
+        when(cacheManager.getCache("pageModels")).thenReturn(cache);
+    }
+
+    private void enableBackgroundRefresh() {
+        ReflectionTestUtils.setField(localizationResolver, "backgroundRefresh", true);
+        localizationResolver.initRefreshExecutor();
+    }
+
+    private void awaitRefreshed() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            Map<String, Object> status = localizationResolver.getRefreshStatus().get("5");
+            if (!Boolean.TRUE.equals(status.get("refreshing"))
+                    && ((Long) status.get("version") > 1 || (Integer) status.get("failedRefreshes") > 0)) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
     //creates and caches 1-9 localizations
     private void createAndCacheNLocalizations(int n, boolean useDifferentLocalizationa) throws Exception {
         String[] cypherWords = {"one", "two", "three", "four", "five", "six", "seven", "eight", "nine"};
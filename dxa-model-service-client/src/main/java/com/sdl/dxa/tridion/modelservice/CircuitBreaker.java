@@ -0,0 +1,96 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Stops calling a service that keeps failing, so that request threads fail fast instead of waiting for it.
+ * <p>The breaker opens after a number of consecutive failures. While it is open no calls are allowed. When the open
+ * period has passed, one trial call is let through: if it succeeds the breaker closes, otherwise it opens again.</p>
+ */
+public class CircuitBreaker {
+
+    private static final Logger log = getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+
+    private int consecutiveFailures;
+
+    private long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, long openMillis, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Checks whether a call is allowed. Every allowed call has to be followed by
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     *
+     * @return whether the service may be called
+     */
+    public synchronized boolean tryAcquire() {
+        if (failureThreshold <= 0) {
+            return true;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                log.info("Circuit breaker of {} lets a trial call through", name);
+                return true;
+            default:
+                // a trial call is running
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuit breaker of {} is closed", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (failureThreshold > 0 && (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold)) {
+            if (state != State.OPEN) {
+                log.warn("Circuit breaker of {} is open after {} consecutive failures", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
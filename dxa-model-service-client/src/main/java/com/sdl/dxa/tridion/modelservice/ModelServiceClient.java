@@ -3,28 +3,53 @@ package com.sdl.dxa.tridion.modelservice;
 import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceBadRequestException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceInternalServerErrorException;
+import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceUnavailableException;
 import com.sdl.web.client.impl.OAuthTokenProvider;
 import com.tridion.ambientdata.AmbientDataContext;
 import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebClaims;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.cache.annotation.CacheResult;
+import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -39,36 +64,205 @@ public class ModelServiceClient {
 
     private static final String PREVIEW_SESSION_TOKEN = "preview-session-token";
 
+    private static final ThreadLocal<HttpHeaders> INHERITED_HEADERS = new ThreadLocal<>();
+
     private final ModelServiceClientConfiguration configuration;
 
     @SuppressWarnings("SpringAutowiredFieldsWarningInspection")
     @Autowired(required = false)
-    private RestTemplate restTemplate = new RestTemplate();
+    private RestTemplate restTemplate;
+
+    @Value("${dxa.model.service.client.max-connections:100}")
+    private int maxConnections = 100;
+
+    @Value("${dxa.model.service.client.connect-timeout-ms:2000}")
+    private int connectTimeoutMillis = 2000;
+
+    @Value("${dxa.model.service.client.timeout-ms:10000}")
+    private int timeoutMillis = 10000;
+
+    @Value("${dxa.model.service.client.hedge-delay-ms:0}")
+    private long hedgeDelayMillis;
+
+    @Value("${dxa.model.service.circuit.failure-threshold:5}")
+    private int failureThreshold = 5;
+
+    @Value("${dxa.model.service.circuit.open-ms:10000}")
+    private long circuitOpenMillis = 10000;
+
+    @Value("${dxa.model.service.last-known-good.size:200}")
+    private int lastKnownGoodSize = 200;
+
+    private CloseableHttpClient httpClient;
+
+    private CircuitBreaker circuitBreaker;
+
+    private ExecutorService hedgeExecutor;
+
+    private Map<String, StoredResponse> lastKnownGood;
+
+    private BiConsumer<String, Boolean> revalidationListener;
 
     @Autowired
     public ModelServiceClient(ModelServiceClientConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    @PostConstruct
+    public void init() {
+        if (restTemplate == null) {
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(maxConnections);
+            connectionManager.setDefaultMaxPerRoute(maxConnections);
+            connectionManager.setValidateAfterInactivity(2000);
+            httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectTimeout(connectTimeoutMillis)
+                            .setConnectionRequestTimeout(connectTimeoutMillis)
+                            .setSocketTimeout(timeoutMillis)
+                            .build())
+                    .evictIdleConnections(30, TimeUnit.SECONDS)
+                    // retries a request once on a pooled connection the server has closed, but never after a timeout
+                    .setRetryHandler(new DefaultHttpRequestRetryHandler(1, false))
+                    .build();
+            restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        }
+
+        circuitBreaker = new CircuitBreaker("Model Service", failureThreshold, circuitOpenMillis);
+
+        if (hedgeDelayMillis > 0) {
+            hedgeExecutor = new ThreadPoolExecutor(0, maxConnections, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "dxa-model-service-client");
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
+        lastKnownGood = Collections.synchronizedMap(new LinkedHashMap<String, StoredResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > lastKnownGoodSize;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void destroy() throws IOException {
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdownNow();
+        }
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
     @CacheResult(cacheName = "model-service",
                  exceptionCacheName = "failures", cachedExceptions = {ItemNotFoundInModelServiceException.class})
     public <T> T getForType(String serviceUrl, Class<T> type, Object... params) throws ItemNotFoundInModelServiceException {
         return makeRequest(serviceUrl, type, false, params);
     }
 
+    /**
+     * Wraps requests to run on another thread on behalf of the current request.
+     * <p>Preview tokens and module specific cookies come from the claim store of the current thread, so they are
+     * captured here and sent with every request of the task, wherever it runs.</p>
+     *
+     * @param task task that calls this client
+     * @param <T>  result type
+     * @return task that sends the headers of the current request
+     */
+    public <T> Callable<T> withCurrentRequestHeaders(Callable<T> task) {
+        HttpHeaders headers = new HttpHeaders();
+        processModuleSpecificCookies(headers);
+        processPreviewToken(headers);
+        return () -> {
+            HttpHeaders previous = INHERITED_HEADERS.get();
+            INHERITED_HEADERS.set(headers);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    INHERITED_HEADERS.remove();
+                } else {
+                    INHERITED_HEADERS.set(previous);
+                }
+            }
+        };
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * Sets a listener that is told about every conditional request, e.g. to collect cache statistics.
+     *
+     * @param revalidationListener gets the URL template and whether the stored response was not modified
+     */
+    public void setRevalidationListener(BiConsumer<String, Boolean> revalidationListener) {
+        this.revalidationListener = revalidationListener;
+    }
+
     private <T> T makeRequest(String serviceUrl, Class<T> type, boolean isRetry, Object... params) throws ItemNotFoundInModelServiceException {
-        try {
-            HttpHeaders headers = new HttpHeaders();
+        HttpHeaders headers = new HttpHeaders();
+        HttpHeaders inheritedHeaders = INHERITED_HEADERS.get();
+        if (inheritedHeaders != null) {
+            inheritedHeaders.forEach((name, values) -> headers.put(name, new ArrayList<>(values)));
+        } else {
             processModuleSpecificCookies(headers);
             processPreviewToken(headers);
-            processAccessToken(headers, isRetry);
+        }
+        // models requested with preview or module cookies are not shared with other visitors
+        String lastKnownGoodKey = headers.containsKey(HttpHeaders.COOKIE) ? null : serviceUrl + Arrays.toString(params);
+        processAccessToken(headers, isRetry);
+
+        // the cached response has expired, ask the Model Service whether the stored one is still up to date
+        StoredResponse stored = lastKnownGoodKey == null ? null : lastKnownGood.get(lastKnownGoodKey);
+        boolean conditional = stored != null && type.isInstance(stored.body) && stored.hasValidator();
+        if (conditional) {
+            if (stored.etag != null) {
+                headers.setIfNoneMatch(stored.etag);
+            }
+            if (stored.lastModified != -1) {
+                headers.setIfModifiedSince(stored.lastModified);
+            }
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            return lastKnownGoodOrThrow(lastKnownGoodKey, type, new ModelServiceUnavailableException(
+                    "Circuit breaker of the Model Service is open, not requesting '" + serviceUrl + "' with params '" + Arrays.toString(params) + "'"));
+        }
+
+        try {
             log.debug("Sending GET request to " + serviceUrl + " with parameters: " + Arrays.toString(params));
-            ResponseEntity<T> response = restTemplate.exchange(serviceUrl, HttpMethod.GET, new HttpEntity<>(null, headers), type, params);
-            return response.getBody();
+            ResponseEntity<T> response = exchange(serviceUrl, type, new HttpEntity<>(null, headers), params);
+            circuitBreaker.onSuccess();
+            if (conditional) {
+                boolean notModified = response.getStatusCode() == HttpStatus.NOT_MODIFIED;
+                if (revalidationListener != null) {
+                    revalidationListener.accept(serviceUrl, notModified);
+                }
+                if (notModified) {
+                    log.debug("Response of {} with params {} is not modified", serviceUrl, Arrays.toString(params));
+                    return type.cast(stored.body);
+                }
+            }
+            T body = response.getBody();
+            if (lastKnownGoodKey != null && body != null && lastKnownGoodSize > 0) {
+                HttpHeaders responseHeaders = response.getHeaders();
+                lastKnownGood.put(lastKnownGoodKey, new StoredResponse(body, responseHeaders.getETag(), responseHeaders.getLastModified()));
+            }
+            return body;
         } catch (HttpStatusCodeException e) {
             HttpStatus statusCode = e.getStatusCode();
             if (statusCode.is4xxClientError()) {
+                circuitBreaker.onSuccess();
                 if (statusCode == HttpStatus.NOT_FOUND) {
+                    if (lastKnownGoodKey != null) {
+                        lastKnownGood.remove(lastKnownGoodKey);
+                    }
                     String message = "Item not found requesting '" + serviceUrl + "' with params '" + Arrays.toString(params) + "'";
                     log.info(message, e);
                     throw new ItemNotFoundInModelServiceException(message, e);
@@ -82,9 +276,97 @@ public class ModelServiceClient {
                     throw new ModelServiceBadRequestException(message, e);
                 }
             }
+            circuitBreaker.onFailure();
             String message = "Internal server error (status code: " + statusCode + ", " + e.getResponseBodyAsString() + ") requesting '" + serviceUrl + "' with params '" + Arrays.toString(params) + "'";
             log.error(message);
-            throw new ModelServiceInternalServerErrorException(message, e);
+            return lastKnownGoodOrThrow(lastKnownGoodKey, type, new ModelServiceInternalServerErrorException(message, e));
+        } catch (ResourceAccessException e) {
+            circuitBreaker.onFailure();
+            String message = "No response from the Model Service requesting '" + serviceUrl + "' with params '" + Arrays.toString(params) + "'";
+            log.error(message, e);
+            return lastKnownGoodOrThrow(lastKnownGoodKey, type, new ModelServiceUnavailableException(message, e));
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the request. If hedging is enabled and there is no response after the hedge delay, the same request is
+     * sent once more and the first response wins, so that a single slow connection does not slow down the page.
+     */
+    private <T> ResponseEntity<T> exchange(String serviceUrl, Class<T> type, HttpEntity<Void> request, Object... params) {
+        if (hedgeExecutor == null) {
+            return restTemplate.exchange(serviceUrl, HttpMethod.GET, request, type, params);
+        }
+
+        Callable<ResponseEntity<T>> attempt = () -> restTemplate.exchange(serviceUrl, HttpMethod.GET, request, type, params);
+        CompletionService<ResponseEntity<T>> completion = new ExecutorCompletionService<>(hedgeExecutor);
+        List<Future<ResponseEntity<T>>> attempts = new ArrayList<>(2);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            attempts.add(completion.submit(attempt));
+            Future<ResponseEntity<T>> done = completion.poll(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+            if (done == null) {
+                log.debug("No response after {} ms, hedging request to {}", hedgeDelayMillis, serviceUrl);
+                attempts.add(completion.submit(attempt));
+            }
+
+            RuntimeException failure = null;
+            for (int pending = attempts.size(); pending > 0; pending--) {
+                if (done == null) {
+                    done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        throw new ResourceAccessException("No response within " + timeoutMillis + " ms");
+                    }
+                }
+                try {
+                    return done.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() :
+                                new ResourceAccessException(e.getCause().getMessage());
+                    }
+                }
+                done = null;
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for the Model Service");
+        } finally {
+            attempts.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> T lastKnownGoodOrThrow(String key, Class<T> type, ModelServiceInternalServerErrorException exception) {
+        StoredResponse stored = key == null ? null : lastKnownGood.get(key);
+        if (stored != null && type.isInstance(stored.body)) {
+            log.warn("Serving the last known good model for {}: {}", key, exception.getMessage());
+            return type.cast(stored.body);
+        }
+        throw exception;
+    }
+
+    /**
+     * Last successful response with its validators.
+     */
+    private static final class StoredResponse {
+
+        private final Object body;
+
+        private final String etag;
+
+        private final long lastModified;
+
+        private StoredResponse(Object body, String etag, long lastModified) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        private boolean hasValidator() {
+            return etag != null || lastModified != -1;
         }
     }
 
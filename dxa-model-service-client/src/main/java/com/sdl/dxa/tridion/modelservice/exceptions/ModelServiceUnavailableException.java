@@ -0,0 +1,19 @@
+package com.sdl.dxa.tridion.modelservice.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * If the Model Service does not respond in time or is not called because its circuit breaker is open.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ModelServiceUnavailableException extends ModelServiceInternalServerErrorException {
+
+    public ModelServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ModelServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
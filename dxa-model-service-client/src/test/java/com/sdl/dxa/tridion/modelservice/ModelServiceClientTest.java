@@ -0,0 +1,168 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
+import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class ModelServiceClientTest {
+
+    private HttpServer server;
+
+    private String baseUrl;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile int status = 200;
+
+    private volatile long delayMillis;
+
+    private volatile int delayedRequests;
+
+    private volatile String etag;
+
+    private ModelServiceClient client;
+
+    @Before
+    public void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            int request = requests.incrementAndGet();
+            try {
+                if (request <= delayedRequests) {
+                    Thread.sleep(delayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (etag != null && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = ("model of " + exchange.getRequestURI().getPath()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            if (etag != null) {
+                exchange.getResponseHeaders().add("ETag", etag);
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopStub() throws IOException {
+        client.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldServeLastKnownGoodModelAndFailFastWhenCircuitIsOpen() throws ItemNotFoundInModelServiceException {
+        //given
+        client = client(2, 0, 2000);
+        assertEquals("model of /page", client.getForType(baseUrl + "/page", String.class));
+
+        //when
+        status = 500;
+        String failed = client.getForType(baseUrl + "/page", String.class);
+        client.getForType(baseUrl + "/page", String.class);
+        int requestsBeforeOpen = requests.get();
+        String open = client.getForType(baseUrl + "/page", String.class);
+
+        //then
+        assertEquals("model of /page", failed);
+        assertEquals("model of /page", open);
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+        assertEquals("no request is sent while the circuit is open", requestsBeforeOpen, requests.get());
+        try {
+            client.getForType(baseUrl + "/other", String.class);
+            fail("Model without a last known good version cannot be served");
+        } catch (ModelServiceUnavailableException e) {
+            assertEquals(requestsBeforeOpen, requests.get());
+        }
+    }
+
+    @Test(expected = ModelServiceUnavailableException.class)
+    public void shouldFailWhenDeadlineIsExceeded() throws ItemNotFoundInModelServiceException {
+        //given
+        client = client(5, 0, 200);
+        delayMillis = 1000;
+        delayedRequests = 1;
+
+        //when
+        client.getForType(baseUrl + "/slow", String.class);
+    }
+
+    @Test
+    public void shouldHedgeSlowRequests() throws ItemNotFoundInModelServiceException {
+        //given
+        client = client(5, 50, 5000);
+        delayMillis = 2000;
+        delayedRequests = 1;
+
+        //when
+        long start = System.nanoTime();
+        String model = client.getForType(baseUrl + "/page", String.class);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        //then
+        assertEquals("model of /page", model);
+        assertEquals(2, requests.get());
+        assertTrue("hedged request answers first, took " + elapsedMillis + " ms", elapsedMillis < 1500);
+    }
+
+    @Test
+    public void shouldRevalidateStoredResponseWithETag() throws ItemNotFoundInModelServiceException {
+        //given
+        client = client(5, 0, 2000);
+        etag = "\"v1\"";
+        List<Boolean> revalidations = new ArrayList<>();
+        client.setRevalidationListener((serviceUrl, notModified) -> revalidations.add(notModified));
+        String loaded = client.getForType(baseUrl + "/page", String.class);
+
+        //when
+        String notModified = client.getForType(baseUrl + "/page", String.class);
+        etag = "\"v2\"";
+        String modified = client.getForType(baseUrl + "/page", String.class);
+
+        //then
+        assertSame(loaded, notModified);
+        assertEquals("model of /page", modified);
+        assertEquals(Arrays.asList(true, false), revalidations);
+        assertEquals(3, requests.get());
+    }
+
+    private static ModelServiceClient client(int failureThreshold, long hedgeDelayMillis, int timeoutMillis) {
+        ModelServiceClient client = new ModelServiceClient(mock(ModelServiceClientConfiguration.class));
+        ReflectionTestUtils.setField(client, "failureThreshold", failureThreshold);
+        ReflectionTestUtils.setField(client, "circuitOpenMillis", 60_000L);
+        ReflectionTestUtils.setField(client, "hedgeDelayMillis", hedgeDelayMillis);
+        ReflectionTestUtils.setField(client, "timeoutMillis", timeoutMillis);
+        client.init();
+        return client;
+    }
+}
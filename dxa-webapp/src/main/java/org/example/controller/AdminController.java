@@ -1,13 +1,33 @@
 package org.example.controller;
 
+import com.sdl.dxa.caching.CacheStatisticsRegistry;
+import com.sdl.dxa.caching.cluster.ClusterInvalidationService;
+import com.sdl.dxa.caching.invalidation.CacheDependencyIndex;
+import com.sdl.dxa.caching.invalidation.CacheInvalidationService;
+import com.sdl.dxa.caching.invalidation.PublishEvent;
+import com.sdl.dxa.performance.RequestTracing;
+import com.sdl.dxa.tridion.warmup.CacheWarmUpService;
+import com.sdl.webapp.common.api.localization.LocalizationResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.example.service.AdminService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import javax.cache.CacheManager;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Admin controller that provides access for administrator.
@@ -16,22 +36,189 @@ import javax.cache.CacheManager;
 @Controller
 public class AdminController {
 
+    static final String INVALIDATION_TOKEN_HEADER = "X-DXA-Invalidation-Token";
+
     @Autowired
     private AdminService adminService;
 
     @Autowired(required = false)
     private CacheManager cacheManager;
 
+    @Autowired(required = false)
+    private CacheStatisticsRegistry cacheStatisticsRegistry;
+
+    @Autowired(required = false)
+    private CacheDependencyIndex cacheDependencyIndex;
+
+    @Autowired(required = false)
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired(required = false)
+    private ClusterInvalidationService clusterInvalidationService;
+
+    @Autowired(required = false)
+    private CacheWarmUpService cacheWarmUpService;
+
+    @Autowired(required = false)
+    private RequestTracing requestTracing;
+
+    @Autowired(required = false)
+    private LocalizationResolver localizationResolver;
+
+    private byte[] invalidationToken = new byte[0];
+
     /**
-     * Refreshes the current localization and redirects to the given path.
+     * Sets the token that publish notifications and requests for traces have to be sent with, they are refused
+     * if it is empty.
+     *
+     * @param invalidationToken token shared with the publisher of the notifications
+     */
+    @Value("${dxa.caching.invalidation.token:}")
+    public void setInvalidationToken(String invalidationToken) {
+        this.invalidationToken = invalidationToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Clears the caches and refreshes the current localization on all the nodes of the cluster and redirects to the given path.
+     * The caches are always cleared, also if the localization has not changed. When localizations are refreshed in the
+     * background, each node clears its caches again once a changed localization is used instead, so that no entry
+     * built with the previous version is kept.
      *
      * @return the redirect command for Spring MVC
      */
     @RequestMapping(method = RequestMethod.GET, value = {"/admin/refresh", "/*/admin/refresh"})
     public String handleRefresh() {
+        clearCaches();
+        return "redirect:" + adminService.refreshLocalization();
+    }
+
+    private void clearCaches() {
         if (cacheManager != null) {
-            cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+            cacheManager.getCacheNames().forEach(name -> {
+                cacheManager.getCache(name).clear();
+                if (clusterInvalidationService != null) {
+                    clusterInvalidationService.cacheCleared(name);
+                }
+            });
         }
-        return "redirect:" + adminService.refreshLocalization();
+        if (cacheDependencyIndex != null) {
+            cacheDependencyIndex.clear();
+        }
+    }
+
+    /**
+     * Returns per-cache hits, misses, loads with load latency histogram, evictions and entry counts as JSON.
+     *
+     * @return cache name to cache statistics
+     */
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/cache-statistics", "/*/admin/cache-statistics"},
+            produces = "application/json")
+    @ResponseBody
+    public Map<String, Map<String, Object>> handleCacheStatistics() {
+        return cacheStatisticsRegistry == null ? Collections.emptyMap() : cacheStatisticsRegistry.snapshot();
+    }
+
+    /**
+     * Resets the cache statistics and returns them as JSON as they were before the reset.
+     *
+     * @return cache name to cache statistics before the reset
+     */
+    @RequestMapping(method = RequestMethod.POST, value = {"/admin/cache-statistics/reset", "/*/admin/cache-statistics/reset"},
+            produces = "application/json")
+    @ResponseBody
+    public Map<String, Map<String, Object>> handleCacheStatisticsReset() {
+        if (cacheStatisticsRegistry == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Map<String, Object>> snapshot = cacheStatisticsRegistry.snapshot();
+        log.info("Resetting cache statistics");
+        cacheStatisticsRegistry.reset();
+        return snapshot;
+    }
+
+    /**
+     * Returns the progress of the cache warm-up as JSON.
+     *
+     * @return planned, warmed, failed and skipped pages, and the elapsed time
+     */
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/warm-up", "/*/admin/warm-up"},
+            produces = "application/json")
+    @ResponseBody
+    public Map<String, Object> handleWarmUpProgress() {
+        return cacheWarmUpService == null ? Collections.emptyMap() : cacheWarmUpService.getProgress();
+    }
+
+    /**
+     * Returns the version and the last refresh of the localization of each publication as JSON.
+     *
+     * @return publication ID to the refresh status of its localization
+     */
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/localizations", "/*/admin/localizations"},
+            produces = "application/json")
+    @ResponseBody
+    public Map<String, Map<String, Object>> handleLocalizations() {
+        return localizationResolver == null ? Collections.emptyMap() : localizationResolver.getRefreshStatus();
+    }
+
+    /**
+     * Returns the traces of the most recent slow requests as JSON, the slowest first. Traces show the URLs and timings
+     * of requests, so they have to be requested with the invalidation token in the {@value #INVALIDATION_TOKEN_HEADER}
+     * header.
+     *
+     * @param token token the request was sent with
+     * @param clear whether to forget the traces after they are read
+     * @return traces with their spans, empty if request tracing is disabled, {@code 403 Forbidden} if the token
+     * is missing or wrong
+     */
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/traces", "/*/admin/traces"},
+            produces = "application/json")
+    @ResponseBody
+    public ResponseEntity<List<Map<String, Object>>> handleTraces(@RequestHeader(value = INVALIDATION_TOKEN_HEADER, required = false) String token,
+                                                                  @RequestParam(value = "clear", defaultValue = "false") boolean clear) {
+        if (!isValidToken(token)) {
+            log.warn("Request for traces is refused, the invalidation token is missing or wrong");
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        if (requestTracing == null) {
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.OK);
+        }
+        List<Map<String, Object>> traces = requestTracing.getSlowTraces();
+        if (clear) {
+            requestTracing.clear();
+        }
+        return new ResponseEntity<>(traces, HttpStatus.OK);
+    }
+
+    /**
+     * Accepts a notification about published or unpublished items and queues eviction of the cache entries
+     * built from them on all the nodes of the cluster. The notification has to be sent with the configured token
+     * in the {@value #INVALIDATION_TOKEN_HEADER} header.
+     *
+     * @param token token the notification was sent with
+     * @param event published or unpublished items of a publication
+     * @return {@code 202 Accepted} if the event is queued, {@code 403 Forbidden} if the token is missing or wrong,
+     * {@code 503 Service Unavailable} otherwise
+     */
+    @RequestMapping(method = RequestMethod.POST, value = {"/admin/invalidate", "/*/admin/invalidate"},
+            consumes = "application/json")
+    public ResponseEntity<Void> handleInvalidate(@RequestHeader(value = INVALIDATION_TOKEN_HEADER, required = false) String token,
+                                                 @RequestBody PublishEvent event) {
+        if (!isValidToken(token)) {
+            log.warn("Publish notification for publication {} is refused, the invalidation token is missing or wrong",
+                    event.getPublicationId());
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        if (cacheInvalidationService == null || !cacheInvalidationService.submit(event)) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        if (clusterInvalidationService != null) {
+            clusterInvalidationService.publishEvent(event);
+        }
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+
+    private boolean isValidToken(String token) {
+        return invalidationToken.length != 0 && token != null
+                && MessageDigest.isEqual(invalidationToken, token.getBytes(StandardCharsets.UTF_8));
     }
 }
@@ -1,5 +1,6 @@
 package org.example.service;
 
+import com.sdl.dxa.caching.cluster.ClusterInvalidationService;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
@@ -20,8 +21,11 @@ public class AdminService {
     @Autowired
     private LocalizationResolver localizationResolver;
 
+    @Autowired(required = false)
+    private ClusterInvalidationService clusterInvalidationService;
+
     /**
-     * Refreshes the localization and returns the index path.
+     * Refreshes the localization on this and the other nodes of the cluster and returns the index path.
      *
      * @return the index path of the localization
      */
@@ -31,6 +35,9 @@ public class AdminService {
         log.trace("handleRefresh: localization {}", localization);
 
         localizationResolver.refreshLocalization(localization);
+        if (clusterInvalidationService != null) {
+            clusterInvalidationService.localizationRefreshed(localization.getId());
+        }
         return localization.getPath();
     }
 }
@@ -1,20 +1,35 @@
 package org.example.controller;
 
+import com.sdl.dxa.caching.CacheStatisticsRegistry;
+import com.sdl.dxa.caching.cluster.ClusterInvalidationService;
+import com.sdl.dxa.caching.invalidation.CacheInvalidationService;
+import com.sdl.dxa.caching.invalidation.PublishEvent;
+import com.sdl.dxa.performance.RequestTracing;
+import com.sdl.dxa.tridion.warmup.CacheWarmUpService;
+import com.sdl.webapp.common.api.localization.LocalizationResolver;
 import org.example.service.AdminService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -26,6 +41,24 @@ public class AdminControllerTest {
     @Mock
     private CacheManager cacheManager;
 
+    @Mock
+    private CacheStatisticsRegistry cacheStatisticsRegistry;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private ClusterInvalidationService clusterInvalidationService;
+
+    @Mock
+    private CacheWarmUpService cacheWarmUpService;
+
+    @Mock
+    private LocalizationResolver localizationResolver;
+
+    @Mock
+    private RequestTracing requestTracing;
+
     @InjectMocks
     private AdminController adminController;
 
@@ -45,5 +78,133 @@ public class AdminControllerTest {
         verify(adminService).refreshLocalization();
         assertEquals("Should redirect to expected path", "redirect:/index", redirectString);
         verify(cache).clear();
+        verify(clusterInvalidationService).cacheCleared("cache");
+    }
+
+    @Test
+    public void shouldReturnRefreshStatusOfLocalizations() {
+        //given
+        Map<String, Map<String, Object>> refreshStatus = Collections.singletonMap("5", Collections.singletonMap("version", 2L));
+        when(localizationResolver.getRefreshStatus()).thenReturn(refreshStatus);
+
+        //when
+        Map<String, Map<String, Object>> result = adminController.handleLocalizations();
+
+        //then
+        assertEquals(refreshStatus, result);
+    }
+
+    @Test
+    public void shouldReturnCacheStatistics() {
+        //given
+        Map<String, Map<String, Object>> snapshot = Collections.singletonMap("pageModels", Collections.singletonMap("hits", 1L));
+        when(cacheStatisticsRegistry.snapshot()).thenReturn(snapshot);
+
+        //when
+        Map<String, Map<String, Object>> statistics = adminController.handleCacheStatistics();
+
+        //then
+        assertEquals(snapshot, statistics);
+        verify(cacheStatisticsRegistry, never()).reset();
+    }
+
+    @Test
+    public void shouldResetCacheStatistics() {
+        //given
+        Map<String, Map<String, Object>> snapshot = Collections.singletonMap("pageModels", Collections.singletonMap("hits", 1L));
+        when(cacheStatisticsRegistry.snapshot()).thenReturn(snapshot);
+
+        //when
+        Map<String, Map<String, Object>> statistics = adminController.handleCacheStatisticsReset();
+
+        //then
+        assertEquals(snapshot, statistics);
+        InOrder inOrder = inOrder(cacheStatisticsRegistry);
+        inOrder.verify(cacheStatisticsRegistry).snapshot();
+        inOrder.verify(cacheStatisticsRegistry).reset();
+    }
+
+    @Test
+    public void shouldReturnWarmUpProgress() {
+        //given
+        Map<String, Object> progress = Collections.singletonMap("warmed", 10);
+        when(cacheWarmUpService.getProgress()).thenReturn(progress);
+
+        //when
+        Map<String, Object> result = adminController.handleWarmUpProgress();
+
+        //then
+        assertEquals(progress, result);
+    }
+
+    @Test
+    public void shouldQueuePublishEvent() {
+        //given
+        PublishEvent event = new PublishEvent();
+        event.setPublicationId(5);
+        when(cacheInvalidationService.submit(event)).thenReturn(true);
+        adminController.setInvalidationToken("token");
+
+        //when
+        HttpStatus status = adminController.handleInvalidate("token", event).getStatusCode();
+
+        //then
+        assertEquals(HttpStatus.ACCEPTED, status);
+        verify(cacheInvalidationService).submit(event);
+        verify(clusterInvalidationService).publishEvent(event);
+    }
+
+    @Test
+    public void shouldRefusePublishEventWithoutToken() {
+        //given
+        PublishEvent event = new PublishEvent();
+        event.setPublicationId(5);
+        adminController.setInvalidationToken("token");
+
+        //when
+        HttpStatus wrongToken = adminController.handleInvalidate("other", event).getStatusCode();
+        HttpStatus noToken = adminController.handleInvalidate(null, event).getStatusCode();
+        adminController.setInvalidationToken("");
+        HttpStatus notConfigured = adminController.handleInvalidate("", event).getStatusCode();
+
+        //then
+        assertEquals(HttpStatus.FORBIDDEN, wrongToken);
+        assertEquals(HttpStatus.FORBIDDEN, noToken);
+        assertEquals(HttpStatus.FORBIDDEN, notConfigured);
+        verifyZeroInteractions(cacheInvalidationService, clusterInvalidationService);
+    }
+
+    @Test
+    public void shouldReturnTracesWithToken() {
+        //given
+        List<Map<String, Object>> traces = Collections.singletonList(Collections.singletonMap("uri", "/index"));
+        when(requestTracing.getSlowTraces()).thenReturn(traces);
+        adminController.setInvalidationToken("token");
+
+        //when
+        ResponseEntity<List<Map<String, Object>>> response = adminController.handleTraces("token", true);
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(traces, response.getBody());
+        verify(requestTracing).clear();
+    }
+
+    @Test
+    public void shouldRefuseTracesWithoutToken() {
+        //given
+        adminController.setInvalidationToken("token");
+
+        //when
+        HttpStatus wrongToken = adminController.handleTraces("other", false).getStatusCode();
+        HttpStatus noToken = adminController.handleTraces(null, true).getStatusCode();
+        adminController.setInvalidationToken("");
+        HttpStatus notConfigured = adminController.handleTraces("", false).getStatusCode();
+
+        //then
+        assertEquals(HttpStatus.FORBIDDEN, wrongToken);
+        assertEquals(HttpStatus.FORBIDDEN, noToken);
+        assertEquals(HttpStatus.FORBIDDEN, notConfigured);
+        verifyZeroInteractions(requestTracing);
     }
-}
\ No newline at end of file
+}